@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.annotation.processor;
+
+import static com.linecorp.armeria.internal.server.annotation.GeneratedMethodInvokers.getProviderClassName;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.tools.Diagnostic.Kind;
+
+import com.google.common.base.Ascii;
+
+import com.linecorp.armeria.internal.server.annotation.AnnotatedMethodInvoker;
+
+/**
+ * Processor that generates an {@link AnnotatedMethodInvoker} for each method of an annotated service, so that
+ * the method is invoked with a direct call instead of a {@link java.lang.invoke.MethodHandle}. The invokers of
+ * a class are grouped into a single {@link AnnotatedMethodInvoker.Provider} class which is looked up when
+ * the annotated service is created. A method is skipped if it cannot be called from the package of its
+ * class, e.g. a {@code private} method, a method of a {@code private} nested class or a method with
+ * a parameter of a {@code private} nested class.
+ *
+ * <p>The generated classes depend on Armeria's internal API, so they must be compiled against the same
+ * Armeria version as the one used at runtime. Therefore, this processor does nothing unless it is enabled
+ * explicitly with the {@code -Acom.linecorp.armeria.generateInvokers=true} compiler option.
+ */
+@SupportedAnnotationTypes({
+        "com.linecorp.armeria.server.annotation.Post",
+        "com.linecorp.armeria.server.annotation.Get",
+        "com.linecorp.armeria.server.annotation.Put",
+        "com.linecorp.armeria.server.annotation.Delete",
+        "com.linecorp.armeria.server.annotation.Head",
+        "com.linecorp.armeria.server.annotation.Options",
+        "com.linecorp.armeria.server.annotation.Patch",
+        "com.linecorp.armeria.server.annotation.Trace",
+        "com.linecorp.armeria.server.annotation.Path",
+})
+@SupportedOptions(MethodInvokerProcessor.GENERATE_INVOKERS_OPTION)
+public final class MethodInvokerProcessor extends AbstractProcessor {
+
+    /**
+     * The compiler option that enables this processor. Note that the generated classes implement
+     * {@link AnnotatedMethodInvoker.Provider} which is Armeria's <b>internal API</b> with no compatibility
+     * guarantee, so the classes must be regenerated whenever the Armeria version is changed. A class
+     * generated by a different Armeria version may fail to load, in which case the annotated service falls
+     * back to invoking its methods via reflection.
+     */
+    static final String GENERATE_INVOKERS_OPTION = "com.linecorp.armeria.generateInvokers";
+
+    private final Set<String> generatedClasses = new HashSet<>();
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (annotations == null || annotations.isEmpty() ||
+            !Boolean.parseBoolean(processingEnv.getOptions().get(GENERATE_INVOKERS_OPTION))) {
+            return false;
+        }
+
+        final Map<TypeElement, Set<ExecutableElement>> methods = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.METHOD) {
+                    continue;
+                }
+                // Element is always ExecutableElement because it is a method.
+                final ExecutableElement method = (ExecutableElement) element;
+                final TypeElement type = (TypeElement) method.getEnclosingElement();
+                if (isInvocable(type, method)) {
+                    methods.computeIfAbsent(type, unused -> new LinkedHashSet<>()).add(method);
+                }
+            }
+        }
+
+        methods.forEach((type, typeMethods) -> {
+            final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+            if (!generatedClasses.add(binaryName)) {
+                return;
+            }
+            try {
+                writeProvider(type, binaryName, new ArrayList<>(typeMethods));
+            } catch (IOException e) {
+                final StringWriter writer = new StringWriter();
+                e.printStackTrace(new PrintWriter(writer));
+                processingEnv.getMessager().printMessage(
+                        Kind.ERROR,
+                        "Could not generate method invokers" + System.lineSeparator() + writer,
+                        type);
+            }
+        });
+        return false;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latest();
+    }
+
+    private boolean isInvocable(TypeElement type, ExecutableElement method) {
+        if (method.getModifiers().contains(Modifier.PRIVATE) || method.isVarArgs()) {
+            return false;
+        }
+        // The generated provider is a top-level class in the package of the annotated class, so the
+        // annotated class and the erasure of every parameter type must be accessible from that package.
+        final String packageName =
+                processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        if (!isAccessible(type, packageName)) {
+            return false;
+        }
+        for (VariableElement parameter : method.getParameters()) {
+            if (!isAccessible(parameter.asType(), packageName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAccessible(TypeMirror type, String packageName) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return isAccessible(((ArrayType) type).getComponentType(), packageName);
+            case DECLARED:
+                return isAccessible((TypeElement) ((DeclaredType) type).asElement(), packageName);
+            case TYPEVAR:
+                return isAccessible(((TypeVariable) type).getUpperBound(), packageName);
+            case INTERSECTION:
+                return isAccessible(((IntersectionType) type).getBounds().get(0), packageName);
+            default:
+                // A primitive type.
+                return type.getKind().isPrimitive();
+        }
+    }
+
+    private boolean isAccessible(TypeElement type, String packageName) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            final TypeElement typeElement = (TypeElement) element;
+            final Set<Modifier> modifiers = typeElement.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            final NestingKind nestingKind = typeElement.getNestingKind();
+            if (nestingKind != NestingKind.TOP_LEVEL && nestingKind != NestingKind.MEMBER) {
+                // A local or an anonymous class cannot be referred to by name.
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) &&
+                !packageName.equals(processingEnv.getElementUtils().getPackageOf(typeElement)
+                                                 .getQualifiedName().toString())) {
+                // A package-private or a protected type of another package.
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void writeProvider(TypeElement type, String binaryName,
+                               List<ExecutableElement> methods) throws IOException {
+        final String providerClassName = getProviderClassName(binaryName);
+        final int lastDot = providerClassName.lastIndexOf('.');
+        final String packageName = lastDot < 0 ? "" : providerClassName.substring(0, lastDot);
+        final String simpleName = providerClassName.substring(lastDot + 1);
+        final String typeName = type.getQualifiedName().toString();
+
+        final StringBuilder buf = new StringBuilder(1024);
+        if (!packageName.isEmpty()) {
+            buf.append("package ").append(packageName).append(";\n\n");
+        }
+        buf.append("// Generated by ").append(MethodInvokerProcessor.class.getName()).append(". Do not edit.\n")
+           .append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n")
+           .append("public final class ").append(simpleName).append(" implements ")
+           .append(AnnotatedMethodInvoker.Provider.class.getCanonicalName()).append(" {\n\n")
+           .append("    @Override\n")
+           .append("    public Class<?> targetClass() {\n")
+           .append("        return ").append(typeName).append(".class;\n")
+           .append("    }\n\n")
+           .append("    @Override\n")
+           .append("    public ").append(AnnotatedMethodInvoker.class.getCanonicalName())
+           .append(" find(java.lang.reflect.Method method) {\n")
+           .append("        final Class<?>[] types = method.getParameterTypes();\n")
+           .append("        switch (method.getName()) {\n");
+
+        final Map<String, List<ExecutableElement>> methodsByName = new LinkedHashMap<>();
+        for (ExecutableElement method : methods) {
+            methodsByName.computeIfAbsent(method.getSimpleName().toString(), unused -> new ArrayList<>())
+                         .add(method);
+        }
+        methodsByName.forEach((methodName, overloads) -> {
+            buf.append("            case \"").append(methodName).append("\":\n");
+            for (ExecutableElement method : overloads) {
+                appendInvoker(buf, typeName, method);
+            }
+            buf.append("                break;\n");
+        });
+
+        buf.append("        }\n")
+           .append("        return null;\n")
+           .append("    }\n")
+           .append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(providerClassName, type).openWriter()) {
+            writer.write(buf.toString());
+        }
+    }
+
+    private static void appendInvoker(StringBuilder buf, String typeName, ExecutableElement method) {
+        final List<? extends VariableElement> parameters = method.getParameters();
+        buf.append("                if (java.util.Arrays.equals(types, new Class<?>[] {");
+        for (int i = 0; i < parameters.size(); i++) {
+            buf.append(i == 0 ? " " : ", ").append(rawTypeName(parameters.get(i).asType())).append(".class");
+        }
+        buf.append(parameters.isEmpty() ? "})) {\n" : " })) {\n");
+
+        final StringBuilder call = new StringBuilder();
+        if (method.getModifiers().contains(Modifier.STATIC)) {
+            call.append(typeName);
+        } else {
+            call.append("((").append(typeName).append(") target)");
+        }
+        call.append('.').append(method.getSimpleName()).append('(');
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                call.append(", ");
+            }
+            call.append('(').append(rawTypeName(parameters.get(i).asType())).append(") args[").append(i)
+                .append(']');
+        }
+        call.append(')');
+
+        buf.append("                    return (target, args) -> ");
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            buf.append("{\n")
+               .append("                        ").append(call).append(";\n")
+               .append("                        return null;\n")
+               .append("                    };\n");
+        } else {
+            buf.append(call).append(";\n");
+        }
+        buf.append("                }\n");
+    }
+
+    /**
+     * Returns the name of the erasure of the specified {@link TypeMirror} without type annotations, which
+     * can be used in a class literal or a cast.
+     */
+    private static String rawTypeName(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return rawTypeName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            case TYPEVAR:
+                return rawTypeName(((TypeVariable) type).getUpperBound());
+            case INTERSECTION:
+                return rawTypeName(((IntersectionType) type).getBounds().get(0));
+            default:
+                // A primitive type.
+                return Ascii.toLowerCase(type.getKind().name());
+        }
+    }
+}
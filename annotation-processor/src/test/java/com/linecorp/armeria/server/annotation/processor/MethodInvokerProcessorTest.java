@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.annotation.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.CharStreams;
+
+import com.linecorp.armeria.internal.server.annotation.AnnotatedMethodInvoker;
+import com.linecorp.armeria.internal.server.annotation.GeneratedMethodInvokers;
+
+class MethodInvokerProcessorTest {
+
+    @TempDir
+    static Path tempDir;
+
+    private static ClassLoader classLoader;
+
+    @BeforeAll
+    static void compile() throws Exception {
+        final Path sourceDir = Files.createDirectories(tempDir.resolve("src/com/linecorp/armeria"));
+        final Path source = sourceDir.resolve("InvokerService.java");
+        Files.write(source, loadFile("InvokerService.java.txt").getBytes(StandardCharsets.UTF_8));
+        final Path classDir = javac(source, "classes", true);
+        classLoader = new URLClassLoader(new URL[] { classDir.toUri().toURL() },
+                                         MethodInvokerProcessorTest.class.getClassLoader());
+    }
+
+    @Test
+    void disabledWithoutOption() throws Exception {
+        final Path source = tempDir.resolve("src/com/linecorp/armeria/InvokerService.java");
+        final Path classDir = javac(source, "disabled", false);
+        assertThat(classDir.resolve("com/linecorp/armeria/InvokerService.class")).exists();
+        assertThat(classDir.resolve("com/linecorp/armeria/InvokerService$$ArmeriaMethodInvokers.class"))
+                .doesNotExist();
+    }
+
+    @Test
+    void targetClass() throws Exception {
+        final Class<?> serviceClass = classLoader.loadClass("com.linecorp.armeria.InvokerService");
+        final Class<?> nestedClass = classLoader.loadClass("com.linecorp.armeria.InvokerService$Nested");
+        assertThat(provider(serviceClass).targetClass()).isSameAs(serviceClass);
+        assertThat(provider(nestedClass).targetClass()).isSameAs(nestedClass);
+    }
+
+    @Test
+    void instanceMethod() throws Throwable {
+        final Class<?> serviceClass = classLoader.loadClass("com.linecorp.armeria.InvokerService");
+        final Method method = serviceClass.getMethod("a", String.class, int.class, List.class);
+        final AnnotatedMethodInvoker invoker = provider(serviceClass).find(method);
+        assertThat(invoker).isNotNull();
+        assertThat(invoker.invoke(serviceClass.getConstructor().newInstance(),
+                                  new Object[] { "x", 1, ImmutableList.of("z") }))
+                .isEqualTo("x1[z]");
+    }
+
+    @Test
+    void voidAndStaticMethods() throws Throwable {
+        final Class<?> serviceClass = classLoader.loadClass("com.linecorp.armeria.InvokerService");
+        final AnnotatedMethodInvoker.Provider provider = provider(serviceClass);
+
+        final AnnotatedMethodInvoker b = provider.find(serviceClass.getDeclaredMethod("b"));
+        assertThat(b).isNotNull();
+        assertThat(b.invoke(serviceClass.getConstructor().newInstance(), new Object[0])).isNull();
+
+        final AnnotatedMethodInvoker d = provider.find(serviceClass.getDeclaredMethod("d", long.class));
+        assertThat(d).isNotNull();
+        assertThat(d.invoke(null, new Object[] { 21L })).isEqualTo(42L);
+    }
+
+    @Test
+    void privateMethodIsSkipped() throws Exception {
+        final Class<?> serviceClass = classLoader.loadClass("com.linecorp.armeria.InvokerService");
+        assertThat(provider(serviceClass).find(serviceClass.getDeclaredMethod("e"))).isNull();
+    }
+
+    @Test
+    void methodWithInaccessibleParameterTypeIsSkipped() throws Throwable {
+        final Class<?> serviceClass = classLoader.loadClass("com.linecorp.armeria.InvokerService");
+        final AnnotatedMethodInvoker.Provider provider = provider(serviceClass);
+
+        final Class<?> privateRequest =
+                classLoader.loadClass("com.linecorp.armeria.InvokerService$PrivateRequest");
+        assertThat(provider.find(serviceClass.getMethod("g", privateRequest))).isNull();
+
+        // A package-private type is accessible from the generated class in the same package.
+        final Class<?> packagePrivateRequest =
+                classLoader.loadClass("com.linecorp.armeria.InvokerService$PackagePrivateRequest");
+        final Object requests = Array.newInstance(packagePrivateRequest, 2);
+        final AnnotatedMethodInvoker h =
+                provider.find(serviceClass.getMethod("h", requests.getClass()));
+        assertThat(h).isNotNull();
+        assertThat(h.invoke(serviceClass.getConstructor().newInstance(), new Object[] { requests }))
+                .isEqualTo("h2");
+    }
+
+    @Test
+    void nestedGenericClass() throws Throwable {
+        final Class<?> nestedClass = classLoader.loadClass("com.linecorp.armeria.InvokerService$Nested");
+        final AnnotatedMethodInvoker invoker =
+                provider(nestedClass).find(nestedClass.getMethod("f", Number.class));
+        assertThat(invoker).isNotNull();
+        assertThat(invoker.invoke(nestedClass.getConstructor().newInstance(), new Object[] { 1 }))
+                .isEqualTo("f1");
+    }
+
+    private static AnnotatedMethodInvoker.Provider provider(Class<?> serviceClass) throws Exception {
+        final String providerClassName = GeneratedMethodInvokers.getProviderClassName(serviceClass.getName());
+        return (AnnotatedMethodInvoker.Provider) classLoader.loadClass(providerClassName)
+                                                            .getConstructor().newInstance();
+    }
+
+    private static Path javac(Path source, String outputDir, boolean enabled) throws IOException {
+        final Path classDir = Files.createDirectories(tempDir.resolve(outputDir));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final int exitCode = compiler.run(null, null, null,
+                                          "-classpath", System.getProperty("java.class.path"),
+                                          "-processor", MethodInvokerProcessor.class.getName(),
+                                          "-A" + MethodInvokerProcessor.GENERATE_INVOKERS_OPTION + '=' +
+                                          enabled,
+                                          "-d", classDir.toString(),
+                                          "-s", classDir.toString(),
+                                          source.toString());
+        assertThat(exitCode).isZero();
+        return classDir;
+    }
+
+    private static String loadFile(String fileName) throws IOException {
+        try (Reader reader = new InputStreamReader(
+                MethodInvokerProcessorTest.class
+                        .getClassLoader()
+                        .getResourceAsStream("testing/MethodInvokerProcessor/" + fileName))) {
+            return CharStreams.toString(reader);
+        }
+    }
+}
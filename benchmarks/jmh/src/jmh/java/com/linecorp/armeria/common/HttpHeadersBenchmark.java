@@ -21,8 +21,10 @@ import org.openjdk.jmh.annotations.Fork;
 
 import com.linecorp.armeria.common.annotation.Nullable;
 
+import io.netty.util.AsciiString;
+
 /**
- * Microbenchmarks of {@link DefaultHttpHeaders} construction.
+ * Microbenchmarks of {@link DefaultHttpHeaders} construction and lookup.
  */
 public class HttpHeadersBenchmark {
 
@@ -32,6 +34,22 @@ public class HttpHeadersBenchmark {
             "eyJzdWIiOiIxMjM0NTY3ODkwIiwibmFtZSI6IkpvaG4gRG9lIiwiaWF0IjoxNTE2MjM5MDIyfQ." +
             "SflKxwRJSMeKKF2QT4fwpMeJf36POk6yJV_adQssw5c";
 
+    // The names decoded from the wire are new instances.
+    private static final byte[][] DECODED_NAMES = {
+            "accept".getBytes(), "accept-encoding".getBytes(), "authorization".getBytes(),
+            "content-type".getBytes(), "user-agent".getBytes(), "x-request-id".getBytes()
+    };
+
+    private static final HttpHeaders HEADERS = decodedHeaders();
+
+    private static HttpHeaders decodedHeaders() {
+        final HttpHeadersBuilder builder = HttpHeaders.builder();
+        for (byte[] name : DECODED_NAMES) {
+            builder.add(new AsciiString(name), "value");
+        }
+        return builder.build();
+    }
+
     @Nullable
     @Benchmark
     public MediaType parseKnown() {
@@ -58,4 +76,15 @@ public class HttpHeadersBenchmark {
     public HttpHeaders create_noValidation() {
         return HttpHeaders.of(HttpHeaderNames.AUTHORIZATION, AUTHORIZATION_TOKEN);
     }
+
+    @Benchmark
+    public HttpHeaders create_decodedNames() {
+        return decodedHeaders();
+    }
+
+    @Nullable
+    @Benchmark
+    public String get_knownName() {
+        return HEADERS.get(HttpHeaderNames.USER_AGENT);
+    }
 }
@@ -29,6 +29,18 @@ import com.linecorp.armeria.server.ServiceRequestContext;
 @State(Scope.Benchmark)
 public class HttpResponseHeaderConversionBenchmark {
 
+    private static final RequestHeaders REQUEST_HEADERS =
+            RequestHeaders.builder(HttpMethod.GET, "/header_conversion")
+                          .add(HttpHeaderNames.ACCEPT, "application/json")
+                          .add(HttpHeaderNames.ACCEPT_ENCODING, "gzip, deflate, br")
+                          .add(HttpHeaderNames.USER_AGENT, "armeria-benchmark")
+                          .add(HttpHeaderNames.COOKIE, "session=abcdef")
+                          .add("custom-header-1", "my-header-1")
+                          .add("custom-header-2", "my-header-2")
+                          .add("custom-header-3", "my-header-3")
+                          .add("custom-header-4", "my-header-4")
+                          .build();
+
     private Server serverWithAdditionalHeaders;
 
     private WebClient clientWithoutAdditionalHeadersHttp1;
@@ -91,4 +103,9 @@ public class HttpResponseHeaderConversionBenchmark {
     public void http2HeaderConversionBenchmark() {
         clientWithoutAdditionalHeadersHttp2.get("/header_conversion").aggregate().join();
     }
+
+    @Benchmark
+    public void http2RequestHeaderConversionBenchmark() {
+        clientWithoutAdditionalHeadersHttp2.execute(REQUEST_HEADERS).aggregate().join();
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.multipart;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.stream.StreamMessage;
+
+import io.netty.util.concurrent.ImmediateEventExecutor;
+
+/**
+ * Microbenchmarks for decoding a multipart message whose single body part has the specified size.
+ */
+@State(Scope.Benchmark)
+public class MultipartDecoderBenchmark {
+
+    private static final String BOUNDARY = "----WebKitFormBoundary7MA4YWxkTrZu0gW";
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    // 1 KiB, 1 MiB and 1 GiB
+    @Param({ "1024", "1048576", "1073741824" })
+    private int partSize;
+
+    private HttpData[] chunks;
+
+    @Setup
+    public void setUp() {
+        final int chunkSize = Math.min(partSize, CHUNK_SIZE);
+        final byte[] body = new byte[chunkSize];
+        new Random(42).nextBytes(body);
+        // The same chunk is sent repeatedly because a 1 GiB array is too large to keep.
+        final HttpData bodyChunk = HttpData.wrap(body);
+        final int numBodyChunks = partSize / chunkSize;
+
+        chunks = new HttpData[numBodyChunks + 2];
+        chunks[0] = HttpData.ofAscii("--" + BOUNDARY + "\r\n" +
+                                     "Content-Disposition: form-data; name=\"file\"; filename=\"a.bin\"\r\n" +
+                                     "Content-Type: application/octet-stream\r\n" +
+                                     "\r\n");
+        for (int i = 1; i <= numBodyChunks; i++) {
+            chunks[i] = bodyChunk;
+        }
+        chunks[numBodyChunks + 1] = HttpData.of(StandardCharsets.US_ASCII, "\r\n--%s--\r\n", BOUNDARY);
+    }
+
+    @Benchmark
+    public void decode() {
+        Multipart.from(BOUNDARY, StreamMessage.of(chunks))
+                 .bodyParts()
+                 .flatMap(BodyPart::content)
+                 .subscribe(ImmediateEventExecutor.INSTANCE)
+                 .join();
+    }
+}
@@ -158,6 +158,16 @@ public class StreamMessageBenchmark {
         return streamObjects.computedSum(stream);
     }
 
+    // Writes from a thread other than the event loop of the subscriber, so the elements are buffered into
+    // the MPSC queue.
+    @Benchmark
+    public long offEventLoopWriter(StreamObjects streamObjects) throws Exception {
+        final StreamMessage<Integer> stream = newStream(streamObjects);
+        stream.subscribe(streamObjects.subscriber, ANOTHER_EVENT_LOOP);
+        streamObjects.writeAllValues(stream);
+        return streamObjects.computedSum(stream);
+    }
+
     static StreamMessage<Integer> newStream(StreamObjects streamObjects) {
         switch (streamObjects.streamType) {
             case DEFAULT_STREAM_MESSAGE:
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.stream;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.linecorp.armeria.common.util.UnmodifiableFuture;
+
+import io.netty.util.concurrent.ImmediateEventExecutor;
+
+/**
+ * Microbenchmarks of a deep pipeline of {@code map()}, {@code filter()} and {@code mapAsync()}.
+ * {@link #fused()} lets the operators be fused into as few {@link org.reactivestreams.Subscriber} stages
+ * as possible while {@link #unfused()} puts every operator into its own stage, which is what
+ * {@link StreamMessageBenchmark} measures for a single stage.
+ */
+@State(Scope.Benchmark)
+public class StreamMessagePipelineBenchmark {
+
+    @Param({ "100", "10000" })
+    private int num;
+
+    // The number of 'map().filter().mapAsync().map()' blocks in the pipeline.
+    @Param({ "1", "4" })
+    private int depth;
+
+    private Integer[] values;
+
+    @Setup
+    public void setUp() {
+        values = new Integer[num];
+        for (int i = 0; i < num; i++) {
+            values[i] = i;
+        }
+    }
+
+    @Benchmark
+    public List<Integer> fused() {
+        return pipeline(UnaryOperator.identity());
+    }
+
+    @Benchmark
+    public List<Integer> unfused() {
+        // StreamMessageWrapper hides the type of the upstream, so no operators are fused.
+        return pipeline(StreamMessageWrapper::new);
+    }
+
+    private List<Integer> pipeline(UnaryOperator<StreamMessage<Integer>> hop) {
+        StreamMessage<Integer> stream = StreamMessage.of(values);
+        for (int i = 0; i < depth; i++) {
+            stream = hop.apply(stream.map(x -> x + 1));
+            stream = hop.apply(stream.filter(x -> (x & 7) != 0));
+            stream = hop.apply(stream.mapAsync(UnmodifiableFuture::completedFuture));
+            stream = hop.apply(stream.map(x -> x - 1));
+        }
+        return stream.collect(ImmediateEventExecutor.INSTANCE).join();
+    }
+}
@@ -51,6 +51,10 @@ public class MethodInvokerBenchmark {
     private final MethodHandle methodHandle;
     private final MethodHandle staticMethodHandle;
     private final MethodHandle varargMethodHandle;
+    // An equivalent of the invoker generated by MethodInvokerProcessor.
+    private final AnnotatedMethodInvoker generatedInvoker =
+            (target, args) -> ((MethodInvokerBenchmark) target).method1(
+                    (String) args[0], (int) args[1], (Long) args[2], (float) args[3]);
 
     public MethodInvokerBenchmark() {
         try {
@@ -97,6 +101,11 @@ public class MethodInvokerBenchmark {
         bh.consume(methodHandle.invoke(methodArgs));
     }
 
+    @Benchmark
+    public void invokeGeneratedInvoker(Blackhole bh) throws Throwable {
+        bh.consume(generatedInvoker.invoke(this, methodArgs));
+    }
+
     @Benchmark
     public void invokeStaticMethod(Blackhole bh) throws Exception {
         bh.consume(method2("foo", 1, 2L, 3.0f));
@@ -51,6 +51,7 @@ public class AnnotatedServiceBenchmark {
                         return HttpResponse.of(200);
                     }
                 })
+                .annotatedService(new GeneratedInvokerService())
                 .build();
         server.start().join();
         client = WebClient.of("h2c://127.0.0.1:" + server.activeLocalPort());
@@ -72,6 +73,11 @@ public class AnnotatedServiceBenchmark {
         test(bh, "/annotated");
     }
 
+    @Benchmark
+    public void annotatedWithGeneratedInvoker(Blackhole bh) {
+        test(bh, "/generated");
+    }
+
     private void test(Blackhole bh, String path) {
         assert client != null;
         final List<CompletableFuture<Void>> futures = new ArrayList<>(10);
@@ -80,4 +86,16 @@ public class AnnotatedServiceBenchmark {
         }
         futures.forEach(f -> bh.consume(f.join()));
     }
+
+    /**
+     * A service whose method is invoked by the invoker generated by {@code MethodInvokerProcessor}.
+     * The anonymous service above is invoked via a {@link java.lang.invoke.MethodHandle} because
+     * an anonymous class cannot be referred to by the generated code.
+     */
+    public static final class GeneratedInvokerService {
+        @Get("/generated")
+        public HttpResponse get() {
+            return HttpResponse.of(200);
+        }
+    }
 }
@@ -20,6 +20,7 @@ import static com.linecorp.armeria.internal.common.RequestContextUtil.NOOP_CONTE
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Function;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.slf4j.helpers.NOPLogger;
@@ -54,21 +55,72 @@ public class RoutersBenchmark {
 
     private static final RequestTarget METHOD1_REQ_TARGET = RequestTarget.forServer(METHOD1_HEADERS.path());
 
+    private static final int NUM_REGEX_ROUTES = 600;
+    private static final List<ServiceConfig> REGEX_SERVICES;
+    private static final VirtualHost REGEX_HOST;
+    private static final Router<ServiceConfig> REGEX_ROUTER;
+
+    private static final RequestHeaders LAST_REGEX_HEADERS =
+            RequestHeaders.of(HttpMethod.GET, "/legacy/api" + (NUM_REGEX_ROUTES / 2 - 1) + "/42");
+    private static final RequestTarget LAST_REGEX_REQ_TARGET =
+            RequestTarget.forServer(LAST_REGEX_HEADERS.path());
+    private static final RequestHeaders FIRST_GLOB_HEADERS =
+            RequestHeaders.of(HttpMethod.GET, "/legacy/service0/foo/bar");
+    private static final RequestTarget FIRST_GLOB_REQ_TARGET =
+            RequestTarget.forServer(FIRST_GLOB_HEADERS.path());
+
+    private static final List<ServiceConfig> PARAMETERIZED_SERVICES;
+    private static final Router<ServiceConfig> PARAMETERIZED_ROUTER;
+
+    private static final RequestHeaders PARAMETERIZED_HEADERS =
+            RequestHeaders.of(HttpMethod.GET, "/users/alice/books/42");
+    private static final RequestTarget PARAMETERIZED_REQ_TARGET =
+            RequestTarget.forServer(PARAMETERIZED_HEADERS.path());
+
     static {
         final Route route1 = Route.builder().exact("/grpc.package.Service/Method1").build();
         final Route route2 = Route.builder().exact("/grpc.package.Service/Method2").build();
         SERVICES = ImmutableList.of(newServiceConfig(route1), newServiceConfig(route2));
         FALLBACK_SERVICE = newServiceConfig(Route.ofCatchAll());
-        HOST = new VirtualHost(
+        HOST = newVirtualHost(SERVICES);
+        ROUTER = Routers.ofVirtualHost(HOST, SERVICES, RejectedRouteHandler.DISABLED);
+
+        // Simulates a legacy gateway which has many glob and regex routes.
+        final ImmutableList.Builder<ServiceConfig> regexServices = ImmutableList.builder();
+        for (int i = 0; i < NUM_REGEX_ROUTES / 2; i++) {
+            regexServices.add(newServiceConfig(Route.builder().glob("/legacy/service" + i + "/**").build()));
+            regexServices.add(newServiceConfig(
+                    Route.builder().regex("^/legacy/api" + i + "/(?<id>[0-9]+)$").build()));
+        }
+        REGEX_SERVICES = regexServices.build();
+        REGEX_HOST = newVirtualHost(REGEX_SERVICES);
+        // Do not use RouteCache so that every lookup evaluates the routes.
+        REGEX_ROUTER = new CompositeRouter<>(
+                Routers.routers(REGEX_SERVICES, FALLBACK_SERVICE, null, ServiceConfig::route,
+                                (route, existingRoute) -> {}, false),
+                Function.identity());
+
+        PARAMETERIZED_SERVICES = ImmutableList.of(
+                newServiceConfig(Route.builder().path("/users/{userId}").build()),
+                newServiceConfig(Route.builder().path("/users/{userId}/books/{bookId}").build()),
+                newServiceConfig(Route.builder().path("/users/{userId}/movies/{movieId}").build()));
+        // Do not use RouteCache so that every lookup walks the trie.
+        PARAMETERIZED_ROUTER = new CompositeRouter<>(
+                Routers.routers(PARAMETERIZED_SERVICES, FALLBACK_SERVICE, null, ServiceConfig::route,
+                                (route, existingRoute) -> {}, false),
+                Function.identity());
+    }
+
+    private static VirtualHost newVirtualHost(List<ServiceConfig> services) {
+        return new VirtualHost(
                 "localhost", "localhost", 0, null,
-                null, null, SERVICES, FALLBACK_SERVICE, RejectedRouteHandler.DISABLED,
+                null, null, services, FALLBACK_SERVICE, RejectedRouteHandler.DISABLED,
                 unused -> NOPLogger.NOP_LOGGER, FALLBACK_SERVICE.defaultServiceNaming(),
                 FALLBACK_SERVICE.defaultLogName(), 0, 0, false,
                 AccessLogWriter.disabled(), CommonPools.blockingTaskExecutor(), 0, SuccessFunction.ofDefault(),
                 FALLBACK_SERVICE.multipartUploadsLocation(), MultipartRemovalStrategy.ON_RESPONSE_COMPLETION,
                 CommonPools.workerGroup(), ImmutableList.of(),
                 ctx -> RequestId.random());
-        ROUTER = Routers.ofVirtualHost(HOST, SERVICES, RejectedRouteHandler.DISABLED);
     }
 
     private static ServiceConfig newServiceConfig(Route route) {
@@ -109,4 +161,40 @@ public class RoutersBenchmark {
         }
         return routed;
     }
+
+    @Benchmark
+    public Routed<ServiceConfig> regexMatch_last() {
+        final RoutingContext ctx = DefaultRoutingContext.of(REGEX_HOST, "localhost", LAST_REGEX_REQ_TARGET,
+                                                            LAST_REGEX_HEADERS, RoutingStatus.OK,
+                                                            SessionProtocol.H2C);
+        final Routed<ServiceConfig> routed = REGEX_ROUTER.find(ctx);
+        if (routed.value() != REGEX_SERVICES.get(NUM_REGEX_ROUTES - 1)) {
+            throw new IllegalStateException("Routing error");
+        }
+        return routed;
+    }
+
+    @Benchmark
+    public Routed<ServiceConfig> globMatch_first() {
+        final RoutingContext ctx = DefaultRoutingContext.of(REGEX_HOST, "localhost", FIRST_GLOB_REQ_TARGET,
+                                                            FIRST_GLOB_HEADERS, RoutingStatus.OK,
+                                                            SessionProtocol.H2C);
+        final Routed<ServiceConfig> routed = REGEX_ROUTER.find(ctx);
+        if (routed.value() != REGEX_SERVICES.get(0)) {
+            throw new IllegalStateException("Routing error");
+        }
+        return routed;
+    }
+
+    @Benchmark
+    public Routed<ServiceConfig> parameterizedMatch() {
+        final RoutingContext ctx = DefaultRoutingContext.of(HOST, "localhost", PARAMETERIZED_REQ_TARGET,
+                                                            PARAMETERIZED_HEADERS, RoutingStatus.OK,
+                                                            SessionProtocol.H2C);
+        final Routed<ServiceConfig> routed = PARAMETERIZED_ROUTER.find(ctx);
+        if (routed.value() != PARAMETERIZED_SERVICES.get(1)) {
+            throw new IllegalStateException("Routing error");
+        }
+        return routed;
+    }
 }
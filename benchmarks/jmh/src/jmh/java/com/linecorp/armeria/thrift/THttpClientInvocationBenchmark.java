@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.thrift;
+
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.linecorp.armeria.client.thrift.THttpClient;
+import com.linecorp.armeria.client.thrift.ThriftClients;
+import com.linecorp.armeria.common.RpcResponse;
+import com.linecorp.armeria.thrift.services.HelloService;
+
+/**
+ * Compares the overhead of invoking a Thrift client interface, which is served by a dynamic proxy, with
+ * invoking {@link THttpClient} directly. The requests never leave the client because the decorator
+ * completes them immediately, so only the client-side dispatch cost is measured.
+ */
+@State(Scope.Benchmark)
+public class THttpClientInvocationBenchmark {
+
+    private HelloService.Iface syncClient;
+    private HelloService.AsyncIface asyncClient;
+    private THttpClient thriftClient;
+
+    @Setup
+    public void setUp() {
+        syncClient = ThriftClients.builder("http://127.0.0.1:1")
+                                  .rpcDecorator((delegate, ctx, req) -> RpcResponse.of("world"))
+                                  .build(HelloService.Iface.class);
+        asyncClient = ThriftClients.builder("http://127.0.0.1:1")
+                                   .rpcDecorator((delegate, ctx, req) -> RpcResponse.of("world"))
+                                   .build(HelloService.AsyncIface.class);
+        thriftClient = ThriftClients.builder("http://127.0.0.1:1")
+                                    .rpcDecorator((delegate, ctx, req) -> RpcResponse.of("world"))
+                                    .build(THttpClient.class);
+    }
+
+    @Benchmark
+    public void proxy(Blackhole bh) throws Exception {
+        bh.consume(syncClient.hello("hello"));
+    }
+
+    @Benchmark
+    public void proxyAsync(Blackhole bh) throws Exception {
+        asyncClient.hello("hello", new BlackholeCallback(bh));
+    }
+
+    @Benchmark
+    public void direct(Blackhole bh) throws Exception {
+        bh.consume(thriftClient.execute("/", HelloService.Iface.class, "hello", "hello").get());
+    }
+
+    private static final class BlackholeCallback implements AsyncMethodCallback<String> {
+
+        private final Blackhole bh;
+
+        BlackholeCallback(Blackhole bh) {
+            this.bh = bh;
+        }
+
+        @Override
+        public void onComplete(String response) {
+            bh.consume(response);
+        }
+
+        @Override
+        public void onError(Exception exception) {
+            bh.consume(exception);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.thrift;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.linecorp.armeria.thrift.services.Item;
+import com.linecorp.armeria.thrift.services.ItemList;
+
+/**
+ * The shapes of the Thrift payloads used by {@link ThriftSerializationBenchmark} and
+ * {@link ThriftRoundTripBenchmark}.
+ */
+public enum ThriftPayloadShape {
+    /**
+     * A single item with short strings and no binary payload, e.g. a lookup by ID.
+     */
+    SMALL(1, 2, 2, 0),
+    /**
+     * A page of items with a few tags and attributes each.
+     */
+    MEDIUM(100, 5, 5, 0),
+    /**
+     * Many items with many tags and attributes, dominated by strings and containers.
+     */
+    LARGE(1000, 10, 10, 0),
+    /**
+     * A few items carrying large binary blobs.
+     */
+    BINARY(10, 1, 1, 64 * 1024);
+
+    private final int numItems;
+    private final int numTags;
+    private final int numAttributes;
+    private final int payloadSize;
+
+    ThriftPayloadShape(int numItems, int numTags, int numAttributes, int payloadSize) {
+        this.numItems = numItems;
+        this.numTags = numTags;
+        this.numAttributes = numAttributes;
+        this.payloadSize = payloadSize;
+    }
+
+    /**
+     * Returns a newly generated {@link ItemList} of this shape. The same content is generated for
+     * the same shape so that the results of different runs are comparable.
+     */
+    public ItemList newPayload() {
+        final Random random = new Random(numItems);
+        final List<Item> items = new ArrayList<>(numItems);
+        for (int i = 0; i < numItems; i++) {
+            final List<String> tags = new ArrayList<>(numTags);
+            for (int j = 0; j < numTags; j++) {
+                tags.add("tag-" + random.nextInt(1000));
+            }
+            final Map<String, String> attributes = new LinkedHashMap<>();
+            for (int j = 0; j < numAttributes; j++) {
+                attributes.put("attribute-" + j, "value-" + random.nextLong());
+            }
+            final byte[] payload = new byte[payloadSize];
+            random.nextBytes(payload);
+
+            items.add(new Item().setId(random.nextLong())
+                                .setName("item-" + i)
+                                .setPrice(random.nextDouble() * 1000)
+                                .setAvailable(random.nextBoolean())
+                                .setTags(tags)
+                                .setAttributes(attributes)
+                                .setPayload(payload));
+        }
+        return new ItemList().setItems(items);
+    }
+}
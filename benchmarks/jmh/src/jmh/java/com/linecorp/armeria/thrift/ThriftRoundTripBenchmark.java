@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.thrift;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.linecorp.armeria.client.thrift.ThriftClients;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.server.Server;
+import com.linecorp.armeria.server.thrift.THttpService;
+import com.linecorp.armeria.thrift.services.ItemList;
+import com.linecorp.armeria.thrift.services.ItemService;
+
+/**
+ * Measures a full round trip of a Thrift call through {@link ThriftClients} and {@link THttpService}
+ * with each Thrift serialization format, so that the cost of a format can be compared together with
+ * the HTTP layer.
+ *
+ * <p>Run with {@code -Pjmh.profilers=gc} to compare the allocation rate of the formats as well.
+ */
+@State(Scope.Benchmark)
+public class ThriftRoundTripBenchmark {
+
+    @Param({ "tbinary", "tcompact", "tjson", "ttext" })
+    private String format;
+
+    @Param({ "SMALL", "MEDIUM", "LARGE", "BINARY" })
+    private ThriftPayloadShape shape;
+
+    private Server server;
+    private ItemService.Iface client;
+    private ItemList payload;
+
+    @Setup
+    public void setUp() {
+        server = Server.builder()
+                       .maxRequestLength(0)
+                       .service("/items", THttpService.of((ItemService.AsyncIface) (items, cb) -> {
+                           cb.onComplete(items);
+                       }))
+                       .build();
+        server.start().join();
+
+        final int httpPort = server.activeLocalPort(SessionProtocol.HTTP);
+        client = ThriftClients.builder(format + "+http://127.0.0.1:" + httpPort + "/items")
+                              .maxResponseLength(0)
+                              .build(ItemService.Iface.class);
+        payload = shape.newPayload();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop().join();
+    }
+
+    @Benchmark
+    public ItemList roundTrip() throws Exception {
+        return client.echo(payload);
+    }
+}
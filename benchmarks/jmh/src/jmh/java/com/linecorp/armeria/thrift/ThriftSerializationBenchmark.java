@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.thrift;
+
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.linecorp.armeria.common.SerializationFormat;
+import com.linecorp.armeria.common.thrift.ThriftSerializationFormats;
+import com.linecorp.armeria.thrift.services.ItemList;
+
+/**
+ * Measures the cost of encoding and decoding a Thrift struct with each of
+ * {@link ThriftSerializationFormats#values()} without any network I/O.
+ *
+ * <p>Run with {@code -Pjmh.profilers=gc} to compare the allocation rate of the formats as well, e.g.
+ * <pre>{@code
+ * ./gradlew :benchmarks:jmh:jmh -Pjmh.includes=ThriftSerializationBenchmark -Pjmh.profilers=gc
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+public class ThriftSerializationBenchmark {
+
+    @Param({ "tbinary", "tcompact", "tjson", "ttext" })
+    private String format;
+
+    @Param({ "SMALL", "MEDIUM", "LARGE", "BINARY" })
+    private ThriftPayloadShape shape;
+
+    private TProtocolFactory protocolFactory;
+    private ItemList payload;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        final SerializationFormat serializationFormat = SerializationFormat.of(format);
+        protocolFactory = ThriftSerializationFormats.protocolFactory(serializationFormat, 0, 0);
+        payload = shape.newPayload();
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        final TMemoryBuffer buffer = new TMemoryBuffer(1024);
+        final TProtocol protocol = protocolFactory.getProtocol(buffer);
+        payload.write(protocol);
+        final byte[] array = new byte[buffer.length()];
+        System.arraycopy(buffer.getArray(), 0, array, 0, array.length);
+        return array;
+    }
+
+    @Benchmark
+    public ItemList decode() throws Exception {
+        final TProtocol protocol = protocolFactory.getProtocol(new TMemoryInputTransport(encoded));
+        final ItemList decoded = new ItemList();
+        decoded.read(protocol);
+        return decoded;
+    }
+}
@@ -4,3 +4,22 @@ namespace java com.linecorp.armeria.thrift.services
 service HelloService {
     string hello(1:string name)
 }
+
+// Used by the serialization format benchmarks.
+struct Item {
+    1: i64 id,
+    2: string name,
+    3: double price,
+    4: bool available,
+    5: list<string> tags,
+    6: map<string, string> attributes,
+    7: binary payload
+}
+
+struct ItemList {
+    1: list<Item> items
+}
+
+service ItemService {
+    ItemList echo(1: ItemList items)
+}
@@ -622,6 +622,25 @@ public final class ClientFactoryBuilder implements TlsSetters {
         return this;
     }
 
+    /**
+     * Enables the automatic tuning of the HTTP/2 flow-control windows and sets the maximum size the windows
+     * can grow to. When enabled, the client measures the bandwidth-delay product of each connection with
+     * PING frames and grows the connection-level and stream-level windows beyond
+     * {@link #http2InitialConnectionWindowSize(int)} and {@link #http2InitialStreamWindowSize(int)}
+     * up to the specified size, so that a connection over a high-latency link is not limited by the windows.
+     * The grown window sizes are recorded to {@code armeria.client.connections.http2.window.size}.
+     * {@code 0} disables the automatic tuning, which is the default.
+     */
+    @UnstableApi
+    public ClientFactoryBuilder http2MaxAutoTunedWindowSize(int http2MaxAutoTunedWindowSize) {
+        checkArgument(http2MaxAutoTunedWindowSize >= 0 &&
+                      http2MaxAutoTunedWindowSize <= MAX_INITIAL_WINDOW_SIZE,
+                      "http2MaxAutoTunedWindowSize: %s (expected: >= 0 and <= %s)",
+                      http2MaxAutoTunedWindowSize, MAX_INITIAL_WINDOW_SIZE);
+        option(ClientFactoryOptions.HTTP2_MAX_AUTO_TUNED_WINDOW_SIZE, http2MaxAutoTunedWindowSize);
+        return this;
+    }
+
     /**
      * Sets the
      * <a href="https://datatracker.ietf.org/doc/html/rfc7540#section-6.5.2">SETTINGS_MAX_FRAME_SIZE</a>
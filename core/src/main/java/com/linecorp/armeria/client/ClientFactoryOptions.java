@@ -150,6 +150,14 @@ public final class ClientFactoryOptions
             ClientFactoryOption.define("HTTP2_INITIAL_STREAM_WINDOW_SIZE",
                                        Flags.defaultHttp2InitialStreamWindowSize());
 
+    /**
+     * The maximum size that the HTTP/2 flow-control windows can grow to by the automatic tuning.
+     * {@code 0} disables the automatic tuning.
+     */
+    @UnstableApi
+    public static final ClientFactoryOption<Integer> HTTP2_MAX_AUTO_TUNED_WINDOW_SIZE =
+            ClientFactoryOption.define("HTTP2_MAX_AUTO_TUNED_WINDOW_SIZE", 0);
+
     /**
      * The <a href="https://datatracker.ietf.org/doc/html/rfc7540#section-6.5.2">SETTINGS_MAX_FRAME_SIZE</a>
      * that indicates the size of the largest frame payload that this client is willing to receive.
@@ -485,6 +493,15 @@ public final class ClientFactoryOptions
         return get(HTTP2_INITIAL_STREAM_WINDOW_SIZE);
     }
 
+    /**
+     * Returns the maximum size that the HTTP/2 flow-control windows can grow to by the automatic tuning.
+     * {@code 0} means the automatic tuning is disabled.
+     */
+    @UnstableApi
+    public int http2MaxAutoTunedWindowSize() {
+        return get(HTTP2_MAX_AUTO_TUNED_WINDOW_SIZE);
+    }
+
     /**
      * Returns the <a href="https://datatracker.ietf.org/doc/html/rfc7540#section-6.5.2">SETTINGS_MAX_FRAME_SIZE</a>
      * that indicates the size of the largest frame payload that this client is willing to receive.
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.util.TimeoutMode;
+import com.linecorp.armeria.internal.common.RequestDeadlineUtil;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.util.AsciiString;
+
+/**
+ * Propagates the deadline of a {@link ServiceRequestContext} to the client requests sent on behalf of it.
+ * For example:
+ * <pre>{@code
+ * WebClient client =
+ *     WebClient.builder("http://backend")
+ *              .contextCustomizer(DeadlinePropagation.contextCustomizer(Duration.ofMillis(10)))
+ *              .build();
+ * }</pre>
+ *
+ * <p>The {@link Consumer} returned by {@link #contextCustomizer(Duration)} does the following for each
+ * {@link ClientRequestContext} whose {@link ClientRequestContext#root()} has a request timeout:
+ * <ul>
+ *   <li>The response timeout is capped at the time left until the root request times out, minus
+ *       the safety margin, so that the caller has time to handle the failure before its own deadline.</li>
+ *   <li>If no time is left, the request is not sent but fails with a {@link ResponseTimeoutException}.</li>
+ *   <li>The response timeout is sent in the {@code "armeria-request-timeout"} header in milliseconds,
+ *       which is honored by a server built with {@link ServerBuilder#useClientTimeoutHeader(boolean)}.
+ *       If the request has a {@code "grpc-timeout"} header, it is updated as well.</li>
+ * </ul>
+ * The header is also sent for a request without a root when its response timeout is set.
+ */
+@UnstableApi
+public final class DeadlinePropagation {
+
+    private static final AsciiString GRPC_TIMEOUT = HttpHeaderNames.of("grpc-timeout");
+
+    private static final Consumer<ClientRequestContext> DEFAULT = new DeadlinePropagatingCustomizer(0);
+
+    /**
+     * Returns a {@link Consumer} for {@link ClientBuilder#contextCustomizer(Consumer)} that propagates
+     * the deadline without a safety margin.
+     */
+    public static Consumer<ClientRequestContext> contextCustomizer() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a {@link Consumer} for {@link ClientBuilder#contextCustomizer(Consumer)} that propagates
+     * the deadline minus the specified {@code safetyMargin}.
+     */
+    public static Consumer<ClientRequestContext> contextCustomizer(Duration safetyMargin) {
+        requireNonNull(safetyMargin, "safetyMargin");
+        checkArgument(!safetyMargin.isNegative(), "safetyMargin: %s (expected: >= 0)", safetyMargin);
+        return contextCustomizer(safetyMargin.toMillis());
+    }
+
+    /**
+     * Returns a {@link Consumer} for {@link ClientBuilder#contextCustomizer(Consumer)} that propagates
+     * the deadline minus the specified {@code safetyMarginMillis}.
+     */
+    public static Consumer<ClientRequestContext> contextCustomizer(long safetyMarginMillis) {
+        checkArgument(safetyMarginMillis >= 0, "safetyMarginMillis: %s (expected: >= 0)",
+                      safetyMarginMillis);
+        if (safetyMarginMillis == 0) {
+            return DEFAULT;
+        }
+        return new DeadlinePropagatingCustomizer(safetyMarginMillis);
+    }
+
+    private static final class DeadlinePropagatingCustomizer implements Consumer<ClientRequestContext> {
+
+        private final long safetyMarginMillis;
+
+        DeadlinePropagatingCustomizer(long safetyMarginMillis) {
+            this.safetyMarginMillis = safetyMarginMillis;
+        }
+
+        @Override
+        public void accept(ClientRequestContext ctx) {
+            final ServiceRequestContext root = ctx.root();
+            if (root != null) {
+                final long remainingMillis = RequestDeadlineUtil.remainingTimeoutMillis(root);
+                if (remainingMillis > 0) {
+                    final long budgetMillis = remainingMillis - safetyMarginMillis;
+                    if (budgetMillis <= 0) {
+                        // The caller will give up before a response arrives.
+                        ctx.timeoutNow();
+                        return;
+                    }
+                    final long responseTimeoutMillis = ctx.responseTimeoutMillis();
+                    if (responseTimeoutMillis == 0 || responseTimeoutMillis > budgetMillis) {
+                        ctx.setResponseTimeoutMillis(TimeoutMode.SET_FROM_NOW, budgetMillis);
+                    }
+                }
+            }
+
+            final long timeoutMillis = ctx.responseTimeoutMillis();
+            if (timeoutMillis <= 0) {
+                return;
+            }
+            ctx.setAdditionalRequestHeader(RequestDeadlineUtil.ARMERIA_REQUEST_TIMEOUT, timeoutMillis);
+            final HttpRequest req = ctx.request();
+            if (req != null && req.headers().contains(GRPC_TIMEOUT)) {
+                // The additional headers take precedence over the headers of the request.
+                ctx.setAdditionalRequestHeader(GRPC_TIMEOUT, RequestDeadlineUtil.toGrpcTimeout(timeoutMillis));
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "DeadlinePropagation{safetyMarginMillis=" + safetyMarginMillis + '}';
+        }
+    }
+
+    private DeadlinePropagation() {}
+}
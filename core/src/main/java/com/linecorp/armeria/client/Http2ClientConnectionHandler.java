@@ -21,8 +21,10 @@ import static com.linecorp.armeria.internal.common.KeepAliveHandlerUtil.needsKee
 import com.google.common.collect.ImmutableList;
 
 import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.metric.MoreMeters;
 import com.linecorp.armeria.internal.common.AbstractHttp2ConnectionHandler;
+import com.linecorp.armeria.internal.common.Http2FlowControlAutoTuner;
 import com.linecorp.armeria.internal.common.KeepAliveHandler;
 import com.linecorp.armeria.internal.common.NoopKeepAliveHandler;
 
@@ -45,7 +47,8 @@ final class Http2ClientConnectionHandler extends AbstractHttp2ConnectionHandler
         super(decoder, encoder, initialSettings,
               newKeepAliveHandler(encoder, channel, clientFactory, protocol));
 
-        responseDecoder = new Http2ResponseDecoder(channel, encoder(), clientFactory, keepAliveHandler());
+        responseDecoder = new Http2ResponseDecoder(channel, encoder(), clientFactory, keepAliveHandler(),
+                                                   newFlowControlAutoTuner(clientFactory, protocol));
         connection().addListener(responseDecoder);
         decoder().frameListener(responseDecoder);
     }
@@ -75,6 +78,20 @@ final class Http2ClientConnectionHandler extends AbstractHttp2ConnectionHandler
                 keepAliveOnPing);
     }
 
+    @Nullable
+    private Http2FlowControlAutoTuner newFlowControlAutoTuner(HttpClientFactory clientFactory,
+                                                              SessionProtocol protocol) {
+        final int maxWindowSize = clientFactory.http2MaxAutoTunedWindowSize();
+        if (maxWindowSize == 0) {
+            return null;
+        }
+        return new Http2FlowControlAutoTuner(
+                connection(), encoder().frameWriter(), maxWindowSize,
+                MoreMeters.newDistributionSummary(clientFactory.meterRegistry(),
+                                                  "armeria.client.connections.http2.window.size",
+                                                  ImmutableList.of(Tag.of("protocol", protocol.uriText()))));
+    }
+
     Http2ResponseDecoder responseDecoder() {
         return responseDecoder;
     }
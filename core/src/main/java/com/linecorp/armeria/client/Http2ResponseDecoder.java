@@ -34,6 +34,7 @@ import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.stream.ClosedStreamException;
 import com.linecorp.armeria.internal.common.ArmeriaHttpUtil;
+import com.linecorp.armeria.internal.common.Http2FlowControlAutoTuner;
 import com.linecorp.armeria.internal.common.Http2GoAwayHandler;
 import com.linecorp.armeria.internal.common.InboundTrafficController;
 import com.linecorp.armeria.internal.common.KeepAliveHandler;
@@ -62,9 +63,12 @@ final class Http2ResponseDecoder extends AbstractHttpResponseDecoder implements
     private final Http2ConnectionEncoder encoder;
     private final Http2GoAwayHandler goAwayHandler;
     private final KeepAliveHandler keepAliveHandler;
+    @Nullable
+    private final Http2FlowControlAutoTuner flowControlAutoTuner;
 
     Http2ResponseDecoder(Channel channel, Http2ConnectionEncoder encoder, HttpClientFactory clientFactory,
-                         KeepAliveHandler keepAliveHandler) {
+                         KeepAliveHandler keepAliveHandler,
+                         @Nullable Http2FlowControlAutoTuner flowControlAutoTuner) {
         super(channel,
               InboundTrafficController.ofHttp2(channel, clientFactory.http2InitialConnectionWindowSize()));
         conn = encoder.connection();
@@ -72,6 +76,7 @@ final class Http2ResponseDecoder extends AbstractHttpResponseDecoder implements
         assert keepAliveHandler instanceof Http2ClientKeepAliveHandler ||
                keepAliveHandler instanceof NoopKeepAliveHandler;
         this.keepAliveHandler = keepAliveHandler;
+        this.flowControlAutoTuner = flowControlAutoTuner;
         goAwayHandler = new Http2GoAwayHandler();
     }
 
@@ -241,6 +246,9 @@ final class Http2ResponseDecoder extends AbstractHttpResponseDecoder implements
         keepAliveChannelRead();
 
         final int dataLength = data.readableBytes();
+        if (flowControlAutoTuner != null) {
+            flowControlAutoTuner.onDataRead(ctx, dataLength + padding);
+        }
         final HttpResponseWrapper res = getResponse(streamIdToId(streamId));
         if (res == null || !res.isOpen()) {
             if (conn.streamMayHaveExisted(streamId)) {
@@ -330,6 +338,9 @@ final class Http2ResponseDecoder extends AbstractHttpResponseDecoder implements
 
     @Override
     public void onPingAckRead(ChannelHandlerContext ctx, long data) {
+        if (flowControlAutoTuner != null && flowControlAutoTuner.onPingAck(ctx, data)) {
+            return;
+        }
         if (keepAliveHandler.isHttp2()) {
             keepAliveHandler.onPingAck(data);
         }
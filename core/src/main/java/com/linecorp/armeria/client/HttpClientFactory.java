@@ -110,6 +110,7 @@ final class HttpClientFactory implements ClientFactory {
     private final AddressResolverGroup<InetSocketAddress> addressResolverGroup;
     private final int http2InitialConnectionWindowSize;
     private final int http2InitialStreamWindowSize;
+    private final int http2MaxAutoTunedWindowSize;
     private final int http2MaxFrameSize;
     private final long http2MaxHeaderListSize;
     private final int http1MaxInitialLineLength;
@@ -207,6 +208,7 @@ final class HttpClientFactory implements ClientFactory {
 
         http2InitialConnectionWindowSize = options.http2InitialConnectionWindowSize();
         http2InitialStreamWindowSize = options.http2InitialStreamWindowSize();
+        http2MaxAutoTunedWindowSize = options.http2MaxAutoTunedWindowSize();
         http2MaxFrameSize = options.http2MaxFrameSize();
         http2MaxHeaderListSize = options.http2MaxHeaderListSize();
         pingIntervalMillis = options.pingIntervalMillis();
@@ -264,6 +266,10 @@ final class HttpClientFactory implements ClientFactory {
         return http2InitialStreamWindowSize;
     }
 
+    int http2MaxAutoTunedWindowSize() {
+        return http2MaxAutoTunedWindowSize;
+    }
+
     int http2MaxFrameSize() {
         return http2MaxFrameSize;
     }
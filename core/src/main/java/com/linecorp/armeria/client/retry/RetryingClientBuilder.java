@@ -16,11 +16,16 @@
 
 package com.linecorp.armeria.client.retry;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.time.Duration;
 import java.util.function.Function;
 
 import com.linecorp.armeria.client.HttpClient;
+import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.stream.StreamMessage;
 
 /**
  * Builds a new {@link RetryingClient} or its decorator function.
@@ -28,6 +33,7 @@ import com.linecorp.armeria.common.HttpResponse;
 public final class RetryingClientBuilder extends AbstractRetryingClientBuilder<HttpResponse> {
 
     private boolean useRetryAfter;
+    private long maxInMemoryRequestLength;
 
     /**
      * Creates a new builder with the specified {@link RetryConfig}.
@@ -58,11 +64,29 @@ public final class RetryingClientBuilder extends AbstractRetryingClientBuilder<H
         return this;
     }
 
+    /**
+     * Sets the maximum number of bytes of a streaming {@link HttpRequest} content to keep in memory for
+     * retries. The content that exceeds the limit is written to a temporary file and is read back from
+     * the file for each attempt, so that a large upload can be retried with bounded memory.
+     * If unspecified or {@code 0}, the whole content is kept in memory.
+     *
+     * <p>Note that this option is only used for a request whose content is sent as a {@link StreamMessage}.
+     *
+     * @see HttpRequest#toDuplicator(io.netty.util.concurrent.EventExecutor, long, long)
+     */
+    @UnstableApi
+    public RetryingClientBuilder maxInMemoryRequestLength(long maxInMemoryRequestLength) {
+        checkArgument(maxInMemoryRequestLength >= 0,
+                      "maxInMemoryRequestLength: %s (expected: >= 0)", maxInMemoryRequestLength);
+        this.maxInMemoryRequestLength = maxInMemoryRequestLength;
+        return this;
+    }
+
     /**
      * Returns a newly-created {@link RetryingClient} based on the properties of this builder.
      */
     public RetryingClient build(HttpClient delegate) {
-        return new RetryingClient(delegate, mapping(), retryConfig(), useRetryAfter);
+        return new RetryingClient(delegate, mapping(), retryConfig(), useRetryAfter, maxInMemoryRequestLength);
     }
 
     /**
@@ -75,7 +99,9 @@ public final class RetryingClientBuilder extends AbstractRetryingClientBuilder<H
 
     @Override
     public String toString() {
-        return toStringHelper().add("useRetryAfter", useRetryAfter).toString();
+        return toStringHelper().add("useRetryAfter", useRetryAfter)
+                               .add("maxInMemoryRequestLength", maxInMemoryRequestLength)
+                               .toString();
     }
 
     // Methods that were overridden to change the return type.
@@ -49,11 +49,16 @@ import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.common.Scheme;
 import com.linecorp.armeria.common.SessionProtocol;
 import com.linecorp.armeria.common.SplitHttpResponse;
+import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.logging.RequestLogProperty;
 import com.linecorp.armeria.common.stream.ByteStreamMessage;
 import com.linecorp.armeria.common.stream.StreamMessage;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
 import com.linecorp.armeria.internal.common.DefaultSplitHttpResponse;
+import com.linecorp.armeria.internal.common.websocket.PerMessageDeflate;
+import com.linecorp.armeria.internal.common.websocket.WebSocketFrameDeflater;
 import com.linecorp.armeria.internal.common.websocket.WebSocketFrameEncoder;
+import com.linecorp.armeria.internal.common.websocket.WebSocketFrameInflater;
 import com.linecorp.armeria.internal.common.websocket.WebSocketWrapper;
 
 import io.netty.handler.codec.http.HttpHeaderValues;
@@ -70,9 +75,12 @@ final class DefaultWebSocketClient implements WebSocketClient {
     private final List<String> subprotocols;
     private final String joinedSubprotocols;
     private final boolean aggregateContinuation;
+    @Nullable
+    private final PerMessageDeflateConfig perMessageDeflateConfig;
 
     DefaultWebSocketClient(WebClient webClient, int maxFramePayloadLength, boolean allowMaskMismatch,
-                           List<String> subprotocols, boolean aggregateContinuation) {
+                           List<String> subprotocols, boolean aggregateContinuation,
+                           @Nullable PerMessageDeflateConfig perMessageDeflateConfig) {
         this.webClient = webClient;
         this.maxFramePayloadLength = maxFramePayloadLength;
         this.allowMaskMismatch = allowMaskMismatch;
@@ -83,6 +91,7 @@ final class DefaultWebSocketClient implements WebSocketClient {
             joinedSubprotocols = "";
         }
         this.aggregateContinuation = aggregateContinuation;
+        this.perMessageDeflateConfig = perMessageDeflateConfig;
     }
 
     @Override
@@ -120,12 +129,36 @@ final class DefaultWebSocketClient implements WebSocketClient {
                 return null;
             }
 
+            PerMessageDeflate perMessageDeflate = null;
+            if (perMessageDeflateConfig != null &&
+                PerMessageDeflate.offer(perMessageDeflateConfig).equals(
+                        requestHeaders.get(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS))) {
+                try {
+                    perMessageDeflate = PerMessageDeflate.accepted(responseHeaders, perMessageDeflateConfig);
+                } catch (IllegalArgumentException e) {
+                    fail(outboundFuture, split.body(), result, new WebSocketClientHandshakeException(
+                            "invalid " + HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS + " header: " +
+                            e.getMessage(), responseHeaders));
+                    return null;
+                }
+            }
+
+            final WebSocketFrameInflater inflater;
+            final WebSocketFrameDeflater deflater;
+            if (perMessageDeflate != null) {
+                inflater = perMessageDeflate.newInflater(ctx.alloc(), false);
+                deflater = perMessageDeflate.newDeflater(encoder, false);
+            } else {
+                inflater = null;
+                deflater = null;
+            }
             final WebSocketClientFrameDecoder decoder =
                     new WebSocketClientFrameDecoder(ctx, maxFramePayloadLength, allowMaskMismatch,
-                                                    aggregateContinuation);
+                                                    aggregateContinuation, inflater);
             final WebSocketWrapper inbound = new WebSocketWrapper(split.body().decode(decoder, ctx.alloc()));
 
-            result.complete(new WebSocketSession(ctx, responseHeaders, inbound, outboundFuture, encoder));
+            result.complete(new WebSocketSession(ctx, responseHeaders, inbound, outboundFuture, encoder,
+                                                 deflater));
             return null;
         });
         return result;
@@ -154,6 +187,10 @@ final class DefaultWebSocketClient implements WebSocketClient {
         if (!builder.contains(HttpHeaderNames.SEC_WEBSOCKET_PROTOCOL) && !subprotocols.isEmpty()) {
             builder.set(HttpHeaderNames.SEC_WEBSOCKET_PROTOCOL, joinedSubprotocols);
         }
+        if (!builder.contains(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS) && perMessageDeflateConfig != null) {
+            builder.set(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS,
+                        PerMessageDeflate.offer(perMessageDeflateConfig));
+        }
 
         return builder.build();
     }
@@ -64,6 +64,7 @@ import com.linecorp.armeria.common.auth.AuthToken;
 import com.linecorp.armeria.common.auth.BasicToken;
 import com.linecorp.armeria.common.auth.OAuth1aToken;
 import com.linecorp.armeria.common.auth.OAuth2Token;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
 import com.linecorp.armeria.common.websocket.WebSocketFrameType;
 
 /**
@@ -85,6 +86,8 @@ public final class WebSocketClientBuilder extends AbstractWebClientBuilder {
     private boolean allowMaskMismatch;
     private List<String> subprotocols = ImmutableList.of();
     private boolean aggregateContinuation;
+    @Nullable
+    private PerMessageDeflateConfig perMessageDeflateConfig;
 
     WebSocketClientBuilder(URI uri) {
         super(validateUri(requireNonNull(uri, "uri")), null, null, null);
@@ -200,6 +203,30 @@ public final class WebSocketClientBuilder extends AbstractWebClientBuilder {
         return this;
     }
 
+    /**
+     * Sets whether to offer the <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a>
+     * extension to the server with {@link PerMessageDeflateConfig#of()}. It's disabled by default.
+     *
+     * @see #perMessageDeflate(PerMessageDeflateConfig)
+     */
+    public WebSocketClientBuilder perMessageDeflate(boolean perMessageDeflate) {
+        perMessageDeflateConfig = perMessageDeflate ? PerMessageDeflateConfig.of() : null;
+        return this;
+    }
+
+    /**
+     * Sets the {@link PerMessageDeflateConfig} to offer the
+     * <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a> extension to the server.
+     * The offer is not sent if the {@link HttpHeaderNames#SEC_WEBSOCKET_EXTENSIONS} header is specified
+     * when connecting. When the server accepts the offer, the data messages larger than
+     * {@link PerMessageDeflateConfig#minCompressionSize()} are compressed, and the decompressed payload of
+     * a received frame must not exceed {@link #maxFramePayloadLength(int)}.
+     */
+    public WebSocketClientBuilder perMessageDeflate(PerMessageDeflateConfig perMessageDeflateConfig) {
+        this.perMessageDeflateConfig = requireNonNull(perMessageDeflateConfig, "perMessageDeflateConfig");
+        return this;
+    }
+
     /**
      * Sets whether to add an {@link HttpHeaderNames#ORIGIN} header automatically when sending
      * an {@link HttpRequest} when the {@link HttpRequest#headers()} does not have it.
@@ -217,7 +244,7 @@ public final class WebSocketClientBuilder extends AbstractWebClientBuilder {
     public WebSocketClient build() {
         final WebClient webClient = buildWebClient();
         return new DefaultWebSocketClient(webClient, maxFramePayloadLength, allowMaskMismatch, subprotocols,
-                                          aggregateContinuation);
+                                          aggregateContinuation, perMessageDeflateConfig);
     }
 
     // Override the return type of the chaining methods in the superclass.
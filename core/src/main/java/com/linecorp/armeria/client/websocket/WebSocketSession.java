@@ -34,6 +34,7 @@ import com.linecorp.armeria.common.stream.StreamMessage;
 import com.linecorp.armeria.common.websocket.WebSocket;
 import com.linecorp.armeria.common.websocket.WebSocketFrame;
 import com.linecorp.armeria.common.websocket.WebSocketWriter;
+import com.linecorp.armeria.internal.common.websocket.WebSocketFrameDeflater;
 import com.linecorp.armeria.internal.common.websocket.WebSocketFrameEncoder;
 
 /**
@@ -51,16 +52,19 @@ public final class WebSocketSession {
     private final WebSocket inbound;
     private final CompletableFuture<StreamMessage<HttpData>> outboundFuture;
     private final WebSocketFrameEncoder encoder;
+    @Nullable
+    private final WebSocketFrameDeflater deflater;
 
     WebSocketSession(ClientRequestContext ctx, ResponseHeaders responseHeaders, WebSocket inbound,
                      CompletableFuture<StreamMessage<HttpData>> outboundFuture,
-                     WebSocketFrameEncoder encoder) {
+                     WebSocketFrameEncoder encoder, @Nullable WebSocketFrameDeflater deflater) {
         this.ctx = ctx;
         this.responseHeaders = responseHeaders;
         subprotocol = responseHeaders.get(HttpHeaderNames.SEC_WEBSOCKET_PROTOCOL);
         this.inbound = inbound;
         this.outboundFuture = outboundFuture;
         this.encoder = encoder;
+        this.deflater = deflater;
     }
 
     /**
@@ -123,11 +127,23 @@ public final class WebSocketSession {
             streamMessage = new PublisherBasedStreamMessage<>(outbound);
         }
 
-        if (!outboundFuture.complete(
-                streamMessage.map(webSocketFrame -> HttpData.wrap(encoder.encode(ctx, webSocketFrame))))) {
+        final StreamMessage<HttpData> data;
+        final WebSocketFrameDeflater deflater = this.deflater;
+        if (deflater != null) {
+            data = streamMessage.map(webSocketFrame -> HttpData.wrap(deflater.encode(ctx, webSocketFrame)));
+        } else {
+            data = streamMessage.map(webSocketFrame -> HttpData.wrap(encoder.encode(ctx, webSocketFrame)));
+        }
+        if (!outboundFuture.complete(data)) {
             streamMessage.abort();
             throw new IllegalStateException("outbound() or setOutbound() has been already called.");
         }
+        if (deflater != null) {
+            data.whenComplete().handle((unused, cause) -> {
+                ctx.eventLoop().execute(deflater::close);
+                return null;
+            });
+        }
     }
 
     @Override
@@ -139,6 +155,7 @@ public final class WebSocketSession {
                           .add("inbound", inbound)
                           .add("outboundFuture", outboundFuture)
                           .add("encoder", encoder)
+                          .add("deflater", deflater)
                           .toString();
     }
 }
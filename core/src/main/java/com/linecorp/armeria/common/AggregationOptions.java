@@ -21,6 +21,7 @@ import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.unsafe.PooledObjects;
 
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.util.concurrent.EventExecutor;
 
 /**
@@ -79,4 +80,14 @@ public interface AggregationOptions {
      */
     @Nullable
     ByteBufAllocator alloc();
+
+    /**
+     * (Advanced users only) Returns whether the received {@link HttpData}s are composed into
+     * a {@link CompositeByteBuf} instead of being copied into a single buffer.
+     * This option is effective only when {@link #alloc()} is not {@code null}.
+     * The default implementation returns {@code false}.
+     */
+    default boolean compositeBuffer() {
+        return false;
+    }
 }
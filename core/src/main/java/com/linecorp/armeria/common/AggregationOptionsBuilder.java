@@ -23,6 +23,7 @@ import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.unsafe.PooledObjects;
 
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.util.concurrent.EventExecutor;
 
 /**
@@ -37,6 +38,7 @@ public final class AggregationOptionsBuilder {
     private ByteBufAllocator alloc;
     private boolean cacheResult;
     private boolean preferCached = true;
+    private boolean compositeBuffer;
 
     AggregationOptionsBuilder() {}
 
@@ -134,10 +136,29 @@ public final class AggregationOptionsBuilder {
         return this;
     }
 
+    /**
+     * (Advanced users only) Sets whether to compose the received {@link HttpData}s into
+     * a {@link CompositeByteBuf} instead of copying them into a single buffer. This option is disabled by
+     * default.
+     *
+     * <p>Enabling this option avoids copying a large content that consists of many chunks, which is
+     * useful when the content is only read sequentially, e.g. via {@link HttpData#toInputStream()} by
+     * a streaming parser. Note that {@link HttpData#array()} of the aggregated content still makes a copy.
+     * This option requires {@link #usePooledObjects(ByteBufAllocator)}. If it is not set,
+     * an {@link IllegalStateException} will be raised when building {@link AggregationOptions}.
+     */
+    public AggregationOptionsBuilder compositeBuffer(boolean compositeBuffer) {
+        this.compositeBuffer = compositeBuffer;
+        return this;
+    }
+
     /**
      * Returns a newly created {@link AggregationOptions} with the properties set so far.
      */
     public AggregationOptions build() {
-        return new DefaultAggregationOptions(executor, alloc, preferCached, cacheResult);
+        if (compositeBuffer && alloc == null) {
+            throw new IllegalStateException("Can't compose the content without pooled objects");
+        }
+        return new DefaultAggregationOptions(executor, alloc, preferCached, cacheResult, compositeBuffer);
     }
 }
@@ -18,11 +18,14 @@ package com.linecorp.armeria.common;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 import com.google.common.base.MoreObjects;
 
 import com.linecorp.armeria.common.stream.DefaultStreamMessageDuplicator;
+import com.linecorp.armeria.common.stream.SignalLengthGetter;
 import com.linecorp.armeria.common.stream.StreamMessage;
 import com.linecorp.armeria.common.stream.StreamMessageWrapper;
 
@@ -31,15 +34,25 @@ import io.netty.util.concurrent.EventExecutor;
 final class DefaultHttpRequestDuplicator
         extends DefaultStreamMessageDuplicator<HttpObject> implements HttpRequestDuplicator {
 
+    private static final SignalLengthGetter<HttpObject> signalLengthGetter = obj -> {
+        if (obj instanceof HttpData) {
+            return ((HttpData) obj).length();
+        }
+        return 0;
+    };
+
     private final RequestHeaders headers;
 
     DefaultHttpRequestDuplicator(HttpRequest req, EventExecutor executor, long maxRequestLength) {
-        super(requireNonNull(req, "req"), obj -> {
-            if (obj instanceof HttpData) {
-                return ((HttpData) obj).length();
-            }
-            return 0;
-        }, executor, maxRequestLength);
+        super(requireNonNull(req, "req"), signalLengthGetter, executor, maxRequestLength);
+        headers = req.headers();
+    }
+
+    DefaultHttpRequestDuplicator(HttpRequest req, EventExecutor executor, long maxRequestLength,
+                                 long maxInMemoryLength, Path spillDirectory,
+                                 ExecutorService blockingTaskExecutor) {
+        super(requireNonNull(req, "req"), signalLengthGetter, executor, maxRequestLength,
+              maxInMemoryLength, spillDirectory, blockingTaskExecutor);
         headers = req.headers();
     }
 
@@ -33,6 +33,7 @@ import static java.util.Objects.requireNonNull;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.BitSet;
+import java.util.HashMap;
 import java.util.Map;
 
 import com.google.common.base.Ascii;
@@ -995,6 +996,11 @@ public final class HttpHeaderNames {
             return cached;
         }
 
+        final AsciiString interned = CachedHeaderNames.map.get(lowerCased);
+        if (interned != null) {
+            return interned;
+        }
+
         return validate(AsciiString.cached(lowerCased));
     }
 
@@ -1012,6 +1018,11 @@ public final class HttpHeaderNames {
             return cached;
         }
 
+        final AsciiString interned = CachedHeaderNames.map.get(lowerCased);
+        if (interned != null) {
+            return interned;
+        }
+
         return validate(lowerCased);
     }
 
@@ -1028,6 +1039,30 @@ public final class HttpHeaderNames {
         }
     }
 
+    /**
+     * Interns the header names specified in {@link Flags#cachedHeaders()} which are not defined in
+     * {@link HttpHeaderNames}, so that the names decoded from the wire share the same instance and
+     * its cached hash code. This class is initialized lazily in order not to initialize {@link Flags}
+     * while initializing {@link HttpHeaderNames}.
+     */
+    private static final class CachedHeaderNames {
+        static final Map<CharSequence, AsciiString> map;
+
+        static {
+            final Map<CharSequence, AsciiString> names = new HashMap<>();
+            for (String name : Flags.cachedHeaders()) {
+                final String lowerCased = Ascii.toLowerCase(name);
+                if (lowerCased.isEmpty() || HttpHeaderNames.map.containsKey(lowerCased)) {
+                    continue;
+                }
+                final AsciiString interned = AsciiString.cached(lowerCased);
+                names.put(interned, interned);
+                names.put(lowerCased, interned);
+            }
+            map = ImmutableMap.copyOf(names);
+        }
+    }
+
     private static AsciiString validate(AsciiString name) {
         if (name.isEmpty()) {
             throw new IllegalArgumentException("malformed header name: <EMPTY>");
@@ -153,7 +153,8 @@ class HttpHeadersBase
 
     @Override
     final boolean nameEquals(AsciiString a, CharSequence b) {
-        return a.contentEqualsIgnoreCase(b);
+        // Most names are interned by HttpHeaderNames.of(), so an identity check is usually enough.
+        return a == b || a.contentEqualsIgnoreCase(b);
     }
 
     @Override
@@ -21,6 +21,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Formatter;
 import java.util.List;
@@ -646,6 +648,27 @@ public interface HttpRequest extends Request, HttpMessage {
         return new DefaultHttpRequestDuplicator(this, executor, maxRequestLength);
     }
 
+    /**
+     * Returns a new {@link HttpRequestDuplicator} that keeps at most {@code maxInMemoryLength} bytes of
+     * the content in memory. The content that exceeds the limit is written to a temporary file in
+     * {@code java.io.tmpdir} and is read back from the file when a duplicated {@link HttpRequest} consumes it,
+     * so that a large request can be retried with bounded memory.
+     *
+     * @param executor the executor to duplicate
+     * @param maxRequestLength the maximum content length that the duplicator can hold in memory and
+     *                         in the temporary file. {@link ContentTooLargeException} is raised if the length
+     *                         of the content is greater than this value. {@code 0} disables the limit.
+     * @param maxInMemoryLength the maximum content length that the duplicator can hold in memory
+     */
+    @UnstableApi
+    default HttpRequestDuplicator toDuplicator(EventExecutor executor, long maxRequestLength,
+                                               long maxInMemoryLength) {
+        requireNonNull(executor, "executor");
+        final Path spillDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+        return new DefaultHttpRequestDuplicator(this, executor, maxRequestLength, maxInMemoryLength,
+                                                spillDirectory, CommonPools.blockingTaskExecutor());
+    }
+
     /**
      * Returns a new {@link SplitHttpRequest} which splits a stream of {@link HttpObject}s into
      * {@link HttpData}s and an HTTP trailers.
@@ -32,11 +32,11 @@ package com.linecorp.armeria.common.multipart;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.regex.Pattern;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.linecorp.armeria.common.ContentTooLargeException;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpHeaders;
 import com.linecorp.armeria.common.HttpHeadersBuilder;
@@ -69,19 +69,14 @@ final class MimeParser {
     private final MultipartDecoder multipartDecoder;
 
     /**
-     * Boundary length.
-     */
-    private final int boundaryLength;
-
-    /**
-     * BnM algorithm: Bad Character Shift table.
+     * The maximum length of the content of a body part.
      */
-    private final int[] badCharacters = new int[128];
+    private final long maxBodyPartLength;
 
     /**
-     * BnM algorithm: Good Suffix Shift table.
+     * Boundary length.
      */
-    private final int[] goodSuffixes;
+    private final int boundaryLength;
 
     /**
      * The current parser state.
@@ -115,6 +110,11 @@ final class MimeParser {
      */
     private MultipartDecoder.@Nullable BodyPartPublisher bodyPartPublisher;
 
+    /**
+     * The length of the content of the current body part.
+     */
+    private long bodyPartLength;
+
     /**
      * Read and process body parts until we see the terminating boundary line.
      */
@@ -140,13 +140,21 @@ final class MimeParser {
      */
     MimeParser(StreamDecoderInput in, StreamDecoderOutput<BodyPart> out, String boundary,
                MultipartDecoder multipartDecoder) {
+        this(in, out, boundary, multipartDecoder, Long.MAX_VALUE);
+    }
+
+    /**
+     * Parses the MIME content and fails with a {@link ContentTooLargeException} if the content of a body part
+     * is longer than {@code maxBodyPartLength}.
+     */
+    MimeParser(StreamDecoderInput in, StreamDecoderOutput<BodyPart> out, String boundary,
+               MultipartDecoder multipartDecoder, long maxBodyPartLength) {
         this.in = in;
         this.out = out;
         boundaryBytes = getBytes("--" + boundary);
         this.multipartDecoder = multipartDecoder;
+        this.maxBodyPartLength = maxBodyPartLength;
         boundaryLength = boundaryBytes.length;
-        goodSuffixes = new int[boundaryLength];
-        compileBoundaryPattern();
     }
 
     /**
@@ -208,6 +216,7 @@ final class MimeParser {
                         logger.trace("state={}", State.START_PART);
                         bodyPartHeadersBuilder = HttpHeaders.builder();
                         bodyPartBuilder = BodyPart.builder();
+                        bodyPartLength = 0;
                         state = State.HEADERS;
                         break;
 
@@ -259,6 +268,17 @@ final class MimeParser {
                         if (boundaryStart != -1) {
                             startOfLine = false;
                         }
+                        bodyPartLength += bodyContent.readableBytes();
+                        if (bodyPartLength > maxBodyPartLength) {
+                            bodyContent.release();
+                            final ContentTooLargeException cause =
+                                    ContentTooLargeException.builder()
+                                                            .maxContentLength(maxBodyPartLength)
+                                                            .transferred(bodyPartLength)
+                                                            .build();
+                            bodyPartPublisher.abort(cause);
+                            throw cause;
+                        }
                         // Use tryWrite() to avoid throwing exception.
                         // For example, when body part is cancelled, MimeParser need to ignore it without
                         // throwing exception.
@@ -287,7 +307,7 @@ final class MimeParser {
                         // nothing to do
                 }
             }
-        } catch (MimeParsingException ex) {
+        } catch (MimeParsingException | ContentTooLargeException ex) {
             throw ex;
         } catch (Throwable ex) {
             throw new MimeParsingException(ex);
@@ -512,120 +532,43 @@ final class MimeParser {
      */
     @Nullable
     private String readHeaderLine() {
-        final int length = in.readableBytes();
         // need more data to progress
         // need at least one blank line to read (no headers)
-        if (length == 0) {
+        if (!in.isReadable()) {
             return null;
         }
-        int headerLength = 0;
-        int lwsp = 0;
-
         // Find the end of a header line which ends with `\n` or `\r\n`
-        for (; headerLength < length; headerLength++) {
-            final byte currentChar = in.getByte(headerLength);
-            if (currentChar == '\n') {
-                lwsp += 1;
-                break;
-            }
-            if (headerLength + 1 >= length) {
-                // No more data in the buffer
-                return null;
-            }
-            if (currentChar == '\r' && in.getByte(headerLength + 1) == '\n') {
-                lwsp += 2;
-                break;
-            }
+        final int lineFeed = in.indexOf((byte) '\n');
+        if (lineFeed < 0) {
+            // No more data in the buffer
+            return null;
+        }
+        final int headerLength;
+        final int lwsp;
+        if (lineFeed > 0 && in.getByte(lineFeed - 1) == '\r') {
+            headerLength = lineFeed - 1;
+            lwsp = 2;
+        } else {
+            headerLength = lineFeed;
+            lwsp = 1;
         }
         if (headerLength == 0) {
             in.skipBytes(lwsp);
             return "";
         }
 
-        final ByteBuf byteBuf = in.readBytes(headerLength);
-        try {
-            in.skipBytes(lwsp);
-            return new String(ByteBufUtil.getBytes(byteBuf), HEADER_ENCODING);
-        } finally {
-            byteBuf.release();
-        }
+        final String headerLine = in.readString(headerLength, HEADER_ENCODING);
+        in.skipBytes(lwsp);
+        return headerLine;
     }
 
     /**
-     * Boyer-Moore search method.
-     * Copied from {@link Pattern}
-     *
-     * <p>Pre calculates arrays needed to generate the bad character shift and the
-     * good suffix shift. Only the last seven bits are used to see if chars
-     * match; This keeps the tables small and covers the heavily used ASCII
-     * range, but occasionally results in an aliased match for the bad character
-     * shift.
-     */
-    private void compileBoundaryPattern() {
-        int i;
-        int j;
-
-        // Precalculate part of the bad character shift
-        // It is a table for where in the pattern each
-        // lower 7-bit value occurs
-        for (i = 0; i < boundaryBytes.length; i++) {
-            badCharacters[boundaryBytes[i] & 0x7F] = i + 1;
-        }
-
-        // Precalculate the good suffix shift
-        // i is the shift amount being considered
-        NEXT:
-        for (i = boundaryBytes.length; i > 0; i--) {
-            // j is the beginning index of suffix being considered
-            for (j = boundaryBytes.length - 1; j >= i; j--) {
-                // Testing for good suffix
-                if (boundaryBytes[j] == boundaryBytes[j - i]) {
-                    // src[j..len] is a good suffix
-                    goodSuffixes[j - 1] = i;
-                } else {
-                    // No match. The array has already been
-                    // filled up with correct values before.
-                    continue NEXT;
-                }
-            }
-            // This fills up the remaining of optoSft
-            // any suffix can not have larger shift amount
-            // then its sub-suffix. Why???
-            while (j > 0) {
-                goodSuffixes[--j] = i;
-            }
-        }
-        // Set the guard value because of unicode compression
-        goodSuffixes[boundaryBytes.length - 1] = 1;
-    }
-
-    /**
-     * Finds the boundary in the given buffer using Boyer-Moore algorithm.
-     * Copied from {@link Pattern}
+     * Finds the boundary in the readable bytes of the input.
      *
      * @return -1 if there is no match or index where the match starts
      */
     private int match() {
-        final int last = in.readableBytes() - boundaryBytes.length;
-        int off = 0;
-
-        // Loop over all possible match positions in text
-        NEXT:
-        while (off <= last) {
-            // Loop over pattern from right to left
-            for (int j = boundaryBytes.length - 1; j >= 0; j--) {
-                final byte ch = in.getByte(off + j);
-                if (ch != boundaryBytes[j]) {
-                    // Shift search to the right by the maximum of the
-                    // bad character shift and the good suffix shift
-                    off += Math.max(j + 1 - badCharacters[ch & 0x7F], goodSuffixes[j]);
-                    continue NEXT;
-                }
-            }
-            // Entire pattern matched starting at off
-            return off;
-        }
-        return -1;
+        return in.indexOf(boundaryBytes);
     }
 
     /**
@@ -15,6 +15,7 @@
  */
 package com.linecorp.armeria.common.multipart;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.linecorp.armeria.common.multipart.DefaultMultipart.randomBoundary;
 import static com.linecorp.armeria.internal.common.stream.InternalStreamMessageUtil.EMPTY_OPTIONS;
@@ -31,6 +32,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.annotations.CheckReturnValue;
 
+import com.linecorp.armeria.common.ContentTooLargeException;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
@@ -133,6 +135,30 @@ public interface Multipart {
      */
     static Multipart from(HttpRequest request) {
         requireNonNull(request, "request");
+        return from(request, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns a decoded {@link Multipart} from the specified {@link HttpRequest}, which fails with
+     * a {@link ContentTooLargeException} when the content of a body part is longer than
+     * {@code maxBodyPartLength}. The content of each {@link BodyPart} is published as soon as it is received
+     * without being aggregated, so it can be written directly to a file with
+     * {@link BodyPart#writeTo(java.nio.file.Path, java.nio.file.OpenOption...)} or consumed by
+     * subscribing to {@link BodyPart#content()}:
+     * <pre>{@code
+     * Multipart.from(req, 16 * 1024 * 1024)
+     *          .collect(bodyPart -> {
+     *              final Path path = uploadDir.resolve(bodyPart.name());
+     *              return bodyPart.writeTo(path).thenApply(ignore -> path);
+     *          });
+     * }</pre>
+     *
+     * @param maxBodyPartLength the maximum length of the content of a body part
+     */
+    @UnstableApi
+    static Multipart from(HttpRequest request, long maxBodyPartLength) {
+        requireNonNull(request, "request");
+        checkArgument(maxBodyPartLength > 0, "maxBodyPartLength: %s (expected: > 0)", maxBodyPartLength);
         final RequestHeaders headers = request.headers();
         @Nullable
         final MediaType mediaType = headers.contentType();
@@ -142,7 +168,9 @@ public interface Multipart {
         @SuppressWarnings("unchecked")
         final StreamMessage<HttpData> cast =
                 (StreamMessage<HttpData>) (StreamMessage<?>) request.filter(HttpData.class::isInstance);
-        return from(boundary, cast);
+        final MultipartDecoder decoder =
+                new MultipartDecoder(cast, boundary, ByteBufAllocator.DEFAULT, maxBodyPartLength);
+        return of(boundary, decoder);
     }
 
     /**
@@ -54,6 +54,7 @@ final class MultipartDecoder implements StreamMessage<BodyPart>, StreamDecoder<H
 
     private final DecodedStreamMessage<HttpData, BodyPart> decoded;
     private final String boundary;
+    private final long maxBodyPartLength;
 
     @Nullable
     private MimeParser parser;
@@ -67,7 +68,13 @@ final class MultipartDecoder implements StreamMessage<BodyPart>, StreamDecoder<H
     private long demandOfMultipart;
 
     MultipartDecoder(StreamMessage<? extends HttpData> upstream, String boundary, ByteBufAllocator alloc) {
+        this(upstream, boundary, alloc, Long.MAX_VALUE);
+    }
+
+    MultipartDecoder(StreamMessage<? extends HttpData> upstream, String boundary, ByteBufAllocator alloc,
+                     long maxBodyPartLength) {
         this.boundary = boundary;
+        this.maxBodyPartLength = maxBodyPartLength;
         decoded = new DecodedStreamMessage<>(upstream, this, alloc);
     }
 
@@ -79,7 +86,7 @@ final class MultipartDecoder implements StreamMessage<BodyPart>, StreamDecoder<H
     @Override
     public void process(StreamDecoderInput in, StreamDecoderOutput<BodyPart> out) throws Exception {
         if (parser == null) {
-            parser = new MimeParser(in, out, boundary, this);
+            parser = new MimeParser(in, out, boundary, this, maxBodyPartLength);
         }
         parser.parse();
         // Do not catch the exception from parse() because processOnError is called eventually.
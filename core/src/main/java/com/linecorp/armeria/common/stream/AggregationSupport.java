@@ -92,6 +92,7 @@ public abstract class AggregationSupport {
         }
         final ByteBufAllocator alloc = options.alloc();
         final SubscriptionOption[] subscriptionOptions = alloc != null ? POOLED_OBJECTS : EMPTY_OPTIONS;
+        final boolean compositeBuffer = options.compositeBuffer();
 
         final CompletableFuture<?> aggregation = this.aggregation;
         if (aggregation != null) {
@@ -109,7 +110,7 @@ public abstract class AggregationSupport {
                 executor = httpMessage.defaultSubscriberExecutor();
             }
             return httpMessage.collect(executor, subscriptionOptions)
-                              .thenApply(objects -> aggregate(objects, headers, alloc));
+                              .thenApply(objects -> aggregate(objects, headers, alloc, compositeBuffer));
         }
 
         final CompletableFuture<U> aggregationFuture = new CompletableFuture<>();
@@ -124,7 +125,8 @@ public abstract class AggregationSupport {
             executor = httpMessage.defaultSubscriberExecutor();
         }
         httpMessage.collect(executor, subscriptionOptions)
-                   .thenApply(objects -> aggregate(objects, headers, alloc)).handle((res, cause) -> {
+                   .thenApply(objects -> aggregate(objects, headers, alloc, compositeBuffer))
+                   .handle((res, cause) -> {
                        if (cause != null) {
                            cause = Exceptions.peel(cause);
                            aggregationFuture.completeExceptionally(cause);
@@ -140,11 +142,12 @@ public abstract class AggregationSupport {
     @SuppressWarnings("unchecked")
     private static <U extends AggregatedHttpMessage> U aggregate(List<HttpObject> objects,
                                                                  @Nullable RequestHeaders headers,
-                                                                 @Nullable ByteBufAllocator allocator) {
+                                                                 @Nullable ByteBufAllocator allocator,
+                                                                 boolean compositeBuffer) {
         if (headers != null) {
-            return (U) HttpMessageAggregator.aggregateRequest(headers, objects, allocator);
+            return (U) HttpMessageAggregator.aggregateRequest(headers, objects, allocator, compositeBuffer);
         } else {
-            return (U) HttpMessageAggregator.aggregateResponse(objects, allocator);
+            return (U) HttpMessageAggregator.aggregateResponse(objects, allocator, compositeBuffer);
         }
     }
 
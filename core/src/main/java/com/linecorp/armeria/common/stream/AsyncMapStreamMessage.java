@@ -16,6 +16,7 @@
 
 package com.linecorp.armeria.common.stream;
 
+import static com.linecorp.armeria.internal.common.stream.InternalStreamMessageUtil.containsWithPooledObjects;
 import static java.util.Objects.requireNonNull;
 
 import java.util.concurrent.CompletableFuture;
@@ -28,13 +29,23 @@ import com.google.common.math.IntMath;
 import com.google.common.math.LongMath;
 
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.stream.FuseableStreamMessage.MapperFunction;
 import com.linecorp.armeria.internal.common.stream.StreamMessageUtil;
 
 import io.netty.util.concurrent.EventExecutor;
 
 final class AsyncMapStreamMessage<T, U> implements StreamMessage<U> {
-    private final StreamMessage<T> source;
-    private final Function<T, CompletableFuture<U>> function;
+
+    // The `source` might not produce `T` and the emitted objects will be transformed to `T` by `before`.
+    private final StreamMessage<Object> source;
+    // The synchronous operators of the upstream FuseableStreamMessage which were fused into this stage.
+    @Nullable
+    private final MapperFunction<Object, T> before;
+    private final Function<T, CompletableFuture<Object>> function;
+    // The synchronous operators applied to the results of the `function`, e.g. map() and filter() that were
+    // called on this stream message.
+    @Nullable
+    private final MapperFunction<Object, U> after;
     private final int maxConcurrency;
 
     @SuppressWarnings("unchecked")
@@ -44,11 +55,50 @@ final class AsyncMapStreamMessage<T, U> implements StreamMessage<U> {
         requireNonNull(source, "source");
         requireNonNull(function, "function");
 
-        this.source = (StreamMessage<T>) source;
-        this.function = (Function<T, CompletableFuture<U>>) function;
+        if (source instanceof FuseableStreamMessage) {
+            final FuseableStreamMessage<Object, T> cast = (FuseableStreamMessage<Object, T>) source;
+            // An error function can't be fused because it should not see the errors raised by `function`.
+            if (cast.function() != null && cast.errorFunction() == null) {
+                this.source = cast.upstream();
+                before = cast.function();
+            } else {
+                this.source = (StreamMessage<Object>) source;
+                before = null;
+            }
+        } else {
+            this.source = (StreamMessage<Object>) source;
+            before = null;
+        }
+        this.function = (Function<T, CompletableFuture<Object>>) function;
+        after = null;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    private AsyncMapStreamMessage(StreamMessage<Object> source, @Nullable MapperFunction<Object, T> before,
+                                  Function<T, CompletableFuture<Object>> function,
+                                  @Nullable MapperFunction<Object, U> after, int maxConcurrency) {
+        this.source = source;
+        this.before = before;
+        this.function = function;
+        this.after = after;
         this.maxConcurrency = maxConcurrency;
     }
 
+    /**
+     * Returns a new {@link AsyncMapStreamMessage} which applies the specified synchronous {@code function}
+     * to the results of this stream message in the same {@link Subscriber} stage.
+     */
+    @SuppressWarnings("unchecked")
+    <V> AsyncMapStreamMessage<T, V> fuse(MapperFunction<? super U, ? extends V> function) {
+        final MapperFunction<Object, V> after;
+        if (this.after != null) {
+            after = this.after.and(function);
+        } else {
+            after = (MapperFunction<Object, V>) function;
+        }
+        return new AsyncMapStreamMessage<>(source, before, this.function, after, maxConcurrency);
+    }
+
     @Override
     public boolean isOpen() {
         return source.isOpen();
@@ -76,8 +126,9 @@ final class AsyncMapStreamMessage<T, U> implements StreamMessage<U> {
         requireNonNull(executor, "executor");
         requireNonNull(options, "options");
 
-        source.subscribe(new AsyncMapSubscriber<>(subscriber, function, executor, maxConcurrency), executor,
-                         options);
+        source.subscribe(new AsyncMapSubscriber<>(subscriber, before, function, after, executor, maxConcurrency,
+                                                  containsWithPooledObjects(options)),
+                         executor, options);
     }
 
     @Override
@@ -91,11 +142,16 @@ final class AsyncMapStreamMessage<T, U> implements StreamMessage<U> {
         source.abort(cause);
     }
 
-    private static final class AsyncMapSubscriber<T, U> implements Subscriber<T>, Subscription {
+    private static final class AsyncMapSubscriber<T, U> implements Subscriber<Object>, Subscription {
         private final Subscriber<? super U> downstream;
-        private final Function<T, CompletableFuture<U>> function;
+        @Nullable
+        private final MapperFunction<Object, T> before;
+        private final Function<T, CompletableFuture<Object>> function;
+        @Nullable
+        private final MapperFunction<Object, U> after;
         private final EventExecutor executor;
         private final int maxConcurrency;
+        private final boolean withPooledObjects;
 
         @Nullable
         private volatile Subscription upstream;
@@ -107,17 +163,22 @@ final class AsyncMapStreamMessage<T, U> implements StreamMessage<U> {
         private boolean completed;
 
         AsyncMapSubscriber(Subscriber<? super U> downstream,
-                           Function<T, CompletableFuture<U>> function,
+                           @Nullable MapperFunction<Object, T> before,
+                           Function<T, CompletableFuture<Object>> function,
+                           @Nullable MapperFunction<Object, U> after,
                            EventExecutor executor,
-                           int maxConcurrency) {
+                           int maxConcurrency, boolean withPooledObjects) {
             requireNonNull(downstream, "downstream");
             requireNonNull(function, "function");
             requireNonNull(executor, "executor");
 
             this.downstream = downstream;
+            this.before = before;
             this.function = function;
+            this.after = after;
             this.executor = executor;
             this.maxConcurrency = maxConcurrency;
+            this.withPooledObjects = withPooledObjects;
         }
 
         @Override
@@ -128,7 +189,7 @@ final class AsyncMapStreamMessage<T, U> implements StreamMessage<U> {
         }
 
         @Override
-        public void onNext(T item) {
+        public void onNext(Object item) {
             requireNonNull(item, "item");
 
             if (canceled) {
@@ -140,8 +201,23 @@ final class AsyncMapStreamMessage<T, U> implements StreamMessage<U> {
                 requestedFromUpstream--;
             }
 
+            T input = null;
             try {
-                final CompletableFuture<U> future = function.apply(item);
+                if (before != null) {
+                    input = before.apply(item);
+                    if (input == null) {
+                        // Filtered out. Request another item to replace it.
+                        StreamMessageUtil.closeOrAbort(item);
+                        requestOneFromUpstream();
+                        return;
+                    }
+                    input = StreamMessageUtil.touchOrCopyAndClose(input, withPooledObjects);
+                } else {
+                    //noinspection unchecked
+                    input = (T) item;
+                }
+
+                final CompletableFuture<Object> future = function.apply(input);
                 requireNonNull(future, "function.apply() returned null");
 
                 pendingFutures++;
@@ -156,6 +232,9 @@ final class AsyncMapStreamMessage<T, U> implements StreamMessage<U> {
                 });
             } catch (Throwable ex) {
                 StreamMessageUtil.closeOrAbort(item, ex);
+                if (input != null && input != item) {
+                    StreamMessageUtil.closeOrAbort(input, ex);
+                }
 
                 // onError(ex) should be called before upstream.cancel() that may close downstream with
                 // CancelledSubscriptionException.
@@ -166,7 +245,7 @@ final class AsyncMapStreamMessage<T, U> implements StreamMessage<U> {
             }
         }
 
-        private void publishDownstream(@Nullable U item, @Nullable Throwable cause) {
+        private void publishDownstream(@Nullable Object item, @Nullable Throwable cause) {
             if (canceled) {
                 if (item != null) {
                     StreamMessageUtil.closeOrAbort(item);
@@ -178,13 +257,32 @@ final class AsyncMapStreamMessage<T, U> implements StreamMessage<U> {
             final Subscription upstream = this.upstream;
             assert upstream != null;
 
+            U result = null;
             try {
                 if (cause != null) {
                     onError(cause);
                     upstream.cancel();
                 } else {
                     requireNonNull(item, "function.apply()'s future completed with null");
-                    downstream.onNext(item);
+                    if (after != null) {
+                        result = after.apply(item);
+                        if (result == null) {
+                            // Filtered out. Request another item to replace it.
+                            StreamMessageUtil.closeOrAbort(item);
+                            pendingFutures--;
+                            if (completed && pendingFutures == 0) {
+                                downstream.onComplete();
+                                return;
+                            }
+                            requestOneFromUpstream();
+                            return;
+                        }
+                        result = StreamMessageUtil.touchOrCopyAndClose(result, withPooledObjects);
+                    } else {
+                        //noinspection unchecked
+                        result = (U) item;
+                    }
+                    downstream.onNext(result);
 
                     pendingFutures--;
 
@@ -198,19 +296,28 @@ final class AsyncMapStreamMessage<T, U> implements StreamMessage<U> {
                             requestedByDownstream--;
                         }
 
-                        requestedFromUpstream++;
-                        upstream.request(1);
+                        requestOneFromUpstream();
                     }
                 }
             } catch (Throwable ex) {
                 if (item != null) {
                     StreamMessageUtil.closeOrAbort(item, ex);
                 }
+                if (result != null && result != item) {
+                    StreamMessageUtil.closeOrAbort(result, ex);
+                }
                 onError(ex);
                 upstream.cancel();
             }
         }
 
+        private void requestOneFromUpstream() {
+            final Subscription upstream = this.upstream;
+            assert upstream != null;
+            requestedFromUpstream++;
+            upstream.request(1);
+        }
+
         @Override
         public void onError(Throwable cause) {
             requireNonNull(cause, "cause");
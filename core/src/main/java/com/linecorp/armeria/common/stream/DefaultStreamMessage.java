@@ -20,6 +20,7 @@ import static com.linecorp.armeria.common.util.Exceptions.throwIfFatal;
 import static com.linecorp.armeria.internal.common.stream.InternalStreamMessageUtil.EMPTY_OPTIONS;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
@@ -34,6 +35,7 @@ import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.internal.common.stream.AbortingSubscriber;
 import com.linecorp.armeria.internal.common.stream.StreamMessageUtil;
 
+import io.netty.channel.EventLoop;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 
@@ -65,6 +67,10 @@ import io.netty.util.concurrent.ImmediateEventExecutor;
  * stream(myPub, 0, Integer.MAX_VALUE);
  * }</pre>
  *
+ * <p>An element written from the {@link EventLoop} of the {@link Subscriber} is buffered into a queue confined
+ * to the {@link EventLoop} without any atomic operations, as long as no element written from other threads
+ * is pending. This is the common case where a service writes a response on the event loop of its request.
+ *
  * @param <T> the type of element signaled
  */
 @UnstableApi
@@ -85,6 +91,14 @@ public class DefaultStreamMessage<T> extends AbstractStreamWriter<T> {
 
     private final Queue<Object> queue;
 
+    /**
+     * The queue used instead of {@link #queue} when an element is written from the {@link EventLoop} of
+     * the {@link Subscriber} and {@link #queue} is empty. The elements in this queue always precede the
+     * elements in {@link #queue}. Accessed only from the {@link EventLoop} of the {@link Subscriber}.
+     */
+    @Nullable
+    private ArrayDeque<Object> localQueue;
+
     @Nullable
     private Throwable cleanupCause;
 
@@ -150,7 +164,7 @@ public class DefaultStreamMessage<T> extends AbstractStreamWriter<T> {
             // to other Publishers.
             invokedOnSubscribe = true;
             subscriber.onSubscribe(subscription);
-            if (!queue.isEmpty()) {
+            if (!isQueueEmpty()) {
                 notifySubscriber0();
             }
         } catch (Throwable t) {
@@ -228,11 +242,11 @@ public class DefaultStreamMessage<T> extends AbstractStreamWriter<T> {
     }
 
     private void abort0(Throwable cause, SubscriptionImpl subscription) {
-        final Object o = queue.peek();
+        final Object o = peekQueue();
         // If there's no data pushed (i.e empty stream), notify subscriber with the event pushed by
         // close() or close(cause).
         if (!wroteAny && o instanceof CloseEvent) {
-            notifySubscriberOfCloseEvent(subscription, (CloseEvent) queue.remove());
+            notifySubscriberOfCloseEvent(subscription, (CloseEvent) removeFromQueue());
             return;
         }
 
@@ -274,7 +288,7 @@ public class DefaultStreamMessage<T> extends AbstractStreamWriter<T> {
         // To make onNext know demand, we need to put this after demand updated.
         onRequest(n);
 
-        if (oldDemand == 0 && !queue.isEmpty()) {
+        if (oldDemand == 0 && !isQueueEmpty()) {
             notifySubscriber0();
         }
     }
@@ -313,10 +327,70 @@ public class DefaultStreamMessage<T> extends AbstractStreamWriter<T> {
 
     @Override
     final void addObjectOrEvent(Object obj) {
-        queue.add(obj);
+        if (inSubscriberEventLoop() && queue.isEmpty()) {
+            ArrayDeque<Object> localQueue = this.localQueue;
+            if (localQueue == null) {
+                this.localQueue = localQueue = new ArrayDeque<>(INITIAL_CAPACITY);
+            }
+            localQueue.add(obj);
+        } else {
+            // An element written from other threads, or after such an element, goes to the MPSC queue
+            // so that it is not signaled before the elements written earlier.
+            queue.add(obj);
+        }
         notifySubscriber();
     }
 
+    private boolean inSubscriberEventLoop() {
+        final SubscriptionImpl subscription = this.subscription;
+        if (subscription == null) {
+            return false;
+        }
+        final EventExecutor executor = subscription.executor();
+        return executor instanceof EventLoop && executor.inEventLoop();
+    }
+
+    private boolean isQueueEmpty() {
+        if (inSubscriberEventLoop()) {
+            final ArrayDeque<Object> localQueue = this.localQueue;
+            if (localQueue != null && !localQueue.isEmpty()) {
+                return false;
+            }
+        }
+        // The elements in 'localQueue' are signaled by the subscriber's event loop.
+        return queue.isEmpty();
+    }
+
+    /**
+     * Retrieves the head of the queues. Must be invoked from the {@link EventLoop} of the {@link Subscriber}.
+     */
+    @Nullable
+    private Object peekQueue() {
+        final ArrayDeque<Object> localQueue = this.localQueue;
+        if (localQueue != null && !localQueue.isEmpty()) {
+            return localQueue.peek();
+        }
+        return queue.peek();
+    }
+
+    /**
+     * Removes the head of the queues. Must be invoked from the {@link EventLoop} of the {@link Subscriber}.
+     */
+    @Nullable
+    private Object pollQueue() {
+        final ArrayDeque<Object> localQueue = this.localQueue;
+        if (localQueue != null && !localQueue.isEmpty()) {
+            return localQueue.poll();
+        }
+        return queue.poll();
+    }
+
+    private Object removeFromQueue() {
+        final Object o = pollQueue();
+        assert o != null;
+        return o;
+    }
+
     final void notifySubscriber() {
         final SubscriptionImpl subscription = this.subscription;
         if (subscription == null) {
@@ -328,7 +402,7 @@ public class DefaultStreamMessage<T> extends AbstractStreamWriter<T> {
             return;
         }
 
-        if (queue.isEmpty()) {
+        if (isQueueEmpty()) {
             return;
         }
 
@@ -372,13 +446,13 @@ public class DefaultStreamMessage<T> extends AbstractStreamWriter<T> {
                 return;
             }
 
-            final Object o = queue.peek();
+            final Object o = peekQueue();
             if (o == null) {
                 break;
             }
 
             if (o instanceof CloseEvent) {
-                handleCloseEvent(subscription, (CloseEvent) queue.remove());
+                handleCloseEvent(subscription, (CloseEvent) removeFromQueue());
                 break;
             }
 
@@ -405,7 +479,7 @@ public class DefaultStreamMessage<T> extends AbstractStreamWriter<T> {
         }
 
         @SuppressWarnings("unchecked")
-        T o = (T) queue.remove();
+        T o = (T) removeFromQueue();
         inOnNext = true;
         try {
             o = prepareObjectForNotification(o, subscription.withPooledObjects());
@@ -429,7 +503,7 @@ public class DefaultStreamMessage<T> extends AbstractStreamWriter<T> {
 
     private void notifyAwaitDemandFuture() {
         @SuppressWarnings("unchecked")
-        final CompletableFuture<Void> f = (CompletableFuture<Void>) queue.remove();
+        final CompletableFuture<Void> f = (CompletableFuture<Void>) removeFromQueue();
         f.complete(null);
     }
 
@@ -477,7 +551,7 @@ public class DefaultStreamMessage<T> extends AbstractStreamWriter<T> {
 
     private void cleanupObjects(@Nullable Throwable cause) {
         for (;;) {
-            final Object e = queue.poll();
+            final Object e = pollQueue();
             if (e == null) {
                 break;
             }
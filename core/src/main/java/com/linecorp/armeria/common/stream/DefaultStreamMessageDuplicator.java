@@ -26,12 +26,15 @@ import static com.linecorp.armeria.internal.common.stream.InternalStreamMessageU
 import static com.linecorp.armeria.internal.common.stream.SubscriberUtil.abortedOrLate;
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
@@ -59,12 +62,20 @@ import com.linecorp.armeria.internal.common.stream.NoopSubscription;
 import com.linecorp.armeria.internal.common.stream.StreamMessageUtil;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 
 /**
  * A default duplicator.
  *
+ * <p>By default, all signals are kept in memory until the duplicator and all duplicated streams are
+ * closed. If a duplicator is created with
+ * {@link #DefaultStreamMessageDuplicator(StreamMessage, SignalLengthGetter, EventExecutor, long, long, Path,
+ * ExecutorService)}, the {@link HttpData}s that exceed the in-memory limit are written to a temporary file
+ * and are read back from the file when a duplicated stream consumes them, so that a large body can be
+ * retried or mirrored with bounded memory.
+ *
  * @param <T> the type of elements
  * @see StreamMessageDuplicator
  */
@@ -96,7 +107,36 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
         this.executor = requireNonNull(executor, "executor");
         checkArgument(maxSignalLength >= 0,
                       "maxSignalLength: %s (expected: >= 0)", maxSignalLength);
-        processor = new StreamMessageProcessor<>(this, upstream, signalLengthGetter, executor, maxSignalLength);
+        processor = new StreamMessageProcessor<>(this, upstream, signalLengthGetter, executor, maxSignalLength,
+                                                 Long.MAX_VALUE, null, null);
+    }
+
+    /**
+     * Creates a new instance which keeps at most {@code maxInMemoryLength} bytes of {@link HttpData}s in
+     * memory. Once the limit is reached, the {@link HttpData}s that follow are written to a temporary file
+     * created in {@code spillDirectory} and are read back from the file when a duplicated stream consumes
+     * them. The file is deleted when the duplicator and all duplicated streams are closed or aborted.
+     * Note that {@code maxSignalLength} still limits the length of all signals including the ones in the file.
+     *
+     * @param maxInMemoryLength the maximum number of bytes of {@link HttpData}s to keep in memory
+     * @param spillDirectory the directory where the temporary file is created
+     * @param blockingTaskExecutor the {@link ExecutorService} which performs the file I/O
+     */
+    public DefaultStreamMessageDuplicator(
+            StreamMessage<T> upstream, SignalLengthGetter<? super T> signalLengthGetter,
+            EventExecutor executor, long maxSignalLength, long maxInMemoryLength,
+            Path spillDirectory, ExecutorService blockingTaskExecutor) {
+        requireNonNull(upstream, "upstream");
+        requireNonNull(signalLengthGetter, "signalLengthGetter");
+        this.executor = requireNonNull(executor, "executor");
+        checkArgument(maxSignalLength >= 0,
+                      "maxSignalLength: %s (expected: >= 0)", maxSignalLength);
+        checkArgument(maxInMemoryLength >= 0,
+                      "maxInMemoryLength: %s (expected: >= 0)", maxInMemoryLength);
+        requireNonNull(spillDirectory, "spillDirectory");
+        requireNonNull(blockingTaskExecutor, "blockingTaskExecutor");
+        processor = new StreamMessageProcessor<>(this, upstream, signalLengthGetter, executor, maxSignalLength,
+                                                 maxInMemoryLength, spillDirectory, blockingTaskExecutor);
     }
 
     @Override
@@ -149,12 +189,24 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
         private final int maxSignalLength;
         private int signalLength;
 
+        private final long maxInMemoryLength;
+        @Nullable
+        private final Path spillDirectory;
+        @Nullable
+        private final ExecutorService blockingTaskExecutor;
+        private long inMemoryLength;
+        @Nullable
+        private SpillFile spillFile;
+
         private final Set<DownstreamSubscription<T>> downstreamSubscriptions =
                 Collections.newSetFromMap(new ConcurrentHashMap<>());
 
         volatile int downstreamSignaledCounter;
         volatile int upstreamOffset;
 
+        // The cumulative demand of the downstream subscriptions.
+        private long demand;
+        // The cumulative demand actually requested to the upstream.
         private long requestedDemand;
         @Nullable
         private Subscription upstreamSubscription;
@@ -168,7 +220,8 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
         @SuppressWarnings("unchecked")
         StreamMessageProcessor(DefaultStreamMessageDuplicator<T> duplicator, StreamMessage<T> upstream,
                                SignalLengthGetter<?> signalLengthGetter,
-                               EventExecutor executor, long maxSignalLength) {
+                               EventExecutor executor, long maxSignalLength, long maxInMemoryLength,
+                               @Nullable Path spillDirectory, @Nullable ExecutorService blockingTaskExecutor) {
             this.duplicator = duplicator;
             this.upstream = upstream;
             this.signalLengthGetter = (SignalLengthGetter<Object>) signalLengthGetter;
@@ -178,6 +231,9 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
             } else {
                 this.maxSignalLength = (int) maxSignalLength;
             }
+            this.maxInMemoryLength = maxInMemoryLength;
+            this.spillDirectory = spillDirectory;
+            this.blockingTaskExecutor = blockingTaskExecutor;
             signals = new SignalQueue(this.signalLengthGetter);
             upstream.subscribe(this, executor, CANCELLATION_AND_POOLED_OPTIONS);
         }
@@ -259,11 +315,20 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
                 }
             }
 
+            final Object signal;
             try {
-                final int removedLength = signals.addAndRemoveIfRequested(obj);
+                signal = maybeSpill(obj);
+            } catch (IOException e) {
+                StreamMessageUtil.closeOrAbort(obj, e);
+                upstream.abort(e);
+                return;
+            }
+
+            try {
+                final int removedLength = signals.addAndRemoveIfRequested(signal);
                 signalLength -= removedLength;
             } catch (IllegalStateException e) {
-                StreamMessageUtil.closeOrAbort(obj, e);
+                StreamMessageUtil.closeOrAbort(signal, e);
                 upstream.abort(e);
                 return;
             }
@@ -273,6 +338,52 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
             if (!downstreamSubscriptions.isEmpty()) {
                 downstreamSubscriptions.forEach(DownstreamSubscription::signal);
             }
+            if (spillDirectory != null) {
+                requestUpstream();
+            }
+        }
+
+        /**
+         * Returns the specified signal as is, or writes it to the {@link SpillFile} and returns
+         * its {@link SpillFile.Chunk} if the in-memory limit has been reached.
+         */
+        private Object maybeSpill(Object obj) throws IOException {
+            if (spillDirectory == null || !(obj instanceof HttpData)) {
+                return obj;
+            }
+            final HttpData data = (HttpData) obj;
+            if (data.isEmpty()) {
+                return obj;
+            }
+
+            if (spillFile == null) {
+                if (inMemoryLength + data.length() <= maxInMemoryLength) {
+                    inMemoryLength += data.length();
+                    return obj;
+                }
+                assert blockingTaskExecutor != null;
+                spillFile = SpillFile.create(spillDirectory, blockingTaskExecutor,
+                                             () -> executor.execute(this::requestUpstream));
+            }
+
+            // Keep the order of the data by writing all data to the file once the limit is reached.
+            final SpillFile.Chunk chunk = spillFile.write(data);
+            chunk.whenWritten.exceptionally(cause -> {
+                upstream.abort(cause);
+                return null;
+            });
+            return chunk;
+        }
+
+        private void clearSignals(@Nullable Throwable cause) {
+            signals.clear(cause);
+            closeSpillFile(spillFile);
+        }
+
+        private static void closeSpillFile(@Nullable SpillFile spillFile) {
+            if (spillFile != null) {
+                spillFile.close();
+            }
         }
 
         void subscribe(DownstreamSubscription<T> subscription) {
@@ -310,7 +421,7 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
                 // anymore and are guaranteed that the last unsubscribed downstream will run this cleanup logic.
                 state = State.ABORTED;
                 doCancelUpstreamSubscription();
-                signals.clear(null);
+                clearSignals(null);
             }
         }
 
@@ -331,10 +442,32 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
         }
 
         void doRequestDemand(long cumulativeDemand) {
-            if (upstreamSubscription == null) {
+            if (cumulativeDemand > demand) {
+                demand = cumulativeDemand;
+            }
+            requestUpstream();
+        }
+
+        /**
+         * Requests the demand of the downstream subscriptions to the upstream. If the data can be spilled
+         * to a file, only up to {@link SpillFile#MAX_PENDING_WRITES} signals are requested ahead, and
+         * no more signals are requested while the {@link SpillFile} is not writable, so that the pending
+         * writes are bounded.
+         */
+        private void requestUpstream() {
+            if (upstreamSubscription == null || state == State.ABORTED) {
                 return;
             }
 
+            long cumulativeDemand = demand;
+            if (spillDirectory != null) {
+                if (spillFile != null && !spillFile.isWritable()) {
+                    return;
+                }
+                cumulativeDemand = Math.min(cumulativeDemand,
+                                            LongMath.saturatedAdd(upstreamOffset,
+                                                                  SpillFile.MAX_PENDING_WRITES));
+            }
             if (cumulativeDemand <= requestedDemand) {
                 return;
             }
@@ -365,7 +498,7 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
                 if (duplicator.unsubscribed == 0 && downstreamSubscriptions.isEmpty()) {
                     state = State.ABORTED;
                     doCancelUpstreamSubscription();
-                    signals.clear(null);
+                    clearSignals(null);
                 } else {
                     state = State.CLOSED;
                 }
@@ -400,9 +533,12 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
                 completionFutures.add(future);
             });
             downstreamSubscriptions.clear();
+            // No new file is created once aborted.
+            final SpillFile spillFile = this.spillFile;
             CompletableFutures.successfulAsList(completionFutures, unused -> null)
                               .handle((unused1, unused2) -> {
                                   signals.clear(cause);
+                                  closeSpillFile(spillFile);
                                   return null;
                               });
         }
@@ -576,6 +712,7 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
         private volatile int offset;
         private long cumulativeDemand;
         private boolean inOnNext;
+        private boolean readingSpilledChunk;
 
         DownstreamSubscription(ChildStreamMessage<T> streamMessage,
                                Subscriber<? super T> subscriber, StreamMessageProcessor<T> processor,
@@ -703,6 +840,11 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
         }
 
         private boolean doSignalSingle(SignalQueue signals) {
+            if (readingSpilledChunk) {
+                // doSignal() is invoked again when the chunk is read from the file.
+                return false;
+            }
+
             if (inOnNext) {
                 // Do not let Subscriber.onNext() reenter, because it can lead to weird-looking event ordering
                 // for a Subscriber implemented like the following:
@@ -749,6 +891,11 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
                 }
 
                 offset++;
+                if (signal instanceof SpillFile.Chunk) {
+                    readSpilledChunk((SpillFile.Chunk) signal);
+                    return false;
+                }
+
                 @SuppressWarnings("unchecked")
                 T obj = (T) signal;
                 try {
@@ -778,32 +925,76 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
                     return false;
                 }
 
-                if (processor.isClosed() && processor.duplicator.unsubscribed == 0) {
-                    if (++processor.downstreamSignaledCounter >= REQUEST_REMOVAL_THRESHOLD) {
-                        // don't need to use AtomicBoolean cause it's used for rough counting
-                        processor.downstreamSignaledCounter = 0;
-                        int minOffset = Integer.MAX_VALUE;
-                        for (DownstreamSubscription<?> s : processor.downstreamSubscriptions) {
-                            minOffset = Math.min(minOffset, s.offset);
-                        }
-                        signals.requestRemovalAheadOf(minOffset);
-                    }
-                }
+                return deliver(obj);
+            }
+        }
+
+        private void readSpilledChunk(SpillFile.Chunk chunk) {
+            readingSpilledChunk = true;
+            chunk.read(ByteBufAllocator.DEFAULT).handle((buf, cause) -> {
+                downstreamExecutor.execute(() -> onSpilledChunkRead(chunk, buf, cause));
+                return null;
+            });
+        }
+
+        private void onSpilledChunkRead(SpillFile.Chunk chunk,
+                                        @Nullable ByteBuf buf, @Nullable Throwable cause) {
+            readingSpilledChunk = false;
+            if (cause != null) {
+                doUnsubscribe(cause);
+                return;
+            }
+            assert buf != null;
+            final Throwable cancelledOrAborted = this.cancelledOrAborted;
+            if (cancelledOrAborted != null) {
+                buf.release();
+                doUnsubscribe(cancelledOrAborted);
+                return;
+            }
 
-                inOnNext = true;
+            final HttpData data;
+            if (withPooledObjects) {
+                data = HttpData.wrap(buf).withEndOfStream(chunk.endOfStream);
+            } else {
                 try {
-                    subscriber.onNext(obj);
-                } catch (Throwable t) {
-                    unsubscribe(t);
-                    throwIfFatal(t);
-                    logger.warn("Subscriber.onNext({}) should not raise an exception. subscriber: {}",
-                                obj, subscriber, t);
-                    return false;
+                    data = HttpData.copyOf(buf).withEndOfStream(chunk.endOfStream);
                 } finally {
-                    inOnNext = false;
+                    buf.release();
+                }
+            }
+            @SuppressWarnings("unchecked")
+            final T obj = (T) data;
+            if (deliver(obj)) {
+                doSignal();
+            }
+        }
+
+        private boolean deliver(T obj) {
+            if (processor.isClosed() && processor.duplicator.unsubscribed == 0) {
+                if (++processor.downstreamSignaledCounter >= REQUEST_REMOVAL_THRESHOLD) {
+                    // don't need to use AtomicBoolean cause it's used for rough counting
+                    processor.downstreamSignaledCounter = 0;
+                    int minOffset = Integer.MAX_VALUE;
+                    for (DownstreamSubscription<?> s : processor.downstreamSubscriptions) {
+                        minOffset = Math.min(minOffset, s.offset);
+                    }
+                    processor.signals().requestRemovalAheadOf(minOffset);
                 }
-                return true;
             }
+
+            inOnNext = true;
+            try {
+                subscriber.onNext(obj);
+            } catch (Throwable t) {
+                unsubscribe(t);
+                throwIfFatal(t);
+                logger.warn("Subscriber.onNext({}) should not raise an exception. subscriber: {}",
+                            obj, subscriber, t);
+                return false;
+            } finally {
+                inOnNext = false;
+            }
+            return true;
         }
 
         void unsubscribe(@Nullable Throwable cause) {
@@ -953,7 +1144,9 @@ public class DefaultStreamMessageDuplicator<T> implements StreamMessageDuplicato
             for (int numRemovals = 0; numRemovals < numElementsToBeRemoved; numRemovals++) {
                 final int index = oldHead + numRemovals & bitMask;
                 final Object o = elements[index];
-                if (!(o instanceof CloseEvent)) {
+                if (o instanceof SpillFile.Chunk) {
+                    removedLength += ((SpillFile.Chunk) o).length;
+                } else if (!(o instanceof CloseEvent)) {
                     removedLength += signalLengthGetter.length(o);
                 }
                 StreamMessageUtil.closeOrAbort(o);
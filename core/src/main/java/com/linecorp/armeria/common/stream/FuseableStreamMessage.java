@@ -28,7 +28,6 @@ import java.util.function.Predicate;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
-import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 
 import com.linecorp.armeria.common.annotation.Nullable;
@@ -41,14 +40,22 @@ import io.netty.util.concurrent.EventExecutor;
 
 final class FuseableStreamMessage<T, U> implements StreamMessage<U> {
 
-    static <T> FuseableStreamMessage<T, T> of(StreamMessage<? extends T> source,
-                                              Predicate<? super T> predicate) {
-        return new FuseableStreamMessage<>(source, MapperFunction.of(predicate), null);
+    static <T> StreamMessage<T> of(StreamMessage<? extends T> source, Predicate<? super T> predicate) {
+        return of(source, MapperFunction.of(predicate));
     }
 
-    static <T, R> FuseableStreamMessage<T, R> of(StreamMessage<? extends T> source,
-                                                 Function<? super T, ? extends R> function) {
-        return new FuseableStreamMessage<>(source, MapperFunction.of(function), null);
+    static <T, R> StreamMessage<R> of(StreamMessage<? extends T> source,
+                                      Function<? super T, ? extends R> function) {
+        return of(source, MapperFunction.of(function));
+    }
+
+    private static <T, R> StreamMessage<R> of(StreamMessage<? extends T> source,
+                                              MapperFunction<T, R> function) {
+        if (source instanceof AsyncMapStreamMessage) {
+            // Apply the function in the same subscriber stage as the asynchronous function.
+            return ((AsyncMapStreamMessage<?, ? extends T>) source).fuse(function);
+        }
+        return new FuseableStreamMessage<>(source, function, null);
     }
 
     static <T> FuseableStreamMessage<T, T> error(
@@ -114,11 +121,20 @@ final class FuseableStreamMessage<T, U> implements StreamMessage<U> {
         return source;
     }
 
-    @VisibleForTesting
     StreamMessage<Object> upstream() {
         return source;
     }
 
+    @Nullable
+    MapperFunction<Object, U> function() {
+        return function;
+    }
+
+    @Nullable
+    Function<Throwable, Throwable> errorFunction() {
+        return errorFunction;
+    }
+
     @Override
     public boolean isOpen() {
         return source.isOpen();
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.stream;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpMessage;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * An {@link HttpDecoder} that decodes a UTF-8 JSON document incrementally with Jackson's non-blocking
+ * parser. Each {@link HttpData} is parsed as soon as it arrives and released right away, so the whole
+ * document is never held in memory as bytes. Only the tokens of the value being decoded are buffered.
+ *
+ * <pre>{@code
+ * HttpRequest req = ...;
+ * // Decodes each element of a JSON array, e.g. [{"name":"foo"}, {"name":"bar"}]
+ * StreamMessage<Item> items = req.decode(JacksonHttpDecoder.ofArrayElements(mapper, Item.class));
+ * // Decodes the whole JSON document when the request ends.
+ * CompletableFuture<Item> item =
+ *     req.decode(JacksonHttpDecoder.ofValue(mapper, Item.class)).collect().thenApply(list -> list.get(0));
+ * }</pre>
+ *
+ * <p>A {@link JacksonHttpDecoder} keeps the parsing state, so a new instance must be created for each
+ * {@link HttpMessage}. An {@link IllegalArgumentException} is raised if the content is not a valid JSON
+ * document or if it cannot be converted into the expected type.
+ *
+ * @param <T> the type of the decoded objects
+ */
+@UnstableApi
+public final class JacksonHttpDecoder<T> implements HttpDecoder<T> {
+
+    /**
+     * Returns a new {@link JacksonHttpDecoder} that decodes the whole JSON document into a single object of
+     * the specified {@link Class}.
+     */
+    public static <T> JacksonHttpDecoder<T> ofValue(ObjectMapper mapper, Class<T> type) {
+        requireNonNull(mapper, "mapper");
+        requireNonNull(type, "type");
+        return new JacksonHttpDecoder<>(mapper, mapper.constructType(type), false);
+    }
+
+    /**
+     * Returns a new {@link JacksonHttpDecoder} that decodes the whole JSON document into a single object of
+     * the specified {@link JavaType}.
+     */
+    public static <T> JacksonHttpDecoder<T> ofValue(ObjectMapper mapper, JavaType type) {
+        return new JacksonHttpDecoder<>(requireNonNull(mapper, "mapper"), requireNonNull(type, "type"), false);
+    }
+
+    /**
+     * Returns a new {@link JacksonHttpDecoder} that decodes each element of a top-level JSON array into
+     * an object of the specified {@link Class}. An element is produced as soon as it is fully received.
+     */
+    public static <T> JacksonHttpDecoder<T> ofArrayElements(ObjectMapper mapper, Class<T> elementType) {
+        requireNonNull(mapper, "mapper");
+        requireNonNull(elementType, "elementType");
+        return new JacksonHttpDecoder<>(mapper, mapper.constructType(elementType), true);
+    }
+
+    /**
+     * Returns a new {@link JacksonHttpDecoder} that decodes each element of a top-level JSON array into
+     * an object of the specified {@link JavaType}. An element is produced as soon as it is fully received.
+     */
+    public static <T> JacksonHttpDecoder<T> ofArrayElements(ObjectMapper mapper, JavaType elementType) {
+        return new JacksonHttpDecoder<>(requireNonNull(mapper, "mapper"),
+                                        requireNonNull(elementType, "elementType"), true);
+    }
+
+    private final ObjectReader reader;
+    private final boolean arrayElements;
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+
+    @Nullable
+    private TokenBuffer tokens;
+    /**
+     * The nesting level of the current token relative to the values being produced.
+     * {@code -1} means that the top-level array has not started yet in the array elements mode.
+     */
+    private int depth;
+    private boolean done;
+
+    private JacksonHttpDecoder(ObjectMapper mapper, JavaType type, boolean arrayElements) {
+        reader = mapper.readerFor(type);
+        this.arrayElements = arrayElements;
+        try {
+            parser = mapper.getFactory().createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("failed to create a non-blocking JSON parser", e);
+        }
+        feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        depth = arrayElements ? -1 : 0;
+    }
+
+    @Override
+    public void process(StreamDecoderInput in, StreamDecoderOutput<T> out) throws Exception {
+        final int readableBytes = in.readableBytes();
+        if (readableBytes == 0) {
+            return;
+        }
+        final ByteBuf buf = in.readBytes(readableBytes);
+        try {
+            feeder.feedInput(buf.nioBuffer());
+            parseAvailableTokens(out);
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Override
+    public void processOnComplete(StreamDecoderInput in, StreamDecoderOutput<T> out) throws Exception {
+        try {
+            feeder.endOfInput();
+            parseAvailableTokens(out);
+            if (!done) {
+                throw new IllegalArgumentException("failed to parse a JSON document: unexpected end of input");
+            }
+        } finally {
+            parser.close();
+        }
+    }
+
+    @Override
+    public void processOnError(Throwable cause) {
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // Nothing to close for a non-blocking parser.
+        }
+    }
+
+    private void parseAvailableTokens(StreamDecoderOutput<T> out) {
+        try {
+            for (;;) {
+                final JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.NOT_AVAILABLE) {
+                    return;
+                }
+                if (done) {
+                    throw new IllegalArgumentException(
+                            "failed to parse a JSON document: unexpected content after the end: " + token);
+                }
+                onToken(token, out);
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("failed to parse a JSON document: " + e, e);
+        } catch (IOException e) {
+            // A non-blocking parser does not perform any I/O.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void onToken(JsonToken token, StreamDecoderOutput<T> out) throws IOException {
+        if (depth < 0) {
+            // The array elements mode; expecting the beginning of the top-level array.
+            if (token != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException(
+                        "failed to parse a JSON document: expected a JSON array but found " + token);
+            }
+            depth = 0;
+            return;
+        }
+
+        if (depth == 0 && token == JsonToken.END_ARRAY && arrayElements) {
+            // The end of the top-level array.
+            done = true;
+            return;
+        }
+
+        if (tokens == null) {
+            tokens = new TokenBuffer(parser);
+        }
+        tokens.copyCurrentEvent(parser);
+
+        if (token.isStructStart()) {
+            depth++;
+        } else if (token.isStructEnd()) {
+            depth--;
+        }
+
+        if (depth == 0) {
+            // A value has been completed.
+            final TokenBuffer completed = tokens;
+            tokens = null;
+            final T value = reader.readValue(completed.asParser());
+            if (value == null) {
+                throw new IllegalArgumentException("failed to parse a JSON document: null is not allowed");
+            }
+            out.add(value);
+            if (!arrayElements) {
+                done = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.stream;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * Determines what a broadcaster does when a subscriber has too many messages pending, i.e. the messages
+ * have been broadcast but not consumed by the subscriber yet.
+ *
+ * <ul>
+ *   <li>{@link #DROP} - The subscriber misses the messages broadcast until it catches up.</li>
+ *   <li>{@link #DISCONNECT} - The stream of the subscriber is aborted and its pending messages are
+ *   discarded.</li>
+ * </ul>
+ */
+@UnstableApi
+public enum SlowSubscriberPolicy {
+
+    /**
+     * Does not deliver a new message to the subscriber until the number of its pending messages drops
+     * below the limit.
+     */
+    DROP,
+
+    /**
+     * Aborts the stream of the subscriber and discards its pending messages.
+     */
+    DISCONNECT
+}
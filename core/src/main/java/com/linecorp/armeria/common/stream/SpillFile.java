@@ -0,0 +1,330 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableSet;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * A temporary file which {@link DefaultStreamMessageDuplicator} writes {@link HttpData} to when the
+ * in-memory signals exceed the configured limit. The file is appended by the executor of the duplicator
+ * and can be read concurrently by any thread. The file is deleted when {@link #close()} is called.
+ *
+ * <p>The writes are performed one at a time in the order of {@link #write(HttpData)}. When
+ * {@value #MAX_PENDING_WRITES} writes are pending, {@link #isWritable()} returns {@code false} so that
+ * the duplicator stops requesting more data from the upstream until the {@code onWritable} callback is
+ * invoked.
+ */
+final class SpillFile {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpillFile.class);
+
+    /**
+     * The number of the pending writes that makes this file unwritable.
+     */
+    static final int MAX_PENDING_WRITES = 16;
+
+    static SpillFile create(Path directory, ExecutorService blockingTaskExecutor,
+                            Runnable onWritable) throws IOException {
+        final Path path = Files.createTempFile(directory, "armeria-duplicator-", ".tmp");
+        try {
+            final AsynchronousFileChannel fileChannel = AsynchronousFileChannel.open(
+                    path, ImmutableSet.of(StandardOpenOption.READ, StandardOpenOption.WRITE,
+                                          StandardOpenOption.DELETE_ON_CLOSE), blockingTaskExecutor);
+            return new SpillFile(path, fileChannel, onWritable);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    private final Path path;
+    private final AsynchronousFileChannel fileChannel;
+    private final Runnable onWritable;
+
+    // Accessed only by the executor of the duplicator.
+    private long position;
+
+    // Guarded by 'this'. The head of 'pendingWrites' is being written if 'writing' is true.
+    private final Queue<PendingWrite> pendingWrites = new ArrayDeque<>();
+    private boolean writing;
+    @Nullable
+    private Throwable writeFailure;
+
+    private SpillFile(Path path, AsynchronousFileChannel fileChannel, Runnable onWritable) {
+        this.path = path;
+        this.fileChannel = fileChannel;
+        this.onWritable = onWritable;
+    }
+
+    /**
+     * Appends the specified {@link HttpData} to this file. The {@link HttpData} is closed when the write
+     * is done. The write is queued if another write is in progress.
+     */
+    Chunk write(HttpData data) {
+        final Chunk chunk = new Chunk(position, data.length(), data.isEndOfStream());
+        position += chunk.length;
+        final PendingWrite write = new PendingWrite(chunk, data);
+        final Throwable writeFailure;
+        synchronized (this) {
+            writeFailure = this.writeFailure;
+            if (writeFailure == null) {
+                pendingWrites.add(write);
+                if (writing) {
+                    return chunk;
+                }
+                writing = true;
+            }
+        }
+        if (writeFailure != null) {
+            write.fail(writeFailure);
+        } else {
+            write(write, write.data.byteBuf().nioBuffer(), chunk.position);
+        }
+        return chunk;
+    }
+
+    /**
+     * Returns whether fewer than {@value #MAX_PENDING_WRITES} writes are pending.
+     */
+    synchronized boolean isWritable() {
+        return pendingWrites.size() < MAX_PENDING_WRITES;
+    }
+
+    private void write(PendingWrite write, ByteBuffer src, long position) {
+        try {
+            fileChannel.write(src, position, null, new CompletionHandler<Integer, Void>() {
+                @Override
+                public void completed(Integer result, Void unused) {
+                    if (src.hasRemaining()) {
+                        write(write, src, position + result);
+                    } else {
+                        onWriteComplete(write, null);
+                    }
+                }
+
+                @Override
+                public void failed(Throwable cause, Void unused) {
+                    onWriteComplete(write, cause);
+                }
+            });
+        } catch (Throwable cause) {
+            onWriteComplete(write, cause);
+        }
+    }
+
+    private void onWriteComplete(PendingWrite write, @Nullable Throwable cause) {
+        if (cause == null) {
+            write.data.close();
+            write.chunk.whenWritten.complete(null);
+        } else {
+            write.fail(cause);
+        }
+
+        final PendingWrite next;
+        final boolean becameWritable;
+        final PendingWrite[] failedWrites;
+        synchronized (this) {
+            final boolean wasWritable = pendingWrites.size() < MAX_PENDING_WRITES;
+            pendingWrites.remove();
+            if (cause != null) {
+                // The data after a failed write can't be read back, so fail them all.
+                writeFailure = cause;
+                failedWrites = pendingWrites.toArray(new PendingWrite[0]);
+                pendingWrites.clear();
+            } else {
+                failedWrites = null;
+            }
+            next = pendingWrites.peek();
+            writing = next != null;
+            becameWritable = !wasWritable && pendingWrites.size() < MAX_PENDING_WRITES;
+        }
+
+        if (failedWrites != null) {
+            for (PendingWrite failedWrite : failedWrites) {
+                failedWrite.fail(cause);
+            }
+        }
+        if (next != null) {
+            write(next, next.data.byteBuf().nioBuffer(), next.chunk.position);
+        }
+        if (becameWritable) {
+            onWritable.run();
+        }
+    }
+
+    /**
+     * Reads the specified {@link Chunk} into a new {@link ByteBuf} allocated by the specified
+     * {@link ByteBufAllocator}. The returned {@link CompletableFuture} is completed by a thread of the
+     * blocking task executor.
+     */
+    CompletableFuture<ByteBuf> read(Chunk chunk, ByteBufAllocator alloc) {
+        final CompletableFuture<ByteBuf> future = new CompletableFuture<>();
+        chunk.whenWritten.handle((unused, cause) -> {
+            if (cause != null) {
+                future.completeExceptionally(cause);
+                return null;
+            }
+            final ByteBuf buf = alloc.buffer(chunk.length);
+            final ByteBuffer dst;
+            try {
+                dst = buf.nioBuffer(0, chunk.length);
+            } catch (Throwable t) {
+                buf.release();
+                future.completeExceptionally(t);
+                return null;
+            }
+            read(chunk, buf, dst, chunk.position, future);
+            return null;
+        });
+        return future;
+    }
+
+    private void read(Chunk chunk, ByteBuf buf, ByteBuffer dst, long position,
+                      CompletableFuture<ByteBuf> future) {
+        try {
+            fileChannel.read(dst, position, null, new CompletionHandler<Integer, Void>() {
+                @Override
+                public void completed(Integer result, Void unused) {
+                    if (result < 0) {
+                        failed(new IOException("Unexpected end of '" + path + "' at " + position), null);
+                    } else if (dst.hasRemaining()) {
+                        read(chunk, buf, dst, position + result, future);
+                    } else {
+                        buf.writerIndex(chunk.length);
+                        future.complete(buf);
+                    }
+                }
+
+                @Override
+                public void failed(Throwable cause, Void unused) {
+                    buf.release();
+                    future.completeExceptionally(cause);
+                }
+            });
+        } catch (Throwable cause) {
+            buf.release();
+            future.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Closes and deletes this file. Pending reads and writes fail.
+     */
+    void close() {
+        final ClosedChannelException cause = new ClosedChannelException();
+        final PendingWrite[] queuedWrites;
+        synchronized (this) {
+            if (writeFailure == null) {
+                writeFailure = cause;
+            }
+            // The write in progress fails by closing the channel.
+            final PendingWrite inProgress = writing ? pendingWrites.poll() : null;
+            queuedWrites = pendingWrites.toArray(new PendingWrite[0]);
+            pendingWrites.clear();
+            if (inProgress != null) {
+                pendingWrites.add(inProgress);
+            }
+        }
+        for (PendingWrite queuedWrite : queuedWrites) {
+            queuedWrite.fail(cause);
+        }
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close '{}'", path, e);
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete '{}'", path, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+
+    private static final class PendingWrite {
+
+        final Chunk chunk;
+        final HttpData data;
+
+        PendingWrite(Chunk chunk, HttpData data) {
+            this.chunk = chunk;
+            this.data = data;
+        }
+
+        void fail(Throwable cause) {
+            data.close();
+            chunk.whenWritten.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * An {@link HttpData} written to a {@link SpillFile}, which is stored in place of the {@link HttpData}.
+     */
+    final class Chunk {
+
+        final long position;
+        final int length;
+        final boolean endOfStream;
+        final CompletableFuture<Void> whenWritten = new CompletableFuture<>();
+
+        Chunk(long position, int length, boolean endOfStream) {
+            this.position = position;
+            this.length = length;
+            this.endOfStream = endOfStream;
+        }
+
+        /**
+         * Reads this {@link Chunk} from the {@link SpillFile}.
+         *
+         * @see SpillFile#read(Chunk, ByteBufAllocator)
+         */
+        CompletableFuture<ByteBuf> read(ByteBufAllocator alloc) {
+            return SpillFile.this.read(this, alloc);
+        }
+
+        @Override
+        public String toString() {
+            return "SpillFile.Chunk(" + position + ", " + length + ')';
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.linecorp.armeria.common.stream;
 
+import java.nio.charset.Charset;
+
 import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.util.SafeCloseable;
 
@@ -88,6 +90,18 @@ public interface StreamDecoderInput extends SafeCloseable {
      */
     void readBytes(byte[] dst);
 
+    /**
+     * Reads a {@link String} of the specified {@code length} bytes from the readable bytes, decoded with
+     * the specified {@link Charset}.
+     *
+     * @throws IllegalStateException if the specified {@code length} is greater than {@link #readableBytes()}
+     */
+    default String readString(int length, Charset charset) {
+        final byte[] bytes = new byte[length];
+        readBytes(bytes);
+        return new String(bytes, charset);
+    }
+
     /**
      * Returns a byte at the specified absolute {@code index} in this {@link StreamDecoderInput}.
      *
@@ -101,4 +115,36 @@ public interface StreamDecoderInput extends SafeCloseable {
      * @throws IllegalStateException if the specified {@code length} is greater than {@link #readableBytes()}
      */
     void skipBytes(int length);
+
+    /**
+     * Returns the index of the first occurrence of the specified {@code value} in the readable bytes,
+     * or {@code -1} if not found.
+     */
+    default int indexOf(byte value) {
+        final int length = readableBytes();
+        for (int i = 0; i < length; i++) {
+            if (getByte(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified {@code pattern} in the readable bytes,
+     * or {@code -1} if not found.
+     */
+    default int indexOf(byte[] pattern) {
+        final int last = readableBytes() - pattern.length;
+        NEXT:
+        for (int i = 0; i <= last; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (getByte(i + j) != pattern[j]) {
+                    continue NEXT;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
 }
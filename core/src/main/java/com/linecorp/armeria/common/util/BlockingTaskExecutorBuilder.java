@@ -26,6 +26,9 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.linecorp.armeria.common.CommonPools;
 import com.linecorp.armeria.common.Flags;
 
@@ -37,12 +40,16 @@ import com.linecorp.armeria.common.Flags;
  */
 public final class BlockingTaskExecutorBuilder {
 
+    private static final Logger logger = LoggerFactory.getLogger(BlockingTaskExecutorBuilder.class);
+
     private String threadNamePrefix = "armeria-blocking-tasks";
     private int numThreads = Flags.numCommonBlockingTaskThreads();
     private long keepAliveTimeMillis = 60 * 1000;
     private boolean daemon = true;
     private int priority = Thread.NORM_PRIORITY;
     private Function<? super Runnable, ? extends Runnable> taskFunction = Function.identity();
+    private boolean virtualThreads;
+    private boolean monitorVirtualThreadPinning;
 
     BlockingTaskExecutorBuilder() {}
 
@@ -124,10 +131,55 @@ public final class BlockingTaskExecutorBuilder {
         return this;
     }
 
+    /**
+     * Sets whether each task is run in a new virtual thread rather than in a pooled platform thread.
+     * Unlike a thread pool, a virtual thread executor does not limit the number of tasks that block at
+     * the same time, which suits a service that mostly waits for I/O. If enabled,
+     * {@link #numThreads(int)}, {@link #keepAliveTime(Duration)}, {@link #daemon(boolean)} and
+     * {@link #priority(int)} are ignored. If the current JVM does not support virtual threads, i.e. older
+     * than Java 21, a warning is logged and a platform thread pool is built instead.
+     *
+     * <p>The returned executor is also a {@link io.micrometer.core.instrument.binder.MeterBinder} that
+     * reports the number of running and completed tasks. A {@link BlockingTaskExecutor} set via
+     * {@code ServerBuilder.blockingTaskExecutor()} is bound to the
+     * {@link io.micrometer.core.instrument.MeterRegistry} of the server automatically.
+     *
+     * @see #monitorVirtualThreadPinning(boolean)
+     */
+    public BlockingTaskExecutorBuilder virtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * Sets whether the executor built with {@link #virtualThreads(boolean)} also reports the number of
+     * times its virtual threads were pinned to their carrier threads and the usage of the carrier threads.
+     * When the executor is bound to a {@link io.micrometer.core.instrument.MeterRegistry}, a JFR
+     * {@code RecordingStream} for {@code jdk.VirtualThreadPinned} events is started for the JVM, which is
+     * closed when the executor is shut down. The carrier thread usage is reported only when
+     * {@code java.lang} is opened to Armeria, e.g. {@code --add-opens java.base/java.lang=ALL-UNNAMED}.
+     * This option is disabled by default.
+     */
+    public BlockingTaskExecutorBuilder monitorVirtualThreadPinning(boolean monitorVirtualThreadPinning) {
+        this.monitorVirtualThreadPinning = monitorVirtualThreadPinning;
+        return this;
+    }
+
     /**
      * Returns a newly-created {@link BlockingTaskExecutor} with the properties given so far.
      */
     public BlockingTaskExecutor build() {
+        if (virtualThreads) {
+            final BlockingTaskExecutor executor =
+                    VirtualThreadBlockingTaskExecutor.newInstance(threadNamePrefix, taskFunction,
+                                                                  monitorVirtualThreadPinning);
+            if (executor != null) {
+                return executor;
+            }
+            logger.warn("Virtual threads are not supported by the current JVM (Java {}). " +
+                        "Using platform threads for {} instead.", SystemInfo.javaVersion(), threadNamePrefix);
+        }
+
         final ThreadFactory threadFactory = ThreadFactories.builder(threadNamePrefix)
                                                            .daemon(daemon)
                                                            .priority(priority)
@@ -0,0 +1,526 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.common.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableList;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A {@link BlockingTaskExecutor} that runs each task in a new virtual thread. The delayed and periodic tasks
+ * are timed by a single platform thread and then run in virtual threads as well.
+ *
+ * <p>Virtual threads are available since Java 21. Use {@link #newInstance(String, Function)} which returns
+ * {@code null} if the current JVM does not support them.
+ *
+ * <p>This executor is also a {@link MeterBinder} that reports the number of running and completed tasks.
+ * If {@code monitorPinning} is enabled, it also reports the number of times a virtual thread of this
+ * executor was pinned to its carrier thread, which is counted via a JFR stream started when the executor is
+ * bound to a {@link MeterRegistry} and closed when the executor is shut down, and the usage of the carrier
+ * threads, which is reported only when {@code java.lang} is opened to Armeria, e.g.
+ * {@code --add-opens java.base/java.lang=ALL-UNNAMED}.
+ */
+final class VirtualThreadBlockingTaskExecutor extends AbstractExecutorService
+        implements BlockingTaskExecutor, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadBlockingTaskExecutor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    // Same as the threshold in the 'default' JFR configuration.
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+    @Nullable
+    private static final Method threadOfVirtual;
+    @Nullable
+    private static final Method builderName;
+    @Nullable
+    private static final Method builderFactory;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builderClass.getMethod("name", String.class, long.class);
+            factory = builderClass.getMethod("factory");
+        } catch (Exception e) {
+            logger.debug("Virtual threads are not available:", e);
+            ofVirtual = null;
+            name = null;
+            factory = null;
+        }
+        threadOfVirtual = ofVirtual;
+        builderName = name;
+        builderFactory = factory;
+    }
+
+    /**
+     * Returns a new {@link VirtualThreadBlockingTaskExecutor}, or {@code null} if the current JVM does not
+     * support virtual threads.
+     */
+    @Nullable
+    static VirtualThreadBlockingTaskExecutor newInstance(
+            String threadNamePrefix, Function<? super Runnable, ? extends Runnable> taskFunction,
+            boolean monitorPinning) {
+        if (threadOfVirtual == null) {
+            return null;
+        }
+        assert builderName != null;
+        assert builderFactory != null;
+
+        final ThreadFactory threadFactory;
+        try {
+            final Object builder = builderName.invoke(threadOfVirtual.invoke(null), threadNamePrefix + '-', 0L);
+            threadFactory = (ThreadFactory) builderFactory.invoke(builder);
+        } catch (Exception e) {
+            logger.warn("Failed to create a virtual thread factory:", e);
+            return null;
+        }
+        return new VirtualThreadBlockingTaskExecutor(threadNamePrefix, threadFactory, taskFunction,
+                                                     monitorPinning);
+    }
+
+    private final String threadNamePrefix;
+    private final ThreadFactory threadFactory;
+    private final Function<? super Runnable, ? extends Runnable> taskFunction;
+    private final boolean monitorPinning;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    // The scheduled tasks that are waiting for their trigger time.
+    private final Set<ScheduledTask<?>> scheduledTasks = ConcurrentHashMap.newKeySet();
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition terminated = lock.newCondition();
+    private volatile boolean shutdown;
+
+    @Nullable
+    private AutoCloseable pinningMonitor;
+
+    private VirtualThreadBlockingTaskExecutor(String threadNamePrefix, ThreadFactory threadFactory,
+                                              Function<? super Runnable, ? extends Runnable> taskFunction,
+                                              boolean monitorPinning) {
+        this.threadNamePrefix = threadNamePrefix;
+        this.threadFactory = threadFactory;
+        this.taskFunction = taskFunction;
+        this.monitorPinning = monitorPinning;
+        scheduler = new ScheduledThreadPoolExecutor(
+                1, ThreadFactories.newThreadFactory(threadNamePrefix + "-scheduler", true));
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        requireNonNull(command, "command");
+        if (shutdown) {
+            throw new RejectedExecutionException("executor shut down");
+        }
+
+        final Runnable task = taskFunction.apply(command);
+        final Thread thread = threadFactory.newThread(() -> {
+            try {
+                task.run();
+            } finally {
+                threads.remove(Thread.currentThread());
+                completedTasks.increment();
+                if (shutdown && threads.isEmpty()) {
+                    signalTermination();
+                }
+            }
+        });
+        threads.add(thread);
+        if (shutdown) {
+            threads.remove(thread);
+            signalTermination();
+            throw new RejectedExecutionException("executor shut down");
+        }
+        thread.start();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        requireNonNull(command, "command");
+        requireNonNull(unit, "unit");
+        return schedule(new ScheduledTask<>(command, null, triggerNanos(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        requireNonNull(callable, "callable");
+        requireNonNull(unit, "unit");
+        return schedule(new ScheduledTask<>(callable, triggerNanos(delay, unit)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period,
+                                                  TimeUnit unit) {
+        requireNonNull(command, "command");
+        requireNonNull(unit, "unit");
+        if (period <= 0) {
+            throw new IllegalArgumentException("period: " + period + " (expected: > 0)");
+        }
+        return schedule(new ScheduledTask<>(command, null, triggerNanos(initialDelay, unit),
+                                            unit.toNanos(period)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+                                                     TimeUnit unit) {
+        requireNonNull(command, "command");
+        requireNonNull(unit, "unit");
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay: " + delay + " (expected: > 0)");
+        }
+        // A negative period means a fixed delay, as ScheduledThreadPoolExecutor does.
+        return schedule(new ScheduledTask<>(command, null, triggerNanos(initialDelay, unit),
+                                            -unit.toNanos(delay)));
+    }
+
+    private <V> ScheduledTask<V> schedule(ScheduledTask<V> task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("executor shut down");
+        }
+        task.scheduleTimer();
+        return task;
+    }
+
+    private static long triggerNanos(long delay, TimeUnit unit) {
+        return System.nanoTime() + unit.toNanos(Math.max(delay, 0));
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        scheduler.shutdown();
+        closePinningMonitor();
+        if (threads.isEmpty()) {
+            signalTermination();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        // The queue of the scheduler has only the internal timers, so collect the tasks of the user instead.
+        scheduler.shutdownNow();
+        final List<Runnable> pending = new ArrayList<>(scheduledTasks.size());
+        for (ScheduledTask<?> task : scheduledTasks) {
+            if (task.cancel(false)) {
+                pending.add(task.task());
+            }
+        }
+        scheduledTasks.clear();
+        threads.forEach(Thread::interrupt);
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && threads.isEmpty() && scheduler.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!shutdown || !threads.isEmpty()) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = terminated.awaitNanos(remainingNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return scheduler.awaitTermination(remainingNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void signalTermination() {
+        lock.lock();
+        try {
+            terminated.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        final List<Tag> tags = ImmutableList.of(Tag.of("name", threadNamePrefix));
+        Gauge.builder("armeria.executor.virtual.active", threads, Set::size)
+             .tags(tags)
+             .description("The number of the virtual threads that are running a task")
+             .register(registry);
+        FunctionCounter.builder("armeria.executor.virtual.completed", completedTasks, LongAdder::sum)
+                       .tags(tags)
+                       .description("The number of the tasks that have completed")
+                       .register(registry);
+
+        if (!monitorPinning) {
+            return;
+        }
+
+        if (startPinningMonitor()) {
+            FunctionCounter.builder("armeria.executor.virtual.pinned", pinnedEvents, LongAdder::sum)
+                           .tags(tags)
+                           .description("The number of times a virtual thread blocked while pinned " +
+                                        "to its carrier thread for longer than " + PINNED_THRESHOLD)
+                           .register(registry);
+        }
+
+        final ForkJoinPool carrierPool = carrierPool();
+        if (carrierPool != null) {
+            Gauge.builder("armeria.executor.virtual.carrier.active", carrierPool,
+                          ForkJoinPool::getActiveThreadCount)
+                 .tags(tags)
+                 .description("The number of the carrier threads that are running a virtual thread")
+                 .register(registry);
+            Gauge.builder("armeria.executor.virtual.carrier.size", carrierPool, ForkJoinPool::getPoolSize)
+                 .tags(tags)
+                 .description("The number of the carrier threads")
+                 .register(registry);
+            Gauge.builder("armeria.executor.virtual.carrier.parallelism", carrierPool,
+                          ForkJoinPool::getParallelism)
+                 .tags(tags)
+                 .description("The target number of the carrier threads")
+                 .register(registry);
+        }
+    }
+
+    /**
+     * Starts a JFR stream that counts the {@value #PINNED_EVENT} events of the virtual threads created by
+     * this executor. Returns {@code false} if JFR streaming is not available.
+     */
+    private synchronized boolean startPinningMonitor() {
+        if (pinningMonitor != null) {
+            return true;
+        }
+        if (shutdown) {
+            return false;
+        }
+        try {
+            final Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            final Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+            final Method getThread = Class.forName("jdk.jfr.consumer.RecordedEvent").getMethod("getThread");
+            final Method getJavaName = Class.forName("jdk.jfr.consumer.RecordedThread")
+                                            .getMethod("getJavaName");
+
+            final AutoCloseable stream = (AutoCloseable) streamClass.getConstructor().newInstance();
+            final Object settings = streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT);
+            settingsClass.getMethod("withThreshold", Duration.class).invoke(settings, PINNED_THRESHOLD);
+            final Consumer<Object> onEvent = event -> {
+                try {
+                    final Object thread = getThread.invoke(event);
+                    final Object name = thread != null ? getJavaName.invoke(thread) : null;
+                    if (name instanceof String && ((String) name).startsWith(threadNamePrefix)) {
+                        pinnedEvents.increment();
+                    }
+                } catch (Exception e) {
+                    logger.debug("Failed to handle a {} event:", PINNED_EVENT, e);
+                }
+            };
+            streamClass.getMethod("onEvent", String.class, Consumer.class)
+                       .invoke(stream, PINNED_EVENT, onEvent);
+            streamClass.getMethod("startAsync").invoke(stream);
+            pinningMonitor = stream;
+            return true;
+        } catch (Exception e) {
+            logger.debug("Failed to start a JFR stream for {} events:", PINNED_EVENT, e);
+            return false;
+        }
+    }
+
+    private synchronized void closePinningMonitor() {
+        if (pinningMonitor == null) {
+            return;
+        }
+        try {
+            pinningMonitor.close();
+        } catch (Exception e) {
+            logger.debug("Failed to close the JFR stream:", e);
+        }
+        pinningMonitor = null;
+    }
+
+    /**
+     * Returns the default scheduler of virtual threads, or {@code null} if it is not accessible.
+     */
+    @Nullable
+    private static ForkJoinPool carrierPool() {
+        try {
+            final Field field = Class.forName("java.lang.VirtualThread").getDeclaredField("DEFAULT_SCHEDULER");
+            field.setAccessible(true);
+            final Object scheduler = field.get(null);
+            return scheduler instanceof ForkJoinPool ? (ForkJoinPool) scheduler : null;
+        } catch (Exception e) {
+            logger.debug("Failed to access the scheduler of virtual threads:", e);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + '{' + threadNamePrefix + '}';
+    }
+
+    private final class ScheduledTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+        /**
+         * A positive value for a fixed rate, a negative value for a fixed delay and {@code 0} for a one-shot
+         * task.
+         */
+        private final long period;
+        // The Runnable submitted by the user, or null if a Callable was submitted.
+        @Nullable
+        private final Runnable command;
+        private volatile long triggerNanos;
+        @Nullable
+        private volatile Future<?> timer;
+
+        ScheduledTask(Callable<V> callable, long triggerNanos) {
+            super(callable);
+            this.triggerNanos = triggerNanos;
+            period = 0;
+            command = null;
+        }
+
+        ScheduledTask(Runnable runnable, @Nullable V result, long triggerNanos, long period) {
+            super(runnable, result);
+            this.triggerNanos = triggerNanos;
+            this.period = period;
+            command = runnable;
+        }
+
+        /**
+         * Returns the task submitted by the user.
+         */
+        Runnable task() {
+            return command != null ? command : this;
+        }
+
+        void scheduleTimer() {
+            scheduledTasks.add(this);
+            try {
+                timer = scheduler.schedule(this::dispatch, triggerNanos - System.nanoTime(),
+                                           TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                cancel(false);
+                throw e;
+            }
+        }
+
+        private void dispatch() {
+            scheduledTasks.remove(this);
+            try {
+                execute(this);
+            } catch (RejectedExecutionException e) {
+                cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+                return;
+            }
+            if (!runAndReset() || shutdown) {
+                return;
+            }
+            triggerNanos = period > 0 ? triggerNanos + period : System.nanoTime() - period;
+            try {
+                scheduleTimer();
+            } catch (RejectedExecutionException ignored) {
+                // Shut down while running the task.
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            scheduledTasks.remove(this);
+            final Future<?> timer = this.timer;
+            if (cancelled && timer != null) {
+                timer.cancel(false);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(triggerNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            if (o == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.common.websocket;
+
+import java.util.Objects;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * The configuration of the <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a>
+ * WebSocket extension which compresses the payload of each message with the DEFLATE algorithm.
+ *
+ * <p>Note that a compressor always uses a window of 2<sup>15</sup> bytes. Therefore, an offer or a response
+ * which asks the local compressor to use a smaller window is declined, and compression is disabled for the
+ * connection.
+ */
+@UnstableApi
+public final class PerMessageDeflateConfig {
+
+    private static final PerMessageDeflateConfig DEFAULT = builder().build();
+
+    /**
+     * Returns the default {@link PerMessageDeflateConfig}.
+     */
+    public static PerMessageDeflateConfig of() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a new {@link PerMessageDeflateConfigBuilder}.
+     */
+    public static PerMessageDeflateConfigBuilder builder() {
+        return new PerMessageDeflateConfigBuilder();
+    }
+
+    private final int compressionLevel;
+    private final int minCompressionSize;
+    private final boolean serverNoContextTakeover;
+    private final boolean clientNoContextTakeover;
+    private final int serverMaxWindowBits;
+    private final int clientMaxWindowBits;
+
+    PerMessageDeflateConfig(int compressionLevel, int minCompressionSize,
+                            boolean serverNoContextTakeover, boolean clientNoContextTakeover,
+                            int serverMaxWindowBits, int clientMaxWindowBits) {
+        this.compressionLevel = compressionLevel;
+        this.minCompressionSize = minCompressionSize;
+        this.serverNoContextTakeover = serverNoContextTakeover;
+        this.clientNoContextTakeover = clientNoContextTakeover;
+        this.serverMaxWindowBits = serverMaxWindowBits;
+        this.clientMaxWindowBits = clientMaxWindowBits;
+    }
+
+    /**
+     * Returns the compression level between {@code 0} and {@code 9}.
+     */
+    public int compressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Returns the minimum payload length of a message to compress. A message whose first frame is final and
+     * shorter than this value is sent uncompressed.
+     */
+    public int minCompressionSize() {
+        return minCompressionSize;
+    }
+
+    /**
+     * Returns whether the server resets its compression context after each message.
+     */
+    public boolean serverNoContextTakeover() {
+        return serverNoContextTakeover;
+    }
+
+    /**
+     * Returns whether the client resets its compression context after each message.
+     */
+    public boolean clientNoContextTakeover() {
+        return clientNoContextTakeover;
+    }
+
+    /**
+     * Returns the base-2 logarithm of the window size that a client asks the server to use when
+     * compressing. Only used by a client.
+     */
+    public int serverMaxWindowBits() {
+        return serverMaxWindowBits;
+    }
+
+    /**
+     * Returns the base-2 logarithm of the window size that a server asks the client to use when
+     * compressing. Only used by a server.
+     */
+    public int clientMaxWindowBits() {
+        return clientMaxWindowBits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PerMessageDeflateConfig)) {
+            return false;
+        }
+
+        final PerMessageDeflateConfig that = (PerMessageDeflateConfig) o;
+        return compressionLevel == that.compressionLevel &&
+               minCompressionSize == that.minCompressionSize &&
+               serverNoContextTakeover == that.serverNoContextTakeover &&
+               clientNoContextTakeover == that.clientNoContextTakeover &&
+               serverMaxWindowBits == that.serverMaxWindowBits &&
+               clientMaxWindowBits == that.clientMaxWindowBits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(compressionLevel, minCompressionSize, serverNoContextTakeover,
+                            clientNoContextTakeover, serverMaxWindowBits, clientMaxWindowBits);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("compressionLevel", compressionLevel)
+                          .add("minCompressionSize", minCompressionSize)
+                          .add("serverNoContextTakeover", serverNoContextTakeover)
+                          .add("clientNoContextTakeover", clientNoContextTakeover)
+                          .add("serverMaxWindowBits", serverMaxWindowBits)
+                          .add("clientMaxWindowBits", clientMaxWindowBits)
+                          .toString();
+    }
+}
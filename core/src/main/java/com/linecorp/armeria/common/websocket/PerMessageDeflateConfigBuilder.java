@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.common.websocket;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.zip.Deflater;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+
+/**
+ * A builder for {@link PerMessageDeflateConfig}.
+ */
+@UnstableApi
+public final class PerMessageDeflateConfigBuilder {
+
+    static final int MIN_WINDOW_BITS = 8;
+    static final int MAX_WINDOW_BITS = 15;
+
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    private int minCompressionSize = 256;
+    private boolean serverNoContextTakeover;
+    private boolean clientNoContextTakeover;
+    private int serverMaxWindowBits = MAX_WINDOW_BITS;
+    private int clientMaxWindowBits = MAX_WINDOW_BITS;
+
+    PerMessageDeflateConfigBuilder() {}
+
+    /**
+     * Sets the compression level between {@code 0} and {@code 9}.
+     * {@link Deflater#DEFAULT_COMPRESSION} is used by default.
+     */
+    public PerMessageDeflateConfigBuilder compressionLevel(int compressionLevel) {
+        checkArgument(compressionLevel == Deflater.DEFAULT_COMPRESSION ||
+                      compressionLevel >= 0 && compressionLevel <= 9,
+                      "compressionLevel: %s (expected: 0-9 or -1)", compressionLevel);
+        this.compressionLevel = compressionLevel;
+        return this;
+    }
+
+    /**
+     * Sets the minimum payload length of a message to compress. A message whose first frame is final and
+     * shorter than this value is sent uncompressed because the overhead of compression outweighs the
+     * saved bytes. {@code 256} is used by default.
+     */
+    public PerMessageDeflateConfigBuilder minCompressionSize(int minCompressionSize) {
+        checkArgument(minCompressionSize >= 0,
+                      "minCompressionSize: %s (expected: >= 0)", minCompressionSize);
+        this.minCompressionSize = minCompressionSize;
+        return this;
+    }
+
+    /**
+     * Sets whether the server resets its compression context after each message. This lowers the
+     * compression ratio of similar messages, but the server releases the memory of its compressor while
+     * a connection is idle. It's disabled by default.
+     */
+    public PerMessageDeflateConfigBuilder serverNoContextTakeover(boolean serverNoContextTakeover) {
+        this.serverNoContextTakeover = serverNoContextTakeover;
+        return this;
+    }
+
+    /**
+     * Sets whether the client resets its compression context after each message. This lowers the
+     * compression ratio of similar messages, but the server releases the memory of its decompressor while
+     * a connection is idle. It's disabled by default.
+     */
+    public PerMessageDeflateConfigBuilder clientNoContextTakeover(boolean clientNoContextTakeover) {
+        this.clientNoContextTakeover = clientNoContextTakeover;
+        return this;
+    }
+
+    /**
+     * Sets the base-2 logarithm of the window size, between {@code 8} and {@code 15}, that a client asks
+     * the server to use when compressing. This is used only by a client. {@code 15} is used by default.
+     */
+    public PerMessageDeflateConfigBuilder serverMaxWindowBits(int serverMaxWindowBits) {
+        checkWindowBits(serverMaxWindowBits, "serverMaxWindowBits");
+        this.serverMaxWindowBits = serverMaxWindowBits;
+        return this;
+    }
+
+    /**
+     * Sets the base-2 logarithm of the window size, between {@code 8} and {@code 15}, that a server asks
+     * the client to use when compressing. The value is sent only when the client indicates that it
+     * supports the parameter. This is used only by a server. {@code 15} is used by default.
+     */
+    public PerMessageDeflateConfigBuilder clientMaxWindowBits(int clientMaxWindowBits) {
+        checkWindowBits(clientMaxWindowBits, "clientMaxWindowBits");
+        this.clientMaxWindowBits = clientMaxWindowBits;
+        return this;
+    }
+
+    private static void checkWindowBits(int windowBits, String name) {
+        checkArgument(windowBits >= MIN_WINDOW_BITS && windowBits <= MAX_WINDOW_BITS,
+                      "%s: %s (expected: %s-%s)", name, windowBits, MIN_WINDOW_BITS, MAX_WINDOW_BITS);
+    }
+
+    /**
+     * Returns a newly-created {@link PerMessageDeflateConfig} with the properties set so far.
+     */
+    public PerMessageDeflateConfig build() {
+        return new PerMessageDeflateConfig(compressionLevel, minCompressionSize, serverNoContextTakeover,
+                                           clientNoContextTakeover, serverMaxWindowBits,
+                                           clientMaxWindowBits);
+    }
+}
@@ -90,7 +90,6 @@ import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
-import io.netty.handler.codec.http2.DefaultHttp2Headers;
 import io.netty.handler.codec.http2.Http2Headers;
 import io.netty.handler.codec.http2.HttpConversionUtil;
 import io.netty.handler.codec.http2.HttpConversionUtil.ExtensionHeaderNames;
@@ -987,14 +986,14 @@ public final class ArmeriaHttpUtil {
 
     /**
      * Converts the specified Armeria HTTP/2 request headers into Netty HTTP/2 headers.
+     * The returned {@link Http2Headers} is a view of a copy-on-write {@link HttpHeadersBuilder},
+     * so that the HPACK encoder reads the entries of the specified {@link HttpHeaders} directly and
+     * the entries are copied only when a header has to be removed or added.
      *
      * @param inputHeaders the HTTP/2 request headers to convert.
      */
     public static Http2Headers toNettyHttp2ClientHeaders(HttpHeaders inputHeaders) {
-        final int headerSizeHint = inputHeaders.size() + 3; // User_Agent, :scheme and :authority.
-        final Http2Headers outputHeaders = new DefaultHttp2Headers(false, headerSizeHint);
-        toNettyHttp2Client(inputHeaders, outputHeaders, false);
-        return outputHeaders;
+        return toNettyHttp2Client(inputHeaders, false);
     }
 
     /**
@@ -1003,38 +1002,42 @@ public final class ArmeriaHttpUtil {
      * @param inputHeaders the HTTP/2 request headers to convert.
      */
     public static Http2Headers toNettyHttp2ClientTrailers(HttpHeaders inputHeaders) {
-        final int headerSizeHint = inputHeaders.size();
-        final Http2Headers outputHeaders = new DefaultHttp2Headers(false, headerSizeHint);
-        toNettyHttp2Client(inputHeaders, outputHeaders, true);
-        return outputHeaders;
+        return toNettyHttp2Client(inputHeaders, true);
     }
 
-    private static void toNettyHttp2Client(HttpHeaders inputHeaders, Http2Headers outputHeaders,
-                                           boolean isTrailer) {
-        for (Entry<AsciiString, String> entry : inputHeaders) {
-            final AsciiString name = entry.getKey();
-            final String value = entry.getValue();
-            if (HTTP_TO_HTTP2_HEADER_DISALLOWED_LIST.contains(name)) {
-                continue;
-            }
-
-            if (isTrailer && isTrailerDisallowed(name)) {
-                continue;
+    private static Http2Headers toNettyHttp2Client(HttpHeaders inputHeaders, boolean isTrailer) {
+        // Note that HttpHeadersBuilder.remove() does not copy the entries if the name is absent.
+        final HttpHeadersBuilder builder = inputHeaders.toBuilder();
+        for (Entry<AsciiString, AsciiString> disallowed : HTTP_TO_HTTP2_HEADER_DISALLOWED_LIST) {
+            builder.remove(disallowed.getKey());
+        }
+        if (isTrailer) {
+            for (Entry<AsciiString, AsciiString> disallowed : HTTP_TRAILER_DISALLOWED_LIST) {
+                builder.remove(disallowed.getKey());
             }
-
-            outputHeaders.add(name, value);
         }
 
-        if (!outputHeaders.contains(HttpHeaderNames.COOKIE)) {
-            return;
+        final List<String> cookies = builder.getAll(HttpHeaderNames.COOKIE);
+        if (!needsCookieSplit(cookies)) {
+            return new ArmeriaHttp2Headers(builder);
         }
 
         // Split up cookies to allow for better compression.
         // https://datatracker.ietf.org/doc/html/rfc7540#section-8.1.2.5
-        final List<CharSequence> cookies = outputHeaders.getAllAndRemove(HttpHeaderNames.COOKIE);
-        for (CharSequence c : cookies) {
-            outputHeaders.add(HttpHeaderNames.COOKIE, COOKIE_SPLITTER.split(c));
+        builder.remove(HttpHeaderNames.COOKIE);
+        for (String c : cookies) {
+            builder.add(HttpHeaderNames.COOKIE, COOKIE_SPLITTER.split(c));
+        }
+        return new ArmeriaHttp2Headers(builder);
+    }
+
+    private static boolean needsCookieSplit(List<String> cookies) {
+        for (String c : cookies) {
+            if (c.indexOf(';') >= 0) {
+                return true;
+            }
         }
+        return false;
     }
 
     /**
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2FrameWriter;
+import io.netty.handler.codec.http2.Http2LocalFlowController;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2Stream;
+
+/**
+ * Grows the local HTTP/2 flow-control windows of a connection according to the bandwidth-delay product (BDP)
+ * of the connection, so that a connection over a high-latency link is not limited by a small window.
+ *
+ * <p>When a DATA frame is received and no measurement is in progress, a PING frame is sent and the number of
+ * bytes received until its ACK arrives is counted. Twice that number is an estimate of the window that keeps
+ * the link busy for a round trip. If the estimate is larger than the current window and the measured
+ * bandwidth has increased since the last update, both the connection window and the initial stream window
+ * are raised to the estimate, but never above {@code maxWindowSize}. This is the same algorithm used by
+ * grpc-java's Netty transport.
+ *
+ * <p>This class is <b>not</b> thread-safe and all methods are to be called from single thread such
+ * as {@link EventLoop}.
+ */
+public final class Http2FlowControlAutoTuner {
+
+    private static final Logger logger = LoggerFactory.getLogger(Http2FlowControlAutoTuner.class);
+
+    /**
+     * The payload of a PING frame sent for a BDP measurement. The keep-alive PINGs use random payloads,
+     * so a collision is very unlikely and would only make a single measurement inaccurate.
+     */
+    @VisibleForTesting
+    static final long BDP_PING_PAYLOAD = 0x5BD9_1A2C_E4F0_7736L;
+
+    private final Http2Connection connection;
+    private final Http2FrameWriter frameWriter;
+    private final int maxWindowSize;
+    private final DistributionSummary windowSizes;
+
+    private boolean pinging;
+    private long pingStartNanos;
+    private long dataSincePing;
+    private long lastBandwidth;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxWindowSize the maximum size that the connection and stream windows can grow to
+     * @param windowSizes the {@link DistributionSummary} that records the window size whenever it grows
+     */
+    public Http2FlowControlAutoTuner(Http2Connection connection, Http2FrameWriter frameWriter,
+                                     int maxWindowSize, DistributionSummary windowSizes) {
+        this.connection = requireNonNull(connection, "connection");
+        this.frameWriter = requireNonNull(frameWriter, "frameWriter");
+        this.maxWindowSize = maxWindowSize;
+        this.windowSizes = requireNonNull(windowSizes, "windowSizes");
+    }
+
+    /**
+     * Invoked when a DATA frame is received. Starts a new measurement if none is in progress.
+     *
+     * @param dataLength the number of bytes of the DATA frame including its padding
+     */
+    public void onDataRead(ChannelHandlerContext ctx, int dataLength) {
+        if (!pinging) {
+            pinging = true;
+            dataSincePing = 0;
+            pingStartNanos = System.nanoTime();
+            // No need to flush because Http2ConnectionHandler flushes when the read is complete.
+            frameWriter.writePing(ctx, false, BDP_PING_PAYLOAD, ctx.newPromise());
+        }
+        dataSincePing += dataLength;
+    }
+
+    /**
+     * Invoked when a PING ACK frame is received.
+     *
+     * @return {@code true} if the PING ACK was for a BDP measurement and has been consumed by this tuner.
+     *         {@code false} if it should be handled by the keep-alive handler.
+     */
+    public boolean onPingAck(ChannelHandlerContext ctx, long data) {
+        if (data != BDP_PING_PAYLOAD || !pinging) {
+            return false;
+        }
+
+        pinging = false;
+        final long elapsedNanos = Math.max(System.nanoTime() - pingStartNanos, 1);
+        final long bandwidth = dataSincePing * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        final int targetWindow = (int) Math.min(dataSincePing * 2, maxWindowSize);
+
+        final Http2LocalFlowController flowController = connection.local().flowController();
+        final int currentWindow = flowController.initialWindowSize();
+        if (targetWindow <= currentWindow || bandwidth <= lastBandwidth) {
+            return true;
+        }
+
+        lastBandwidth = bandwidth;
+        try {
+            final Http2Stream connectionStream = connection.connectionStream();
+            final int connectionWindow = flowController.initialWindowSize(connectionStream);
+            if (targetWindow > connectionWindow) {
+                flowController.incrementWindowSize(connectionStream, targetWindow - connectionWindow);
+            }
+            flowController.initialWindowSize(targetWindow);
+        } catch (Http2Exception e) {
+            logger.warn("{} Failed to update the flow-control window size to {}",
+                        ctx.channel(), targetWindow, e);
+            return true;
+        }
+
+        frameWriter.writeSettings(ctx, new Http2Settings().initialWindowSize(targetWindow), ctx.newPromise());
+        ctx.flush();
+        windowSizes.record(targetWindow);
+        logger.debug("{} Increased the flow-control window size from {} to {} (bandwidth: {} B/s)",
+                     ctx.channel(), currentWindow, targetWindow, bandwidth);
+        return true;
+    }
+
+    @VisibleForTesting
+    boolean isPinging() {
+        return pinging;
+    }
+}
@@ -23,6 +23,7 @@ import com.google.common.collect.ImmutableList;
 
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.ByteBufAccessMode;
 import com.linecorp.armeria.common.EmptyHttpResponseException;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpHeaders;
@@ -35,11 +36,18 @@ import com.linecorp.armeria.unsafe.PooledObjects;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 
 public final class HttpMessageAggregator {
 
     public static AggregatedHttpRequest aggregateRequest(
             RequestHeaders headers, List<HttpObject> objects, @Nullable ByteBufAllocator alloc) {
+        return aggregateRequest(headers, objects, alloc, false);
+    }
+
+    public static AggregatedHttpRequest aggregateRequest(
+            RequestHeaders headers, List<HttpObject> objects, @Nullable ByteBufAllocator alloc,
+            boolean composite) {
         final int size = objects.size();
 
         // Fast paths
@@ -69,7 +77,7 @@ public final class HttpMessageAggregator {
                 return AggregatedHttpRequest.of(headers, (HttpData) first, (HttpHeaders) second);
             }
 
-            final HttpData data = aggregateData((HttpData) first, (HttpData) second, alloc);
+            final HttpData data = aggregateData((HttpData) first, (HttpData) second, alloc, composite);
             return AggregatedHttpRequest.of(headers, data);
         }
 
@@ -99,12 +107,18 @@ public final class HttpMessageAggregator {
             return AggregatedHttpRequest.of(headers, HttpData.empty(), trailers);
         }
 
-        final HttpData content = aggregateData(objects, contentLength, 0, dataEnd, alloc);
+        final HttpData content = aggregateData(objects, contentLength, 0, dataEnd, alloc, composite);
         return AggregatedHttpRequest.of(headers, content, trailers);
     }
 
     public static AggregatedHttpResponse aggregateResponse(List<HttpObject> objects,
                                                            @Nullable ByteBufAllocator alloc) {
+        return aggregateResponse(objects, alloc, false);
+    }
+
+    public static AggregatedHttpResponse aggregateResponse(List<HttpObject> objects,
+                                                           @Nullable ByteBufAllocator alloc,
+                                                           boolean composite) {
         final int size = objects.size();
         if (size == 0) {
             throw EmptyHttpResponseException.get();
@@ -140,7 +154,7 @@ public final class HttpMessageAggregator {
                     return AggregatedHttpResponse.of(headers, (HttpData) second, (HttpHeaders) third);
                 }
 
-                final HttpData data = aggregateData((HttpData) second, (HttpData) third, alloc);
+                final HttpData data = aggregateData((HttpData) second, (HttpData) third, alloc, composite);
                 return AggregatedHttpResponse.of(headers, data);
             }
         }
@@ -208,13 +222,20 @@ public final class HttpMessageAggregator {
             return AggregatedHttpResponse.of(informationals, responseHeaders, HttpData.empty(), trailers);
         }
 
-        final HttpData content = aggregateData(objects, contentLength, dataStart, dataEnd, alloc);
+        final HttpData content = aggregateData(objects, contentLength, dataStart, dataEnd, alloc,
+                                               composite);
         return AggregatedHttpResponse.of(informationals, responseHeaders, content, trailers);
     }
 
     private static HttpData aggregateData(List<HttpObject> objects, int contentLength, int start, int end,
-                                          @Nullable ByteBufAllocator alloc) {
-        if (alloc != null) {
+                                          @Nullable ByteBufAllocator alloc, boolean composite) {
+        if (alloc != null && composite) {
+            final CompositeByteBuf merged = alloc.compositeBuffer(end - start);
+            for (int i = start; i < end; i++) {
+                addComponentAndClose(merged, (HttpData) objects.get(i));
+            }
+            return HttpData.wrap(merged);
+        } else if (alloc != null) {
             final ByteBuf merged = alloc.buffer(contentLength);
             for (int i = start; i < end; i++) {
                 try (HttpData data = (HttpData) objects.get(i)) {
@@ -240,6 +261,11 @@ public final class HttpMessageAggregator {
     }
 
     public static HttpData aggregateData(HttpData data1, HttpData data2, @Nullable ByteBufAllocator alloc) {
+        return aggregateData(data1, data2, alloc, false);
+    }
+
+    private static HttpData aggregateData(HttpData data1, HttpData data2, @Nullable ByteBufAllocator alloc,
+                                          boolean composite) {
         if (data2.isEmpty()) {
             data2.close();
             return data1;
@@ -252,7 +278,12 @@ public final class HttpMessageAggregator {
         final int data1Length = data1.length();
         final int data2Length = data2.length();
         final int contentLength = data1Length + data2Length;
-        if (alloc != null) {
+        if (alloc != null && composite) {
+            final CompositeByteBuf merged = alloc.compositeBuffer(2);
+            addComponentAndClose(merged, data1);
+            addComponentAndClose(merged, data2);
+            return HttpData.wrap(merged);
+        } else if (alloc != null) {
             final ByteBuf merged = alloc.buffer(contentLength);
             copyAndClose(merged, data1, data1Length);
             copyAndClose(merged, data2, data2Length);
@@ -272,5 +303,14 @@ public final class HttpMessageAggregator {
         }
     }
 
+    private static void addComponentAndClose(CompositeByteBuf merged, HttpData data) {
+        try (SafeCloseable ignore = data) {
+            if (!data.isEmpty()) {
+                // A retained duplicate shares the memory of the data, so nothing is copied.
+                merged.addComponent(true, data.byteBuf(ByteBufAccessMode.RETAINED_DUPLICATE));
+            }
+        }
+    }
+
     private HttpMessageAggregator() {}
 }
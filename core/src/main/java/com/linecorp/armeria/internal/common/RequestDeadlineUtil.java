@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.internal.common;
+
+import java.util.concurrent.TimeUnit;
+
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.internal.server.DefaultServiceRequestContext;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.netty.util.AsciiString;
+
+/**
+ * Utilities for propagating the deadline of a request to the requests sent on behalf of it.
+ */
+public final class RequestDeadlineUtil {
+
+    /**
+     * The header that carries the number of milliseconds left until the client gives up on the request.
+     */
+    public static final AsciiString ARMERIA_REQUEST_TIMEOUT = HttpHeaderNames.of("armeria-request-timeout");
+
+    /**
+     * Returns the number of milliseconds left until the specified {@link ServiceRequestContext} times out,
+     * or {@code 0} if it has no timeout.
+     */
+    public static long remainingTimeoutMillis(ServiceRequestContext ctx) {
+        final ServiceRequestContext unwrapped = ctx.unwrapAll();
+        if (!(unwrapped instanceof DefaultServiceRequestContext)) {
+            return ctx.requestTimeoutMillis();
+        }
+        final long remainingNanos = ((DefaultServiceRequestContext) unwrapped).requestCancellationScheduler()
+                                                                              .remainingTimeoutNanos();
+        if (remainingNanos <= 0) {
+            return 0;
+        }
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+    }
+
+    /**
+     * Returns the value of the {@code grpc-timeout} header for the specified timeout.
+     * The value consists of at most 8 digits and a unit.
+     */
+    public static String toGrpcTimeout(long timeoutMillis) {
+        if (timeoutMillis < 100_000_000) {
+            return timeoutMillis + "m";
+        }
+        return Math.min(TimeUnit.MILLISECONDS.toSeconds(timeoutMillis), 99_999_999) + "S";
+    }
+
+    private RequestDeadlineUtil() {}
+}
@@ -18,11 +18,13 @@ package com.linecorp.armeria.internal.common.stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import java.nio.charset.Charset;
 import java.util.ArrayDeque;
 import java.util.Iterator;
 import java.util.Queue;
 
 import com.linecorp.armeria.common.stream.StreamDecoderInput;
+import com.linecorp.armeria.internal.common.util.TemporaryThreadLocals;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
@@ -219,7 +221,7 @@ public final class ByteBufsDecoderInput implements StreamDecoderInput {
         } else if (readableBytes > length) {
             firstBuf.readBytes(dst, 0, length);
         } else {
-            readBytesSlow(dst);
+            readBytesSlow(dst, length);
         }
 
         this.readableBytes -= length;
@@ -250,15 +252,15 @@ public final class ByteBufsDecoderInput implements StreamDecoderInput {
         throw newEndOfInputException();
     }
 
-    private void readBytesSlow(byte[] dst) {
-        int remaining = dst.length;
+    private void readBytesSlow(byte[] dst, int length) {
+        int remaining = length;
         for (final Iterator<ByteBuf> it = queue.iterator(); it.hasNext();) {
             final ByteBuf buf = it.next();
             final int readableBytes = buf.readableBytes();
             assert readableBytes > 0 : buf;
 
             final int readSize = Math.min(remaining, readableBytes);
-            buf.readBytes(dst, dst.length - remaining, readSize);
+            buf.readBytes(dst, length - remaining, readSize);
             if (readableBytes == readSize) {
                 it.remove();
                 buf.release();
@@ -273,6 +275,39 @@ public final class ByteBufsDecoderInput implements StreamDecoderInput {
         throw newEndOfInputException();
     }
 
+    @Override
+    public String readString(int length, Charset charset) {
+        if (length == 0) {
+            return "";
+        }
+        checkArgument(length > 0, "length %s (expected: length > 0)", length);
+        final ByteBuf firstBuf = queue.peek();
+        if (firstBuf == null) {
+            throw newEndOfInputException();
+        }
+
+        final int readableBytes = firstBuf.readableBytes();
+        final String value;
+        if (readableBytes >= length) {
+            value = firstBuf.toString(firstBuf.readerIndex(), length, charset);
+            if (readableBytes == length) {
+                queue.remove();
+                firstBuf.release();
+            } else {
+                firstBuf.skipBytes(length);
+            }
+        } else {
+            try (TemporaryThreadLocals tempThreadLocals = TemporaryThreadLocals.acquire()) {
+                final byte[] bytes = tempThreadLocals.byteArray(length);
+                readBytesSlow(bytes, length);
+                value = new String(bytes, 0, length, charset);
+            }
+        }
+
+        this.readableBytes -= length;
+        return value;
+    }
+
     @Override
     public byte getByte(int index) {
         final ByteBuf firstBuf = queue.peek();
@@ -353,6 +388,115 @@ public final class ByteBufsDecoderInput implements StreamDecoderInput {
         throw newEndOfInputException();
     }
 
+    @Override
+    public int indexOf(byte value) {
+        final long compiledValue = compile(value);
+        int offset = 0;
+        for (ByteBuf buf : queue) {
+            final int readerIndex = buf.readerIndex();
+            final int index = indexOf(buf, readerIndex, buf.writerIndex(), value, compiledValue);
+            if (index >= 0) {
+                return offset + index - readerIndex;
+            }
+            offset += buf.readableBytes();
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(byte[] pattern) {
+        final int patternLength = pattern.length;
+        if (patternLength == 0) {
+            return 0;
+        }
+        if (patternLength > readableBytes) {
+            return -1;
+        }
+
+        // Look for the last byte of the pattern so that the bytes before it are always available
+        // when a candidate is verified, even if the pattern spans more than one buffer.
+        final int lastIndex = patternLength - 1;
+        final byte lastByte = pattern[lastIndex];
+        final long compiledLastByte = compile(lastByte);
+        int offset = 0;
+        for (ByteBuf buf : queue) {
+            final int readerIndex = buf.readerIndex();
+            final int writerIndex = buf.writerIndex();
+            int i = readerIndex + Math.max(lastIndex - offset, 0);
+            while (i < writerIndex) {
+                final int found = indexOf(buf, i, writerIndex, lastByte, compiledLastByte);
+                if (found < 0) {
+                    break;
+                }
+                final int start = offset + found - readerIndex - lastIndex;
+                if (regionMatches(buf, found - lastIndex, start, pattern)) {
+                    return start;
+                }
+                i = found + 1;
+            }
+            offset += writerIndex - readerIndex;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the bytes before the last byte of the specified {@code pattern} match.
+     *
+     * @param bufIndex the index of the first byte of the candidate in the specified {@link ByteBuf}
+     * @param index the index of the first byte of the candidate in this input
+     */
+    private boolean regionMatches(ByteBuf buf, int bufIndex, int index, byte[] pattern) {
+        final int lastIndex = pattern.length - 1;
+        if (bufIndex >= buf.readerIndex()) {
+            for (int j = 0; j < lastIndex; j++) {
+                if (buf.getByte(bufIndex + j) != pattern[j]) {
+                    return false;
+                }
+            }
+        } else {
+            // The candidate starts in one of the previous buffers.
+            for (int j = 0; j < lastIndex; j++) {
+                if (getByte(index + j) != pattern[j]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified {@code value} in the specified range of
+     * the {@link ByteBuf}, or {@code -1} if not found. Eight bytes are compared at a time using
+     * SWAR (SIMD Within A Register) technique.
+     *
+     * @param compiledValue the value returned by {@link #compile(byte)} for the {@code value}
+     */
+    private static int indexOf(ByteBuf buf, int fromIndex, int toIndex, byte value, long compiledValue) {
+        int i = fromIndex;
+        for (final int longEnd = toIndex - 7; i < longEnd; i += 8) {
+            // A byte in 'word' becomes 0 if it was equal to the value.
+            final long word = buf.getLong(i) ^ compiledValue;
+            // Sets the highest bit of each zero byte and clears all other bits. Unlike the well-known
+            // '(x - 0x01..01) & ~x & 0x80..80', this never marks a non-zero byte due to a borrow.
+            final long zeros = ~((word & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL |
+                                 word | 0x7F7F7F7F7F7F7F7FL);
+            if (zeros != 0) {
+                // getLong() is big-endian, so the first byte is the most significant one.
+                return i + (Long.numberOfLeadingZeros(zeros) >>> 3);
+            }
+        }
+        for (; i < toIndex; i++) {
+            if (buf.getByte(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long compile(byte value) {
+        return (value & 0xFFL) * 0x0101010101010101L;
+    }
+
     private static IllegalStateException newEndOfInputException() {
         return new IllegalStateException("end of deframer input");
     }
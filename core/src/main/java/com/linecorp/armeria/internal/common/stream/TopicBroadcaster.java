@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.linecorp.armeria.common.stream.SlowSubscriberPolicy;
+import com.linecorp.armeria.common.stream.StreamMessage;
+import com.linecorp.armeria.common.stream.StreamWriter;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Delivers messages to the subscribers of a topic. A message is encoded once into a shared {@link ByteBuf}
+ * and each subscriber receives a retained duplicate of it, so that a message is neither encoded nor copied
+ * for each subscriber.
+ *
+ * <p>The number of the messages written to a subscriber but not consumed yet is limited by
+ * {@code maxPendingMessages}. When a subscriber reaches the limit, the {@link SlowSubscriberPolicy}
+ * determines whether the subscriber misses the message or is disconnected.
+ *
+ * <p>Messages broadcast to the same topic from different threads concurrently may be delivered in
+ * a different order to each subscriber.
+ */
+public final class TopicBroadcaster<T> {
+
+    private final Map<String, Set<TopicSubscriber<T>>> topics = new ConcurrentHashMap<>();
+    private final int maxPendingMessages;
+    private final SlowSubscriberPolicy slowSubscriberPolicy;
+    private final Supplier<? extends Throwable> slowSubscriberCause;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param slowSubscriberCause the {@link Supplier} of the cause that aborts the stream of a subscriber
+     *                            which has reached {@code maxPendingMessages} when
+     *                            {@link SlowSubscriberPolicy#DISCONNECT} is used
+     */
+    public TopicBroadcaster(int maxPendingMessages, SlowSubscriberPolicy slowSubscriberPolicy,
+                            Supplier<? extends Throwable> slowSubscriberCause) {
+        checkArgument(maxPendingMessages > 0, "maxPendingMessages: %s (expected: > 0)", maxPendingMessages);
+        this.maxPendingMessages = maxPendingMessages;
+        this.slowSubscriberPolicy = requireNonNull(slowSubscriberPolicy, "slowSubscriberPolicy");
+        this.slowSubscriberCause = requireNonNull(slowSubscriberCause, "slowSubscriberCause");
+    }
+
+    /**
+     * Subscribes the specified {@code writer} to the {@code topic}. The {@code writer} is unsubscribed
+     * when it is complete.
+     *
+     * @return the {@link StreamMessage} that must be consumed instead of the {@code writer}, so that
+     *         the consumption of the messages is tracked.
+     */
+    public <W extends StreamMessage<T> & StreamWriter<T>> StreamMessage<T> subscribe(String topic, W writer) {
+        return subscribe(topic, writer, 0);
+    }
+
+    /**
+     * Subscribes the specified {@code writer} to the {@code topic}. The {@code writer} is unsubscribed
+     * when it is complete.
+     *
+     * @param numWrittenMessages the number of the messages written to the {@code writer} before subscribing,
+     *                           which are counted as pending messages
+     * @return the {@link StreamMessage} that must be consumed instead of the {@code writer}, so that
+     *         the consumption of the messages is tracked.
+     */
+    public <W extends StreamMessage<T> & StreamWriter<T>> StreamMessage<T> subscribe(
+            String topic, W writer, int numWrittenMessages) {
+        requireNonNull(topic, "topic");
+        requireNonNull(writer, "writer");
+        checkArgument(numWrittenMessages >= 0, "numWrittenMessages: %s (expected: >= 0)",
+                      numWrittenMessages);
+        final TopicSubscriber<T> subscriber = new TopicSubscriber<>(writer, writer);
+        subscriber.pendingMessages.set(numWrittenMessages);
+        topics.compute(topic, (unused, subscribers) -> {
+            if (subscribers == null) {
+                subscribers = ConcurrentHashMap.newKeySet();
+            }
+            subscribers.add(subscriber);
+            return subscribers;
+        });
+        writer.whenComplete().handle((unused1, unused2) -> {
+            topics.computeIfPresent(topic, (unused, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            return null;
+        });
+        return writer.peek(unused -> subscriber.pendingMessages.decrementAndGet());
+    }
+
+    /**
+     * Writes the message encoded in the specified {@link ByteBuf} to the subscribers of the {@code topic}.
+     * The {@link ByteBuf} is released by this method.
+     *
+     * @param wrapper the {@link Function} that creates a message from a retained duplicate of the
+     *                {@link ByteBuf} for each subscriber
+     * @return the number of the subscribers that the message has been written to
+     */
+    public int broadcast(String topic, ByteBuf encoded, Function<? super ByteBuf, ? extends T> wrapper) {
+        try {
+            final Set<TopicSubscriber<T>> subscribers = topics.get(topic);
+            if (subscribers == null) {
+                return 0;
+            }
+            int numWritten = 0;
+            for (TopicSubscriber<T> subscriber : subscribers) {
+                if (write(subscriber, encoded, wrapper)) {
+                    numWritten++;
+                }
+            }
+            return numWritten;
+        } finally {
+            encoded.release();
+        }
+    }
+
+    private boolean write(TopicSubscriber<T> subscriber, ByteBuf encoded,
+                          Function<? super ByteBuf, ? extends T> wrapper) {
+        final AtomicInteger pendingMessages = subscriber.pendingMessages;
+        if (pendingMessages.incrementAndGet() > maxPendingMessages) {
+            pendingMessages.decrementAndGet();
+            if (slowSubscriberPolicy == SlowSubscriberPolicy.DISCONNECT) {
+                subscriber.stream.abort(slowSubscriberCause.get());
+            }
+            return false;
+        }
+
+        final T message = wrapper.apply(encoded.retainedDuplicate());
+        if (subscriber.writer.tryWrite(message)) {
+            return true;
+        }
+        pendingMessages.decrementAndGet();
+        StreamMessageUtil.closeOrAbort(message);
+        return false;
+    }
+
+    /**
+     * Unsubscribes all subscribers of the {@code topic} and closes their streams with the specified
+     * {@code closer}.
+     */
+    public void close(String topic, Consumer<? super StreamWriter<T>> closer) {
+        final Set<TopicSubscriber<T>> subscribers = topics.remove(topic);
+        if (subscribers != null) {
+            subscribers.forEach(subscriber -> closer.accept(subscriber.writer));
+        }
+    }
+
+    /**
+     * Returns the number of the subscribers of the {@code topic}.
+     */
+    public int numSubscribers(String topic) {
+        final Set<TopicSubscriber<T>> subscribers = topics.get(topic);
+        return subscribers != null ? subscribers.size() : 0;
+    }
+
+    private static final class TopicSubscriber<T> {
+
+        final StreamMessage<T> stream;
+        final StreamWriter<T> writer;
+        final AtomicInteger pendingMessages = new AtomicInteger();
+
+        TopicSubscriber(StreamMessage<T> stream, StreamWriter<T> writer) {
+            this.stream = stream;
+            this.writer = writer;
+        }
+    }
+}
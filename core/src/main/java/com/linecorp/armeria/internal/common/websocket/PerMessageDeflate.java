@@ -0,0 +1,285 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.internal.common.websocket;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.common.base.Ascii;
+import com.google.common.base.Splitter;
+
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
+
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * The parameters of the <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a>
+ * extension negotiated for a WebSocket connection.
+ */
+public final class PerMessageDeflate {
+
+    static final String EXTENSION_NAME = "permessage-deflate";
+
+    private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    private static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+    private static final String SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+    private static final String CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+
+    // java.util.zip.Deflater always uses the largest window.
+    private static final int DEFLATER_WINDOW_BITS = 15;
+
+    private static final Splitter extensionSplitter = Splitter.on(',').trimResults().omitEmptyStrings();
+    private static final Splitter parameterSplitter = Splitter.on(';').trimResults().omitEmptyStrings();
+
+    /**
+     * Negotiates the extension with the offers in the specified request headers.
+     *
+     * @return the negotiated {@link PerMessageDeflate}, or {@code null} if no offer is acceptable.
+     */
+    @Nullable
+    public static PerMessageDeflate negotiate(HttpHeaders requestHeaders, PerMessageDeflateConfig config) {
+        for (Map<String, String> offer : parseExtensions(requestHeaders)) {
+            final PerMessageDeflate accepted = accept(offer, config);
+            if (accepted != null) {
+                return accepted;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static PerMessageDeflate accept(Map<String, String> offer, PerMessageDeflateConfig config) {
+        boolean serverNoContextTakeover = config.serverNoContextTakeover();
+        boolean clientNoContextTakeover = config.clientNoContextTakeover();
+        int clientMaxWindowBits = -1;
+        for (Entry<String, String> e : offer.entrySet()) {
+            final String value = e.getValue();
+            switch (e.getKey()) {
+                case SERVER_NO_CONTEXT_TAKEOVER:
+                    if (!value.isEmpty()) {
+                        return null;
+                    }
+                    serverNoContextTakeover = true;
+                    break;
+                case CLIENT_NO_CONTEXT_TAKEOVER:
+                    if (!value.isEmpty()) {
+                        return null;
+                    }
+                    clientNoContextTakeover = true;
+                    break;
+                case SERVER_MAX_WINDOW_BITS:
+                    // The server cannot compress with a window smaller than the default.
+                    if (parseWindowBits(value) != DEFLATER_WINDOW_BITS) {
+                        return null;
+                    }
+                    break;
+                case CLIENT_MAX_WINDOW_BITS:
+                    final int offered = value.isEmpty() ? DEFLATER_WINDOW_BITS : parseWindowBits(value);
+                    if (offered < 0) {
+                        return null;
+                    }
+                    if (config.clientMaxWindowBits() < offered) {
+                        clientMaxWindowBits = config.clientMaxWindowBits();
+                    }
+                    break;
+                default:
+                    return null;
+            }
+        }
+
+        final StringBuilder buf = new StringBuilder(EXTENSION_NAME);
+        if (serverNoContextTakeover) {
+            buf.append("; ").append(SERVER_NO_CONTEXT_TAKEOVER);
+        }
+        if (clientNoContextTakeover) {
+            buf.append("; ").append(CLIENT_NO_CONTEXT_TAKEOVER);
+        }
+        if (clientMaxWindowBits > 0) {
+            buf.append("; ").append(CLIENT_MAX_WINDOW_BITS).append('=').append(clientMaxWindowBits);
+        }
+        return new PerMessageDeflate(config, serverNoContextTakeover, clientNoContextTakeover,
+                                     buf.toString());
+    }
+
+    /**
+     * Returns the extension offer that a client sends with the specified {@link PerMessageDeflateConfig}.
+     */
+    public static String offer(PerMessageDeflateConfig config) {
+        final StringBuilder buf = new StringBuilder(EXTENSION_NAME);
+        if (config.serverNoContextTakeover()) {
+            buf.append("; ").append(SERVER_NO_CONTEXT_TAKEOVER);
+        }
+        if (config.clientNoContextTakeover()) {
+            buf.append("; ").append(CLIENT_NO_CONTEXT_TAKEOVER);
+        }
+        if (config.serverMaxWindowBits() < DEFLATER_WINDOW_BITS) {
+            buf.append("; ").append(SERVER_MAX_WINDOW_BITS).append('=').append(config.serverMaxWindowBits());
+        }
+        // client_max_window_bits is not offered because the client cannot compress with a smaller window.
+        return buf.toString();
+    }
+
+    /**
+     * Validates the extension response from a server against the offer made with the specified
+     * {@link PerMessageDeflateConfig}.
+     *
+     * @return the negotiated {@link PerMessageDeflate}, or {@code null} if the server declined the offer.
+     * @throws IllegalArgumentException if the response is not valid for the offer.
+     */
+    @Nullable
+    public static PerMessageDeflate accepted(HttpHeaders responseHeaders, PerMessageDeflateConfig config) {
+        final List<Map<String, String>> responses = parseExtensions(responseHeaders);
+        if (responses.isEmpty()) {
+            return null;
+        }
+        if (responses.size() > 1) {
+            throw new IllegalArgumentException("more than one " + EXTENSION_NAME + " response");
+        }
+
+        // The server keeps its context unless it says otherwise, even if it was asked not to.
+        // The client may always reset its own context.
+        boolean serverNoContextTakeover = false;
+        boolean clientNoContextTakeover = config.clientNoContextTakeover();
+        for (Entry<String, String> e : responses.get(0).entrySet()) {
+            final String value = e.getValue();
+            switch (e.getKey()) {
+                case SERVER_NO_CONTEXT_TAKEOVER:
+                    serverNoContextTakeover = true;
+                    break;
+                case CLIENT_NO_CONTEXT_TAKEOVER:
+                    clientNoContextTakeover = true;
+                    break;
+                case SERVER_MAX_WINDOW_BITS:
+                    final int windowBits = parseWindowBits(value);
+                    if (windowBits < 0 || windowBits > config.serverMaxWindowBits()) {
+                        throw new IllegalArgumentException(
+                                "invalid " + SERVER_MAX_WINDOW_BITS + ": " + value +
+                                " (expected: <= " + config.serverMaxWindowBits() + ')');
+                    }
+                    break;
+                default:
+                    // client_max_window_bits is not allowed because it was not offered.
+                    throw new IllegalArgumentException("unexpected " + EXTENSION_NAME + " parameter: " +
+                                                       e.getKey());
+            }
+        }
+        return new PerMessageDeflate(config, serverNoContextTakeover, clientNoContextTakeover, null);
+    }
+
+    /**
+     * Parses the {@code permessage-deflate} elements of the {@code sec-websocket-extensions} headers.
+     * An element with a duplicate parameter is not returned.
+     */
+    private static List<Map<String, String>> parseExtensions(HttpHeaders headers) {
+        final List<Map<String, String>> extensions = new ArrayList<>();
+        for (String header : headers.getAll(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS)) {
+            for (String extension : extensionSplitter.split(header)) {
+                final Map<String, String> parameters = new LinkedHashMap<>();
+                boolean first = true;
+                boolean valid = true;
+                for (String element : parameterSplitter.split(extension)) {
+                    if (first) {
+                        if (!EXTENSION_NAME.equals(Ascii.toLowerCase(element))) {
+                            valid = false;
+                            break;
+                        }
+                        first = false;
+                        continue;
+                    }
+                    final int eqIdx = element.indexOf('=');
+                    final String name;
+                    String value;
+                    if (eqIdx < 0) {
+                        name = Ascii.toLowerCase(element);
+                        value = "";
+                    } else {
+                        name = Ascii.toLowerCase(element.substring(0, eqIdx).trim());
+                        value = element.substring(eqIdx + 1).trim();
+                        if (value.length() >= 2 && value.charAt(0) == '"' &&
+                            value.charAt(value.length() - 1) == '"') {
+                            value = value.substring(1, value.length() - 1);
+                        }
+                    }
+                    if (parameters.put(name, value) != null) {
+                        valid = false;
+                        break;
+                    }
+                }
+                if (valid && !first) {
+                    extensions.add(parameters);
+                }
+            }
+        }
+        return extensions;
+    }
+
+    private static int parseWindowBits(String value) {
+        try {
+            final int windowBits = Integer.parseInt(value);
+            if (windowBits >= 8 && windowBits <= 15) {
+                return windowBits;
+            }
+        } catch (NumberFormatException ignored) {
+            // Fall through.
+        }
+        return -1;
+    }
+
+    private final int compressionLevel;
+    private final int minCompressionSize;
+    private final boolean serverNoContextTakeover;
+    private final boolean clientNoContextTakeover;
+    @Nullable
+    private final String responseExtension;
+
+    private PerMessageDeflate(PerMessageDeflateConfig config, boolean serverNoContextTakeover,
+                              boolean clientNoContextTakeover, @Nullable String responseExtension) {
+        compressionLevel = config.compressionLevel();
+        minCompressionSize = config.minCompressionSize();
+        this.serverNoContextTakeover = serverNoContextTakeover;
+        this.clientNoContextTakeover = clientNoContextTakeover;
+        this.responseExtension = responseExtension;
+    }
+
+    /**
+     * Returns the value of the {@code sec-websocket-extensions} header that a server responds with.
+     */
+    public String responseExtension() {
+        assert responseExtension != null;
+        return responseExtension;
+    }
+
+    /**
+     * Returns a new {@link WebSocketFrameDeflater} that compresses the outbound messages.
+     */
+    public WebSocketFrameDeflater newDeflater(WebSocketFrameEncoder encoder, boolean server) {
+        return new WebSocketFrameDeflater(encoder, compressionLevel, minCompressionSize,
+                                          server ? serverNoContextTakeover : clientNoContextTakeover);
+    }
+
+    /**
+     * Returns a new {@link WebSocketFrameInflater} that decompresses the inbound messages.
+     */
+    public WebSocketFrameInflater newInflater(ByteBufAllocator alloc, boolean server) {
+        return new WebSocketFrameInflater(alloc, server ? clientNoContextTakeover : serverNoContextTakeover);
+    }
+}
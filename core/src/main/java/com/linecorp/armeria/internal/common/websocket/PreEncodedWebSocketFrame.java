@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.websocket;
+
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.base.MoreObjects;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.websocket.WebSocketFrame;
+import com.linecorp.armeria.common.websocket.WebSocketFrameType;
+import com.linecorp.armeria.internal.common.ByteBufBytes;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * A final {@link WebSocketFrame} whose wire format has been encoded by
+ * {@link WebSocketFrameEncoder#encodeShared(io.netty.buffer.ByteBufAllocator, WebSocketFrame)}.
+ * A server-side {@link WebSocketFrameEncoder} writes the encoded frame as is, so that a frame broadcast to
+ * many connections is encoded only once.
+ */
+public final class PreEncodedWebSocketFrame extends ByteBufBytes implements WebSocketFrame {
+
+    private final ByteBuf encodedFrame;
+    private final WebSocketFrameType type;
+
+    @Nullable
+    private String text;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param encodedFrame the encoded frame which is released when this frame is closed or encoded
+     * @param payloadLength the length of the payload at the end of {@code encodedFrame}
+     */
+    public PreEncodedWebSocketFrame(ByteBuf encodedFrame, int payloadLength, WebSocketFrameType type) {
+        super(encodedFrame.slice(encodedFrame.readerIndex() + encodedFrame.readableBytes() - payloadLength,
+                                 payloadLength), true);
+        this.encodedFrame = encodedFrame;
+        this.type = type;
+    }
+
+    /**
+     * Returns the encoded frame. The caller takes the ownership of the returned buffer.
+     */
+    ByteBuf encodedFrame() {
+        return encodedFrame;
+    }
+
+    @Override
+    public WebSocketFrameType type() {
+        return type;
+    }
+
+    @Override
+    public boolean isFinalFragment() {
+        return true;
+    }
+
+    @Override
+    public String text() {
+        if (text != null) {
+            return text;
+        }
+        return text = toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int hashCode() {
+        return (super.hashCode() * 31 + type.hashCode()) * 31 + Boolean.hashCode(true);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof WebSocketFrame)) {
+            return false;
+        }
+
+        if (obj == this) {
+            return true;
+        }
+
+        final WebSocketFrame that = (WebSocketFrame) obj;
+        return type == that.type() &&
+               that.isFinalFragment() &&
+               length() == that.length() &&
+               ByteBufUtil.equals(buf(), that.byteBuf());
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("type", type)
+                          .add("bytes", super.toString())
+                          .toString();
+    }
+}
@@ -58,6 +58,8 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
 
     private static final Logger logger = LoggerFactory.getLogger(WebSocketFrameDecoder.class);
 
+    private static final int RSV1 = 0x04;
+
     enum State {
         READING_FIRST,
         READING_SECOND,
@@ -70,6 +72,8 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
     private final int maxFramePayloadLength;
     private final boolean allowMaskMismatch;
     private final boolean aggregateContinuation;
+    @Nullable
+    private final WebSocketFrameInflater inflater;
     private final List<WebSocketFrame> aggregatingFrames = new ArrayList<>();
     private long aggregatingFramesLength;
     @Nullable
@@ -79,6 +83,7 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
     private boolean finalFragment;
     private boolean frameMasked;
     private int frameRsv;
+    private boolean compressedMessage;
     private int frameOpcode;
     private long framePayloadLength;
     private int mask;
@@ -87,10 +92,11 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
     private State state = State.READING_FIRST;
 
     protected WebSocketFrameDecoder(int maxFramePayloadLength, boolean allowMaskMismatch,
-                                    boolean aggregateContinuation) {
+                                    boolean aggregateContinuation, @Nullable WebSocketFrameInflater inflater) {
         this.maxFramePayloadLength = maxFramePayloadLength;
         this.allowMaskMismatch = allowMaskMismatch;
         this.aggregateContinuation = aggregateContinuation;
+        this.inflater = inflater;
     }
 
     public void setOutboundWebSocket(WebSocket outboundFrames) {
@@ -114,7 +120,6 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
                     //noinspection LocalVariableUsedAndDeclaredInDifferentSwitchBranches
                     byte b = in.readByte();
                     finalFragment = (b & 0x80) != 0;
-                    // TODO(minwoox): support rsv
                     frameRsv = (b & 0x70) >> 4;
                     frameOpcode = b & 0x0F;
 
@@ -132,8 +137,16 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
                     frameMasked = (b & 0x80) != 0;
                     framePayloadLen1 = b & 0x7F;
 
-                    if (frameRsv != 0) { // TODO(minwoox): support extension
-                        throw protocolViolation("RSV != 0 and no extension negotiated, RSV:" + frameRsv);
+                    if (frameRsv != 0) {
+                        if (inflater == null) {
+                            throw protocolViolation("RSV != 0 and no extension negotiated, RSV:" + frameRsv);
+                        }
+                        // permessage-deflate uses only RSV1 on the first frame of a data message.
+                        if (frameRsv != RSV1 ||
+                            (frameOpcode != WebSocketFrameType.TEXT.opcode() &&
+                             frameOpcode != WebSocketFrameType.BINARY.opcode())) {
+                            throw protocolViolation("unexpected RSV: " + frameRsv + ", opcode: " + frameOpcode);
+                        }
                     }
 
                     if (!allowMaskMismatch && expectMaskedFrames() != frameMasked) {
@@ -181,6 +194,9 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
                             throw protocolViolation(
                                     "received non-continuation data frame while inside fragmented message");
                         }
+                        if (frameOpcode != WebSocketFrameType.CONTINUATION.opcode()) {
+                            compressedMessage = frameRsv == RSV1;
+                        }
                     }
 
                     state = State.READING_SIZE;
@@ -285,6 +301,20 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
                                                 "Cannot decode a web socket frame with opcode: " + frameOpcode);
                     }
 
+                    if (compressedMessage) {
+                        assert inflater != null;
+                        try {
+                            payloadBuffer = inflater.inflate(payloadBuffer, finalFragment,
+                                                             maxFramePayloadLength);
+                        } catch (WebSocketProtocolViolationException e) {
+                            state = State.CORRUPT;
+                            throw e;
+                        }
+                        if (finalFragment) {
+                            compressedMessage = false;
+                        }
+                    }
+
                     final WebSocketFrame decodedFrame;
                     if (frameOpcode == WebSocketFrameType.TEXT.opcode()) {
                         decodedFrame = WebSocketFrame.ofPooledText(payloadBuffer, finalFragment);
@@ -316,7 +346,7 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
                     } else {
                         fragmentedFramesCount++;
                         if (aggregateContinuation) {
-                            aggregatingFramesLength += framePayloadLength;
+                            aggregatingFramesLength += payloadBuffer.readableBytes();
                             aggregatingFrames.add(decodedFrame);
                             if (aggregatingFramesLength > maxFramePayloadLength) {
                                 // decodedFrame is release in processOnError.
@@ -425,6 +455,9 @@ public abstract class WebSocketFrameDecoder implements HttpDecoder<WebSocketFram
     protected void onProcessOnError(Throwable cause) {}
 
     private void cleanup() {
+        if (inflater != null) {
+            inflater.close();
+        }
         if (!aggregatingFrames.isEmpty()) {
             for (WebSocketFrame frame : aggregatingFrames) {
                 frame.close();
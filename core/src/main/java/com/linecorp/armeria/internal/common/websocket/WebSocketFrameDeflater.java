@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.internal.common.websocket;
+
+import java.util.zip.Deflater;
+
+import com.linecorp.armeria.common.RequestContext;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.websocket.WebSocketFrame;
+import com.linecorp.armeria.common.websocket.WebSocketFrameType;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * Compresses the outbound data messages of a WebSocket connection as described in
+ * <a href="https://datatracker.ietf.org/doc/html/rfc7692#section-7.2.1">Compression</a> and encodes them
+ * with {@link WebSocketFrameEncoder}. Control frames and a message whose first frame is final and shorter
+ * than the minimum compression size are encoded as they are.
+ *
+ * <p>This class is not thread-safe; frames must be encoded sequentially.
+ */
+public final class WebSocketFrameDeflater {
+
+    // The empty stored block that terminates the output of a sync flush.
+    private static final int DEFLATE_TAIL = 0x0000FFFF;
+
+    private final WebSocketFrameEncoder encoder;
+    private final int compressionLevel;
+    private final int minCompressionSize;
+    private final boolean noContextTakeover;
+
+    @Nullable
+    private Deflater deflater;
+    private boolean compressing;
+
+    WebSocketFrameDeflater(WebSocketFrameEncoder encoder, int compressionLevel, int minCompressionSize,
+                           boolean noContextTakeover) {
+        this.encoder = encoder;
+        this.compressionLevel = compressionLevel;
+        this.minCompressionSize = minCompressionSize;
+        this.noContextTakeover = noContextTakeover;
+    }
+
+    public ByteBuf encode(RequestContext ctx, WebSocketFrame frame) {
+        final WebSocketFrameType type = frame.type();
+        if (type.isControlFrame() || frame instanceof PreEncodedWebSocketFrame) {
+            // A pre-encoded frame is shared by many connections and thus is sent without compression.
+            return encoder.encode(ctx, frame);
+        }
+        if (type != WebSocketFrameType.CONTINUATION) {
+            compressing = !frame.isFinalFragment() || frame.length() >= minCompressionSize;
+        }
+        if (!compressing) {
+            return encoder.encode(ctx, frame);
+        }
+
+        final boolean finalFragment = frame.isFinalFragment();
+        final ByteBuf compressed;
+        try (WebSocketFrame frame0 = frame) {
+            compressed = compress(ctx.alloc(), frame0.byteBuf(), finalFragment);
+        }
+        final WebSocketFrame compressedFrame;
+        switch (type) {
+            case TEXT:
+                compressedFrame = WebSocketFrame.ofPooledText(compressed, finalFragment);
+                break;
+            case BINARY:
+                compressedFrame = WebSocketFrame.ofPooledBinary(compressed, finalFragment);
+                break;
+            default:
+                compressedFrame = WebSocketFrame.ofPooledContinuation(compressed, finalFragment);
+        }
+        // RSV1 is set only on the first frame of a compressed message.
+        return encoder.encode(ctx, compressedFrame, type != WebSocketFrameType.CONTINUATION);
+    }
+
+    private ByteBuf compress(ByteBufAllocator alloc, ByteBuf data, boolean finalFragment) {
+        Deflater deflater = this.deflater;
+        if (deflater == null) {
+            deflater = this.deflater = new Deflater(compressionLevel, true);
+        }
+        final int length = data.readableBytes();
+        if (data.hasArray()) {
+            deflater.setInput(data.array(), data.arrayOffset() + data.readerIndex(), length);
+        } else {
+            deflater.setInput(ByteBufUtil.getBytes(data));
+        }
+
+        final ByteBuf out = alloc.heapBuffer(length / 2 + 16);
+        boolean success = false;
+        try {
+            for (;;) {
+                out.ensureWritable(256);
+                final int writable = out.writableBytes();
+                final int written = deflater.deflate(out.array(), out.arrayOffset() + out.writerIndex(),
+                                                     writable, Deflater.SYNC_FLUSH);
+                out.writerIndex(out.writerIndex() + written);
+                if (written < writable) {
+                    break;
+                }
+            }
+            if (finalFragment) {
+                final int writerIndex = out.writerIndex();
+                if (writerIndex - out.readerIndex() >= 4 && out.getInt(writerIndex - 4) == DEFLATE_TAIL) {
+                    out.writerIndex(writerIndex - 4);
+                }
+                if (noContextTakeover) {
+                    // Release the memory of the compressor until the next message.
+                    close();
+                }
+            }
+            success = true;
+            return out;
+        } finally {
+            if (!success) {
+                out.release();
+            }
+        }
+    }
+
+    /**
+     * Releases the memory used by the compressor.
+     */
+    public void close() {
+        if (deflater != null) {
+            deflater.end();
+            deflater = null;
+        }
+    }
+}
@@ -68,6 +68,7 @@
 
 package com.linecorp.armeria.internal.common.websocket;
 
+import static com.google.common.base.Preconditions.checkState;
 import static com.linecorp.armeria.internal.common.websocket.WebSocketUtil.byteAtIndex;
 
 import org.slf4j.Logger;
@@ -79,6 +80,8 @@ import com.linecorp.armeria.common.websocket.WebSocketFrame;
 import com.linecorp.armeria.common.websocket.WebSocketFrameType;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.TooLongFrameException;
 import io.netty.util.internal.ThreadLocalRandom;
@@ -121,12 +124,48 @@ public final class WebSocketFrameEncoder {
     }
 
     public ByteBuf encode(RequestContext ctx, WebSocketFrame msg) {
+        return encode(ctx, msg, false);
+    }
+
+    /**
+     * Encodes the specified {@link WebSocketFrame}. {@code rsv1} is set when the frame is the first frame
+     * of a message compressed by the permessage-deflate extension.
+     */
+    public ByteBuf encode(RequestContext ctx, WebSocketFrame msg, boolean rsv1) {
+        if (!maskPayload && !rsv1 && msg instanceof PreEncodedWebSocketFrame) {
+            // The frame has been encoded already by a server-side encoder.
+            return ((PreEncodedWebSocketFrame) msg).encodedFrame();
+        }
+        try (WebSocketFrame msg0 = msg) {
+            return encode0(ctx.alloc(), msg0, rsv1);
+        }
+    }
+
+    /**
+     * Encodes the specified {@link WebSocketFrame} into a single direct buffer, so that the same buffer can be
+     * written to many connections using {@link PreEncodedWebSocketFrame}. Only a server-side encoder can
+     * encode a shared frame because a client-side encoder masks each frame with a different key.
+     */
+    public ByteBuf encodeShared(ByteBufAllocator alloc, WebSocketFrame msg) {
+        checkState(!maskPayload, "a client-side encoder cannot encode a shared frame.");
+        final ByteBuf encoded;
         try (WebSocketFrame msg0 = msg) {
-            return encode0(ctx, msg0);
+            encoded = encode0(alloc, msg0, false);
+        }
+        if (encoded.isDirect() && !(encoded instanceof CompositeByteBuf)) {
+            return encoded;
+        }
+        // Merge the header and the payload to avoid a copy or a gathering write for each connection.
+        try {
+            final ByteBuf shared = alloc.directBuffer(encoded.readableBytes());
+            shared.writeBytes(encoded);
+            return shared;
+        } finally {
+            encoded.release();
         }
     }
 
-    private ByteBuf encode0(RequestContext ctx, WebSocketFrame msg) {
+    private ByteBuf encode0(ByteBufAllocator alloc, WebSocketFrame msg, boolean rsv1) {
         final WebSocketFrameType type = msg.type();
         final int length = msg.length();
         if (type.isControlFrame() && length > 125) {
@@ -141,7 +180,9 @@ public final class WebSocketFrameEncoder {
         if (msg.isFinalFragment()) {
             b0 |= 1 << 7;
         }
-        // b0 |= msg.rsv() << 4; // TODO(minwoox): Support rsv when we introduce the extension.
+        if (rsv1) {
+            b0 |= 1 << 6;
+        }
         b0 |= type.opcode();
 
         boolean release = true;
@@ -150,7 +191,7 @@ public final class WebSocketFrameEncoder {
             final int maskLength = maskPayload ? 4 : 0;
             if (length <= 125) {
                 final int size = 2 + maskLength + length;
-                buf = ctx.alloc().buffer(size);
+                buf = alloc.buffer(size);
                 buf.writeByte(b0);
                 // maskPayload + payload length (<= 125)
                 final byte b = (byte) (maskPayload ? 0x80 | (byte) length : (byte) length);
@@ -160,7 +201,7 @@ public final class WebSocketFrameEncoder {
                 if (maskPayload || length <= GATHERING_WRITE_THRESHOLD) {
                     size += length;
                 }
-                buf = ctx.alloc().buffer(size);
+                buf = alloc.buffer(size);
                 buf.writeByte(b0);
                 // maskPayload + payload length (== 126). When payload length is 126, following two bytes
                 // are the payload length.
@@ -172,7 +213,7 @@ public final class WebSocketFrameEncoder {
                 if (maskPayload) {
                     size += length;
                 }
-                buf = ctx.alloc().buffer(size);
+                buf = alloc.buffer(size);
                 buf.writeByte(b0);
                 // maskPayload + payload length (== 127). When payload length is 127, following 8 bytes
                 // are the payload length.
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.internal.common.websocket;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.websocket.WebSocketCloseStatus;
+import com.linecorp.armeria.server.websocket.WebSocketProtocolViolationException;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * Decompresses the inbound data messages of a WebSocket connection as described in
+ * <a href="https://datatracker.ietf.org/doc/html/rfc7692#section-7.2.2">Decompression</a>.
+ *
+ * <p>This class is not thread-safe; frames must be decompressed sequentially.
+ */
+public final class WebSocketFrameInflater {
+
+    private static final byte[] DEFLATE_TAIL = { 0x00, 0x00, (byte) 0xFF, (byte) 0xFF };
+
+    private final ByteBufAllocator alloc;
+    private final boolean noContextTakeover;
+
+    @Nullable
+    private Inflater inflater;
+
+    WebSocketFrameInflater(ByteBufAllocator alloc, boolean noContextTakeover) {
+        this.alloc = alloc;
+        this.noContextTakeover = noContextTakeover;
+    }
+
+    /**
+     * Decompresses the payload of a frame of a compressed message. The specified {@link ByteBuf} is always
+     * released.
+     *
+     * @throws WebSocketProtocolViolationException if the payload is not valid or its decompressed length
+     *                                             exceeds {@code maxPayloadLength}
+     */
+    ByteBuf inflate(ByteBuf payload, boolean finalFragment, int maxPayloadLength) {
+        Inflater inflater = this.inflater;
+        if (inflater == null) {
+            inflater = this.inflater = new Inflater(true);
+        }
+
+        final ByteBuf out = alloc.heapBuffer(Math.min(payload.readableBytes() * 2 + 16, maxPayloadLength));
+        boolean success = false;
+        try {
+            if (payload.hasArray()) {
+                inflater.setInput(payload.array(), payload.arrayOffset() + payload.readerIndex(),
+                                  payload.readableBytes());
+            } else {
+                inflater.setInput(ByteBufUtil.getBytes(payload));
+            }
+            inflate(inflater, out, maxPayloadLength);
+            if (finalFragment) {
+                if (!inflater.finished()) {
+                    inflater.setInput(DEFLATE_TAIL);
+                    inflate(inflater, out, maxPayloadLength);
+                }
+                if (noContextTakeover) {
+                    // Release the memory of the decompressor until the next message.
+                    close();
+                } else if (inflater.finished()) {
+                    // The peer ended the stream with a final block; start a new one.
+                    inflater.reset();
+                }
+            }
+            success = true;
+            return out;
+        } catch (DataFormatException e) {
+            throw new WebSocketProtocolViolationException(WebSocketCloseStatus.INVALID_PAYLOAD_DATA,
+                                                          "invalid compressed data: " + e.getMessage());
+        } finally {
+            payload.release();
+            if (!success) {
+                out.release();
+            }
+        }
+    }
+
+    private static void inflate(Inflater inflater, ByteBuf out, int maxPayloadLength)
+            throws DataFormatException {
+        for (;;) {
+            out.ensureWritable(256);
+            final int read = inflater.inflate(out.array(), out.arrayOffset() + out.writerIndex(),
+                                              out.writableBytes());
+            out.writerIndex(out.writerIndex() + read);
+            if (out.readableBytes() > maxPayloadLength) {
+                throw new WebSocketProtocolViolationException(
+                        WebSocketCloseStatus.MESSAGE_TOO_BIG,
+                        "The decompressed payload length exceeded the max frame length of " +
+                        maxPayloadLength);
+            }
+            if (read == 0) {
+                if (inflater.needsInput() || inflater.finished()) {
+                    return;
+                }
+                if (inflater.needsDictionary()) {
+                    throw new DataFormatException("preset dictionary is not supported");
+                }
+            }
+        }
+    }
+
+    /**
+     * Releases the memory used by the decompressor.
+     */
+    public void close() {
+        if (inflater != null) {
+            inflater.end();
+            inflater = null;
+        }
+    }
+}
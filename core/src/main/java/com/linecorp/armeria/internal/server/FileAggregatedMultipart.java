@@ -20,7 +20,6 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -37,6 +36,7 @@ import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.multipart.Multipart;
 import com.linecorp.armeria.common.multipart.MultipartFile;
+import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.server.ServiceRequestContext;
 
 import io.netty.channel.EventLoop;
@@ -71,15 +71,19 @@ public final class FileAggregatedMultipart {
             final EventLoop eventLoop = ctx.eventLoop();
 
             if (filename != null) {
-                final Path incompleteDir = destination.resolve("incomplete");
+                final Path completeDir = destination.resolve("complete");
                 final ScheduledExecutorService executor = ctx.blockingTaskExecutor().withoutContext();
 
-                return resolveTmpFile(incompleteDir, filename, executor).thenCompose(path -> {
-                    return bodyPart.writeTo(path, eventLoop, executor).thenCompose(ignore -> {
-                        final Path completeDir = destination.resolve("complete");
-                        return moveFile(path, completeDir, executor, ctx);
-                    }).thenApply(completePath -> MultipartFile.of(name, filename, completePath.toFile(),
-                                                                  bodyPart.headers()));
+                // Write the content directly to its final location instead of writing it to
+                // a temporary file and moving it, and remove the file if the upload fails.
+                return createFile(completeDir, executor, ctx).thenCompose(path -> {
+                    return bodyPart.writeTo(path, eventLoop, executor).handle((unused, cause) -> {
+                        if (cause != null) {
+                            deleteFile(path, executor);
+                            return Exceptions.throwUnsafely(cause);
+                        }
+                        return MultipartFile.of(name, filename, path.toFile(), bodyPart.headers());
+                    });
                 });
             }
 
@@ -106,21 +110,30 @@ public final class FileAggregatedMultipart {
         });
     }
 
-    private static CompletableFuture<Path> moveFile(Path file, Path targetDirectory,
-                                                    ExecutorService blockingExecutorService,
-                                                    ServiceRequestContext ctx) {
+    private static CompletableFuture<Path> createFile(Path targetDirectory,
+                                                      ExecutorService blockingExecutorService,
+                                                      ServiceRequestContext ctx) {
         return CompletableFuture.supplyAsync(() -> {
             try {
                 Files.createDirectories(targetDirectory);
-                // Avoid name duplication, create new file at target place and replace it.
-                final Path tempFile = createRemovableTempFile(targetDirectory, blockingExecutorService, ctx);
-                return Files.move(file, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                // Avoid name duplication by creating a new file at the target place.
+                return createRemovableTempFile(targetDirectory, blockingExecutorService, ctx);
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
         }, blockingExecutorService);
     }
 
+    private static void deleteFile(Path file, ExecutorService blockingExecutorService) {
+        blockingExecutorService.execute(() -> {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Failed to delete an incomplete file: {}", file, e);
+            }
+        });
+    }
+
     private static Path createRemovableTempFile(Path targetDirectory,
                                                 ExecutorService blockingExecutorService,
                                                 ServiceRequestContext ctx) throws IOException {
@@ -140,17 +153,4 @@ public final class FileAggregatedMultipart {
         }
         return tempFile;
     }
-
-    private static CompletableFuture<Path> resolveTmpFile(Path directory,
-                                                          String filename,
-                                                          ExecutorService blockingExecutorService) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                Files.createDirectories(directory);
-                return Files.createTempFile(directory, null, '-' + filename);
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
-            }
-        }, blockingExecutorService);
-    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.server.annotation;
+
+import java.lang.reflect.Method;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+/**
+ * Invokes an annotated service method without reflection. The implementations are generated at compile time
+ * by {@code MethodInvokerProcessor} in the {@code armeria-annotation-processor} module.
+ */
+@FunctionalInterface
+public interface AnnotatedMethodInvoker {
+
+    /**
+     * Invokes the service method on the specified {@code target} with the specified {@code arguments}.
+     * {@code target} is ignored if the method is {@code static}.
+     */
+    @Nullable
+    Object invoke(Object target, Object[] arguments) throws Throwable;
+
+    /**
+     * Finds the {@link AnnotatedMethodInvoker}s generated for a class.
+     */
+    interface Provider {
+
+        /**
+         * Returns the class that this {@link Provider} has been generated for.
+         */
+        Class<?> targetClass();
+
+        /**
+         * Returns the {@link AnnotatedMethodInvoker} of the specified {@link Method}, or {@code null} if
+         * no invoker has been generated for the {@link Method}.
+         */
+        @Nullable
+        AnnotatedMethodInvoker find(Method method);
+    }
+}
@@ -39,6 +39,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -52,6 +53,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -59,6 +62,8 @@ import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Ascii;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Splitter;
@@ -72,6 +77,7 @@ import com.linecorp.armeria.common.Cookies;
 import com.linecorp.armeria.common.DependencyInjector;
 import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpHeaders;
+import com.linecorp.armeria.common.HttpObject;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.QueryParams;
@@ -79,8 +85,11 @@ import com.linecorp.armeria.common.Request;
 import com.linecorp.armeria.common.RequestContext;
 import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.multipart.BodyPart;
 import com.linecorp.armeria.common.multipart.Multipart;
 import com.linecorp.armeria.common.multipart.MultipartFile;
+import com.linecorp.armeria.common.stream.JacksonHttpDecoder;
+import com.linecorp.armeria.common.stream.StreamMessage;
 import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.internal.server.FileAggregatedMultipart;
 import com.linecorp.armeria.internal.server.annotation.AnnotatedBeanFactoryRegistry.BeanFactoryId;
@@ -93,11 +102,13 @@ import com.linecorp.armeria.server.annotation.Delimiter;
 import com.linecorp.armeria.server.annotation.FallthroughException;
 import com.linecorp.armeria.server.annotation.Header;
 import com.linecorp.armeria.server.annotation.JacksonRequestConverterFunction;
+import com.linecorp.armeria.server.annotation.MaxBodyPartLength;
 import com.linecorp.armeria.server.annotation.Param;
 import com.linecorp.armeria.server.annotation.RequestConverter;
 import com.linecorp.armeria.server.annotation.RequestConverterFunction;
 import com.linecorp.armeria.server.annotation.RequestConverterFunctionProvider;
 import com.linecorp.armeria.server.annotation.RequestObject;
+import com.linecorp.armeria.server.annotation.StreamingJson;
 import com.linecorp.armeria.server.annotation.StringRequestConverterFunction;
 import com.linecorp.armeria.server.docs.DescriptionInfo;
 
@@ -499,6 +510,11 @@ final class AnnotatedValueResolver {
 
         final List<RequestConverter> converters =
                 AnnotationUtil.findDeclared(typeElement, RequestConverter.class);
+        if (annotatedElement.isAnnotationPresent(StreamingJson.class)) {
+            return ofStreamingJson(name, annotatedElement, typeElement, type, description,
+                                   addToFirstIfExists(objectResolvers, converters, dependencyInjector));
+        }
+
         if (!converters.isEmpty()) {
             // Apply @RequestObject implicitly when a @RequestConverter is specified.
             return ofRequestObject(name, annotatedElement, type, pathParams,
@@ -506,6 +522,12 @@ final class AnnotatedValueResolver {
                                    dependencyInjector, description);
         }
 
+        final AnnotatedValueResolver multipartResolver =
+                ofStreamingMultipart(name, annotatedElement, typeElement, type, description);
+        if (multipartResolver != null) {
+            return multipartResolver;
+        }
+
         if (implicitRequestObjectAnnotation) {
             return ofRequestObject(name, annotatedElement, type, pathParams, objectResolvers,
                                    dependencyInjector, description);
@@ -633,6 +655,124 @@ final class AnnotatedValueResolver {
                 .build();
     }
 
+    /**
+     * Returns a resolver which decodes a {@code multipart/form-data} request body into a
+     * {@code StreamMessage<BodyPart>} without aggregating it, so that the content of each {@link BodyPart}
+     * can be written to its destination as soon as it is received.
+     */
+    @Nullable
+    private static AnnotatedValueResolver ofStreamingMultipart(String name, AnnotatedElement annotatedElement,
+                                                               AnnotatedElement typeElement, Class<?> type,
+                                                               DescriptionInfo description) {
+        if (type != StreamMessage.class) {
+            return null;
+        }
+        final Type parameterizedType = parameterizedTypeOf(typeElement);
+        if (!(parameterizedType instanceof ParameterizedType) ||
+            ((ParameterizedType) parameterizedType).getActualTypeArguments()[0] != BodyPart.class) {
+            return null;
+        }
+
+        final long maxBodyPartLength = maxBodyPartLength(annotatedElement);
+        return new Builder(annotatedElement, type, name)
+                .typeElement(typeElement)
+                .description(description)
+                .resolver((unused, ctx) -> Multipart.from(ctx.request(), maxBodyPartLength).bodyParts())
+                .build();
+    }
+
+    private static long maxBodyPartLength(AnnotatedElement annotatedElement) {
+        final MaxBodyPartLength maxBodyPartLength = annotatedElement.getAnnotation(MaxBodyPartLength.class);
+        if (maxBodyPartLength == null) {
+            return Long.MAX_VALUE;
+        }
+        checkArgument(maxBodyPartLength.value() > 0, "@%s: %s (expected: > 0)",
+                      MaxBodyPartLength.class.getSimpleName(), maxBodyPartLength.value());
+        return maxBodyPartLength.value();
+    }
+
+    /**
+     * Returns a resolver of a {@link StreamingJson} parameter, which decodes a JSON request body
+     * incrementally without aggregating it. A {@link StreamMessage} emits each element of a top-level JSON
+     * array as soon as it is received, and a {@link CompletableFuture} is completed with the whole JSON
+     * document when the request ends.
+     */
+    private static AnnotatedValueResolver ofStreamingJson(String name, AnnotatedElement annotatedElement,
+                                                          AnnotatedElement typeElement, Class<?> type,
+                                                          DescriptionInfo description,
+                                                          List<RequestObjectResolver> objectResolvers) {
+        final boolean arrayElements;
+        if (type == StreamMessage.class) {
+            arrayElements = true;
+        } else if (type == CompletableFuture.class || type == CompletionStage.class) {
+            arrayElements = false;
+        } else {
+            throw new IllegalArgumentException(
+                    '@' + StreamingJson.class.getSimpleName() + " is only supported for a " +
+                    "StreamMessage, CompletableFuture or CompletionStage parameter: " + typeElement);
+        }
+
+        final Type parameterizedType = parameterizedTypeOf(typeElement);
+        final Type valueType = parameterizedType instanceof ParameterizedType ?
+                               ((ParameterizedType) parameterizedType).getActualTypeArguments()[0] : null;
+        if (valueType == null ||
+            (valueType instanceof Class && HttpObject.class.isAssignableFrom((Class<?>) valueType))) {
+            throw new IllegalArgumentException(
+                    '@' + StreamingJson.class.getSimpleName() + " requires the type of the decoded value: " +
+                    typeElement);
+        }
+
+        final ObjectMapper mapper = streamingJsonMapper(objectResolvers);
+        final JavaType javaType = mapper.constructType(valueType);
+        return new Builder(annotatedElement, type, name)
+                .typeElement(typeElement)
+                .description(description)
+                .resolver((unused, ctx) -> {
+                    final StreamMessage<Object> decoded = decodeJson(ctx, mapper, javaType, arrayElements);
+                    if (arrayElements) {
+                        return decoded;
+                    }
+                    return decoded.collect().thenApply(values -> values.get(0));
+                })
+                .build();
+    }
+
+    /**
+     * Returns the {@link ObjectMapper} of the first {@link JacksonRequestConverterFunction} in
+     * the specified {@link RequestObjectResolver}s, so that a {@link StreamingJson} parameter is decoded
+     * in the same way as the other parameters converted by the service.
+     */
+    private static ObjectMapper streamingJsonMapper(List<RequestObjectResolver> objectResolvers) {
+        for (RequestObjectResolver resolver : objectResolvers) {
+            final RequestConverterFunction function = resolver.converterFunction();
+            if (function instanceof JacksonRequestConverterFunction) {
+                return ((JacksonRequestConverterFunction) function).objectMapper();
+            }
+        }
+        // The default converters always contain a JacksonRequestConverterFunction.
+        return ((JacksonRequestConverterFunction) defaultRequestConverterFunctions.get(0)).objectMapper();
+    }
+
+    private static StreamMessage<Object> decodeJson(ResolverContext ctx, ObjectMapper mapper, JavaType type,
+                                                    boolean arrayElements) {
+        final MediaType contentType = ctx.request().contentType();
+        if (contentType != null) {
+            final Charset charset = contentType.charset();
+            if (!contentType.isJson() || (charset != null && charset != StandardCharsets.UTF_8)) {
+                throw new IllegalArgumentException("Unsupported content type for a streaming JSON: " +
+                                                   contentType);
+            }
+        }
+
+        final JacksonHttpDecoder<Object> decoder =
+                arrayElements ? JacksonHttpDecoder.ofArrayElements(mapper, type)
+                              : JacksonHttpDecoder.ofValue(mapper, type);
+        // The request has been consumed already if another parameter required the aggregation.
+        final AggregatedHttpRequest aggregated = ctx.aggregatedRequest();
+        final HttpRequest req = aggregated != null ? aggregated.toHttpRequest() : ctx.request();
+        return req.decode(decoder, ctx.context().alloc());
+    }
+
     private static AnnotatedValueResolver ofAttribute(String name,
                                                       Attribute attr,
                                                       AnnotatedElement annotatedElement,
@@ -717,8 +857,9 @@ final class AnnotatedValueResolver {
         }
 
         if (actual == Multipart.class) {
+            final long maxBodyPartLength = maxBodyPartLength(annotatedElement);
             return new Builder(annotatedElement, type, name)
-                    .resolver((unused, ctx) -> Multipart.from(ctx.request()))
+                    .resolver((unused, ctx) -> Multipart.from(ctx.request(), maxBodyPartLength))
                     .build();
         }
 
@@ -1748,14 +1889,25 @@ final class AnnotatedValueResolver {
     @FunctionalInterface
     interface RequestObjectResolver {
         static RequestObjectResolver of(RequestConverterFunction function) {
-            return (resolverContext, expectedResultType, expectedParameterizedResultType, beanFactoryId) -> {
-                final AggregatedHttpRequest request = resolverContext.aggregatedRequest();
-                if (request == null) {
-                    throw new IllegalArgumentException(
-                            "Cannot convert this request to an object because it is not aggregated.");
+            return new RequestObjectResolver() {
+                @Nullable
+                @Override
+                public Object convert(ResolverContext resolverContext, Class<?> expectedResultType,
+                                      @Nullable ParameterizedType expectedParameterizedResultType,
+                                      @Nullable BeanFactoryId beanFactoryId) throws Throwable {
+                    final AggregatedHttpRequest request = resolverContext.aggregatedRequest();
+                    if (request == null) {
+                        throw new IllegalArgumentException(
+                                "Cannot convert this request to an object because it is not aggregated.");
+                    }
+                    return function.convertRequest(resolverContext.context(), request,
+                                                   expectedResultType, expectedParameterizedResultType);
+                }
+
+                @Override
+                public RequestConverterFunction converterFunction() {
+                    return function;
                 }
-                return function.convertRequest(resolverContext.context(), request,
-                                               expectedResultType, expectedParameterizedResultType);
             };
         }
 
@@ -1763,6 +1915,15 @@ final class AnnotatedValueResolver {
         Object convert(ResolverContext resolverContext, Class<?> expectedResultType,
                        @Nullable ParameterizedType expectedParameterizedResultType,
                        @Nullable BeanFactoryId beanFactoryId) throws Throwable;
+
+        /**
+         * Returns the {@link RequestConverterFunction} that this resolver delegates to, or {@code null} if
+         * this resolver is not backed by a {@link RequestConverterFunction}.
+         */
+        @Nullable
+        default RequestConverterFunction converterFunction() {
+            return null;
+        }
     }
 
     /**
@@ -94,6 +94,8 @@ final class DefaultAnnotatedService implements AnnotatedService {
     private final int overloadId;
     private final MethodHandle methodHandle;
     @Nullable
+    private final AnnotatedMethodInvoker generatedInvoker;
+    @Nullable
     private final MethodHandle callKotlinSuspendingMethod;
     private final boolean isKotlinSuspendingMethod;
     private final List<AnnotatedValueResolver> resolvers;
@@ -181,6 +183,8 @@ final class DefaultAnnotatedService implements AnnotatedService {
         this.method.setAccessible(true);
         // following must be called only after method.setAccessible(true)
         methodHandle = asMethodHandle(method, object);
+        // Prefer the invoker generated by MethodInvokerProcessor, which calls the method directly.
+        generatedInvoker = isKotlinSuspendingMethod ? null : GeneratedMethodInvokers.find(method);
 
         ServiceOption serviceOption = AnnotationUtil.findFirst(method, ServiceOption.class);
         if (serviceOption == null) {
@@ -416,6 +420,8 @@ final class DefaultAnnotatedService implements AnnotatedService {
                         method, object, arguments,
                         executor,
                         ctx);
+            } else if (generatedInvoker != null) {
+                return generatedInvoker.invoke(object, arguments);
             } else {
                 return methodHandle.invoke(arguments);
             }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.server.annotation;
+
+import java.lang.reflect.Method;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+/**
+ * Helper class for the {@link AnnotatedMethodInvoker}s generated by {@code MethodInvokerProcessor}.
+ */
+public final class GeneratedMethodInvokers {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneratedMethodInvokers.class);
+
+    private static final AnnotatedMethodInvoker.Provider NOOP_PROVIDER = new AnnotatedMethodInvoker.Provider() {
+        @Override
+        public Class<?> targetClass() {
+            return Object.class;
+        }
+
+        @Nullable
+        @Override
+        public AnnotatedMethodInvoker find(Method method) {
+            return null;
+        }
+    };
+
+    private static final ClassValue<AnnotatedMethodInvoker.Provider> providers =
+            new ClassValue<AnnotatedMethodInvoker.Provider>() {
+                @Override
+                protected AnnotatedMethodInvoker.Provider computeValue(Class<?> type) {
+                    return loadProvider(type);
+                }
+            };
+
+    /**
+     * Returns the name of the {@link AnnotatedMethodInvoker.Provider} class generated for the class with
+     * the specified binary name, e.g. {@code com.example.Outer$Inner$$ArmeriaMethodInvokers} for
+     * {@code com.example.Outer$Inner}. The binary name is kept as it is, so that two different classes
+     * never share the same provider.
+     */
+    public static String getProviderClassName(String binaryName) {
+        return binaryName + "$$ArmeriaMethodInvokers";
+    }
+
+    /**
+     * Returns the generated {@link AnnotatedMethodInvoker} of the specified {@link Method}, or {@code null}
+     * if the declaring class of the {@link Method} was not compiled with {@code MethodInvokerProcessor}.
+     */
+    @Nullable
+    static AnnotatedMethodInvoker find(Method method) {
+        return providers.get(method.getDeclaringClass()).find(method);
+    }
+
+    private static AnnotatedMethodInvoker.Provider loadProvider(Class<?> type) {
+        final String providerClassName = getProviderClassName(type.getName());
+        final Class<?> providerClass;
+        try {
+            providerClass = Class.forName(providerClassName, true, type.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return NOOP_PROVIDER;
+        }
+
+        final AnnotatedMethodInvoker.Provider provider;
+        try {
+            provider = (AnnotatedMethodInvoker.Provider) providerClass.getDeclaredConstructor().newInstance();
+        } catch (Throwable cause) {
+            logger.warn("Failed to load the generated method invokers for {}; falling back to reflection",
+                        type.getName(), cause);
+            return NOOP_PROVIDER;
+        }
+
+        if (provider.targetClass() != type) {
+            logger.warn("{} is not generated for {} but for {}; falling back to reflection",
+                        providerClassName, type.getName(), provider.targetClass().getName());
+            return NOOP_PROVIDER;
+        }
+        return provider;
+    }
+
+    private GeneratedMethodInvokers() {}
+}
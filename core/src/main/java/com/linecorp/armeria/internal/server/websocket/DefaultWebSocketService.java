@@ -46,8 +46,13 @@ import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.stream.ClosedStreamException;
 import com.linecorp.armeria.common.stream.StreamMessage;
 import com.linecorp.armeria.common.util.TimeoutMode;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
 import com.linecorp.armeria.common.websocket.WebSocket;
+import com.linecorp.armeria.common.websocket.WebSocketFrame;
+import com.linecorp.armeria.internal.common.websocket.PerMessageDeflate;
+import com.linecorp.armeria.internal.common.websocket.WebSocketFrameDeflater;
 import com.linecorp.armeria.internal.common.websocket.WebSocketFrameEncoder;
+import com.linecorp.armeria.internal.common.websocket.WebSocketFrameInflater;
 import com.linecorp.armeria.internal.common.websocket.WebSocketWrapper;
 import com.linecorp.armeria.server.HttpService;
 import com.linecorp.armeria.server.ServiceConfig;
@@ -76,6 +81,9 @@ public final class DefaultWebSocketService implements WebSocketService, WebSocke
     private static final AttributeKey<WebSocketServiceFrameDecoder> DECODER =
             AttributeKey.valueOf(DefaultWebSocketService.class, "DECODER");
 
+    private static final AttributeKey<PerMessageDeflate> PER_MESSAGE_DEFLATE =
+            AttributeKey.valueOf(DefaultWebSocketService.class, "PER_MESSAGE_DEFLATE");
+
     private static final String SUB_PROTOCOL_WILDCARD = "*";
 
     private static final ResponseHeaders UNSUPPORTED_WEB_SOCKET_VERSION =
@@ -99,13 +107,17 @@ public final class DefaultWebSocketService implements WebSocketService, WebSocke
     @Nullable
     private final Predicate<? super String> originPredicate;
     private final boolean aggregateContinuation;
+    @Nullable
+    private final PerMessageDeflateConfig perMessageDeflateConfig;
     private final ServiceOptions serviceOptions;
 
     public DefaultWebSocketService(WebSocketServiceHandler handler, @Nullable HttpService fallbackService,
                                    int maxFramePayloadLength, boolean allowMaskMismatch,
                                    Set<String> subprotocols, boolean allowAnyOrigin,
                                    @Nullable Predicate<? super String> originPredicate,
-                                   boolean aggregateContinuation, ServiceOptions serviceOptions) {
+                                   boolean aggregateContinuation,
+                                   @Nullable PerMessageDeflateConfig perMessageDeflateConfig,
+                                   ServiceOptions serviceOptions) {
         this.handler = handler;
         this.fallbackService = fallbackService;
         this.maxFramePayloadLength = maxFramePayloadLength;
@@ -114,6 +126,7 @@ public final class DefaultWebSocketService implements WebSocketService, WebSocke
         this.allowAnyOrigin = allowAnyOrigin;
         this.originPredicate = originPredicate;
         this.aggregateContinuation = aggregateContinuation;
+        this.perMessageDeflateConfig = perMessageDeflateConfig;
         this.serviceOptions = serviceOptions;
     }
 
@@ -377,9 +390,18 @@ public final class DefaultWebSocketService implements WebSocketService, WebSocke
 
     @Override
     public WebSocket decode(ServiceRequestContext ctx, HttpRequest req) {
+        WebSocketFrameInflater inflater = null;
+        if (perMessageDeflateConfig != null) {
+            final PerMessageDeflate perMessageDeflate =
+                    PerMessageDeflate.negotiate(req.headers(), perMessageDeflateConfig);
+            if (perMessageDeflate != null) {
+                ctx.setAttr(PER_MESSAGE_DEFLATE, perMessageDeflate);
+                inflater = perMessageDeflate.newInflater(ctx.alloc(), true);
+            }
+        }
         final WebSocketServiceFrameDecoder decoder =
                 new WebSocketServiceFrameDecoder(ctx, maxFramePayloadLength, allowMaskMismatch,
-                                                 aggregateContinuation);
+                                                 aggregateContinuation, inflater);
         ctx.setAttr(DECODER, decoder);
         return new WebSocketWrapper(req.decode(decoder, ctx.alloc()));
     }
@@ -406,15 +428,29 @@ public final class DefaultWebSocketService implements WebSocketService, WebSocke
         final WebSocketServiceFrameDecoder decoder = ctx.attr(DECODER);
         assert decoder != null;
         decoder.setOutboundWebSocket(out);
-        final StreamMessage<HttpData> data =
+        final StreamMessage<WebSocketFrame> frames =
                 out.recoverAndResume(cause -> {
-                       if (cause instanceof ClosedStreamException) {
-                           return StreamMessage.aborted(cause);
-                       }
-                       ctx.logBuilder().responseCause(cause);
-                       return StreamMessage.of(newCloseWebSocketFrame(cause));
-                   })
-                   .map(frame -> HttpData.wrap(encoder.encode(ctx, frame)));
+                    if (cause instanceof ClosedStreamException) {
+                        return StreamMessage.aborted(cause);
+                    }
+                    ctx.logBuilder().responseCause(cause);
+                    return StreamMessage.of(newCloseWebSocketFrame(cause));
+                });
+
+        final PerMessageDeflate perMessageDeflate = ctx.attr(PER_MESSAGE_DEFLATE);
+        final StreamMessage<HttpData> data;
+        if (perMessageDeflate != null) {
+            responseHeadersBuilder.add(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS,
+                                       perMessageDeflate.responseExtension());
+            final WebSocketFrameDeflater deflater = perMessageDeflate.newDeflater(encoder, true);
+            data = frames.map(frame -> HttpData.wrap(deflater.encode(ctx, frame)));
+            data.whenComplete().handle((unused, cause) -> {
+                ctx.eventLoop().execute(deflater::close);
+                return null;
+            });
+        } else {
+            data = frames.map(frame -> HttpData.wrap(encoder.encode(ctx, frame)));
+        }
         return HttpResponse.of(responseHeadersBuilder.build(), data);
     }
 
@@ -22,6 +22,7 @@ import static com.linecorp.armeria.server.AccessLogWriterUtil.maybeWriteAccessLo
 
 import java.nio.channels.ClosedChannelException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -52,6 +53,7 @@ import com.linecorp.armeria.unsafe.PooledObjects;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
 import io.netty.handler.codec.http2.Http2Error;
 
 abstract class AbstractHttpResponseSubscriber extends AbstractHttpResponseHandler
@@ -81,10 +83,20 @@ abstract class AbstractHttpResponseSubscriber extends AbstractHttpResponseHandle
     @Nullable
     private WriteDataFutureListener cachedWriteDataListener;
 
+    private final int maxWriteBatchSize;
+    private final long flushDelayMicros;
+    private int unflushedWrites;
+    private boolean flushScheduled;
+    @Nullable
+    private Runnable flushTask;
+
     AbstractHttpResponseSubscriber(ChannelHandlerContext ctx, ServerHttpObjectEncoder responseEncoder,
                                    DefaultServiceRequestContext reqCtx, DecodedHttpRequest req,
                                    CompletableFuture<Void> completionFuture) {
         super(ctx, responseEncoder, reqCtx, req, completionFuture);
+        final ServerConfig config = reqCtx.config().server().config();
+        maxWriteBatchSize = config.maxResponseWriteBatchSize();
+        flushDelayMicros = config.responseFlushDelayMicros();
     }
 
     @Override
@@ -101,8 +113,9 @@ abstract class AbstractHttpResponseSubscriber extends AbstractHttpResponseHandle
 
         scheduleTimeout();
 
-        // Start consuming.
-        subscription.request(1);
+        // Start consuming. A request for another object is made whenever a write is completed,
+        // so there are at most 'maxWriteBatchSize' objects being written.
+        subscription.request(maxWriteBatchSize);
     }
 
     @SuppressWarnings("checkstyle:FallThrough")
@@ -224,6 +237,42 @@ abstract class AbstractHttpResponseSubscriber extends AbstractHttpResponseHandle
                 return;
         }
 
+        if (maxWriteBatchSize == 1 || state == State.DONE) {
+            flush();
+        } else {
+            flushLater();
+        }
+    }
+
+    private void flushLater() {
+        if (++unflushedWrites >= maxWriteBatchSize) {
+            flush();
+            return;
+        }
+        if (flushScheduled) {
+            return;
+        }
+
+        flushScheduled = true;
+        if (flushTask == null) {
+            flushTask = () -> {
+                flushScheduled = false;
+                if (unflushedWrites > 0) {
+                    flush();
+                }
+            };
+        }
+        final EventLoop eventLoop = ctx.channel().eventLoop();
+        if (flushDelayMicros == 0) {
+            // Flush the writes made during the current event loop task together.
+            eventLoop.execute(flushTask);
+        } else {
+            eventLoop.schedule(flushTask, flushDelayMicros, TimeUnit.MICROSECONDS);
+        }
+    }
+
+    private void flush() {
+        unflushedWrites = 0;
         ctx.flush();
     }
 
@@ -252,6 +252,13 @@ final class DefaultRoute implements Route {
         return pathMapping.paths();
     }
 
+    /**
+     * Returns the {@linkplain PathMapping#literalPrefix() literal prefix} of the {@link PathMapping}.
+     */
+    String literalPrefix() {
+        return pathMapping.literalPrefix();
+    }
+
     @Override
     public int complexity() {
         return complexity;
@@ -30,6 +30,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -43,6 +44,7 @@ import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.util.BlockingTaskExecutor;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
@@ -87,6 +89,10 @@ final class DefaultServerConfig implements ServerConfig {
     private final long http2MaxHeaderListSize;
     private final int http2MaxResetFramesPerWindow;
     private final int http2MaxResetFramesWindowSeconds;
+    private final int http2MaxAutoTunedWindowSize;
+    private final boolean useClientTimeoutHeader;
+    private final int maxResponseWriteBatchSize;
+    private final long responseFlushDelayMicros;
     private final int http1MaxInitialLineLength;
     private final int http1MaxHeaderSize;
     private final int http1MaxChunkSize;
@@ -133,6 +139,8 @@ final class DefaultServerConfig implements ServerConfig {
             int http2InitialConnectionWindowSize, int http2InitialStreamWindowSize,
             long http2MaxStreamsPerConnection, int http2MaxFrameSize, long http2MaxHeaderListSize,
             int http2MaxResetFramesPerWindow, int http2MaxResetFramesWindowSeconds,
+            int http2MaxAutoTunedWindowSize, boolean useClientTimeoutHeader,
+            int maxResponseWriteBatchSize, long responseFlushDelayMicros,
             int http1MaxInitialLineLength, int http1MaxHeaderSize,
             int http1MaxChunkSize, GracefulShutdown gracefulShutdown,
             BlockingTaskExecutor blockingTaskExecutor,
@@ -176,6 +184,10 @@ final class DefaultServerConfig implements ServerConfig {
         this.http2MaxHeaderListSize = http2MaxHeaderListSize;
         this.http2MaxResetFramesPerWindow = http2MaxResetFramesPerWindow;
         this.http2MaxResetFramesWindowSeconds = http2MaxResetFramesWindowSeconds;
+        this.http2MaxAutoTunedWindowSize = http2MaxAutoTunedWindowSize;
+        this.useClientTimeoutHeader = useClientTimeoutHeader;
+        this.maxResponseWriteBatchSize = maxResponseWriteBatchSize;
+        this.responseFlushDelayMicros = responseFlushDelayMicros;
         this.http1MaxInitialLineLength = validateNonNegative(
                 http1MaxInitialLineLength, "http1MaxInitialLineLength");
         this.http1MaxHeaderSize = validateNonNegative(
@@ -321,8 +333,14 @@ final class DefaultServerConfig implements ServerConfig {
 
     private static BlockingTaskExecutor monitorBlockingTaskExecutor(BlockingTaskExecutor executor,
                                                                     MeterRegistry meterRegistry) {
+        final ScheduledExecutorService unwrapped = executor.unwrap();
+        if (unwrapped instanceof MeterBinder) {
+            // e.g. a virtual thread executor which ExecutorServiceMetrics does not understand.
+            ((MeterBinder) unwrapped).bindTo(meterRegistry);
+            return executor;
+        }
         new ExecutorServiceMetrics(
-                executor.unwrap(),
+                unwrapped,
                 "blockingTaskExecutor", "armeria", ImmutableList.of())
                 .bindTo(meterRegistry);
         return executor;
@@ -570,6 +588,26 @@ final class DefaultServerConfig implements ServerConfig {
         return http2MaxResetFramesWindowSeconds;
     }
 
+    @Override
+    public int http2MaxAutoTunedWindowSize() {
+        return http2MaxAutoTunedWindowSize;
+    }
+
+    @Override
+    public boolean useClientTimeoutHeader() {
+        return useClientTimeoutHeader;
+    }
+
+    @Override
+    public int maxResponseWriteBatchSize() {
+        return maxResponseWriteBatchSize;
+    }
+
+    @Override
+    public long responseFlushDelayMicros() {
+        return responseFlushDelayMicros;
+    }
+
     @Override
     public Duration gracefulShutdownQuietPeriod() {
         return gracefulShutdown.quietPeriod();
@@ -42,6 +42,7 @@ final class GlobPathMapping extends AbstractPathMapping {
     private final String pathPattern;
     private final String strVal;
     private final List<String> paths;
+    private final String literalPrefix;
 
     GlobPathMapping(String glob, int numGroupsToSkip) {
         this("", glob, numGroupsToSkip);
@@ -69,6 +70,8 @@ final class GlobPathMapping extends AbstractPathMapping {
         final String aGlob = glob.startsWith("/") ? glob : "/**/" + glob;
         pathPattern = aGlob;
         paths = ImmutableList.of(pattern.pattern(), aGlob);
+        final int firstAsterisk = aGlob.indexOf('*');
+        literalPrefix = firstAsterisk >= 0 ? aGlob.substring(0, firstAsterisk) : aGlob;
     }
 
     @Override
@@ -123,6 +126,11 @@ final class GlobPathMapping extends AbstractPathMapping {
         return paths;
     }
 
+    @Override
+    public String literalPrefix() {
+        return literalPrefix;
+    }
+
     @Override
     public int hashCode() {
         return glob.hashCode();
@@ -38,6 +38,7 @@ import com.linecorp.armeria.common.SessionProtocol;
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.stream.ClosedStreamException;
 import com.linecorp.armeria.internal.common.ArmeriaHttpUtil;
+import com.linecorp.armeria.internal.common.Http2FlowControlAutoTuner;
 import com.linecorp.armeria.internal.common.Http2GoAwayHandler;
 import com.linecorp.armeria.internal.common.InboundTrafficController;
 import com.linecorp.armeria.internal.common.KeepAliveHandler;
@@ -71,18 +72,22 @@ final class Http2RequestDecoder extends Http2EventAdapter {
 
     private final InboundTrafficController inboundTrafficController;
     private final KeepAliveHandler keepAliveHandler;
+    @Nullable
+    private final Http2FlowControlAutoTuner flowControlAutoTuner;
     private final Http2GoAwayHandler goAwayHandler;
     private final IntObjectMap<@Nullable DecodedHttpRequest> requests = new IntObjectHashMap<>();
     private int nextId;
 
     Http2RequestDecoder(ServerConfig cfg, Channel channel,
-                        AsciiString scheme, KeepAliveHandler keepAliveHandler) {
+                        AsciiString scheme, KeepAliveHandler keepAliveHandler,
+                        @Nullable Http2FlowControlAutoTuner flowControlAutoTuner) {
         this.cfg = cfg;
         this.channel = channel;
         this.scheme = scheme;
         inboundTrafficController =
                 InboundTrafficController.ofHttp2(channel, cfg.http2InitialConnectionWindowSize());
         this.keepAliveHandler = keepAliveHandler;
+        this.flowControlAutoTuner = flowControlAutoTuner;
         goAwayHandler = new Http2GoAwayHandler();
     }
 
@@ -281,6 +286,9 @@ final class Http2RequestDecoder extends Http2EventAdapter {
         keepAliveChannelRead(false);
 
         final int dataLength = data.readableBytes();
+        if (flowControlAutoTuner != null) {
+            flowControlAutoTuner.onDataRead(ctx, dataLength + padding);
+        }
         final DecodedHttpRequest req = requests.get(streamId);
         final boolean logInvalidStream;
         if (req == null) {
@@ -418,6 +426,9 @@ final class Http2RequestDecoder extends Http2EventAdapter {
 
     @Override
     public void onPingAckRead(final ChannelHandlerContext ctx, final long data) {
+        if (flowControlAutoTuner != null && flowControlAutoTuner.onPingAck(ctx, data)) {
+            return;
+        }
         if (keepAliveHandler.isHttp2()) {
             keepAliveHandler.onPingAck(data);
         }
@@ -18,13 +18,18 @@ package com.linecorp.armeria.server;
 
 import static com.linecorp.armeria.internal.common.KeepAliveHandlerUtil.needsKeepAliveHandler;
 
+import com.google.common.collect.ImmutableList;
+
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.metric.MoreMeters;
 import com.linecorp.armeria.internal.common.AbstractHttp2ConnectionHandler;
 import com.linecorp.armeria.internal.common.GracefulConnectionShutdownHandler;
+import com.linecorp.armeria.internal.common.Http2FlowControlAutoTuner;
 import com.linecorp.armeria.internal.common.InitiateConnectionShutdown;
 import com.linecorp.armeria.internal.common.KeepAliveHandler;
 import com.linecorp.armeria.internal.common.NoopKeepAliveHandler;
 
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
@@ -57,7 +62,8 @@ final class Http2ServerConnectionHandler extends AbstractHttp2ConnectionHandler
         gracefulConnectionShutdownHandler = new Http2GracefulConnectionShutdownHandler(
                 cfg.connectionDrainDurationMicros());
 
-        requestDecoder = new Http2RequestDecoder(cfg, channel, scheme, keepAliveHandler());
+        requestDecoder = new Http2RequestDecoder(cfg, channel, scheme, keepAliveHandler(),
+                                                 newFlowControlAutoTuner(encoder, cfg, scheme));
         connection().addListener(requestDecoder);
         decoder().frameListener(requestDecoder);
     }
@@ -82,6 +88,20 @@ final class Http2ServerConnectionHandler extends AbstractHttp2ConnectionHandler
                 pingIntervalMillis, maxConnectionAgeMillis, maxNumRequestsPerConnection, keepAliveOnPing);
     }
 
+    @Nullable
+    private Http2FlowControlAutoTuner newFlowControlAutoTuner(
+            Http2ConnectionEncoder encoder, ServerConfig cfg, AsciiString scheme) {
+        final int maxWindowSize = cfg.http2MaxAutoTunedWindowSize();
+        if (maxWindowSize == 0) {
+            return null;
+        }
+        return new Http2FlowControlAutoTuner(
+                connection(), encoder.frameWriter(), maxWindowSize,
+                MoreMeters.newDistributionSummary(cfg.meterRegistry(),
+                                                  "armeria.server.connections.http2.window.size",
+                                                  ImmutableList.of(Tag.of("scheme", scheme.toString()))));
+    }
+
     ServerHttp2ObjectEncoder getOrCreateResponseEncoder(ChannelHandlerContext connectionHandlerCtx) {
         if (responseEncoder == null) {
             assert connectionHandlerCtx.handler() == this;
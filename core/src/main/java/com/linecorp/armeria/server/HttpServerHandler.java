@@ -66,9 +66,11 @@ import com.linecorp.armeria.common.stream.SubscriptionOption;
 import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.common.util.SafeCloseable;
 import com.linecorp.armeria.common.util.SystemInfo;
+import com.linecorp.armeria.common.util.TimeoutMode;
 import com.linecorp.armeria.internal.common.AbstractHttp2ConnectionHandler;
 import com.linecorp.armeria.internal.common.Http1ObjectEncoder;
 import com.linecorp.armeria.internal.common.RequestContextUtil;
+import com.linecorp.armeria.internal.common.RequestDeadlineUtil;
 import com.linecorp.armeria.internal.common.RequestTargetCache;
 import com.linecorp.armeria.internal.common.util.ChannelUtil;
 import com.linecorp.armeria.internal.server.DefaultServiceRequestContext;
@@ -432,7 +434,6 @@ final class HttpServerHandler extends ChannelInboundHandlerAdapter implements Ht
         // Decode the request and create a new invocation context from it to perform an invocation.
         final RoutingResult routingResult = routed.routingResult();
         final ServiceConfig serviceCfg = routed.value();
-        final HttpService service = serviceCfg.service();
         final EventLoop serviceEventLoop;
         final EventLoopGroup serviceWorkerGroup = serviceCfg.serviceWorkerGroup();
         if (serviceWorkerGroup == config.workerGroup()) {
@@ -446,8 +447,15 @@ final class HttpServerHandler extends ChannelInboundHandlerAdapter implements Ht
                 req, sslSession, proxiedAddresses, clientAddress, remoteAddress, localAddress,
                 req.requestStartTimeNanos(), req.requestStartTimeMicros(), serviceCfg.contextHook());
 
+        final HttpService service = serviceCfg.service();
         HttpResponse res;
         req.init(reqCtx);
+        if (config.useClientTimeoutHeader() && !applyClientTimeout(reqCtx, req.headers())) {
+            // The client has given up on the request already. Time out the request before serving it,
+            // so that it fails through the decorators in the same way as a usual request timeout.
+            // See ServerBuilder.useClientTimeoutHeader(boolean).
+            reqCtx.timeoutNow();
+        }
         final CompletableFuture<Void> whenAggregated = req.whenAggregated();
         if (whenAggregated != null) {
             res = HttpResponse.of(whenAggregated.thenApply(ignored -> {
@@ -520,6 +528,33 @@ final class HttpServerHandler extends ChannelInboundHandlerAdapter implements Ht
         }
     }
 
+    /**
+     * Shortens the request timeout to the {@code "armeria-request-timeout"} header.
+     * Returns {@code false} if the header says that the client has given up on the request.
+     */
+    private static boolean applyClientTimeout(DefaultServiceRequestContext reqCtx, RequestHeaders headers) {
+        final String value = headers.get(RequestDeadlineUtil.ARMERIA_REQUEST_TIMEOUT);
+        if (value == null) {
+            return true;
+        }
+        final long timeoutMillis;
+        try {
+            timeoutMillis = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            logger.debug("{} Ignoring a malformed {} header: {}",
+                         reqCtx, RequestDeadlineUtil.ARMERIA_REQUEST_TIMEOUT, value);
+            return true;
+        }
+        if (timeoutMillis <= 0) {
+            return false;
+        }
+        final long requestTimeoutMillis = reqCtx.requestTimeoutMillis();
+        if (requestTimeoutMillis == 0 || timeoutMillis < requestTimeoutMillis) {
+            reqCtx.setRequestTimeoutMillis(TimeoutMode.SET_FROM_START, timeoutMillis);
+        }
+        return true;
+    }
+
     private void decreasePendingRequests() {
         if (protocol.isExplicitHttp1()) {
             config.serverMetrics().decreasePendingHttp1Requests();
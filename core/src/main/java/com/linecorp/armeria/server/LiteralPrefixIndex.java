@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.chars.Char2ObjectMap;
+import it.unimi.dsi.fastutil.chars.Char2ObjectOpenHashMap;
+
+/**
+ * A character trie of the {@linkplain PathMapping#literalPrefix() literal prefixes} of {@link Route}s.
+ * It finds all {@link Route}s whose literal prefix is a prefix of a path in a single pass over the path,
+ * so that a router evaluates the regular expressions of only the {@link Route}s which may match the path.
+ */
+final class LiteralPrefixIndex {
+
+    private static final int[] EMPTY_INDICES = new int[0];
+
+    /**
+     * Returns a new {@link LiteralPrefixIndex} of the specified {@link Route}s, or {@code null} if none of
+     * the {@link Route}s has a literal prefix longer than {@code "/"}, which every path starts with.
+     */
+    @Nullable
+    static LiteralPrefixIndex of(List<Route> routes) {
+        requireNonNull(routes, "routes");
+        final Node root = new Node();
+        boolean hasLiteralPrefix = false;
+        for (int i = 0; i < routes.size(); i++) {
+            final String prefix = literalPrefix(routes.get(i));
+            if (prefix.length() > 1) {
+                hasLiteralPrefix = true;
+            }
+
+            Node node = root;
+            for (int j = 0; j < prefix.length(); j++) {
+                final char c = prefix.charAt(j);
+                Node child = node.children.get(c);
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(c, child);
+                }
+                node = child;
+            }
+            node.addRouteIndex(i);
+        }
+        return hasLiteralPrefix ? new LiteralPrefixIndex(root, routes.size()) : null;
+    }
+
+    private static String literalPrefix(Route route) {
+        if (route instanceof DefaultRoute) {
+            return ((DefaultRoute) route).literalPrefix();
+        }
+        return "";
+    }
+
+    private final Node root;
+    private final int numRoutes;
+
+    private LiteralPrefixIndex(Node root, int numRoutes) {
+        this.root = root;
+        this.numRoutes = numRoutes;
+    }
+
+    /**
+     * Returns the indices of the {@link Route}s whose literal prefix is a prefix of the specified
+     * {@code path}.
+     */
+    BitSet find(String path) {
+        final BitSet candidates = new BitSet(numRoutes);
+        Node node = root;
+        node.addTo(candidates);
+        for (int i = 0; i < path.length(); i++) {
+            node = node.children.get(path.charAt(i));
+            if (node == null) {
+                break;
+            }
+            node.addTo(candidates);
+        }
+        return candidates;
+    }
+
+    private static final class Node {
+        final Char2ObjectMap<Node> children = new Char2ObjectOpenHashMap<>();
+        int[] routeIndices = EMPTY_INDICES;
+
+        void addRouteIndex(int index) {
+            routeIndices = Arrays.copyOf(routeIndices, routeIndices.length + 1);
+            routeIndices[routeIndices.length - 1] = index;
+        }
+
+        void addTo(BitSet candidates) {
+            for (int index : routeIndices) {
+                candidates.set(index);
+            }
+        }
+    }
+}
@@ -39,7 +39,7 @@ import com.linecorp.armeria.common.annotation.Nullable;
 /**
  * The default {@link PathMapping} implementation. It holds three things:
  * <ul>
- *   <li>The regex-compiled form of the path. It is used for matching and extracting.</li>
+ *   <li>The segments of the path. They are used for matching and extracting.</li>
  *   <li>The skeleton of the path. It is used for duplication detecting.</li>
  *   <li>A set of path parameters declared in the path pattern</li>
  * </ul>
@@ -61,6 +61,14 @@ final class ParameterizedPathMapping extends AbstractPathMapping {
 
     private static final String[] EMPTY_NAMES = new String[0];
 
+    private static final int[] EMPTY_OFFSETS = new int[0];
+
+    // The types of the segments.
+    private static final byte LITERAL = 0;
+    private static final byte PARAMETER = 1;
+    private static final byte BACK_REFERENCE = 2;
+    private static final byte CAPTURE_REST = 3;
+
     private static final Splitter PATH_SPLITTER = Splitter.on('/');
 
     private final String prefix;
@@ -73,11 +81,28 @@ final class ParameterizedPathMapping extends AbstractPathMapping {
     private final String normalizedPathPattern;
 
     /**
-     * Regex form of given path, which will be used for matching or extracting.
+     * The types of the segments of the given path, which will be used for matching or extracting.
+     * A path is matched without a regular expression so that no {@link Matcher} is created for each request.
      *
-     * <p>e.g. "/{x}/{y}/{x}" -> "/(?&lt;x&gt;[^/]+)/(?&lt;y&gt;[^/]+)/(\\k&lt;x&gt;)"
+     * <p>e.g. "/{x}/{y}/{x}" -> [ PARAMETER, PARAMETER, BACK_REFERENCE ]
+     */
+    private final byte[] segmentTypes;
+
+    /**
+     * The literal of each segment whose type is {@link #LITERAL}, or {@code null}.
+     */
+    private final String[] segmentLiterals;
+
+    /**
+     * The index of the path parameter of each segment whose type is not {@link #LITERAL}, or {@code -1}.
+     */
+    private final int[] segmentParamIndices;
+
+    /**
+     * Whether the path pattern has a path parameter that appears more than once, such as "/{x}/{x}".
+     * The offsets of the path parameters have to be kept while matching only in this case.
      */
-    private final Pattern pattern;
+    private final boolean hasBackReferences;
 
     /**
      * Skeletal form of given path, which is used for duplicated routing rule detection.
@@ -135,12 +160,22 @@ final class ParameterizedPathMapping extends AbstractPathMapping {
                     "pathPattern: " + pathPattern + " (invalid capture rest pattern)");
         }
 
-        final StringJoiner patternJoiner = new StringJoiner("/");
+        final List<String> tokens = PATH_SPLITTER.splitToList(pathPattern);
+        // The first token is always empty because the path pattern starts with '/'.
+        final int numSegments = tokens.size() - 1;
+        final byte[] segmentTypes = new byte[numSegments];
+        final String[] segmentLiterals = new String[numSegments];
+        final int[] segmentParamIndices = new int[numSegments];
+
         final StringJoiner normalizedPatternJoiner = new StringJoiner("/");
         final StringJoiner skeletonJoiner = new StringJoiner("/");
 
         final List<String> paramNames = new ArrayList<>();
-        for (String token : PATH_SPLITTER.split(pathPattern)) {
+        boolean hasBackReferences = false;
+        normalizedPatternJoiner.add("");
+        skeletonJoiner.add("");
+        for (int i = 0; i < numSegments; i++) {
+            String token = tokens.get(i + 1);
             final String paramName = paramName(token);
             if (paramName == null) {
                 // If the token escapes the first colon, then clean it. We don't need to handle '{'
@@ -149,7 +184,9 @@ final class ParameterizedPathMapping extends AbstractPathMapping {
                     token = token.substring(1);
                 }
 
-                patternJoiner.add(token);
+                segmentTypes[i] = LITERAL;
+                segmentLiterals[i] = token;
+                segmentParamIndices[i] = -1;
                 normalizedPatternJoiner.add(token);
                 skeletonJoiner.add(token);
                 continue;
@@ -158,17 +195,15 @@ final class ParameterizedPathMapping extends AbstractPathMapping {
             final int paramNameIdx = paramNames.indexOf(paramName);
             if (paramNameIdx < 0) {
                 // If the given token appeared first time, add it to the set and
-                // replace it with a capturing group expression in regex.
+                // capture the segment, or the rest of the path.
+                segmentTypes[i] = captureRestPathMatching ? CAPTURE_REST : PARAMETER;
+                segmentParamIndices[i] = paramNames.size();
                 paramNames.add(paramName);
-                if (captureRestPathMatching) {
-                    patternJoiner.add("(.*)");
-                } else {
-                    patternJoiner.add("([^/]+)");
-                }
             } else {
-                // If the given token appeared before, replace it with a back-reference expression
-                // in regex.
-                patternJoiner.add("\\" + (paramNameIdx + 1));
+                // If the given token appeared before, the segment must be the same as the captured one.
+                segmentTypes[i] = BACK_REFERENCE;
+                segmentParamIndices[i] = paramNameIdx;
+                hasBackReferences = true;
             }
 
             normalizedPatternJoiner.add((captureRestPathMatching ? ":*" : ':') + paramName);
@@ -176,7 +211,10 @@ final class ParameterizedPathMapping extends AbstractPathMapping {
         }
 
         this.pathPattern = pathPattern;
-        pattern = Pattern.compile(patternJoiner.toString());
+        this.segmentTypes = segmentTypes;
+        this.segmentLiterals = segmentLiterals;
+        this.segmentParamIndices = segmentParamIndices;
+        this.hasBackReferences = hasBackReferences;
         normalizedPathPattern = normalizedPatternJoiner.toString();
         skeleton = skeletonJoiner.toString();
         paths = ImmutableList.of(skeleton, skeleton);
@@ -271,21 +309,87 @@ final class ParameterizedPathMapping extends AbstractPathMapping {
     @Nullable
     @Override
     RoutingResultBuilder doApply(RoutingContext routingCtx) {
-        final Matcher matcher = pattern.matcher(routingCtx.path());
-        if (!matcher.matches()) {
+        final String path = routingCtx.path();
+        // Check the path first so that nothing is allocated for a path that does not match.
+        if (!match(path, null)) {
             return null;
         }
 
         final RoutingResultBuilder builder = RoutingResult.builderWithExpectedNumParams(paramNameArray.length)
-                                                          .path(mappedPath(prefix, routingCtx.path()))
+                                                          .path(mappedPath(prefix, path))
                                                           .query(routingCtx.query());
-
-        for (int i = 0; i < paramNameArray.length; i++) {
-            builder.rawParam(paramNameArray[i], matcher.group(i + 1));
+        if (paramNameArray.length > 0) {
+            // The path matches, so walk it again to add the path parameters to the result.
+            match(path, builder);
         }
         return builder;
     }
 
+    /**
+     * Matches the specified {@code path} against the segments. If {@code builder} is not {@code null},
+     * the values of the path parameters are added to it while matching.
+     *
+     * @return whether the {@code path} matches
+     */
+    private boolean match(String path, @Nullable RoutingResultBuilder builder) {
+        // The begin and end offsets of the path parameters, which are needed only to check back references.
+        final int[] paramOffsets = hasBackReferences ? new int[paramNameArray.length * 2] : EMPTY_OFFSETS;
+        final int length = path.length();
+        int pos = 0;
+        for (int i = 0; i < segmentTypes.length; i++) {
+            if (pos == length || path.charAt(pos) != '/') {
+                return false;
+            }
+            pos++;
+
+            final int paramIndex = segmentParamIndices[i];
+            switch (segmentTypes[i]) {
+                case LITERAL:
+                    final String literal = segmentLiterals[i];
+                    if (!path.startsWith(literal, pos)) {
+                        return false;
+                    }
+                    pos += literal.length();
+                    break;
+                case PARAMETER:
+                    int end = path.indexOf('/', pos);
+                    if (end < 0) {
+                        end = length;
+                    }
+                    if (end == pos) {
+                        // A path parameter must not be empty.
+                        return false;
+                    }
+                    if (hasBackReferences) {
+                        paramOffsets[paramIndex * 2] = pos;
+                        paramOffsets[paramIndex * 2 + 1] = end;
+                    }
+                    if (builder != null) {
+                        builder.rawParam(paramNameArray[paramIndex], path.substring(pos, end));
+                    }
+                    pos = end;
+                    break;
+                case BACK_REFERENCE:
+                    final int begin = paramOffsets[paramIndex * 2];
+                    final int len = paramOffsets[paramIndex * 2 + 1] - begin;
+                    if (!path.regionMatches(pos, path, begin, len)) {
+                        return false;
+                    }
+                    pos += len;
+                    break;
+                case CAPTURE_REST:
+                    if (builder != null) {
+                        builder.rawParam(paramNameArray[paramIndex], path.substring(pos));
+                    }
+                    pos = length;
+                    break;
+                default:
+                    throw new Error("Should not reach here");
+            }
+        }
+        return pos == length;
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) {
@@ -100,4 +100,13 @@ interface PathMapping {
      * one is the regex. e.g, {@code [ "/bar/", "^/(?<foo>.*)$" ]}
      */
     List<String> paths();
+
+    /**
+     * Returns the literal string that every path matched by this {@link PathMapping} starts with.
+     * An empty string is returned if the prefix is unknown. It is used to skip the mappings which cannot
+     * match a path without evaluating them.
+     */
+    default String literalPrefix() {
+        return "";
+    }
 }
@@ -38,6 +38,7 @@ final class RegexPathMapping extends AbstractPathMapping {
     private final String pathPattern;
     private final String strVal;
     private final List<String> paths;
+    private final String literalPrefix;
 
     RegexPathMapping(Pattern regex) {
         this.regex = requireNonNull(regex, "regex");
@@ -45,6 +46,57 @@ final class RegexPathMapping extends AbstractPathMapping {
         pathPattern = regex.pattern();
         strVal = REGEX + pathPattern;
         paths = ImmutableList.of(regex.pattern());
+        // A flag such as CASE_INSENSITIVE may change how a literal is matched.
+        literalPrefix = regex.flags() == 0 ? literalPrefix(pathPattern) : "";
+    }
+
+    /**
+     * Returns the literal string that follows the leading {@code '^'} of the specified regular expression.
+     * An empty string is returned if the regular expression is not anchored or has an alternation.
+     */
+    static String literalPrefix(String regex) {
+        // '^' in "^/foo|/bar" anchors only the first alternative.
+        if (!regex.startsWith("^") || regex.indexOf('|') >= 0) {
+            return "";
+        }
+
+        final int length = regex.length();
+        int end = 1;
+        for (; end < length; end++) {
+            if (isMetaCharacter(regex.charAt(end))) {
+                break;
+            }
+        }
+        if (end < length) {
+            final char next = regex.charAt(end);
+            if (next == '?' || next == '*' || next == '{') {
+                // The last literal character is optional or repeated.
+                end--;
+            }
+        }
+        return end > 1 ? regex.substring(1, end) : "";
+    }
+
+    private static boolean isMetaCharacter(char c) {
+        switch (c) {
+            case '\\':
+            case '.':
+            case '^':
+            case '$':
+            case '?':
+            case '*':
+            case '+':
+            case '{':
+            case '}':
+            case '[':
+            case ']':
+            case '(':
+            case ')':
+            case '|':
+                return true;
+            default:
+                return false;
+        }
     }
 
     private static Set<String> findParamNames(Pattern regex) {
@@ -105,6 +157,11 @@ final class RegexPathMapping extends AbstractPathMapping {
         return paths;
     }
 
+    @Override
+    public String literalPrefix() {
+        return literalPrefix;
+    }
+
     @Override
     public int hashCode() {
         return regex.pattern().hashCode();
@@ -33,6 +33,7 @@ final class RegexPathMappingWithPrefix extends AbstractPathMapping {
     private final PathMapping mapping;
     private final String pathPattern;
     private final List<String> regexAndPrefix;
+    private final String literalPrefix;
 
     RegexPathMappingWithPrefix(String pathPrefix, PathMapping mapping) {
         requireNonNull(mapping, "mapping");
@@ -51,6 +52,15 @@ final class RegexPathMappingWithPrefix extends AbstractPathMapping {
             normalizedPathPrefix = pathPrefix;
         }
         pathPattern = normalizedPathPrefix + patternString;
+
+        // The mapping is applied to the path that starts from the last character of the prefix.
+        final String mappingLiteralPrefix = mapping.literalPrefix();
+        if (!pathPrefix.isEmpty() && !mappingLiteralPrefix.isEmpty() &&
+            mappingLiteralPrefix.charAt(0) == pathPrefix.charAt(pathPrefix.length() - 1)) {
+            literalPrefix = pathPrefix + mappingLiteralPrefix.substring(1);
+        } else {
+            literalPrefix = pathPrefix;
+        }
     }
 
     @Override
@@ -89,6 +99,11 @@ final class RegexPathMappingWithPrefix extends AbstractPathMapping {
         return regexAndPrefix;
     }
 
+    @Override
+    public String literalPrefix() {
+        return literalPrefix;
+    }
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) {
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.server;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableList;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.Clients;
+import com.linecorp.armeria.common.util.Exceptions;
+import com.linecorp.armeria.common.util.SafeCloseable;
+import com.linecorp.armeria.common.util.TimeoutMode;
+import com.linecorp.armeria.internal.common.RequestDeadlineUtil;
+
+import io.netty.channel.EventLoop;
+
+/**
+ * Runs the calls of {@link ServiceRequestContext#fanOut(int, Iterable)}. All states are accessed only
+ * from the {@link ServiceRequestContext#eventLoop()}, so no synchronization is needed.
+ */
+final class RequestFanOut<T> {
+
+    static <T> CompletableFuture<List<T>> fanOut(
+            ServiceRequestContext ctx, int maxConcurrency,
+            Iterable<? extends Supplier<? extends CompletionStage<? extends T>>> calls) {
+        requireNonNull(ctx, "ctx");
+        checkArgument(maxConcurrency > 0, "maxConcurrency: %s (expected: > 0)", maxConcurrency);
+        requireNonNull(calls, "calls");
+
+        final RequestFanOut<T> fanOut = new RequestFanOut<>(ctx, maxConcurrency, ImmutableList.copyOf(calls));
+        final EventLoop eventLoop = ctx.eventLoop();
+        if (eventLoop.inEventLoop()) {
+            fanOut.start();
+        } else {
+            eventLoop.execute(fanOut::start);
+        }
+        return fanOut.future;
+    }
+
+    private final ServiceRequestContext ctx;
+    private final int maxConcurrency;
+    private final List<Supplier<? extends CompletionStage<? extends T>>> calls;
+    private final Object[] results;
+    // The client contexts created by each call, which is cleared when the call completes
+    // so that only the pending calls are cancelled.
+    private final List<ClientRequestContext>[] children;
+    private final CompletableFuture<List<T>> future = new CompletableFuture<>();
+    private int nextIndex;
+    private int numCompleted;
+
+    private RequestFanOut(ServiceRequestContext ctx, int maxConcurrency,
+                          List<Supplier<? extends CompletionStage<? extends T>>> calls) {
+        this.ctx = ctx;
+        this.maxConcurrency = maxConcurrency;
+        this.calls = calls;
+        results = new Object[calls.size()];
+        @SuppressWarnings("unchecked")
+        final List<ClientRequestContext>[] children = new List[calls.size()];
+        this.children = children;
+    }
+
+    private void start() {
+        if (calls.isEmpty()) {
+            future.complete(ImmutableList.of());
+            return;
+        }
+
+        // Cancel the outstanding children when the first call fails, the parent request is cancelled
+        // or the caller cancels the returned future.
+        future.whenComplete((unused, cause) -> {
+            if (cause != null) {
+                ctx.eventLoop().execute(() -> cancelChildren(cause));
+            }
+        });
+        ctx.whenRequestCancelling().thenAccept(future::completeExceptionally);
+
+        final int initialCalls = Math.min(maxConcurrency, calls.size());
+        for (int i = 0; i < initialCalls && nextIndex < calls.size() && !future.isDone(); i++) {
+            launch(nextIndex++);
+        }
+    }
+
+    private void launch(int index) {
+        final CompletionStage<? extends T> stage;
+        try (SafeCloseable ignored = Clients.withContextCustomizer(child -> onChildContext(index, child))) {
+            stage = requireNonNull(calls.get(index).get(), "call returned null");
+        } catch (Throwable cause) {
+            children[index] = null;
+            future.completeExceptionally(cause);
+            return;
+        }
+
+        stage.handle((result, cause) -> {
+            final EventLoop eventLoop = ctx.eventLoop();
+            if (eventLoop.inEventLoop()) {
+                onComplete(index, result, cause);
+            } else {
+                eventLoop.execute(() -> onComplete(index, result, cause));
+            }
+            return null;
+        });
+    }
+
+    private void onChildContext(int index, ClientRequestContext child) {
+        if (future.isDone()) {
+            // A call has failed already while launching another.
+            child.cancel();
+            return;
+        }
+        List<ClientRequestContext> callChildren = children[index];
+        if (callChildren == null) {
+            callChildren = new ArrayList<>(1);
+            children[index] = callChildren;
+        }
+        callChildren.add(child);
+
+        final long remainingMillis = RequestDeadlineUtil.remainingTimeoutMillis(ctx);
+        if (remainingMillis > 0) {
+            final long childTimeoutMillis = child.responseTimeoutMillis();
+            if (childTimeoutMillis == 0 || childTimeoutMillis > remainingMillis) {
+                child.setResponseTimeoutMillis(TimeoutMode.SET_FROM_NOW, remainingMillis);
+            }
+        }
+    }
+
+    private void onComplete(int index, T result, Throwable cause) {
+        children[index] = null;
+        if (future.isDone()) {
+            return;
+        }
+        if (cause != null) {
+            future.completeExceptionally(Exceptions.peel(cause));
+            return;
+        }
+
+        results[index] = result;
+        if (++numCompleted == calls.size()) {
+            @SuppressWarnings("unchecked")
+            final List<T> list = (List<T>) Collections.unmodifiableList(Arrays.asList(results));
+            future.complete(list);
+            return;
+        }
+        if (nextIndex < calls.size()) {
+            launch(nextIndex++);
+        }
+    }
+
+    private void cancelChildren(Throwable cause) {
+        for (int i = 0; i < children.length; i++) {
+            final List<ClientRequestContext> callChildren = children[i];
+            if (callChildren == null) {
+                continue;
+            }
+            children[i] = null;
+            for (ClientRequestContext child : callChildren) {
+                child.cancel(cause);
+            }
+        }
+    }
+}
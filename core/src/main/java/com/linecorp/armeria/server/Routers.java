@@ -28,6 +28,7 @@ import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -446,21 +447,43 @@ final class Routers {
         private final List<V> values;
         private final Function<V, Route> routeResolver;
         private final boolean isRouteDecorator;
+        @Nullable
+        private final LiteralPrefixIndex literalPrefixIndex;
 
         SequentialRouter(List<V> values, Function<V, Route> routeResolver, boolean isRouteDecorator) {
             this.values = ImmutableList.copyOf(requireNonNull(values, "values"));
             this.routeResolver = requireNonNull(routeResolver, "routeResolver");
             this.isRouteDecorator = isRouteDecorator;
+            literalPrefixIndex = LiteralPrefixIndex.of(this.values.stream().map(routeResolver)
+                                                                  .collect(toImmutableList()));
         }
 
         @Override
         public Routed<V> find(RoutingContext routingCtx) {
-            return findBest(getRouteCandidates(routingCtx, values, routeResolver, false));
+            return findBest(getRouteCandidates(routingCtx, candidates(routingCtx), routeResolver, false));
         }
 
         @Override
         public List<Routed<V>> findAll(RoutingContext routingCtx) {
-            return getRouteCandidates(routingCtx, values, routeResolver, isRouteDecorator);
+            return getRouteCandidates(routingCtx, candidates(routingCtx), routeResolver, isRouteDecorator);
+        }
+
+        /**
+         * Returns the values whose {@link Route} may match the path of the specified {@link RoutingContext},
+         * in the order of the values.
+         */
+        private List<V> candidates(RoutingContext routingCtx) {
+            if (literalPrefixIndex == null) {
+                return values;
+            }
+
+            final BitSet indices = literalPrefixIndex.find(routingCtx.path());
+            final ImmutableList.Builder<V> builder =
+                    ImmutableList.builderWithExpectedSize(indices.cardinality());
+            for (int i = indices.nextSetBit(0); i >= 0; i = indices.nextSetBit(i + 1)) {
+                builder.add(values.get(i));
+            }
+            return builder.build();
         }
 
         @Override
@@ -23,6 +23,7 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -32,7 +33,6 @@ import com.google.common.collect.ImmutableList;
 import com.linecorp.armeria.common.annotation.Nullable;
 
 import it.unimi.dsi.fastutil.chars.Char2ObjectMap;
-import it.unimi.dsi.fastutil.chars.Char2ObjectMaps;
 
 /**
  * <a href="https://en.wikipedia.org/wiki/Trie">Trie</a> implementation to route a request to the
@@ -57,16 +57,17 @@ import it.unimi.dsi.fastutil.chars.Char2ObjectMaps;
  */
 final class RoutingTrie<V> {
 
-    private static final Node<?> CONTINUE_WALKING = new Node<>(NodeType.CATCH_ALL, "",
-                                                               Char2ObjectMaps.emptyMap(),
-                                                               null, null, ImmutableList.of());
+    /**
+     * Returned by {@link #checkNode(Node, String, int)} if the path does not start with the path of a node.
+     */
+    private static final int NO_MATCH = -1;
 
-    private final Node<V> root;
+    /**
+     * Returned by {@link #checkNode(Node, String, int)} if the path ends at a node.
+     */
+    private static final int MATCHED = -2;
 
-    @SuppressWarnings("unchecked")
-    private Node<V> continueWalking() {
-        return (Node<V>) CONTINUE_WALKING;
-    }
+    private final Node<V> root;
 
     RoutingTrie(Node<V> root) {
         requireNonNull(root, "root");
@@ -117,7 +118,7 @@ final class RoutingTrie<V> {
     Node<V> findNode(String path, boolean exact, NodeProcessor<V> processor) {
         requireNonNull(path, "path");
         requireNonNull(processor, "processor");
-        return findFirstNode(root, path, 0, exact, new IntHolder(), processor);
+        return findFirstNode(root, path, 0, exact, processor);
     }
 
     /**
@@ -125,15 +126,15 @@ final class RoutingTrie<V> {
      * to visit the children of the given node. Returns {@code null} if there is no {@link Node} to find.
      */
     @Nullable
-    private Node<V> findFirstNode(Node<V> node, String path, int begin, boolean exact, IntHolder nextHolder,
+    private Node<V> findFirstNode(Node<V> node, String path, int begin, boolean exact,
                                   NodeProcessor<V> processor) {
-        final Node<V> checked = checkNode(node, path, begin, exact, nextHolder);
-        if (checked != continueWalking()) {
-            if (checked != null) {
-                return processor.process(checked);
-            }
+        final int next = checkNode(node, path, begin);
+        if (next == NO_MATCH) {
             return null;
         }
+        if (next == MATCHED) {
+            return processor.process(matchedNode(node, path, begin, exact));
+        }
 
         // The path is not matched to this node, but it is possible to be matched on my children
         // because the path starts with the path of this node. So we need to visit children as the
@@ -141,17 +142,16 @@ final class RoutingTrie<V> {
         //  - The child which is able to consume the next character of the path.
         //  - The child which has a path variable.
         //  - The child which is able to consume every remaining path. (catch-all)
-        final int next = nextHolder.value;
-        Node<V> child = node.children.get(path.charAt(next));
+        Node<V> child = node.child(path.charAt(next));
         if (child != null) {
-            final Node<V> found = findFirstNode(child, path, next, exact, nextHolder, processor);
+            final Node<V> found = findFirstNode(child, path, next, exact, processor);
             if (found != null) {
                 return found;
             }
         }
         child = node.parameterChild;
         if (child != null) {
-            final Node<V> found = findFirstNode(child, path, next, exact, nextHolder, processor);
+            final Node<V> found = findFirstNode(child, path, next, exact, processor);
             if (found != null) {
                 return found;
             }
@@ -164,21 +164,21 @@ final class RoutingTrie<V> {
 
     private List<Node<V>> findAllNodes(String path, boolean exact) {
         final ImmutableList.Builder<Node<V>> accumulator = ImmutableList.builder();
-        findAllNodes(root, path, 0, exact, accumulator, new IntHolder());
+        findAllNodes(root, path, 0, exact, accumulator);
         return accumulator.build();
     }
 
     private void findAllNodes(Node<V> node, String path, int begin, boolean exact,
-                              ImmutableList.Builder<Node<V>> accumulator, IntHolder nextHolder) {
-        final Node<V> checked = checkNode(node, path, begin, exact, nextHolder);
-        if (checked != continueWalking()) {
-            if (checked != null) {
-                accumulator.add(checked);
-            }
+                              ImmutableList.Builder<Node<V>> accumulator) {
+        final int next = checkNode(node, path, begin);
+        if (next == NO_MATCH) {
+            return;
+        }
+        if (next == MATCHED) {
+            accumulator.add(matchedNode(node, path, begin, exact));
             return;
         }
 
-        final int next = nextHolder.value;
         // find the nearest child node from root to preserve the access order
         Node<V> child = node.catchAllChild;
         if (child != null) {
@@ -186,66 +186,75 @@ final class RoutingTrie<V> {
         }
         child = node.parameterChild;
         if (child != null) {
-            findAllNodes(child, path, next, exact, accumulator, nextHolder);
+            findAllNodes(child, path, next, exact, accumulator);
         }
-        child = node.children.get(path.charAt(next));
+        child = node.child(path.charAt(next));
         if (child != null) {
-            findAllNodes(child, path, next, exact, accumulator, nextHolder);
+            findAllNodes(child, path, next, exact, accumulator);
         }
     }
 
     /**
-     * Checks a {@link Node} which is mapped to the given {@code path}.
-     * Returns {@code null} if the given {@code path} does not start with the path of this {@link Node}.
-     * Returns {@link #continueWalking()} if the given {@code path} has to visit {@link Node#children}.
+     * Checks a {@link Node} against the given {@code path} from the {@code begin} index.
+     * Returns {@link #NO_MATCH} if the given {@code path} does not start with the path of this {@link Node},
+     * {@link #MATCHED} if the given {@code path} ends at this {@link Node}, or the index of the
+     * {@code path} to continue walking from if the given {@code path} has to visit the children.
      */
-    @Nullable
-    private Node<V> checkNode(Node<V> node, String path, int begin, boolean exact, IntHolder next) {
+    private static int checkNode(Node<?> node, String path, int begin) {
         switch (node.type) {
             case EXACT:
                 final int len = node.path.length();
                 if (!path.regionMatches(begin, node.path, 0, len)) {
                     // A given path does not start with the path of this node.
-                    return null;
+                    return NO_MATCH;
                 }
                 if (len == path.length() - begin) {
                     // Matched. No more input characters.
-                    // If this node is not added by a user, then we should return a catch-all child
-                    // if it exists. But if 'exact' is true, we just return this node to make caller
-                    // have the exact matched node.
-                    if (exact || !node.values.isEmpty() || node.catchAllChild == null) {
-                        return node;
-                    }
-
-                    return node.catchAllChild;
+                    return MATCHED;
                 }
-                next.value = begin + len;
-                break;
+                return begin + len;
             case PARAMETER:
                 // Consume characters until the delimiter '/' as a path variable.
                 final int delimSlash = path.indexOf('/', begin);
-
-                if (delimSlash < 0) {
-                    final String pathVerb = findVerb(path, begin);
-                    if (pathVerb == null) {
-                        // No more delimiter.
-                        return node;
-                    } else {
-                        final Node<V> verb = node.children.get(':');
-                        return verb != null && verb.path.equals(pathVerb) ? verb : node;
-                    }
+                if (delimSlash < 0 || path.length() == delimSlash + 1) {
+                    // No more delimiter or a trailing slash.
+                    return MATCHED;
                 }
-
-                if (path.length() == delimSlash + 1) {
-                    final Node<V> trailingSlashNode = node.children.get('/');
-                    return trailingSlashNode != null ? trailingSlashNode : node;
-                }
-                next.value = delimSlash;
-                break;
+                return delimSlash;
             default:
                 throw new Error("Should not reach here");
         }
-        return continueWalking();
+    }
+
+    /**
+     * Returns the {@link Node} to pick when the given {@code path} ends at the given {@link Node}, i.e.
+     * {@link #checkNode(Node, String, int)} returned {@link #MATCHED}.
+     */
+    private static <V> Node<V> matchedNode(Node<V> node, String path, int begin, boolean exact) {
+        if (node.type == NodeType.EXACT) {
+            // If this node is not added by a user, then we should return a catch-all child
+            // if it exists. But if 'exact' is true, we just return this node to make caller
+            // have the exact matched node.
+            if (exact || !node.values.isEmpty() || node.catchAllChild == null) {
+                return node;
+            }
+            return node.catchAllChild;
+        }
+
+        assert node.type == NodeType.PARAMETER;
+        if (path.indexOf('/', begin) < 0) {
+            final int verbIndex = findVerb(path, begin);
+            if (verbIndex < 0) {
+                // No more delimiter.
+                return node;
+            }
+            final Node<V> verb = node.child(':');
+            return verb != null && verb.path.length() == path.length() - verbIndex &&
+                   path.startsWith(verb.path, verbIndex) ? verb : node;
+        }
+
+        final Node<V> trailingSlashNode = node.child('/');
+        return trailingSlashNode != null ? trailingSlashNode : node;
     }
 
     void dump(OutputStream output) {
@@ -262,17 +271,16 @@ final class RoutingTrie<V> {
     }
 
     /**
-     * Returns the substring from the last colon ':' found after 'begin', including the colon.
-     * Returns {@code null} if no colon is found after the 'begin' index.
+     * Returns the index of the last colon ':' found after 'begin'.
+     * Returns {@code -1} if no colon is found after the 'begin' index.
      */
-    @Nullable
-    private static String findVerb(String path, int begin) {
+    private static int findVerb(String path, int begin) {
         for (int i = path.length() - 1; i >= begin; i--) {
             if (path.charAt(i) == ':') {
-                return path.substring(i);
+                return i;
             }
         }
-        return null;
+        return -1;
     }
 
     /**
@@ -291,6 +299,9 @@ final class RoutingTrie<V> {
         private Node<V> parent;
         final String path;
         final Char2ObjectMap<Node<V>> children;
+        // The keys and values of 'children' in the flattened form, sorted by the keys, for faster lookup.
+        private final char[] childKeys;
+        private final Node<V>[] childNodes;
         // Short-cuts to the special-purpose children.
         @Nullable
         final Node<V> parameterChild;
@@ -307,9 +318,27 @@ final class RoutingTrie<V> {
             this.catchAllChild = catchAllChild;
             this.values = requireNonNull(values, "values");
 
+            childKeys = children.keySet().toCharArray();
+            Arrays.sort(childKeys);
+            @SuppressWarnings("unchecked")
+            final Node<V>[] childNodes = new Node[childKeys.length];
+            for (int i = 0; i < childKeys.length; i++) {
+                childNodes[i] = children.get(childKeys[i]);
+            }
+            this.childNodes = childNodes;
+
             children.values().forEach(node -> node.setParent(this));
         }
 
+        /**
+         * Returns the child whose path starts with the specified character.
+         */
+        @Nullable
+        Node<V> child(char key) {
+            final int index = Arrays.binarySearch(childKeys, key);
+            return index >= 0 ? childNodes[index] : null;
+        }
+
         @Nullable
         @VisibleForTesting
         Node<V> parent() {
@@ -334,10 +363,6 @@ final class RoutingTrie<V> {
         }
     }
 
-    private static class IntHolder {
-        int value;
-    }
-
     @FunctionalInterface
     interface NodeProcessor<V> {
         static <V> NodeProcessor<V> noop() {
@@ -68,10 +68,12 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.google.common.net.HostAndPort;
 
+import com.linecorp.armeria.client.DeadlinePropagation;
 import com.linecorp.armeria.common.CommonPools;
 import com.linecorp.armeria.common.DependencyInjector;
 import com.linecorp.armeria.common.Flags;
 import com.linecorp.armeria.common.Http1HeaderNaming;
+import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
@@ -237,6 +239,10 @@ public final class ServerBuilder implements TlsSetters, ServiceConfigsBuilder<Se
     private final List<ShutdownSupport> shutdownSupports = new ArrayList<>();
     private int http2MaxResetFramesPerWindow = Flags.defaultServerHttp2MaxResetFramesPerMinute();
     private int http2MaxResetFramesWindowSeconds = 60;
+    private int http2MaxAutoTunedWindowSize;
+    private boolean useClientTimeoutHeader;
+    private int maxResponseWriteBatchSize = 1;
+    private long responseFlushDelayMicros;
     @Nullable
     private TlsProvider tlsProvider;
     @Nullable
@@ -797,6 +803,84 @@ public final class ServerBuilder implements TlsSetters, ServiceConfigsBuilder<Se
         return this;
     }
 
+    /**
+     * Enables the automatic tuning of the HTTP/2 flow-control windows and sets the maximum size the windows
+     * can grow to. When enabled, the server measures the bandwidth-delay product of each connection with
+     * PING frames and grows the connection-level and stream-level windows beyond
+     * {@link #http2InitialConnectionWindowSize(int)} and {@link #http2InitialStreamWindowSize(int)}
+     * up to the specified size, so that a client on a high-latency link is not limited by the windows.
+     * The grown window sizes are recorded to {@code armeria.server.connections.http2.window.size}.
+     * {@code 0} disables the automatic tuning, which is the default.
+     */
+    @UnstableApi
+    public ServerBuilder http2MaxAutoTunedWindowSize(int http2MaxAutoTunedWindowSize) {
+        checkArgument(http2MaxAutoTunedWindowSize >= 0,
+                      "http2MaxAutoTunedWindowSize: %s (expected: >= 0)",
+                      http2MaxAutoTunedWindowSize);
+        this.http2MaxAutoTunedWindowSize = http2MaxAutoTunedWindowSize;
+        return this;
+    }
+
+    /**
+     * Sets whether the server uses the {@code "armeria-request-timeout"} header sent by a client to shorten
+     * the request timeout. The header carries the number of milliseconds left until the client gives up on
+     * the request, and is sent by a client that uses {@link DeadlinePropagation}. When enabled, the request
+     * timeout of a service is reduced to the value of the header if it is shorter, and a request whose
+     * header is {@code 0} or negative is timed out before the service is invoked, so that it fails with
+     * a {@link RequestTimeoutException} through the decorators of the service. The header never extends
+     * the request timeout. This option is disabled by default.
+     */
+    @UnstableApi
+    public ServerBuilder useClientTimeoutHeader(boolean useClientTimeoutHeader) {
+        this.useClientTimeoutHeader = useClientTimeoutHeader;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of response objects, such as {@link HttpData}s, that are written to
+     * a connection before they are flushed. When greater than {@code 1}, the server requests up to
+     * the specified number of objects from a streaming response at once and issues a single flush for them,
+     * which reduces the number of system calls for a service that streams many small messages, e.g.
+     * a gRPC server streaming method. The writes that do not fill a batch are flushed after
+     * {@link #responseFlushDelay(Duration)}. The last write of a response is always flushed immediately.
+     * {@code 1} flushes every write immediately, which is the default.
+     */
+    @UnstableApi
+    public ServerBuilder maxResponseWriteBatchSize(int maxResponseWriteBatchSize) {
+        checkArgument(maxResponseWriteBatchSize > 0, "maxResponseWriteBatchSize: %s (expected: > 0)",
+                      maxResponseWriteBatchSize);
+        this.maxResponseWriteBatchSize = maxResponseWriteBatchSize;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of time that a response write waits to be flushed with the other writes of
+     * the same batch. {@link Duration#ZERO} flushes the writes when the current event loop task is
+     * finished, which is the default. This option has no effect unless
+     * {@link #maxResponseWriteBatchSize(int)} is greater than {@code 1}.
+     */
+    @UnstableApi
+    public ServerBuilder responseFlushDelay(Duration responseFlushDelay) {
+        requireNonNull(responseFlushDelay, "responseFlushDelay");
+        checkArgument(!responseFlushDelay.isNegative(), "responseFlushDelay: %s (expected: >= 0)",
+                      responseFlushDelay);
+        return responseFlushDelayMicros(TimeUnit.NANOSECONDS.toMicros(responseFlushDelay.toNanos()));
+    }
+
+    /**
+     * Sets the maximum amount of time in microseconds that a response write waits to be flushed with
+     * the other writes of the same batch. {@code 0} flushes the writes when the current event loop task is
+     * finished, which is the default. This option has no effect unless
+     * {@link #maxResponseWriteBatchSize(int)} is greater than {@code 1}.
+     */
+    @UnstableApi
+    public ServerBuilder responseFlushDelayMicros(long responseFlushDelayMicros) {
+        checkArgument(responseFlushDelayMicros >= 0, "responseFlushDelayMicros: %s (expected: >= 0)",
+                      responseFlushDelayMicros);
+        this.responseFlushDelayMicros = responseFlushDelayMicros;
+        return this;
+    }
+
     /**
      * Sets the maximum number of concurrent streams per HTTP/2 connection. Unset means there is
      * no limit on the number of concurrent streams. Note, this differs from {@link #maxNumConnections()},
@@ -2423,7 +2507,8 @@ public final class ServerBuilder implements TlsSetters, ServiceConfigsBuilder<Se
                 connectionDrainDurationMicros, http2InitialConnectionWindowSize,
                 http2InitialStreamWindowSize, http2MaxStreamsPerConnection,
                 http2MaxFrameSize, http2MaxHeaderListSize,
-                http2MaxResetFramesPerWindow, http2MaxResetFramesWindowSeconds,
+                http2MaxResetFramesPerWindow, http2MaxResetFramesWindowSeconds, http2MaxAutoTunedWindowSize,
+                useClientTimeoutHeader, maxResponseWriteBatchSize, responseFlushDelayMicros,
                 http1MaxInitialLineLength, http1MaxHeaderSize,
                 http1MaxChunkSize, gracefulShutdown,
                 blockingTaskExecutor,
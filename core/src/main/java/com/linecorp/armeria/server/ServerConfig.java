@@ -226,6 +226,40 @@ public interface ServerConfig {
     @UnstableApi
     int http2MaxResetFramesWindowSeconds();
 
+    /**
+     * Returns the maximum size that the HTTP/2 flow-control windows can grow to by the automatic tuning.
+     * {@code 0} means the automatic tuning is disabled.
+     */
+    @UnstableApi
+    int http2MaxAutoTunedWindowSize();
+
+    /**
+     * Returns whether the {@code "armeria-request-timeout"} header sent by a client shortens the request
+     * timeout.
+     *
+     * @see ServerBuilder#useClientTimeoutHeader(boolean)
+     */
+    @UnstableApi
+    boolean useClientTimeoutHeader();
+
+    /**
+     * Returns the maximum number of response objects that are written to a connection before they are
+     * flushed. {@code 1} means every write is flushed immediately.
+     *
+     * @see ServerBuilder#maxResponseWriteBatchSize(int)
+     */
+    @UnstableApi
+    int maxResponseWriteBatchSize();
+
+    /**
+     * Returns the maximum number of microseconds that a batched response write waits before being flushed.
+     * {@code 0} means it is flushed when the current event loop task is finished.
+     *
+     * @see ServerBuilder#responseFlushDelayMicros(long)
+     */
+    @UnstableApi
+    long responseFlushDelayMicros();
+
     /**
      * Returns the number of milliseconds to wait for active requests to go end before shutting down.
      * {@code 0} means the server will stop right away without waiting.
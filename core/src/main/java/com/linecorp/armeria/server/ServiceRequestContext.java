@@ -28,6 +28,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -539,6 +540,35 @@ public interface ServiceRequestContext extends RequestContext {
         cancel(RequestTimeoutException.get());
     }
 
+    /**
+     * Invokes the specified {@code calls} that send subrequests on behalf of this request, running at most
+     * {@code maxConcurrency} of them at the same time, and returns a {@link CompletableFuture} completed with
+     * their results in the order of the {@code calls}. For example:
+     * <pre>{@code
+     * List<Supplier<CompletableFuture<AggregatedHttpResponse>>> calls = new ArrayList<>();
+     * for (String id : userIds) {
+     *     calls.add(() -> client.get("/users/" + id).aggregate());
+     * }
+     * ctx.fanOut(10, calls).thenApply(responses -> ...);
+     * }</pre>
+     *
+     * <p>Every call is invoked from the {@link #eventLoop()} of this context, and the response timeout of the
+     * {@link ClientRequestContext}s created during the call is capped at the time left until this request
+     * times out. If a call fails, this request is cancelled or the returned {@link CompletableFuture} is
+     * cancelled, the pending calls are not invoked, the {@link ClientRequestContext}s of the outstanding
+     * calls are cancelled and the returned {@link CompletableFuture} is completed exceptionally. Note that
+     * only the client requests sent while a call is being invoked are tracked, not the ones sent later
+     * from its callbacks.
+     *
+     * @param maxConcurrency the maximum number of the calls that run at the same time
+     * @param calls the {@link Supplier}s that send subrequests and return their results
+     */
+    @UnstableApi
+    default <T> CompletableFuture<List<T>> fanOut(
+            int maxConcurrency, Iterable<? extends Supplier<? extends CompletionStage<? extends T>>> calls) {
+        return RequestFanOut.fanOut(this, maxConcurrency, calls);
+    }
+
     /**
      * Returns the maximum length of the current {@link Request}.
      * This value is initially set from {@link ServiceConfig#maxRequestLength()}.
@@ -230,6 +230,26 @@ final class UpdatableServerConfig implements ServerConfig {
         return delegate.http2MaxResetFramesWindowSeconds();
     }
 
+    @Override
+    public int http2MaxAutoTunedWindowSize() {
+        return delegate.http2MaxAutoTunedWindowSize();
+    }
+
+    @Override
+    public boolean useClientTimeoutHeader() {
+        return delegate.useClientTimeoutHeader();
+    }
+
+    @Override
+    public int maxResponseWriteBatchSize() {
+        return delegate.maxResponseWriteBatchSize();
+    }
+
+    @Override
+    public long responseFlushDelayMicros() {
+        return delegate.responseFlushDelayMicros();
+    }
+
     @Override
     public Duration gracefulShutdownQuietPeriod() {
         return delegate.gracefulShutdownQuietPeriod();
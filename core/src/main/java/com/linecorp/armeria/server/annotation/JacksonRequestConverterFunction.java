@@ -39,6 +39,7 @@ import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.RequestHeaders;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.internal.common.JacksonUtil;
 import com.linecorp.armeria.server.ServiceRequestContext;
 
@@ -85,6 +86,15 @@ public final class JacksonRequestConverterFunction implements RequestConverterFu
         this.mapper = requireNonNull(mapper, "mapper");
     }
 
+    /**
+     * Returns the {@link ObjectMapper} that this converter uses.
+     * A {@link StreamingJson} parameter is decoded with this {@link ObjectMapper} as well.
+     */
+    @UnstableApi
+    public ObjectMapper objectMapper() {
+        return mapper;
+    }
+
     /**
      * Converts the specified {@link AggregatedHttpRequest} to an object of {@code expectedResultType}.
      */
@@ -36,9 +36,11 @@ import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.MediaType;
 import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
 import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.internal.common.JacksonUtil;
 import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.streaming.JsonArrays;
 import com.linecorp.armeria.server.streaming.JsonTextSequences;
 
 /**
@@ -56,6 +58,7 @@ public final class JacksonResponseConverterFunction implements ResponseConverter
     private static final ObjectMapper defaultObjectMapper = JacksonUtil.newDefaultObjectMapper();
 
     private final ObjectMapper mapper;
+    private final boolean streamJsonArrays;
 
     /**
      * Creates an instance with the default {@link ObjectMapper}.
@@ -68,7 +71,21 @@ public final class JacksonResponseConverterFunction implements ResponseConverter
      * Creates an instance with the specified {@link ObjectMapper}.
      */
     public JacksonResponseConverterFunction(ObjectMapper mapper) {
+        this(mapper, false);
+    }
+
+    /**
+     * Creates an instance with the specified {@link ObjectMapper}.
+     *
+     * @param streamJsonArrays whether to stream the objects published from a {@link Publisher} or
+     *                         {@link Stream} as a JSON array using {@link JsonArrays} when
+     *                         {@code application/json} is produced. If {@code false}, the objects are
+     *                         collected into a list and the list is converted into a JSON array at once.
+     */
+    @UnstableApi
+    public JacksonResponseConverterFunction(ObjectMapper mapper, boolean streamJsonArrays) {
         this.mapper = requireNonNull(mapper, "mapper");
+        this.streamJsonArrays = streamJsonArrays;
     }
 
     @Nullable
@@ -83,7 +100,8 @@ public final class JacksonResponseConverterFunction implements ResponseConverter
         }
         if (produceType != null) {
             if (produceType.isJson()) {
-                return false;
+                return streamJsonArrays &&
+                       (Publisher.class.isAssignableFrom(clazz) || Stream.class.isAssignableFrom(clazz));
             }
 
             if (produceType.is(MediaType.JSON_SEQ) &&
@@ -108,6 +126,15 @@ public final class JacksonResponseConverterFunction implements ResponseConverter
                 // Convert the object only if the charset supports UTF-8,
                 // because ObjectMapper always writes JSON document as UTF-8.
                 if (charset.contains(StandardCharsets.UTF_8)) {
+                    if (streamJsonArrays) {
+                        if (result instanceof Publisher) {
+                            return JsonArrays.fromPublisher(headers, (Publisher<?>) result, trailers, mapper);
+                        }
+                        if (result instanceof Stream) {
+                            return JsonArrays.fromStream(headers, (Stream<?>) result, trailers,
+                                                         ctx.blockingTaskExecutor(), mapper);
+                        }
+                    }
                     if (result instanceof Publisher) {
                         return aggregateFrom((Publisher<?>) result, headers, trailers,
                                              this::toJsonHttpData, ctx);
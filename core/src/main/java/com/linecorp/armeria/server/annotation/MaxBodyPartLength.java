@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.server.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.linecorp.armeria.common.ContentTooLargeException;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.multipart.BodyPart;
+import com.linecorp.armeria.common.multipart.Multipart;
+import com.linecorp.armeria.common.stream.StreamMessage;
+
+/**
+ * Specifies the maximum length of the content of each {@link BodyPart} for a {@link Multipart} or
+ * {@code StreamMessage<BodyPart>} parameter. The request fails with a {@link ContentTooLargeException}
+ * when the content of a {@link BodyPart} is longer than the limit.
+ * <pre>{@code
+ * > @Post("/upload")
+ * > public CompletableFuture<HttpResponse> upload(
+ * >         @MaxBodyPartLength(16 * 1024 * 1024) StreamMessage<BodyPart> parts) {
+ * >     return parts.mapAsync(part -> part.writeTo(uploadDir.resolve(part.name()))
+ * >                                       .thenApply(unused -> part.name()))
+ * >                 .collect()
+ * >                 .thenApply(unused -> HttpResponse.of(HttpStatus.OK));
+ * > }
+ * }</pre>
+ *
+ * @see Multipart#from(com.linecorp.armeria.common.HttpRequest, long)
+ * @see StreamMessage
+ */
+@UnstableApi
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.PARAMETER, ElementType.FIELD })
+public @interface MaxBodyPartLength {
+
+    /**
+     * The maximum length of the content of each {@link BodyPart} in bytes.
+     */
+    long value();
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.stream.JacksonHttpDecoder;
+import com.linecorp.armeria.common.stream.StreamMessage;
+
+/**
+ * Specifies that a JSON request body is decoded incrementally into a {@link StreamMessage},
+ * {@link CompletableFuture} or {@link CompletionStage} parameter without aggregating the request.
+ * A {@code StreamMessage<T>} emits each element of a top-level JSON array as soon as it is received, and
+ * a {@code CompletableFuture<T>} is completed with the whole JSON document when the request ends.
+ * <pre>{@code
+ * > @Post("/items")
+ * > public HttpResponse importItems(@StreamingJson StreamMessage<Item> items) {
+ * >     return HttpResponse.of(ResponseHeaders.of(HttpStatus.OK),
+ * >                            items.map(item -> HttpData.ofUtf8(save(item) + '\n')));
+ * > }
+ * }</pre>
+ *
+ * <p>The content is decoded with the {@link ObjectMapper} of the first {@link JacksonRequestConverterFunction}
+ * configured for the service, or the default {@link ObjectMapper} if there is none. The other
+ * {@link RequestConverterFunction}s are not used for the parameter.
+ *
+ * @see JacksonHttpDecoder
+ */
+@UnstableApi
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface StreamingJson {}
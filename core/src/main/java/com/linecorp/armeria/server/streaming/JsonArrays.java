@@ -0,0 +1,517 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.server.streaming;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.linecorp.armeria.common.CommonPools;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaders;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpResponseWriter;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestContext;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.stream.StreamMessage;
+import com.linecorp.armeria.internal.common.JacksonUtil;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * A utility class which helps to create a streaming JSON array response from a content {@link Publisher} or
+ * {@link Stream}, e.g. {@code [{"id":1},{"id":2}]}.
+ *
+ * <p>Unlike {@link JsonLines} and {@link JsonTextSequences}, the elements are written through a single
+ * {@link JsonGenerator} into pooled {@link HttpData} chunks instead of being serialized into a new
+ * byte array each. A chunk is sent when it grows beyond the chunk size or when the flush interval has
+ * elapsed since the last chunk was sent, and the next element is not requested until the sent chunk has been
+ * consumed. Therefore, a large array is streamed with constant memory:
+ * <pre>{@code
+ * Server server =
+ *     Server.builder()
+ *           .service("/export",
+ *                    (ctx, req) -> JsonArrays.fromPublisher(repository.findAll()))
+ *           .build();
+ * }</pre>
+ *
+ * <p>Note that the response headers are sent with the first chunk. If the {@link Publisher} or
+ * {@link Stream} fails afterwards, the response is reset because the status cannot be changed anymore.
+ */
+@UnstableApi
+public final class JsonArrays {
+
+    /**
+     * The default size of a chunk in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    /**
+     * The default interval after which the buffered elements are sent even if the chunk is not full.
+     */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(100);
+
+    private static final ObjectMapper defaultMapper = JacksonUtil.newDefaultObjectMapper();
+
+    private static final ResponseHeaders defaultHttpHeaders = ResponseHeaders.builder(HttpStatus.OK)
+                                                                             .contentType(MediaType.JSON_UTF_8)
+                                                                             .build();
+
+    /**
+     * Returns a newly created JSON array response from the specified {@link Publisher}.
+     *
+     * @param contentPublisher the {@link Publisher} which publishes the elements of the array
+     */
+    public static HttpResponse fromPublisher(Publisher<?> contentPublisher) {
+        return fromPublisher(defaultHttpHeaders, contentPublisher, HttpHeaders.of(), defaultMapper);
+    }
+
+    /**
+     * Returns a newly created JSON array response from the specified {@link Publisher}.
+     *
+     * @param contentPublisher the {@link Publisher} which publishes the elements of the array
+     * @param mapper the mapper which converts the elements into JSON
+     */
+    public static HttpResponse fromPublisher(Publisher<?> contentPublisher, ObjectMapper mapper) {
+        return fromPublisher(defaultHttpHeaders, contentPublisher, HttpHeaders.of(), mapper);
+    }
+
+    /**
+     * Returns a newly created JSON array response from the specified {@link Publisher}.
+     *
+     * @param headers the HTTP headers supposed to send
+     * @param contentPublisher the {@link Publisher} which publishes the elements of the array
+     * @param trailers the HTTP trailers
+     * @param mapper the mapper which converts the elements into JSON
+     */
+    public static HttpResponse fromPublisher(ResponseHeaders headers, Publisher<?> contentPublisher,
+                                             HttpHeaders trailers, ObjectMapper mapper) {
+        return fromPublisher(headers, contentPublisher, trailers, mapper,
+                             DEFAULT_CHUNK_SIZE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Returns a newly created JSON array response from the specified {@link Publisher}.
+     *
+     * @param headers the HTTP headers supposed to send
+     * @param contentPublisher the {@link Publisher} which publishes the elements of the array
+     * @param trailers the HTTP trailers
+     * @param mapper the mapper which converts the elements into JSON
+     * @param chunkSize the number of bytes to buffer before sending a chunk
+     * @param flushInterval the maximum time to buffer the elements before sending a chunk.
+     *                      {@link Duration#ZERO} disables the time-based flush.
+     */
+    public static HttpResponse fromPublisher(ResponseHeaders headers, Publisher<?> contentPublisher,
+                                             HttpHeaders trailers, ObjectMapper mapper,
+                                             int chunkSize, Duration flushInterval) {
+        requireNonNull(contentPublisher, "contentPublisher");
+        final HttpResponseWriter writer = HttpResponse.streaming();
+        final EventExecutor executor = RequestContext.mapCurrent(RequestContext::eventLoop,
+                                                                 CommonPools.workerGroup()::next);
+        assert executor != null;
+        final JsonArrayEncoder encoder = newEncoder(writer, headers, trailers, mapper,
+                                                    chunkSize, flushInterval);
+        StreamMessage.of(contentPublisher).subscribe(new JsonArraySubscriber(encoder, executor), executor);
+        return writer;
+    }
+
+    /**
+     * Returns a newly created JSON array response from the specified {@link Stream}.
+     *
+     * @param contentStream the {@link Stream} which supplies the elements of the array
+     * @param executor the executor which iterates the stream
+     */
+    public static HttpResponse fromStream(Stream<?> contentStream, Executor executor) {
+        return fromStream(defaultHttpHeaders, contentStream, HttpHeaders.of(), executor, defaultMapper);
+    }
+
+    /**
+     * Returns a newly created JSON array response from the specified {@link Stream}.
+     *
+     * @param contentStream the {@link Stream} which supplies the elements of the array
+     * @param executor the executor which iterates the stream
+     * @param mapper the mapper which converts the elements into JSON
+     */
+    public static HttpResponse fromStream(Stream<?> contentStream, Executor executor, ObjectMapper mapper) {
+        return fromStream(defaultHttpHeaders, contentStream, HttpHeaders.of(), executor, mapper);
+    }
+
+    /**
+     * Returns a newly created JSON array response from the specified {@link Stream}.
+     *
+     * @param headers the HTTP headers supposed to send
+     * @param contentStream the {@link Stream} which supplies the elements of the array
+     * @param trailers the HTTP trailers
+     * @param executor the executor which iterates the stream
+     * @param mapper the mapper which converts the elements into JSON
+     */
+    public static HttpResponse fromStream(ResponseHeaders headers, Stream<?> contentStream,
+                                          HttpHeaders trailers, Executor executor, ObjectMapper mapper) {
+        return fromStream(headers, contentStream, trailers, executor, mapper,
+                          DEFAULT_CHUNK_SIZE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Returns a newly created JSON array response from the specified {@link Stream}.
+     * Note that the flush interval is checked only when an element is taken from the {@link Stream}.
+     *
+     * @param headers the HTTP headers supposed to send
+     * @param contentStream the {@link Stream} which supplies the elements of the array
+     * @param trailers the HTTP trailers
+     * @param executor the executor which iterates the stream
+     * @param mapper the mapper which converts the elements into JSON
+     * @param chunkSize the number of bytes to buffer before sending a chunk
+     * @param flushInterval the maximum time to buffer the elements before sending a chunk.
+     *                      {@link Duration#ZERO} disables the time-based flush.
+     */
+    public static HttpResponse fromStream(ResponseHeaders headers, Stream<?> contentStream,
+                                          HttpHeaders trailers, Executor executor, ObjectMapper mapper,
+                                          int chunkSize, Duration flushInterval) {
+        requireNonNull(contentStream, "contentStream");
+        requireNonNull(executor, "executor");
+        final HttpResponseWriter writer = HttpResponse.streaming();
+        final JsonArrayEncoder encoder = newEncoder(writer, headers, trailers, mapper,
+                                                    chunkSize, flushInterval);
+        executor.execute(new JsonArrayStreamDrainer(encoder, contentStream, executor));
+        return writer;
+    }
+
+    private static JsonArrayEncoder newEncoder(HttpResponseWriter writer, ResponseHeaders headers,
+                                               HttpHeaders trailers, ObjectMapper mapper,
+                                               int chunkSize, Duration flushInterval) {
+        requireNonNull(headers, "headers");
+        requireNonNull(trailers, "trailers");
+        requireNonNull(mapper, "mapper");
+        checkArgument(chunkSize > 0, "chunkSize: %s (expected: > 0)", chunkSize);
+        requireNonNull(flushInterval, "flushInterval");
+        checkArgument(!flushInterval.isNegative(), "flushInterval: %s (expected: >= 0)", flushInterval);
+        final ByteBufAllocator alloc = RequestContext.mapCurrent(RequestContext::alloc,
+                                                                 () -> ByteBufAllocator.DEFAULT);
+        assert alloc != null;
+        return new JsonArrayEncoder(writer, ensureContentType(headers), trailers, mapper, alloc,
+                                    chunkSize, flushInterval.toNanos());
+    }
+
+    private static ResponseHeaders ensureContentType(ResponseHeaders headers) {
+        if (headers.contentType() != null) {
+            return headers;
+        }
+        return headers.toBuilder().contentType(MediaType.JSON_UTF_8).build();
+    }
+
+    /**
+     * Writes the elements of a JSON array into the pooled {@link ByteBuf}s and sends them as {@link HttpData}.
+     * This class is not thread-safe; all methods must be called sequentially.
+     */
+    private static final class JsonArrayEncoder extends OutputStream {
+
+        private final HttpResponseWriter writer;
+        private final ResponseHeaders headers;
+        private final HttpHeaders trailers;
+        private final ObjectMapper mapper;
+        private final ByteBufAllocator alloc;
+        private final int chunkSize;
+        private final long flushIntervalNanos;
+
+        @Nullable
+        private JsonGenerator generator;
+        @Nullable
+        private ByteBuf buf;
+        private boolean headersSent;
+        private long lastFlushNanos;
+
+        JsonArrayEncoder(HttpResponseWriter writer, ResponseHeaders headers, HttpHeaders trailers,
+                         ObjectMapper mapper, ByteBufAllocator alloc, int chunkSize, long flushIntervalNanos) {
+            this.writer = writer;
+            this.headers = headers;
+            this.trailers = trailers;
+            this.mapper = mapper;
+            this.alloc = alloc;
+            this.chunkSize = chunkSize;
+            this.flushIntervalNanos = flushIntervalNanos;
+            lastFlushNanos = System.nanoTime();
+        }
+
+        long flushIntervalNanos() {
+            return flushIntervalNanos;
+        }
+
+        boolean isOpen() {
+            return writer.isOpen();
+        }
+
+        /**
+         * Writes the specified element and returns whether a chunk has been sent.
+         */
+        boolean writeElement(@Nullable Object value) throws IOException {
+            final JsonGenerator generator = generator();
+            mapper.writeValue(generator, value);
+            generator.flush();
+            if (buf != null && buf.readableBytes() >= chunkSize) {
+                return sendChunk();
+            }
+            return false;
+        }
+
+        boolean isFlushIntervalElapsed() {
+            return flushIntervalNanos > 0 && System.nanoTime() - lastFlushNanos >= flushIntervalNanos;
+        }
+
+        /**
+         * Sends the buffered elements and returns whether a chunk has been sent.
+         */
+        boolean sendChunk() {
+            lastFlushNanos = System.nanoTime();
+            final ByteBuf buf = this.buf;
+            if (buf == null || !buf.isReadable()) {
+                return false;
+            }
+            this.buf = null;
+            if (!headersSent) {
+                headersSent = true;
+                if (!writer.tryWrite(headers)) {
+                    buf.release();
+                    return false;
+                }
+            }
+            // The buffer is released by the writer if it has been closed.
+            return writer.tryWrite(HttpData.wrap(buf));
+        }
+
+        void complete() throws IOException {
+            final JsonGenerator generator = generator();
+            generator.writeEndArray();
+            generator.close();
+            sendChunk();
+            if (!trailers.isEmpty()) {
+                writer.tryWrite(trailers);
+            }
+            writer.close();
+        }
+
+        void fail(Throwable cause) {
+            release();
+            writer.close(cause);
+        }
+
+        void release() {
+            if (buf != null) {
+                buf.release();
+                buf = null;
+            }
+        }
+
+        private JsonGenerator generator() throws IOException {
+            if (generator == null) {
+                generator = mapper.getFactory().createGenerator(this, JsonEncoding.UTF8);
+                generator.writeStartArray();
+            }
+            return generator;
+        }
+
+        private ByteBuf buf() {
+            if (buf == null) {
+                buf = alloc.buffer(chunkSize);
+            }
+            return buf;
+        }
+
+        @Override
+        public void write(int b) {
+            buf().writeByte(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buf().writeBytes(b, off, len);
+        }
+    }
+
+    /**
+     * Encodes the elements published by a {@link Publisher}. All signals and the scheduled flushes are
+     * handled by the same {@link EventExecutor}.
+     */
+    private static final class JsonArraySubscriber implements Subscriber<Object> {
+
+        private final JsonArrayEncoder encoder;
+        private final EventExecutor executor;
+        @Nullable
+        private Subscription subscription;
+        @Nullable
+        private ScheduledFuture<?> flushFuture;
+
+        JsonArraySubscriber(JsonArrayEncoder encoder, EventExecutor executor) {
+            this.encoder = encoder;
+            this.executor = executor;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            encoder.writer.whenComplete().handle((unused, cause) -> {
+                if (cause != null) {
+                    s.cancel();
+                    executor.execute(this::cleanUp);
+                }
+                return null;
+            });
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(Object value) {
+            final Subscription subscription = this.subscription;
+            assert subscription != null;
+            if (!encoder.isOpen()) {
+                return;
+            }
+            final boolean sent;
+            try {
+                sent = encoder.writeElement(value);
+            } catch (Throwable cause) {
+                subscription.cancel();
+                cleanUp();
+                encoder.fail(cause);
+                return;
+            }
+
+            if (sent) {
+                cancelFlush();
+                encoder.writer.whenConsumed().thenRun(() -> subscription.request(1));
+                return;
+            }
+            if (flushFuture == null && encoder.flushIntervalNanos() > 0) {
+                flushFuture = executor.schedule(this::flush, encoder.flushIntervalNanos(),
+                                                TimeUnit.NANOSECONDS);
+            }
+            subscription.request(1);
+        }
+
+        private void flush() {
+            flushFuture = null;
+            if (encoder.isOpen()) {
+                encoder.sendChunk();
+            }
+        }
+
+        @Override
+        public void onError(Throwable cause) {
+            cleanUp();
+            encoder.fail(cause);
+        }
+
+        @Override
+        public void onComplete() {
+            cancelFlush();
+            if (!encoder.isOpen()) {
+                encoder.release();
+                return;
+            }
+            try {
+                encoder.complete();
+            } catch (Throwable cause) {
+                encoder.fail(cause);
+            }
+        }
+
+        private void cleanUp() {
+            cancelFlush();
+            encoder.release();
+        }
+
+        private void cancelFlush() {
+            if (flushFuture != null) {
+                flushFuture.cancel(false);
+                flushFuture = null;
+            }
+        }
+    }
+
+    /**
+     * Encodes the elements of a {@link Stream}. The iteration is suspended whenever a chunk is sent and
+     * resumed in the {@link Executor} when the chunk has been consumed.
+     */
+    private static final class JsonArrayStreamDrainer implements Runnable {
+
+        private final JsonArrayEncoder encoder;
+        private final Stream<?> stream;
+        private final Executor executor;
+        @Nullable
+        private Iterator<?> iterator;
+
+        JsonArrayStreamDrainer(JsonArrayEncoder encoder, Stream<?> stream, Executor executor) {
+            this.encoder = encoder;
+            this.stream = stream;
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (iterator == null) {
+                    iterator = stream.sequential().iterator();
+                }
+                while (encoder.isOpen() && iterator.hasNext()) {
+                    boolean sent = encoder.writeElement(iterator.next());
+                    if (!sent && encoder.isFlushIntervalElapsed()) {
+                        sent = encoder.sendChunk();
+                    }
+                    if (sent) {
+                        // Resume even if the writer has been aborted, so that the stream is closed.
+                        encoder.writer.whenConsumed().handle((unused, cause) -> {
+                            executor.execute(this);
+                            return null;
+                        });
+                        return;
+                    }
+                }
+                stream.close();
+                if (encoder.isOpen()) {
+                    encoder.complete();
+                } else {
+                    encoder.release();
+                }
+            } catch (Throwable cause) {
+                stream.close();
+                encoder.fail(cause);
+            }
+        }
+    }
+
+    private JsonArrays() {}
+}
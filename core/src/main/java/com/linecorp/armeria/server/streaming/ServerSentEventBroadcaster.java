@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.streaming;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.linecorp.armeria.common.CommonPools;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.sse.ServerSentEvent;
+import com.linecorp.armeria.common.stream.ClosedStreamException;
+import com.linecorp.armeria.common.stream.DefaultStreamMessage;
+import com.linecorp.armeria.common.stream.SlowSubscriberPolicy;
+import com.linecorp.armeria.common.stream.StreamMessage;
+import com.linecorp.armeria.common.stream.StreamWriter;
+import com.linecorp.armeria.internal.common.stream.TopicBroadcaster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+
+/**
+ * Broadcasts {@link ServerSentEvent}s to the
+ * <a href="https://www.w3.org/TR/eventsource/">Server-Sent Events</a> streams subscribed to a topic.
+ * A broadcast event is encoded only once into a buffer shared by all subscribers, instead of being encoded
+ * for each stream.
+ *
+ * <pre>{@code
+ * ServerSentEventBroadcaster broadcaster = ServerSentEventBroadcaster.of();
+ * Server.builder()
+ *       .service("/notifications", (ctx, req) -> broadcaster.subscribe("notifications"));
+ *
+ * // Send a notification to all streams.
+ * broadcaster.broadcast("notifications", ServerSentEvent.ofData("Hello!"));
+ * }</pre>
+ *
+ * <h2>Replaying missed events</h2>
+ * When {@link ServerSentEventBroadcasterBuilder#maxReplayBytes(long)} is set, the recently broadcast events of
+ * each topic are kept in the encoded form. A client that reconnects with the {@code "Last-Event-ID"} header
+ * receives the events broadcast after that event before the new ones, without asking the backing store
+ * for the full state again. Only events with an {@linkplain ServerSentEvent#id() ID} can be resumed from.
+ * <pre>{@code
+ * ServerSentEventBroadcaster broadcaster =
+ *     ServerSentEventBroadcaster.builder()
+ *                               .maxReplayBytes(1024 * 1024)
+ *                               .maxReplayAge(Duration.ofMinutes(5))
+ *                               .meterIdPrefix(new MeterIdPrefix("notifications.broadcaster"))
+ *                               .build();
+ * Server.builder()
+ *       .service("/notifications", (ctx, req) -> {
+ *           String lastEventId = req.headers().get(HttpHeaderNames.LAST_EVENT_ID);
+ *           return broadcaster.subscribe("notifications", lastEventId);
+ *       });
+ * }</pre>
+ */
+@UnstableApi
+public final class ServerSentEventBroadcaster {
+
+    /**
+     * Returns a new {@link ServerSentEventBroadcaster} with the default options.
+     */
+    public static ServerSentEventBroadcaster of() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a new {@link ServerSentEventBroadcasterBuilder}.
+     */
+    public static ServerSentEventBroadcasterBuilder builder() {
+        return new ServerSentEventBroadcasterBuilder();
+    }
+
+    private final TopicBroadcaster<HttpData> broadcaster;
+    private final int maxPendingEvents;
+    private final long maxReplayBytes;
+    private final long maxReplayAgeNanos;
+    private final Map<String, ServerSentEventReplayBuffer> replayBuffers = new ConcurrentHashMap<>();
+    private final AtomicLong replayBufferBytes = new AtomicLong();
+    private final AtomicLong replayBufferEvents = new AtomicLong();
+    @Nullable
+    private final Counter replayedEvents;
+    @Nullable
+    private final Counter replayMisses;
+
+    ServerSentEventBroadcaster(int maxPendingEvents, SlowSubscriberPolicy slowSubscriberPolicy,
+                               long maxReplayBytes, long maxReplayAgeNanos,
+                               MeterRegistry meterRegistry, @Nullable MeterIdPrefix meterIdPrefix) {
+        broadcaster = new TopicBroadcaster<>(
+                maxPendingEvents, slowSubscriberPolicy,
+                () -> new ClosedStreamException("Too many pending events (max: " + maxPendingEvents + ')'));
+        this.maxPendingEvents = maxPendingEvents;
+        this.maxReplayBytes = maxReplayBytes;
+        this.maxReplayAgeNanos = maxReplayAgeNanos;
+
+        if (maxReplayBytes == 0) {
+            // Replaying is disabled. There's nothing to record.
+            replayedEvents = null;
+            replayMisses = null;
+            return;
+        }
+
+        assert meterIdPrefix != null;
+        final String replayBufferBytesName = meterIdPrefix.name("replay.buffer.bytes");
+        if (meterRegistry.find(replayBufferBytesName).tags(meterIdPrefix.tags()).meter() != null) {
+            // Micrometer returns the existing meter for the same ID, so the metrics of two broadcasters
+            // would be mixed up.
+            throw new IllegalStateException(
+                    "meterIdPrefix: " + meterIdPrefix + " (expected: not used by other broadcasters)");
+        }
+        Gauge.builder(replayBufferBytesName, replayBufferBytes, AtomicLong::get)
+             .tags(meterIdPrefix.tags())
+             .register(meterRegistry);
+        Gauge.builder(meterIdPrefix.name("replay.buffer.events"), replayBufferEvents, AtomicLong::get)
+             .tags(meterIdPrefix.tags())
+             .register(meterRegistry);
+        replayedEvents = Counter.builder(meterIdPrefix.name("replay.events"))
+                                .tags(meterIdPrefix.tags())
+                                .register(meterRegistry);
+        replayMisses = Counter.builder(meterIdPrefix.name("replay.misses"))
+                              .tags(meterIdPrefix.tags())
+                              .register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to the specified {@code topic}. The returned {@link HttpResponse} emits the events
+     * broadcast to the {@code topic} until the topic is {@linkplain #close(String) closed} or the client
+     * disconnects.
+     */
+    public HttpResponse subscribe(String topic) {
+        return subscribe(topic, ServerSentEvents.defaultHttpHeaders);
+    }
+
+    /**
+     * Subscribes to the specified {@code topic} with the specified {@link ResponseHeaders}.
+     * The returned {@link HttpResponse} emits the events broadcast to the {@code topic} until the topic is
+     * {@linkplain #close(String) closed} or the client disconnects.
+     */
+    public HttpResponse subscribe(String topic, ResponseHeaders headers) {
+        requireNonNull(topic, "topic");
+        requireNonNull(headers, "headers");
+        final DefaultStreamMessage<HttpData> writer =
+                (DefaultStreamMessage<HttpData>) StreamMessage.<HttpData>streaming();
+        final StreamMessage<HttpData> events = broadcaster.subscribe(topic, writer);
+        return HttpResponse.of(ServerSentEvents.sanitizeHeaders(headers), events);
+    }
+
+    /**
+     * Subscribes to the specified {@code topic}, resuming from the event whose ID is {@code lastEventId}.
+     * The returned {@link HttpResponse} emits the events broadcast after that event first, and then
+     * the events broadcast to the {@code topic} until the topic is {@linkplain #close(String) closed} or
+     * the client disconnects. If {@code lastEventId} is {@code null}, the event is not kept anymore or
+     * more events than {@link ServerSentEventBroadcasterBuilder#maxPendingEvents(int)} were broadcast after
+     * the event, only the new events are emitted.
+     *
+     * @param lastEventId the value of the {@link HttpHeaderNames#LAST_EVENT_ID} header of the request
+     */
+    public HttpResponse subscribe(String topic, @Nullable String lastEventId) {
+        return subscribe(topic, lastEventId, ServerSentEvents.defaultHttpHeaders);
+    }
+
+    /**
+     * Subscribes to the specified {@code topic} with the specified {@link ResponseHeaders}, resuming from
+     * the event whose ID is {@code lastEventId}. The returned {@link HttpResponse} emits the events
+     * broadcast after that event first, and then the events broadcast to the {@code topic} until the topic is
+     * {@linkplain #close(String) closed} or the client disconnects. If {@code lastEventId} is {@code null},
+     * the event is not kept anymore or more events than
+     * {@link ServerSentEventBroadcasterBuilder#maxPendingEvents(int)} were broadcast after the event, only
+     * the new events are emitted.
+     *
+     * @param lastEventId the value of the {@link HttpHeaderNames#LAST_EVENT_ID} header of the request
+     */
+    public HttpResponse subscribe(String topic, @Nullable String lastEventId, ResponseHeaders headers) {
+        requireNonNull(topic, "topic");
+        requireNonNull(headers, "headers");
+        if (lastEventId == null || maxReplayBytes == 0) {
+            return subscribe(topic, headers);
+        }
+
+        final DefaultStreamMessage<HttpData> writer =
+                (DefaultStreamMessage<HttpData>) StreamMessage.<HttpData>streaming();
+        final ServerSentEventReplayBuffer replayBuffer = replayBuffers.get(topic);
+        final StreamMessage<HttpData> events;
+        assert replayMisses != null && replayedEvents != null;
+        if (replayBuffer == null) {
+            replayMisses.increment();
+            events = broadcaster.subscribe(topic, writer);
+        } else {
+            // Subscribe while holding the lock so that no event is missed or sent twice
+            // between the replayed events and the new ones.
+            synchronized (replayBuffer) {
+                // Replaying more events than maxPendingEvents would bypass the SlowSubscriberPolicy,
+                // so treat it as if the events were not kept anymore.
+                final List<ByteBuf> missedEvents = replayBuffer.eventsAfter(lastEventId, maxPendingEvents);
+                if (missedEvents == null) {
+                    replayMisses.increment();
+                    events = broadcaster.subscribe(topic, writer);
+                } else {
+                    for (ByteBuf missedEvent : missedEvents) {
+                        writer.write(HttpData.wrap(missedEvent));
+                    }
+                    replayedEvents.increment(missedEvents.size());
+                    events = broadcaster.subscribe(topic, writer, missedEvents.size());
+                }
+            }
+        }
+        return HttpResponse.of(ServerSentEvents.sanitizeHeaders(headers), events);
+    }
+
+    /**
+     * Broadcasts the specified {@link ServerSentEvent} to the streams subscribed to the {@code topic}.
+     *
+     * @return the number of the streams that the event has been written to. A stream that has too many
+     *         pending events is not counted.
+     */
+    public int broadcast(String topic, ServerSentEvent event) {
+        requireNonNull(topic, "topic");
+        requireNonNull(event, "event");
+        final String text = ServerSentEvents.toText(event);
+        if (text.isEmpty()) {
+            return 0;
+        }
+        final ByteBuf encoded = ByteBufAllocator.DEFAULT.directBuffer(ByteBufUtil.utf8Bytes(text));
+        ByteBufUtil.writeUtf8(encoded, text);
+        if (maxReplayBytes == 0) {
+            return broadcaster.broadcast(topic, encoded, HttpData::wrap);
+        }
+
+        for (;;) {
+            final ServerSentEventReplayBuffer replayBuffer =
+                    replayBuffers.computeIfAbsent(topic, this::newReplayBuffer);
+            synchronized (replayBuffer) {
+                if (replayBuffer.isClosed()) {
+                    // The buffer has been removed because its events expired or the topic was closed.
+                    continue;
+                }
+                replayBuffer.add(event.id(), encoded.retain());
+                return broadcaster.broadcast(topic, encoded, HttpData::wrap);
+            }
+        }
+    }
+
+    private ServerSentEventReplayBuffer newReplayBuffer(String topic) {
+        // Remove the buffer once all of its events have expired, so that the topics that are not used
+        // anymore do not accumulate. A new buffer is created when an event is broadcast to the topic again.
+        return new ServerSentEventReplayBuffer(maxReplayBytes, maxReplayAgeNanos,
+                                               replayBufferBytes, replayBufferEvents,
+                                               CommonPools.workerGroup().next(),
+                                               buffer -> replayBuffers.remove(topic, buffer));
+    }
+
+    /**
+     * Closes the streams subscribed to the specified {@code topic} after the pending events are sent.
+     * The events kept for replaying are also discarded.
+     */
+    public void close(String topic) {
+        broadcaster.close(requireNonNull(topic, "topic"), StreamWriter::close);
+        final ServerSentEventReplayBuffer replayBuffer = replayBuffers.remove(topic);
+        if (replayBuffer != null) {
+            synchronized (replayBuffer) {
+                replayBuffer.close();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of the streams subscribed to the specified {@code topic}.
+     */
+    public int numSubscribers(String topic) {
+        return broadcaster.numSubscribers(requireNonNull(topic, "topic"));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.streaming;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.stream.SlowSubscriberPolicy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Builds a new {@link ServerSentEventBroadcaster}.
+ */
+@UnstableApi
+public final class ServerSentEventBroadcasterBuilder {
+
+    static final int DEFAULT_MAX_PENDING_EVENTS = 1024;
+
+    private int maxPendingEvents = DEFAULT_MAX_PENDING_EVENTS;
+    private SlowSubscriberPolicy slowSubscriberPolicy = SlowSubscriberPolicy.DROP;
+    private long maxReplayBytes;
+    private long maxReplayAgeNanos;
+    private MeterRegistry meterRegistry = Flags.meterRegistry();
+    @Nullable
+    private MeterIdPrefix meterIdPrefix;
+
+    ServerSentEventBroadcasterBuilder() {}
+
+    /**
+     * Sets the maximum number of the events that have been broadcast to a stream but not sent yet.
+     * When a stream reaches the limit, the {@link SlowSubscriberPolicy} is applied.
+     * If unspecified, {@value #DEFAULT_MAX_PENDING_EVENTS} is used.
+     */
+    public ServerSentEventBroadcasterBuilder maxPendingEvents(int maxPendingEvents) {
+        checkArgument(maxPendingEvents > 0, "maxPendingEvents: %s (expected: > 0)", maxPendingEvents);
+        this.maxPendingEvents = maxPendingEvents;
+        return this;
+    }
+
+    /**
+     * Sets the {@link SlowSubscriberPolicy} applied to a stream that has too many pending events.
+     * If unspecified, {@link SlowSubscriberPolicy#DROP} is used.
+     */
+    public ServerSentEventBroadcasterBuilder slowSubscriberPolicy(SlowSubscriberPolicy slowSubscriberPolicy) {
+        this.slowSubscriberPolicy = requireNonNull(slowSubscriberPolicy, "slowSubscriberPolicy");
+        return this;
+    }
+
+    /**
+     * Sets the maximum total length of the encoded events kept per topic, so that a client reconnecting
+     * with the {@code "Last-Event-ID"} header can receive the events it missed.
+     * When the limit is reached, the oldest events are discarded first.
+     * If unspecified, {@code 0} is used, which disables replaying.
+     * A {@link #meterIdPrefix(MeterIdPrefix)} must be specified when replaying is enabled.
+     *
+     * @see ServerSentEventBroadcaster#subscribe(String, String)
+     */
+    public ServerSentEventBroadcasterBuilder maxReplayBytes(long maxReplayBytes) {
+        checkArgument(maxReplayBytes >= 0, "maxReplayBytes: %s (expected: >= 0)", maxReplayBytes);
+        this.maxReplayBytes = maxReplayBytes;
+        return this;
+    }
+
+    /**
+     * Sets the maximum age of the events kept for replaying. An event older than this is not replayed
+     * to a reconnecting client and is discarded even if no more events are broadcast to its topic.
+     * If unspecified, {@link Duration#ZERO} is used, which means events are discarded only by
+     * {@link #maxReplayBytes(long)} or {@link ServerSentEventBroadcaster#close(String)}.
+     */
+    public ServerSentEventBroadcasterBuilder maxReplayAge(Duration maxReplayAge) {
+        requireNonNull(maxReplayAge, "maxReplayAge");
+        checkArgument(!maxReplayAge.isNegative(), "maxReplayAge: %s (expected: >= 0)", maxReplayAge);
+        maxReplayAgeNanos = maxReplayAge.toNanos();
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterRegistry} where the replay metrics are recorded. The metrics are recorded only
+     * when replaying is enabled with {@link #maxReplayBytes(long)}.
+     * If unspecified, {@link Flags#meterRegistry()} is used.
+     */
+    public ServerSentEventBroadcasterBuilder meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = requireNonNull(meterRegistry, "meterRegistry");
+        return this;
+    }
+
+    /**
+     * Sets the {@link MeterIdPrefix} of the replay metrics. It must be specified when replaying is enabled
+     * with {@link #maxReplayBytes(long)}, and must be different from the {@link MeterIdPrefix}es of
+     * the other {@link ServerSentEventBroadcaster}s that use the same {@link MeterRegistry}.
+     * The following metrics are recorded:
+     * <table>
+     * <caption>metrics</caption>
+     * <tr>
+     *   <th>metric name</th>
+     *   <th>description</th>
+     * </tr>
+     * <tr>
+     *   <td>{@code <name>.replay.buffer.bytes}</td>
+     *   <td>The total length of the events kept for replaying.</td>
+     * </tr>
+     * <tr>
+     *   <td>{@code <name>.replay.buffer.events}</td>
+     *   <td>The number of the events kept for replaying.</td>
+     * </tr>
+     * <tr>
+     *   <td>{@code <name>.replay.events}</td>
+     *   <td>The number of the events replayed to reconnecting clients.</td>
+     * </tr>
+     * <tr>
+     *   <td>{@code <name>.replay.misses}</td>
+     *   <td>The number of the reconnections whose {@code "Last-Event-ID"} was not kept anymore.</td>
+     * </tr>
+     * </table>
+     */
+    public ServerSentEventBroadcasterBuilder meterIdPrefix(MeterIdPrefix meterIdPrefix) {
+        this.meterIdPrefix = requireNonNull(meterIdPrefix, "meterIdPrefix");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link ServerSentEventBroadcaster} based on the properties of this builder.
+     */
+    public ServerSentEventBroadcaster build() {
+        checkState(maxReplayBytes == 0 || meterIdPrefix != null,
+                   "meterIdPrefix must be set when maxReplayBytes is set.");
+        return new ServerSentEventBroadcaster(maxPendingEvents, slowSubscriberPolicy,
+                                              maxReplayBytes, maxReplayAgeNanos,
+                                              meterRegistry, meterIdPrefix);
+    }
+}
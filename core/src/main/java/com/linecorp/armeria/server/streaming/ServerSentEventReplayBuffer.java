@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.streaming;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.google.common.collect.ImmutableList;
+
+import com.linecorp.armeria.common.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Keeps the recently broadcast events of a topic in the encoded form, so that the events missed by
+ * a reconnecting client can be replayed from the {@code "Last-Event-ID"} header. The oldest events are
+ * evicted when the total size of the events exceeds {@code maxBytes} or when they get older than
+ * {@code maxAgeNanos}.
+ *
+ * <p>Each event is given a sequence number and the sequence number of the last event with each ID is
+ * indexed, so that the events after an ID are found without scanning the older events. The expired events
+ * are evicted by a task scheduled at the expiry of the oldest event, so that an idle topic does not keep
+ * them. When all events have expired, this buffer is closed and {@code onExpiration} is notified.
+ *
+ * <p>This class is not thread-safe. All methods must be called while holding the lock of this object.
+ */
+final class ServerSentEventReplayBuffer {
+
+    private final long maxBytes;
+    private final long maxAgeNanos;
+    private final AtomicLong totalBytes;
+    private final AtomicLong totalEvents;
+    private final EventExecutor executor;
+    private final Consumer<ServerSentEventReplayBuffer> onExpiration;
+
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private final Map<String, Long> seqsById = new HashMap<>();
+    private long nextSeq;
+    private long numBytes;
+    @Nullable
+    private ScheduledFuture<?> evictionFuture;
+    private boolean closed;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxAgeNanos the maximum age of an event, or {@code 0} to keep an event regardless of its age
+     * @param totalBytes the counter of the bytes buffered by all topics
+     * @param totalEvents the counter of the events buffered by all topics
+     * @param executor the {@link EventExecutor} that evicts the expired events
+     * @param onExpiration invoked with this buffer, while holding its lock, when this buffer is closed
+     *                     because all events have expired
+     */
+    ServerSentEventReplayBuffer(long maxBytes, long maxAgeNanos, AtomicLong totalBytes,
+                                AtomicLong totalEvents, EventExecutor executor,
+                                Consumer<ServerSentEventReplayBuffer> onExpiration) {
+        this.maxBytes = maxBytes;
+        this.maxAgeNanos = maxAgeNanos;
+        this.totalBytes = totalBytes;
+        this.totalEvents = totalEvents;
+        this.executor = executor;
+        this.onExpiration = onExpiration;
+    }
+
+    /**
+     * Returns whether this buffer has been closed. A closed buffer does not keep the events added later.
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Adds the specified encoded event. The {@link ByteBuf} is owned by this buffer.
+     */
+    void add(@Nullable String id, ByteBuf encoded) {
+        if (closed) {
+            encoded.release();
+            return;
+        }
+
+        final int length = encoded.readableBytes();
+        if (length > maxBytes) {
+            // Too large to keep. Remove all events so that a client which missed this event does not
+            // see the events after it as if nothing was missed.
+            encoded.release();
+            clear();
+            return;
+        }
+
+        final long seq = nextSeq++;
+        entries.add(new Entry(id, seq, encoded, System.nanoTime()));
+        if (id != null) {
+            seqsById.put(id, seq);
+        }
+        numBytes += length;
+        totalBytes.addAndGet(length);
+        totalEvents.incrementAndGet();
+        while (numBytes > maxBytes) {
+            evictFirst();
+        }
+        evictExpired();
+        scheduleEviction();
+    }
+
+    /**
+     * Returns the retained duplicates of the events after the last event whose ID is {@code lastEventId},
+     * or {@code null} if the event is not in this buffer anymore or more than {@code maxEvents} events
+     * were added after the event.
+     */
+    @Nullable
+    List<ByteBuf> eventsAfter(String lastEventId, int maxEvents) {
+        evictExpired();
+
+        final Long seq = seqsById.get(lastEventId);
+        if (seq == null) {
+            return null;
+        }
+        // The sequence numbers of the entries are contiguous because events are evicted from the head.
+        final long numEvents = nextSeq - 1 - seq;
+        if (numEvents > maxEvents) {
+            return null;
+        }
+
+        final ByteBuf[] events = new ByteBuf[(int) numEvents];
+        final Iterator<Entry> it = entries.descendingIterator();
+        for (int i = events.length - 1; i >= 0; i--) {
+            events[i] = it.next().encoded.retainedDuplicate();
+        }
+        return ImmutableList.copyOf(events);
+    }
+
+    /**
+     * Releases all events and rejects the events added later.
+     */
+    void close() {
+        closed = true;
+        clear();
+        if (evictionFuture != null) {
+            evictionFuture.cancel(false);
+            evictionFuture = null;
+        }
+    }
+
+    private void clear() {
+        while (!entries.isEmpty()) {
+            evictFirst();
+        }
+    }
+
+    private void scheduleEviction() {
+        if (maxAgeNanos == 0 || evictionFuture != null) {
+            return;
+        }
+        final Entry first = entries.peekFirst();
+        if (first == null) {
+            return;
+        }
+        final long delayNanos = Math.max(0, first.createdNanos + maxAgeNanos - System.nanoTime());
+        evictionFuture = executor.schedule(this::onEvictionTimeout, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void onEvictionTimeout() {
+        synchronized (this) {
+            evictionFuture = null;
+            if (closed) {
+                return;
+            }
+            evictExpired();
+            if (entries.isEmpty()) {
+                close();
+                onExpiration.accept(this);
+            } else {
+                scheduleEviction();
+            }
+        }
+    }
+
+    private void evictExpired() {
+        if (maxAgeNanos == 0) {
+            return;
+        }
+        final long now = System.nanoTime();
+        for (;;) {
+            final Entry first = entries.peekFirst();
+            if (first == null || now - first.createdNanos < maxAgeNanos) {
+                break;
+            }
+            evictFirst();
+        }
+    }
+
+    private void evictFirst() {
+        final Entry entry = entries.removeFirst();
+        if (entry.id != null) {
+            // Keep the index if a later event has the same ID.
+            seqsById.remove(entry.id, entry.seq);
+        }
+        final int length = entry.encoded.readableBytes();
+        numBytes -= length;
+        totalBytes.addAndGet(-length);
+        totalEvents.decrementAndGet();
+        entry.encoded.release();
+    }
+
+    private static final class Entry {
+        @Nullable
+        final String id;
+        final long seq;
+        final ByteBuf encoded;
+        final long createdNanos;
+
+        Entry(@Nullable String id, long seq, ByteBuf encoded, long createdNanos) {
+            this.id = id;
+            this.seq = seq;
+            this.encoded = encoded;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
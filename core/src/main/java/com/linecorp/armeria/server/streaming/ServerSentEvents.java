@@ -78,7 +78,7 @@ public final class ServerSentEvents {
     /**
      * A default {@link ResponseHeaders} of Server-Sent Events.
      */
-    private static final ResponseHeaders defaultHttpHeaders =
+    static final ResponseHeaders defaultHttpHeaders =
             ResponseHeaders.builder(HttpStatus.OK)
                            .contentType(MediaType.EVENT_STREAM)
                            .build();
@@ -287,7 +287,7 @@ public final class ServerSentEvents {
         return HttpResponse.of(sanitizeHeaders(headers), toHttpData(sse), trailers);
     }
 
-    private static ResponseHeaders sanitizeHeaders(ResponseHeaders headers) {
+    static ResponseHeaders sanitizeHeaders(ResponseHeaders headers) {
         if (headers == defaultHttpHeaders) {
             return headers;
         }
@@ -339,6 +339,15 @@ public final class ServerSentEvents {
     }
 
     private static HttpData toHttpData(ServerSentEvent sse) {
+        final String text = toText(sse);
+        return text.isEmpty() ? HttpData.empty() : HttpData.ofUtf8(text);
+    }
+
+    /**
+     * Returns the text representation of the specified {@link ServerSentEvent} in the event stream format,
+     * or an empty string if the {@link ServerSentEvent} has no fields.
+     */
+    static String toText(ServerSentEvent sse) {
         final StringBuilder sb = new StringBuilder();
 
         // Write a comment first because a user might want to explain his or her event at first line.
@@ -368,8 +377,7 @@ public final class ServerSentEvents {
             sb.append("retry:").append(retry.toMillis()).append(LINE_FEED);
         }
 
-        return sb.length() == 0 ? HttpData.empty()
-                                : HttpData.ofUtf8(sb.append(LINE_FEED).toString());
+        return sb.length() == 0 ? "" : sb.append(LINE_FEED).toString();
     }
 
     private static <T> HttpData toHttpData(
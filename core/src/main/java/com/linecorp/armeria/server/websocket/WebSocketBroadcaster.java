@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.websocket;
+
+import static java.util.Objects.requireNonNull;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.stream.SlowSubscriberPolicy;
+import com.linecorp.armeria.common.websocket.WebSocket;
+import com.linecorp.armeria.common.websocket.WebSocketCloseStatus;
+import com.linecorp.armeria.common.websocket.WebSocketFrame;
+import com.linecorp.armeria.common.websocket.WebSocketFrameType;
+import com.linecorp.armeria.common.websocket.WebSocketWriter;
+import com.linecorp.armeria.internal.common.stream.TopicBroadcaster;
+import com.linecorp.armeria.internal.common.websocket.PreEncodedWebSocketFrame;
+import com.linecorp.armeria.internal.common.websocket.WebSocketFrameEncoder;
+import com.linecorp.armeria.internal.common.websocket.WebSocketWrapper;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * Broadcasts {@link WebSocketFrame}s to the WebSocket sessions subscribed to a topic.
+ * A broadcast frame is encoded only once into a buffer shared by all subscribers, instead of being encoded
+ * for each session.
+ *
+ * <pre>{@code
+ * WebSocketBroadcaster broadcaster = WebSocketBroadcaster.of();
+ * Server.builder()
+ *       .service("/notifications", WebSocketService.of((ctx, in) -> {
+ *           in.subscribe(...); // Handle the inbound frames.
+ *           return broadcaster.subscribe("notifications");
+ *       }));
+ *
+ * // Send a notification to all sessions.
+ * broadcaster.broadcast("notifications", WebSocketFrame.ofText("Hello!"));
+ * }</pre>
+ *
+ * <p>A broadcast frame is not compressed even if the permessage-deflate extension has been negotiated,
+ * because the compression context differs for each session.
+ */
+@UnstableApi
+public final class WebSocketBroadcaster {
+
+    // Server-side encoder do not mask the payloads.
+    private static final WebSocketFrameEncoder encoder = WebSocketFrameEncoder.of(false);
+
+    /**
+     * Returns a new {@link WebSocketBroadcaster} with the default options.
+     */
+    public static WebSocketBroadcaster of() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a new {@link WebSocketBroadcasterBuilder}.
+     */
+    public static WebSocketBroadcasterBuilder builder() {
+        return new WebSocketBroadcasterBuilder();
+    }
+
+    private final TopicBroadcaster<WebSocketFrame> broadcaster;
+
+    WebSocketBroadcaster(int maxPendingMessages, SlowSubscriberPolicy slowSubscriberPolicy) {
+        broadcaster = new TopicBroadcaster<>(
+                maxPendingMessages, slowSubscriberPolicy,
+                () -> new WebSocketProtocolViolationException(
+                        WebSocketCloseStatus.POLICY_VIOLATION,
+                        "Too many pending messages (max: " + maxPendingMessages + ')'));
+    }
+
+    /**
+     * Subscribes to the specified {@code topic}. The returned {@link WebSocket} emits the frames broadcast to
+     * the {@code topic} and is usually returned by {@link WebSocketServiceHandler#handle}.
+     * The session is unsubscribed when the returned {@link WebSocket} is complete.
+     */
+    public WebSocket subscribe(String topic) {
+        final WebSocketWriter writer = WebSocket.streaming();
+        return new WebSocketWrapper(broadcaster.subscribe(topic, writer));
+    }
+
+    /**
+     * Broadcasts the specified {@link WebSocketFrame} to the sessions subscribed to the {@code topic}.
+     * Only a final {@link WebSocketFrameType#TEXT}, {@link WebSocketFrameType#BINARY},
+     * {@link WebSocketFrameType#PING} or {@link WebSocketFrameType#PONG} frame can be broadcast.
+     * Use {@link #close(String)} to close the sessions.
+     *
+     * @return the number of the sessions that the frame has been written to. A session that has too many
+     *         pending frames is not counted.
+     */
+    public int broadcast(String topic, WebSocketFrame frame) {
+        requireNonNull(topic, "topic");
+        requireNonNull(frame, "frame");
+        final WebSocketFrameType type = frame.type();
+        if (type == WebSocketFrameType.CLOSE || type == WebSocketFrameType.CONTINUATION ||
+            !frame.isFinalFragment()) {
+            final boolean finalFragment = frame.isFinalFragment();
+            frame.close();
+            throw new IllegalArgumentException(
+                    "frame type: " + type + ", finalFragment: " + finalFragment +
+                    " (expected: a final TEXT, BINARY, PING or PONG frame)");
+        }
+
+        final int payloadLength = frame.length();
+        final ByteBuf encoded = encoder.encodeShared(ByteBufAllocator.DEFAULT, frame);
+        return broadcaster.broadcast(topic, encoded,
+                                     buf -> new PreEncodedWebSocketFrame(buf, payloadLength, type));
+    }
+
+    /**
+     * Closes the sessions subscribed to the specified {@code topic} with
+     * {@link WebSocketCloseStatus#NORMAL_CLOSURE}.
+     */
+    public void close(String topic) {
+        close(topic, WebSocketCloseStatus.NORMAL_CLOSURE);
+    }
+
+    /**
+     * Closes the sessions subscribed to the specified {@code topic} with the {@link WebSocketCloseStatus}.
+     */
+    public void close(String topic, WebSocketCloseStatus status) {
+        requireNonNull(topic, "topic");
+        requireNonNull(status, "status");
+        broadcaster.close(topic, writer -> ((WebSocketWriter) writer).close(status));
+    }
+
+    /**
+     * Returns the number of the sessions subscribed to the specified {@code topic}.
+     */
+    public int numSubscribers(String topic) {
+        return broadcaster.numSubscribers(requireNonNull(topic, "topic"));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.websocket;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.stream.SlowSubscriberPolicy;
+import com.linecorp.armeria.common.websocket.WebSocketCloseStatus;
+
+/**
+ * Builds a new {@link WebSocketBroadcaster}.
+ */
+@UnstableApi
+public final class WebSocketBroadcasterBuilder {
+
+    static final int DEFAULT_MAX_PENDING_MESSAGES = 1024;
+
+    private int maxPendingMessages = DEFAULT_MAX_PENDING_MESSAGES;
+    private SlowSubscriberPolicy slowSubscriberPolicy = SlowSubscriberPolicy.DROP;
+
+    WebSocketBroadcasterBuilder() {}
+
+    /**
+     * Sets the maximum number of the frames that have been broadcast to a session but not sent yet.
+     * When a session reaches the limit, the {@link SlowSubscriberPolicy} is applied.
+     * If unspecified, {@value #DEFAULT_MAX_PENDING_MESSAGES} is used.
+     */
+    public WebSocketBroadcasterBuilder maxPendingMessages(int maxPendingMessages) {
+        checkArgument(maxPendingMessages > 0, "maxPendingMessages: %s (expected: > 0)", maxPendingMessages);
+        this.maxPendingMessages = maxPendingMessages;
+        return this;
+    }
+
+    /**
+     * Sets the {@link SlowSubscriberPolicy} applied to a session that has too many pending frames.
+     * When {@link SlowSubscriberPolicy#DISCONNECT} is used, the session is closed with
+     * {@link WebSocketCloseStatus#POLICY_VIOLATION}. If unspecified, {@link SlowSubscriberPolicy#DROP} is
+     * used.
+     */
+    public WebSocketBroadcasterBuilder slowSubscriberPolicy(SlowSubscriberPolicy slowSubscriberPolicy) {
+        this.slowSubscriberPolicy = requireNonNull(slowSubscriberPolicy, "slowSubscriberPolicy");
+        return this;
+    }
+
+    /**
+     * Returns a newly-created {@link WebSocketBroadcaster} based on the properties of this builder.
+     */
+    public WebSocketBroadcaster build() {
+        return new WebSocketBroadcaster(maxPendingMessages, slowSubscriberPolicy);
+    }
+}
@@ -33,6 +33,7 @@ import com.google.common.collect.ImmutableSet;
 
 import com.linecorp.armeria.common.annotation.Nullable;
 import com.linecorp.armeria.common.annotation.UnstableApi;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
 import com.linecorp.armeria.common.websocket.WebSocketCloseStatus;
 import com.linecorp.armeria.common.websocket.WebSocketFrameType;
 import com.linecorp.armeria.internal.common.websocket.WebSocketUtil;
@@ -80,6 +81,8 @@ public final class WebSocketServiceBuilder {
     private Predicate<? super String> originPredicate;
     private boolean aggregateContinuation;
     @Nullable
+    private PerMessageDeflateConfig perMessageDeflateConfig;
+    @Nullable
     private HttpService fallbackService;
     private ServiceOptions serviceOptions = DEFAULT_OPTIONS;
 
@@ -142,6 +145,29 @@ public final class WebSocketServiceBuilder {
         return this;
     }
 
+    /**
+     * Sets whether to accept the <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a>
+     * extension offered by a client with {@link PerMessageDeflateConfig#of()}. It's disabled by default.
+     *
+     * @see #perMessageDeflate(PerMessageDeflateConfig)
+     */
+    public WebSocketServiceBuilder perMessageDeflate(boolean perMessageDeflate) {
+        perMessageDeflateConfig = perMessageDeflate ? PerMessageDeflateConfig.of() : null;
+        return this;
+    }
+
+    /**
+     * Sets the {@link PerMessageDeflateConfig} to accept the
+     * <a href="https://datatracker.ietf.org/doc/html/rfc7692">permessage-deflate</a> extension offered by
+     * a client. When the extension is negotiated, the data messages larger than
+     * {@link PerMessageDeflateConfig#minCompressionSize()} are compressed, and the decompressed payload of
+     * a received frame must not exceed {@link #maxFramePayloadLength(int)}.
+     */
+    public WebSocketServiceBuilder perMessageDeflate(PerMessageDeflateConfig perMessageDeflateConfig) {
+        this.perMessageDeflateConfig = requireNonNull(perMessageDeflateConfig, "perMessageDeflateConfig");
+        return this;
+    }
+
     /**
      * Sets the allowed origins. The same-origin is allowed by default.
      * Specify {@value ANY_ORIGIN} to allow any origins.
@@ -247,6 +273,6 @@ public final class WebSocketServiceBuilder {
         }
         return new DefaultWebSocketService(handler, fallbackService, maxFramePayloadLength, allowMaskMismatch,
                                            subprotocols, allowAnyOrigin, originPredicate, aggregateContinuation,
-                                           serviceOptions);
+                                           perMessageDeflateConfig, serviceOptions);
     }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.util.Exceptions;
+import com.linecorp.armeria.server.HttpService;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class DeadlinePropagationTest {
+
+    private static final AtomicBoolean decoratorSawTimeout = new AtomicBoolean();
+
+    @RegisterExtension
+    static ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.useClientTimeoutHeader(true);
+            sb.requestTimeoutMillis(10_000);
+
+            // Returns the request timeout which was derived from the header.
+            sb.service("/backend", (ctx, req) -> HttpResponse.of(
+                    ctx.requestTimeoutMillis() + "," + req.headers().get("armeria-request-timeout")));
+
+            sb.service("/decorated", ((HttpService) (ctx, req) -> HttpResponse.of("OK"))
+                    .decorate((delegate, ctx, req) -> {
+                        decoratorSawTimeout.set(ctx.isTimedOut());
+                        return delegate.serve(ctx, req);
+                    }));
+
+            sb.service("/frontend", (ctx, req) -> {
+                ctx.setRequestTimeoutMillis(1000);
+                return client(Duration.ofMillis(100)).get("/backend");
+            });
+            sb.service("/tooLate", (ctx, req) -> {
+                ctx.setRequestTimeoutMillis(50);
+                return HttpResponse.of(client(Duration.ofMillis(100)).get("/backend").aggregate().handle(
+                        (res, cause) -> HttpResponse.of(Exceptions.peel(cause).getClass().getSimpleName())));
+            });
+        }
+    };
+
+    private static WebClient client(Duration safetyMargin) {
+        return WebClient.builder(server.httpUri())
+                        .responseTimeoutMillis(5000)
+                        .contextCustomizer(DeadlinePropagation.contextCustomizer(safetyMargin))
+                        .build();
+    }
+
+    @Test
+    void propagateRemainingTimeout() {
+        final AggregatedHttpResponse res = server.blockingWebClient().get("/frontend");
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        final String[] values = res.contentUtf8().split(",");
+        final long backendTimeoutMillis = Long.parseLong(values[0]);
+        final long headerMillis = Long.parseLong(values[1]);
+        // 1000ms minus the safety margin of 100ms and the time spent so far.
+        assertThat(headerMillis).isBetween(1L, 900L);
+        assertThat(backendTimeoutMillis).isEqualTo(headerMillis);
+    }
+
+    @Test
+    void shedRequestPastDeadline() {
+        final AggregatedHttpResponse res = server.blockingWebClient().get("/tooLate");
+        assertThat(res.contentUtf8()).isEqualTo(ResponseTimeoutException.class.getSimpleName());
+    }
+
+    @Test
+    void headerWithoutParent() {
+        final AggregatedHttpResponse res = client(Duration.ZERO).blocking().get("/backend");
+        assertThat(res.contentUtf8()).isEqualTo("5000,5000");
+    }
+
+    @Test
+    void serverShedsExpiredRequest() {
+        final AggregatedHttpResponse res =
+                server.blockingWebClient().prepare()
+                      .get("/backend")
+                      .header("armeria-request-timeout", 0)
+                      .execute();
+        assertThat(res.status()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void expiredRequestGoesThroughDecorators() {
+        decoratorSawTimeout.set(false);
+        final AggregatedHttpResponse res =
+                server.blockingWebClient().prepare()
+                      .get("/decorated")
+                      .header("armeria-request-timeout", 0)
+                      .execute();
+        assertThat(res.status()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(decoratorSawTimeout).isTrue();
+    }
+}
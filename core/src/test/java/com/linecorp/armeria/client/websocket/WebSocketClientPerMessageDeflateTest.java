@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.client.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.client.websocket.WebSocketClientTest.WebSocketServiceEchoHandler;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.SerializationFormat;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
+import com.linecorp.armeria.common.websocket.WebSocketCloseStatus;
+import com.linecorp.armeria.common.websocket.WebSocketFrame;
+import com.linecorp.armeria.common.websocket.WebSocketWriter;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.websocket.WebSocketService;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class WebSocketClientPerMessageDeflateTest {
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.route()
+              .get("/chat")
+              .connect("/chat")
+              .requestAutoAbortDelayMillis(5000)
+              .build(WebSocketService.builder(new WebSocketServiceEchoHandler())
+                                     .perMessageDeflate(true)
+                                     .build());
+            sb.route()
+              .get("/no-context-takeover")
+              .connect("/no-context-takeover")
+              .requestAutoAbortDelayMillis(5000)
+              .build(WebSocketService.builder(new WebSocketServiceEchoHandler())
+                                     .perMessageDeflate(PerMessageDeflateConfig.builder()
+                                                                               .serverNoContextTakeover(true)
+                                                                               .clientNoContextTakeover(true)
+                                                                               .build())
+                                     .build());
+            sb.route()
+              .get("/uncompressed")
+              .connect("/uncompressed")
+              .requestAutoAbortDelayMillis(5000)
+              .build(WebSocketService.of(new WebSocketServiceEchoHandler()));
+        }
+    };
+
+    @CsvSource({
+            "H1C, /chat",
+            "H2C, /chat",
+            "H1C, /no-context-takeover",
+            "H2C, /no-context-takeover"
+    })
+    @ParameterizedTest
+    void echoCompressedMessages(SessionProtocol protocol, String path) throws Exception {
+        final WebSocketClient client =
+                WebSocketClient.builder(server.uri(protocol, SerializationFormat.WS))
+                               .perMessageDeflate(true)
+                               .build();
+        final WebSocketSession session = client.connect(path).join();
+        assertThat(session.responseHeaders().get(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS))
+                .startsWith("permessage-deflate");
+        assertEcho(session, protocol);
+    }
+
+    @CsvSource({ "H1C", "H2C" })
+    @ParameterizedTest
+    void serverWithoutExtension(SessionProtocol protocol) throws Exception {
+        final WebSocketClient client =
+                WebSocketClient.builder(server.uri(protocol, SerializationFormat.WS))
+                               .perMessageDeflate(true)
+                               .build();
+        final WebSocketSession session = client.connect("/uncompressed").join();
+        assertThat(session.responseHeaders().contains(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS)).isFalse();
+        assertEcho(session, protocol);
+    }
+
+    @CsvSource({ "H1C", "H2C" })
+    @ParameterizedTest
+    void clientWithoutExtension(SessionProtocol protocol) throws Exception {
+        final WebSocketSession session = WebSocketClient.of(server.uri(protocol, SerializationFormat.WS))
+                                                        .connect("/chat").join();
+        assertThat(session.responseHeaders().contains(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS)).isFalse();
+        assertEcho(session, protocol);
+    }
+
+    private static void assertEcho(WebSocketSession session, SessionProtocol protocol) throws Exception {
+        final WebSocketWriter outbound = session.outbound();
+        final WebSocketInboundTestHandler inboundHandler =
+                new WebSocketInboundTestHandler(session.inbound(), protocol);
+
+        final String large = Strings.repeat("Hello, Armeria! ", 1024);
+        for (int i = 0; i < 3; i++) {
+            outbound.write(WebSocketFrame.ofText(large));
+            assertThat(inboundHandler.inboundQueue().take()).isEqualTo(WebSocketFrame.ofText(large));
+        }
+        outbound.write(WebSocketFrame.ofText("small"));
+        assertThat(inboundHandler.inboundQueue().take()).isEqualTo(WebSocketFrame.ofText("small"));
+
+        outbound.close(WebSocketCloseStatus.NORMAL_CLOSURE);
+        assertThat(inboundHandler.inboundQueue().take())
+                .isEqualTo(WebSocketFrame.ofClose(WebSocketCloseStatus.NORMAL_CLOSURE));
+        inboundHandler.completionFuture().join();
+    }
+}
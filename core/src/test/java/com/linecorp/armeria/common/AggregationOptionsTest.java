@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
@@ -35,11 +37,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
 
 import com.linecorp.armeria.common.stream.StreamMessage;
 import com.linecorp.armeria.internal.common.HeaderOverridingHttpRequest;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
 import reactor.core.publisher.Flux;
 
 class AggregationOptionsTest {
@@ -191,6 +197,44 @@ class AggregationOptionsTest {
                 .hasMessageContaining("the stream was aggregated");
     }
 
+    @Test
+    void disallowCompositeBufferWithoutPooledObjects() {
+        assertThatThrownBy(() -> AggregationOptions.builder().compositeBuffer(true).build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("without pooled objects");
+    }
+
+    @Test
+    void compositeBuffer() throws Exception {
+        final ByteBuf first = ByteBufUtil.writeUtf8(ByteBufAllocator.DEFAULT, "foo");
+        final ByteBuf second = ByteBufUtil.writeUtf8(ByteBufAllocator.DEFAULT, "bar");
+        final HttpRequest request = HttpRequest.of(RequestHeaders.of(HttpMethod.POST, "/"),
+                                                   HttpData.wrap(first), HttpData.empty(),
+                                                   HttpData.wrap(second), HttpData.ofUtf8("baz"));
+        final AggregationOptions options = AggregationOptions.builder()
+                                                             .usePooledObjects(ByteBufAllocator.DEFAULT)
+                                                             .compositeBuffer(true)
+                                                             .build();
+        final AggregatedHttpRequest agg = request.aggregate(options).join();
+        try (HttpData content = agg.content()) {
+            assertThat(content.isPooled()).isTrue();
+            final ByteBuf buf = content.byteBuf();
+            assertThat(buf).isInstanceOf(CompositeByteBuf.class);
+            // The empty data is not added as a component.
+            assertThat(((CompositeByteBuf) buf).numComponents()).isEqualTo(3);
+            // The received buffers are not copied.
+            assertThat(first.refCnt()).isOne();
+            assertThat(second.refCnt()).isOne();
+
+            try (InputStream in = content.toInputStream()) {
+                assertThat(new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8))
+                        .isEqualTo("foobarbaz");
+            }
+        }
+        assertThat(first.refCnt()).isZero();
+        assertThat(second.refCnt()).isZero();
+    }
+
     @Test
     void testConcurrentAggregation() throws InterruptedException {
         final HttpRequest request = HttpRequest.of(RequestHeaders.of(HttpMethod.GET, "/"), HttpData.ofUtf8("1"),
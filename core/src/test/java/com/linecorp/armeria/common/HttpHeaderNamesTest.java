@@ -73,6 +73,19 @@ class HttpHeaderNamesTest {
         assertThat((Object) HttpHeaderNames.of(AsciiString.of("date"))).isSameAs(HttpHeaderNames.DATE);
     }
 
+    @Test
+    void decodedNamesAreInterned() {
+        // A name decoded from the wire is a new instance, but the headers should keep the known instance.
+        final HttpHeaders headers = HttpHeaders.builder()
+                                               .add(new AsciiString("user-agent".getBytes()), "foo")
+                                               .add(new AsciiString("X-Custom".getBytes()), "bar")
+                                               .build();
+        assertThat(headers.names()).anySatisfy(
+                name -> assertThat((Object) name).isSameAs(HttpHeaderNames.USER_AGENT));
+        assertThat(headers.get(HttpHeaderNames.USER_AGENT)).isEqualTo("foo");
+        assertThat(headers.get("x-custom")).isEqualTo("bar");
+    }
+
     @Test
     void testOfCharSequence() {
         // Should produce a lower-cased AsciiString.
@@ -198,4 +198,77 @@ class AsyncMapStreamMessageTest {
                     .expectNext(2, 1)
                     .verifyComplete();
     }
+
+    @Test
+    void fuseUpstreamMapAndFilter() {
+        final StreamMessage<Integer> streamMessage = StreamMessage.of(1, 2, 3, 4, 5, 6);
+        final StreamMessage<Integer> fused =
+                streamMessage.filter(x -> x % 2 == 0)
+                             .map(x -> x * 10)
+                             .mapAsync(x -> UnmodifiableFuture.completedFuture(x + 1));
+        assertThat(fused).isInstanceOf(AsyncMapStreamMessage.class);
+
+        StepVerifier.create(fused, 1)
+                    .expectNext(21)
+                    .thenRequest(1)
+                    .expectNext(41)
+                    .thenRequest(1)
+                    .expectNext(61)
+                    .verifyComplete();
+    }
+
+    @Test
+    void fuseDownstreamMapAndFilter() {
+        final StreamMessage<Integer> streamMessage = StreamMessage.of(1, 2, 3, 4, 5, 6);
+        final StreamMessage<String> fused =
+                streamMessage.mapParallel(x -> UnmodifiableFuture.completedFuture(x + 1), 2)
+                             .filter(x -> x % 3 == 0)
+                             .map(x -> "n" + x);
+        assertThat(fused).isInstanceOf(AsyncMapStreamMessage.class);
+
+        StepVerifier.create(fused, 1)
+                    .expectNext("n3")
+                    .thenRequest(1)
+                    .expectNext("n6")
+                    .thenRequest(1)
+                    .verifyComplete();
+    }
+
+    @Test
+    void fusedDownstreamFilterLastItem() {
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        final StreamMessage<Integer> fused = StreamMessage.of(1)
+                                                          .mapAsync(x -> future)
+                                                          .filter(x -> x > 1);
+
+        StepVerifier.create(fused)
+                    .then(() -> future.complete(1))
+                    .verifyComplete();
+    }
+
+    @Test
+    void fusedDownstreamMapThrowsException() {
+        final StreamMessage<Integer> fused =
+                StreamMessage.of(0)
+                             .mapAsync(x -> UnmodifiableFuture.completedFuture(x))
+                             .map(x -> 2 / x);
+
+        StepVerifier.create(fused)
+                    .expectError(ArithmeticException.class)
+                    .verify();
+    }
+
+    @Test
+    void errorFunctionIsNotFused() {
+        final RuntimeException cause = new RuntimeException();
+        final StreamMessage<Integer> streamMessage =
+                StreamMessage.of(1)
+                             .mapError(ex -> new IllegalStateException(ex))
+                             .mapAsync(x -> UnmodifiableFuture.exceptionallyCompletedFuture(cause));
+
+        // The error raised by mapAsync() should not be transformed by the upstream mapError().
+        StepVerifier.create(streamMessage)
+                    .expectErrorMatches(error -> error == cause)
+                    .verify();
+    }
 }
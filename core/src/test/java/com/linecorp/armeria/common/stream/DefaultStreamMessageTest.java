@@ -302,4 +302,61 @@ class DefaultStreamMessageTest {
         }, executor);
         await().untilTrue(onError);
     }
+
+    @Test
+    void preserveOrderOfWritesFromEventLoopAndOtherThreads() throws Exception {
+        final DefaultStreamMessage<Integer> stream = new DefaultStreamMessage<>();
+        final EventLoop executor = eventLoop.get();
+        final BlockingQueue<Integer> received = new LinkedTransferQueue<>();
+        final AtomicReference<Subscription> subscriptionRef = new AtomicReference<>();
+        final AtomicBoolean completed = new AtomicBoolean();
+
+        // Written before subscription.
+        stream.write(0);
+        stream.subscribe(new Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscriptionRef.set(s);
+            }
+
+            @Override
+            public void onNext(Integer i) {
+                received.add(i);
+            }
+
+            @Override
+            public void onError(Throwable t) {}
+
+            @Override
+            public void onComplete() {
+                completed.set(true);
+            }
+        }, executor);
+        await().until(() -> subscriptionRef.get() != null);
+
+        // No demand yet, so the elements are buffered.
+        executor.submit(() -> {
+            stream.write(1);
+            stream.write(2);
+        }).sync();
+        stream.write(3);
+        executor.submit(() -> stream.write(4)).sync();
+        subscriptionRef.get().request(5);
+        await().until(() -> received.size() == 5);
+
+        // Buffered into the queue confined to the event loop.
+        executor.submit(() -> {
+            stream.write(5);
+            stream.write(6);
+        }).sync();
+        stream.write(7);
+        executor.submit(() -> {
+            stream.write(8);
+            stream.close();
+        }).sync();
+        subscriptionRef.get().request(Long.MAX_VALUE);
+        await().untilTrue(completed);
+
+        assertThat(received).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8);
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestWriter;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.RequestHeaders;
+
+class JacksonHttpDecoderTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void arrayElementsSplitAcrossChunks() {
+        final HttpRequest req = request("[{\"name\":\"fo", "o\",\"count\":1},{\"name\":\"bar\",",
+                                        "\"count\":2}]");
+        final List<Item> items = req.decode(JacksonHttpDecoder.ofArrayElements(mapper, Item.class))
+                                    .collect().join();
+        assertThat(items).containsExactly(new Item("foo", 1), new Item("bar", 2));
+    }
+
+    @Test
+    void elementIsEmittedBeforeArrayEnds() {
+        final HttpRequestWriter req = HttpRequest.streaming(headers());
+        final StreamMessage<Integer> decoded =
+                req.decode(JacksonHttpDecoder.ofArrayElements(mapper, Integer.class));
+        final CollectingSubscriber collector = new CollectingSubscriber();
+        decoded.subscribe(collector);
+
+        req.write(HttpData.ofUtf8("[1, 2"));
+        // '2' is not complete yet because more digits may follow.
+        await().untilAsserted(() -> assertThat(collector.values).containsExactly(1));
+        req.write(HttpData.ofUtf8("3, 4]"));
+        req.close();
+        decoded.whenComplete().join();
+        assertThat(collector.values).containsExactly(1, 23, 4);
+    }
+
+    @Test
+    void emptyArray() {
+        assertThat(request("[]").decode(JacksonHttpDecoder.ofArrayElements(mapper, Item.class))
+                                .collect().join()).isEmpty();
+    }
+
+    @Test
+    void notAnArray() {
+        assertThatThrownBy(() -> request("{}").decode(JacksonHttpDecoder.ofArrayElements(mapper, Item.class))
+                                              .collect().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expected a JSON array");
+    }
+
+    @Test
+    void value() {
+        final List<Item> items = request("{\"name\":", "\"foo\",\"count\":3}")
+                .decode(JacksonHttpDecoder.ofValue(mapper, Item.class))
+                .collect().join();
+        assertThat(items).containsExactly(new Item("foo", 3));
+    }
+
+    @Test
+    void scalarValueCompletesAtEndOfInput() {
+        final List<Long> values = request("12", "34").decode(JacksonHttpDecoder.ofValue(mapper, Long.class))
+                                                     .collect().join();
+        assertThat(values).containsExactly(1234L);
+    }
+
+    @Test
+    void truncatedValue() {
+        final HttpRequest req = request("{\"name\":\"foo\"");
+        assertThatThrownBy(() -> req.decode(JacksonHttpDecoder.ofValue(mapper, Item.class)).collect().join())
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void emptyContent() {
+        assertThatThrownBy(() -> request().decode(JacksonHttpDecoder.ofValue(mapper, Item.class))
+                                          .collect().join())
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unexpected end of input");
+    }
+
+    @Test
+    void trailingContent() {
+        assertThatThrownBy(() -> request("{} {}").decode(JacksonHttpDecoder.ofValue(mapper, Item.class))
+                                                 .collect().join())
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unexpected content");
+    }
+
+    private static HttpRequest request(String... chunks) {
+        final HttpRequestWriter req = HttpRequest.streaming(headers());
+        for (String chunk : chunks) {
+            req.write(HttpData.ofUtf8(chunk));
+        }
+        req.close();
+        return req;
+    }
+
+    private static RequestHeaders headers() {
+        return RequestHeaders.builder(HttpMethod.POST, "/").contentType(MediaType.JSON).build();
+    }
+
+    private static final class CollectingSubscriber implements Subscriber<Integer> {
+
+        final List<Integer> values = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            s.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Integer value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {}
+
+        @Override
+        public void onComplete() {}
+    }
+
+    static final class Item {
+        public String name;
+        public int count;
+
+        Item() {}
+
+        Item(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Item)) {
+                return false;
+            }
+            final Item that = (Item) o;
+            return name.equals(that.name) && count == that.count;
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() * 31 + count;
+        }
+    }
+}
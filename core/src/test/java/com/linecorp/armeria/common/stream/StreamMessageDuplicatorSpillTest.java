@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.common.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.linecorp.armeria.common.AggregatedHttpRequest;
+import com.linecorp.armeria.common.CommonPools;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestDuplicator;
+import com.linecorp.armeria.common.HttpRequestWriter;
+import com.linecorp.armeria.testing.junit5.common.EventLoopExtension;
+
+class StreamMessageDuplicatorSpillTest {
+
+    @RegisterExtension
+    static final EventLoopExtension executor = new EventLoopExtension();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void spillDataExceedingInMemoryLength() {
+        final StreamWriter<HttpData> publisher = StreamMessage.streaming();
+        final DefaultStreamMessageDuplicator<HttpData> duplicator = newDuplicator(publisher, 8);
+
+        final CompletableFuture<List<HttpData>> first = duplicator.duplicate().collect();
+        for (int i = 0; i < 10; i++) {
+            publisher.write(HttpData.ofUtf8("%04d", i));
+        }
+        publisher.close();
+
+        final List<HttpData> firstData = first.join();
+        assertThat(firstData).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(firstData.get(i).toStringUtf8()).isEqualTo(String.format("%04d", i));
+        }
+        // Only the first two chunks are kept in memory.
+        assertThat(numSpillFiles()).isOne();
+        assertThat(spillFileSize()).isEqualTo(32);
+
+        // A late subscriber reads the spilled data from the file.
+        final List<HttpData> secondData =
+                duplicator.duplicate().collect(SubscriptionOption.WITH_POOLED_OBJECTS).join();
+        duplicator.close();
+        assertThat(secondData).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+            final HttpData data = secondData.get(i);
+            assertThat(data.toStringUtf8()).isEqualTo(String.format("%04d", i));
+            data.close();
+        }
+        await().untilAsserted(() -> assertThat(numSpillFiles()).isZero());
+    }
+
+    @Test
+    void slowSubscriberWithSpilledData() {
+        final StreamWriter<HttpData> publisher = StreamMessage.streaming();
+        final DefaultStreamMessageDuplicator<HttpData> duplicator = newDuplicator(publisher, 0);
+
+        final StringBuilder received = new StringBuilder();
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        duplicator.duplicate().subscribe(new Subscriber<HttpData>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(HttpData data) {
+                received.append(data.toStringUtf8());
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable cause) {
+                future.completeExceptionally(cause);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(null);
+            }
+        }, executor.get());
+        duplicator.close();
+
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            final String str = String.format("%04d", i);
+            expected.append(str);
+            publisher.write(HttpData.ofUtf8(str));
+        }
+        publisher.close();
+
+        future.join();
+        assertThat(received.toString()).isEqualTo(expected.toString());
+        await().untilAsserted(() -> assertThat(numSpillFiles()).isZero());
+    }
+
+    @Test
+    void boundUpstreamDemandWhileSpilling() {
+        final StreamWriter<HttpData> publisher = StreamMessage.streaming();
+        final DefaultStreamMessageDuplicator<HttpData> duplicator = newDuplicator(publisher, 0);
+
+        // The subscriber requests Long.MAX_VALUE, but only a bounded demand is requested to the upstream
+        // so that the writes to the spill file do not pile up.
+        final CompletableFuture<List<HttpData>> future = duplicator.duplicate().collect();
+        await().untilAsserted(() -> assertThat(publisher.demand()).isPositive());
+        assertThat(publisher.demand()).isLessThanOrEqualTo(SpillFile.MAX_PENDING_WRITES);
+
+        for (int i = 0; i < 100; i++) {
+            publisher.write(HttpData.ofUtf8("%04d", i));
+            assertThat(publisher.demand()).isLessThanOrEqualTo(SpillFile.MAX_PENDING_WRITES);
+        }
+        publisher.close();
+
+        final List<HttpData> data = future.join();
+        duplicator.close();
+        assertThat(data).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(data.get(i).toStringUtf8()).isEqualTo(String.format("%04d", i));
+        }
+        await().untilAsserted(() -> assertThat(numSpillFiles()).isZero());
+    }
+
+    @Test
+    void abortDeletesSpillFile() {
+        final StreamWriter<HttpData> publisher = StreamMessage.streaming();
+        final DefaultStreamMessageDuplicator<HttpData> duplicator = newDuplicator(publisher, 4);
+        final StreamMessage<HttpData> child = duplicator.duplicate();
+        for (int i = 0; i < 3; i++) {
+            publisher.write(HttpData.ofUtf8("%04d", i));
+        }
+        await().untilAsserted(() -> assertThat(numSpillFiles()).isOne());
+
+        duplicator.abort();
+        assertThatThrownBy(() -> child.collect().join()).isInstanceOf(CompletionException.class);
+        await().untilAsserted(() -> assertThat(numSpillFiles()).isZero());
+    }
+
+    @Test
+    void httpRequestDuplicator() {
+        final HttpRequestWriter req = HttpRequest.streaming(HttpMethod.POST, "/upload");
+        // Keep only "foo" in memory.
+        final HttpRequestDuplicator duplicator = req.toDuplicator(executor.get(), 0, 3);
+        final CompletableFuture<AggregatedHttpRequest> first = duplicator.duplicate().aggregate();
+        req.write(HttpData.ofUtf8("foo"));
+        req.write(HttpData.ofUtf8("bar"));
+        req.write(HttpData.ofUtf8("baz"));
+        req.close();
+
+        assertThat(first.join().contentUtf8()).isEqualTo("foobarbaz");
+        assertThat(duplicator.duplicate().aggregate().join().contentUtf8()).isEqualTo("foobarbaz");
+        duplicator.close();
+    }
+
+    private DefaultStreamMessageDuplicator<HttpData> newDuplicator(StreamMessage<HttpData> publisher,
+                                                                   long maxInMemoryLength) {
+        return new DefaultStreamMessageDuplicator<>(publisher, HttpData::length, executor.get(), 0,
+                                                    maxInMemoryLength, tempDir,
+                                                    CommonPools.blockingTaskExecutor());
+    }
+
+    private long numSpillFiles() {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long spillFileSize() {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.mapToLong(path -> path.toFile().length()).sum();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
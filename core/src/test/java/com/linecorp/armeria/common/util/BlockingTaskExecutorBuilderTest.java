@@ -16,13 +16,28 @@
 package com.linecorp.armeria.common.util;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.awaitility.Awaitility.await;
 
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
+import com.linecorp.armeria.common.ContextAwareBlockingTaskExecutor;
 import com.linecorp.armeria.common.Flags;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.RequestContext;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class BlockingTaskExecutorBuilderTest {
 
@@ -66,4 +81,95 @@ class BlockingTaskExecutorBuilderTest {
 
         assertThat(pool.allowsCoreThreadTimeOut()).isFalse();
     }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreads() throws Exception {
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.builder()
+                                                                  .threadNamePrefix("virtual-test")
+                                                                  .virtualThreads(true)
+                                                                  .build();
+        assertThat(executor).isInstanceOf(VirtualThreadBlockingTaskExecutor.class);
+
+        // More blocking tasks than the number of the platform threads can run at the same time.
+        final int numTasks = Flags.numCommonBlockingTaskThreads() * 2;
+        final CountDownLatch allStarted = new CountDownLatch(numTasks);
+        final CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < numTasks; i++) {
+            executor.execute(() -> {
+                if (Thread.currentThread().getName().startsWith("virtual-test-")) {
+                    allStarted.countDown();
+                }
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertThat(allStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.isTerminated()).isTrue();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsPropagateContext() throws Exception {
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.builder().virtualThreads(true).build();
+        final ServiceRequestContext ctx = ServiceRequestContext.of(HttpRequest.of(HttpMethod.GET, "/"));
+        final ContextAwareBlockingTaskExecutor contextAware =
+                ContextAwareBlockingTaskExecutor.of(ctx, executor);
+        try {
+            final RequestContext current = contextAware.submit(RequestContext::currentOrNull)
+                                                       .get(10, TimeUnit.SECONDS);
+            assertThat(current).isSameAs(ctx);
+            final RequestContext scheduled =
+                    contextAware.schedule(RequestContext::currentOrNull, 10, TimeUnit.MILLISECONDS)
+                                .get(10, TimeUnit.SECONDS);
+            assertThat(scheduled).isSameAs(ctx);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsPeriodicTask() {
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.builder().virtualThreads(true).build();
+        final AtomicInteger counter = new AtomicInteger();
+        final ScheduledFuture<?> future =
+                executor.scheduleWithFixedDelay(counter::incrementAndGet, 0, 10, TimeUnit.MILLISECONDS);
+        await().until(() -> counter.get() >= 3);
+        assertThat(future.cancel(false)).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+        executor.shutdown();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsShutdownNowReturnsPendingTasks() {
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.builder().virtualThreads(true).build();
+        final Runnable task = () -> {};
+        final ScheduledFuture<?> future = executor.schedule(task, 1, TimeUnit.HOURS);
+
+        final List<Runnable> pending = executor.shutdownNow();
+        assertThat(pending.size()).isOne();
+        assertThat(pending.get(0)).isSameAs(task);
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsPinningNotMonitoredByDefault() {
+        final BlockingTaskExecutor executor = BlockingTaskExecutor.builder().virtualThreads(true).build();
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ((MeterBinder) executor).bindTo(registry);
+        assertThat(registry.find("armeria.executor.virtual.active").meter()).isNotNull();
+        assertThat(registry.find("armeria.executor.virtual.pinned").meter()).isNull();
+        assertThat(registry.find("armeria.executor.virtual.carrier.size").meter()).isNull();
+        executor.shutdown();
+    }
 }
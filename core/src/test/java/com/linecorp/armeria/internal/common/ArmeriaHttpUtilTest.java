@@ -22,12 +22,14 @@ import static com.linecorp.armeria.internal.common.ArmeriaHttpUtil.toArmeria;
 import static com.linecorp.armeria.internal.common.ArmeriaHttpUtil.toNettyHttp1ClientHeaders;
 import static com.linecorp.armeria.internal.common.ArmeriaHttpUtil.toNettyHttp1ServerHeaders;
 import static com.linecorp.armeria.internal.common.ArmeriaHttpUtil.toNettyHttp2ClientHeaders;
+import static com.linecorp.armeria.internal.common.ArmeriaHttpUtil.toNettyHttp2ClientTrailers;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -45,6 +47,7 @@ import com.linecorp.armeria.common.Http1HeaderNaming;
 import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpHeaders;
 import com.linecorp.armeria.common.HttpHeadersBuilder;
+import com.linecorp.armeria.common.HttpMethod;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
@@ -205,6 +208,40 @@ class ArmeriaHttpUtilTest {
                 .containsExactly("a=b", "c=d", "e=f", "g=h", "i=j", "k=l");
     }
 
+    @Test
+    void disallowedHeadersMustBeRemovedForHttp2Client() {
+        final HttpHeaders in = HttpHeaders.builder()
+                                          .add(HttpHeaderNames.CONNECTION, "keep-alive")
+                                          .add(HttpHeaderNames.TRANSFER_ENCODING, "chunked")
+                                          .add("foo", "bar")
+                                          .build();
+
+        final Http2Headers out = toNettyHttp2ClientHeaders(in);
+        assertThat(out.names()).containsExactly(AsciiString.of("foo"));
+        final Http2Headers trailers = toNettyHttp2ClientTrailers(in);
+        assertThat(trailers.names()).containsExactly(AsciiString.of("foo"));
+        // The input must not be modified.
+        assertThat(in.contains(HttpHeaderNames.CONNECTION)).isTrue();
+        assertThat(in.contains(HttpHeaderNames.TRANSFER_ENCODING)).isTrue();
+    }
+
+    @Test
+    void pseudoHeadersMustComeFirstForHttp2Client() {
+        final RequestHeaders in = RequestHeaders.builder(HttpMethod.GET, "/")
+                                                .add("foo", "bar")
+                                                .build();
+
+        final Http2Headers out = toNettyHttp2ClientHeaders(in);
+        out.add(HttpHeaderNames.SCHEME, "http");
+        out.add(HttpHeaderNames.AUTHORITY, "foo.com");
+        final List<CharSequence> names = new ArrayList<>();
+        out.forEach(e -> names.add(e.getKey()));
+        assertThat(names).containsExactly(HttpHeaderNames.METHOD, HttpHeaderNames.PATH,
+                                          HttpHeaderNames.SCHEME, HttpHeaderNames.AUTHORITY,
+                                          AsciiString.of("foo"));
+        assertThat(in.contains(HttpHeaderNames.SCHEME)).isFalse();
+    }
+
     @Test
     void inboundCookiesMustBeMergedForHttp1() {
         final io.netty.handler.codec.http.HttpHeaders in = new DefaultHttpHeaders();
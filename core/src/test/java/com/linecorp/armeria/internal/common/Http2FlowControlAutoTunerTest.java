@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.DefaultHttp2LocalFlowController;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2FrameWriter;
+import io.netty.handler.codec.http2.Http2LocalFlowController;
+
+class Http2FlowControlAutoTunerTest {
+
+    private static final int MAX_WINDOW_SIZE = 1024 * 1024;
+
+    private EmbeddedChannel channel;
+    private ChannelHandlerContext ctx;
+    private Http2FrameWriter frameWriter;
+    private Http2LocalFlowController flowController;
+    private DistributionSummary windowSizes;
+    private Http2FlowControlAutoTuner tuner;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        ctx = channel.pipeline().firstContext();
+        frameWriter = mock(Http2FrameWriter.class);
+
+        final Http2Connection connection = new DefaultHttp2Connection(true);
+        flowController = new DefaultHttp2LocalFlowController(connection);
+        flowController.frameWriter(frameWriter);
+        connection.local().flowController(flowController);
+        flowController.channelHandlerContext(ctx);
+
+        windowSizes = DistributionSummary.builder("window.size").register(new SimpleMeterRegistry());
+        tuner = new Http2FlowControlAutoTuner(connection, frameWriter, MAX_WINDOW_SIZE, windowSizes);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void sendsSinglePingPerMeasurement() {
+        tuner.onDataRead(ctx, 1024);
+        tuner.onDataRead(ctx, 1024);
+        assertThat(tuner.isPinging()).isTrue();
+        verify(frameWriter, times(1)).writePing(any(), eq(false),
+                                                eq(Http2FlowControlAutoTuner.BDP_PING_PAYLOAD), any());
+
+        assertThat(tuner.onPingAck(ctx, Http2FlowControlAutoTuner.BDP_PING_PAYLOAD)).isTrue();
+        assertThat(tuner.isPinging()).isFalse();
+
+        tuner.onDataRead(ctx, 1024);
+        verify(frameWriter, times(2)).writePing(any(), eq(false), anyLong(), any());
+    }
+
+    @Test
+    void ignoresOtherPingAcks() {
+        tuner.onDataRead(ctx, 1024);
+        assertThat(tuner.onPingAck(ctx, Http2FlowControlAutoTuner.BDP_PING_PAYLOAD + 1)).isFalse();
+        assertThat(tuner.isPinging()).isTrue();
+    }
+
+    @Test
+    void ignoresUnexpectedPingAck() {
+        assertThat(tuner.onPingAck(ctx, Http2FlowControlAutoTuner.BDP_PING_PAYLOAD)).isFalse();
+    }
+
+    @Test
+    void doesNotShrinkWindow() {
+        final int initialWindowSize = flowController.initialWindowSize();
+        tuner.onDataRead(ctx, 1024);
+        tuner.onPingAck(ctx, Http2FlowControlAutoTuner.BDP_PING_PAYLOAD);
+
+        assertThat(flowController.initialWindowSize()).isEqualTo(initialWindowSize);
+        verify(frameWriter, never()).writeSettings(any(), any(), any());
+        assertThat(windowSizes.count()).isZero();
+    }
+
+    @Test
+    void growsWindowUpToMaximum() {
+        tuner.onDataRead(ctx, 100_000);
+        tuner.onPingAck(ctx, Http2FlowControlAutoTuner.BDP_PING_PAYLOAD);
+        assertThat(flowController.initialWindowSize()).isEqualTo(200_000);
+        verify(frameWriter).writeSettings(any(), argThat(s -> s.initialWindowSize() == 200_000), any());
+
+        tuner.onDataRead(ctx, MAX_WINDOW_SIZE);
+        tuner.onPingAck(ctx, Http2FlowControlAutoTuner.BDP_PING_PAYLOAD);
+        assertThat(flowController.initialWindowSize()).isEqualTo(MAX_WINDOW_SIZE);
+        assertThat(windowSizes.count()).isEqualTo(2);
+        assertThat(windowSizes.max()).isEqualTo(MAX_WINDOW_SIZE);
+    }
+}
@@ -19,8 +19,10 @@ package com.linecorp.armeria.internal.common.stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -294,6 +296,76 @@ class ByteBufsDecoderInputTest {
         assertThat(input.getByte(8)).isEqualTo((byte) 9);
     }
 
+    @Test
+    void indexOfByte() {
+        assertThat(input.indexOf((byte) 1)).isEqualTo(0);
+        assertThat(input.indexOf((byte) 6)).isEqualTo(5);
+        assertThat(input.indexOf((byte) 9)).isEqualTo(8);
+        assertThat(input.indexOf((byte) -1)).isEqualTo(-1);
+    }
+
+    @Test
+    void indexOfPattern() {
+        assertThat(input.indexOf(new byte[] { 2, 3 })).isEqualTo(1);
+        // Spans multiple buffers
+        assertThat(input.indexOf(new byte[] { 3, 4, 5 })).isEqualTo(2);
+        assertThat(input.indexOf(new byte[] { 4, 5, 6, 7, 8, 9 })).isEqualTo(3);
+        assertThat(input.indexOf(new byte[] { 7, 8, 9 })).isEqualTo(6);
+        assertThat(input.indexOf(new byte[] { 1, 2, 4 })).isEqualTo(-1);
+        assertThat(input.indexOf(new byte[] { 9, 10 })).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 7, 8, 9, 64, 1000 })
+    void indexOfPatternInLargeInput(int chunkSize) {
+        final Random random = new Random(chunkSize);
+        final byte[] data = new byte[4096];
+        random.nextBytes(data);
+        final byte[] pattern = { '\r', '\n', '-', '-', 'b', 'o', 'u', 'n', 'd', 'a', 'r', 'y' };
+        System.arraycopy(pattern, 0, data, 3000, pattern.length);
+
+        final ByteBufsDecoderInput input = new ByteBufsDecoderInput(UnpooledByteBufAllocator.DEFAULT);
+        for (int i = 0; i < data.length; i += chunkSize) {
+            input.add(Unpooled.wrappedBuffer(data, i, Math.min(chunkSize, data.length - i)));
+        }
+        assertThat(input.indexOf(pattern)).isEqualTo(naiveIndexOf(data, pattern));
+        assertThat(input.indexOf(data[4000])).isEqualTo(naiveIndexOf(data, new byte[] { data[4000] }));
+        input.close();
+    }
+
+    private static int naiveIndexOf(byte[] data, byte[] pattern) {
+        NEXT:
+        for (int i = 0; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue NEXT;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    @Test
+    void readString() {
+        final ByteBufsDecoderInput input = new ByteBufsDecoderInput(UnpooledByteBufAllocator.DEFAULT);
+        final ByteBuf byteBuf1 = Unpooled.copiedBuffer("Content-", StandardCharsets.ISO_8859_1);
+        final ByteBuf byteBuf2 = Unpooled.copiedBuffer("Type: text/plain", StandardCharsets.ISO_8859_1);
+        input.add(byteBuf1);
+        input.add(byteBuf2);
+
+        // fast
+        assertThat(input.readString(3, StandardCharsets.ISO_8859_1)).isEqualTo("Con");
+        // slow
+        assertThat(input.readString(9, StandardCharsets.ISO_8859_1)).isEqualTo("tent-Type");
+        assertThat(byteBuf1.refCnt()).isZero();
+        // fast and the last buffer is released
+        assertThat(input.readString(12, StandardCharsets.ISO_8859_1)).isEqualTo(": text/plain");
+        assertThat(byteBuf2.refCnt()).isZero();
+        assertThat(input.readableBytes()).isZero();
+        input.close();
+    }
+
     @Test
     void addAfterClosing() {
         assertThat(input.readableBytes()).isEqualTo(9);
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.common.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestWriter;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.websocket.PerMessageDeflateConfig;
+import com.linecorp.armeria.common.websocket.WebSocketCloseStatus;
+import com.linecorp.armeria.common.websocket.WebSocketFrame;
+import com.linecorp.armeria.common.websocket.WebSocketFrameType;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.websocket.WebSocketProtocolViolationException;
+
+import io.netty.buffer.ByteBuf;
+
+class PerMessageDeflateTest {
+
+    private static final ServiceRequestContext ctx =
+            ServiceRequestContext.of(HttpRequest.of(HttpMethod.GET, "/"));
+
+    @Test
+    void negotiateBasicOffer() {
+        final PerMessageDeflate deflate = PerMessageDeflate.negotiate(
+                offer("permessage-deflate; client_max_window_bits"), PerMessageDeflateConfig.of());
+        assertThat(deflate).isNotNull();
+        assertThat(deflate.responseExtension()).isEqualTo("permessage-deflate");
+    }
+
+    @Test
+    void negotiateNoContextTakeover() {
+        final PerMessageDeflate deflate = PerMessageDeflate.negotiate(
+                offer("permessage-deflate; server_no_context_takeover"), PerMessageDeflateConfig.of());
+        assertThat(deflate).isNotNull();
+        assertThat(deflate.responseExtension()).isEqualTo("permessage-deflate; server_no_context_takeover");
+    }
+
+    @Test
+    void negotiateClientWindowBits() {
+        final PerMessageDeflateConfig config = PerMessageDeflateConfig.builder()
+                                                                      .clientMaxWindowBits(10)
+                                                                      .build();
+        final PerMessageDeflate deflate = PerMessageDeflate.negotiate(
+                offer("permessage-deflate; client_max_window_bits"), config);
+        assertThat(deflate).isNotNull();
+        assertThat(deflate.responseExtension()).isEqualTo("permessage-deflate; client_max_window_bits=10");
+    }
+
+    @Test
+    void declineUnsupportedOffers() {
+        final PerMessageDeflateConfig config = PerMessageDeflateConfig.of();
+        // The JDK Deflater cannot use a window smaller than 32 KiB.
+        assertThat(PerMessageDeflate.negotiate(
+                offer("permessage-deflate; server_max_window_bits=10"), config)).isNull();
+        assertThat(PerMessageDeflate.negotiate(offer("permessage-deflate; unknown"), config)).isNull();
+        assertThat(PerMessageDeflate.negotiate(offer("x-webkit-deflate-frame"), config)).isNull();
+
+        // Falls back to the next offer.
+        assertThat(PerMessageDeflate.negotiate(
+                offer("permessage-deflate; server_max_window_bits=10, permessage-deflate"), config))
+                .isNotNull();
+    }
+
+    @Test
+    void clientAcceptsResponse() {
+        final PerMessageDeflateConfig config = PerMessageDeflateConfig.of();
+        assertThat(PerMessageDeflate.offer(config)).isEqualTo("permessage-deflate");
+        assertThat(PerMessageDeflate.accepted(ResponseHeaders.of(101), config)).isNull();
+        assertThat(PerMessageDeflate.accepted(
+                response("permessage-deflate; server_no_context_takeover"), config)).isNotNull();
+
+        // A server may limit its window even if the client did not ask for it.
+        assertThat(PerMessageDeflate.accepted(
+                response("permessage-deflate; server_max_window_bits=10"), config)).isNotNull();
+
+        final PerMessageDeflateConfig limited = PerMessageDeflateConfig.builder()
+                                                                       .serverMaxWindowBits(10)
+                                                                       .build();
+        assertThat(PerMessageDeflate.offer(limited)).isEqualTo("permessage-deflate; server_max_window_bits=10");
+        assertThatThrownBy(() -> PerMessageDeflate.accepted(
+                response("permessage-deflate; server_max_window_bits=12"), limited))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PerMessageDeflate.accepted(
+                response("permessage-deflate; client_max_window_bits=10"), config))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PerMessageDeflate.accepted(
+                response("permessage-deflate, permessage-deflate"), config))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compressAndDecompress() throws Exception {
+        final PerMessageDeflateConfig config = PerMessageDeflateConfig.builder()
+                                                                      .minCompressionSize(16)
+                                                                      .build();
+        final PerMessageDeflate deflate = PerMessageDeflate.negotiate(offer("permessage-deflate"), config);
+        assertThat(deflate).isNotNull();
+        final WebSocketFrameDeflater deflater = deflate.newDeflater(WebSocketFrameEncoder.of(false), true);
+        final BlockingQueue<WebSocketFrame> frames = new LinkedBlockingQueue<>();
+        final HttpRequestWriter writer = newDecoderInput(deflate, 1024 * 1024, frames,
+                                                         new CompletableFuture<>());
+
+        final String large = Strings.repeat("armeria ", 1000);
+        for (int i = 0; i < 2; i++) {
+            // The second message uses the context of the first one.
+            final ByteBuf encoded = deflater.encode(ctx, WebSocketFrame.ofText(large));
+            assertThat(encoded.getByte(0) & 0x40).isNotZero();
+            assertThat(encoded.readableBytes()).isLessThan(large.length());
+            writer.write(HttpData.wrap(encoded));
+            assertThat(frames.take()).isEqualTo(WebSocketFrame.ofText(large));
+        }
+
+        // A small message is not compressed.
+        final ByteBuf encoded = deflater.encode(ctx, WebSocketFrame.ofText("hello"));
+        assertThat(encoded.getByte(0) & 0x40).isZero();
+        writer.write(HttpData.wrap(encoded));
+        assertThat(frames.take()).isEqualTo(WebSocketFrame.ofText("hello"));
+
+        // A fragmented message is compressed regardless of its size.
+        writer.write(HttpData.wrap(deflater.encode(ctx, WebSocketFrame.ofText("foo", false))));
+        writer.write(HttpData.wrap(deflater.encode(ctx, WebSocketFrame.ofContinuation("bar", true))));
+        final WebSocketFrame first = frames.take();
+        final WebSocketFrame second = frames.take();
+        assertThat(first.type()).isSameAs(WebSocketFrameType.TEXT);
+        assertThat(second.type()).isSameAs(WebSocketFrameType.CONTINUATION);
+        assertThat(first.text() + second.text()).isEqualTo("foobar");
+
+        deflater.close();
+        writer.close();
+    }
+
+    @Test
+    void rejectTooLargeDecompressedMessage() {
+        final PerMessageDeflate deflate = PerMessageDeflate.negotiate(offer("permessage-deflate"),
+                                                                      PerMessageDeflateConfig.of());
+        assertThat(deflate).isNotNull();
+        final WebSocketFrameDeflater deflater = deflate.newDeflater(WebSocketFrameEncoder.of(false), true);
+        final CompletableFuture<Void> whenComplete = new CompletableFuture<>();
+        final HttpRequestWriter writer = newDecoderInput(deflate, 1024, new LinkedBlockingQueue<>(),
+                                                         whenComplete);
+
+        // Compresses to much less than 1024 bytes.
+        writer.write(HttpData.wrap(deflater.encode(ctx, WebSocketFrame.ofText(Strings.repeat("a", 4096)))));
+        whenComplete.handle((unused, cause) -> {
+            assertThat(cause).isInstanceOf(WebSocketProtocolViolationException.class);
+            assertThat(((WebSocketProtocolViolationException) cause).closeStatus())
+                    .isEqualTo(WebSocketCloseStatus.MESSAGE_TOO_BIG);
+            return null;
+        }).join();
+        deflater.close();
+    }
+
+    private static RequestHeaders offer(String extensions) {
+        return RequestHeaders.builder(HttpMethod.GET, "/")
+                             .add(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS, extensions)
+                             .build();
+    }
+
+    private static ResponseHeaders response(String extensions) {
+        return ResponseHeaders.builder(101)
+                              .add(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS, extensions)
+                              .build();
+    }
+
+    private static HttpRequestWriter newDecoderInput(PerMessageDeflate deflate, int maxFramePayloadLength,
+                                                     BlockingQueue<WebSocketFrame> frames,
+                                                     CompletableFuture<Void> whenComplete) {
+        final HttpRequestWriter writer = HttpRequest.streaming(RequestHeaders.of(HttpMethod.GET, "/"));
+        final WebSocketFrameDecoder decoder = new WebSocketFrameDecoder(
+                maxFramePayloadLength, false, false, deflate.newInflater(ctx.alloc(), false)) {
+            @Override
+            protected boolean expectMaskedFrames() {
+                return false;
+            }
+
+            @Override
+            protected void onCloseFrameRead() {}
+        };
+        writer.decode(decoder, ctx.alloc()).subscribe(new Subscriber<WebSocketFrame>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(WebSocketFrame frame) {
+                frames.add(frame);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                whenComplete.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                whenComplete.complete(null);
+            }
+        });
+        return writer;
+    }
+}
@@ -236,7 +236,7 @@ class WebSocketFrameEncoderAndDecoderTest {
 
         TestWebSocketFrameDecoder(int maxFramePayloadLength,
                                   boolean allowMaskMismatch, boolean expectMaskedFrames) {
-            super(maxFramePayloadLength, allowMaskMismatch, false);
+            super(maxFramePayloadLength, allowMaskMismatch, false, null);
             this.expectMaskedFrames = expectMaskedFrames;
         }
 
@@ -23,6 +23,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -47,9 +49,11 @@ import com.linecorp.armeria.common.multipart.AggregatedBodyPart;
 import com.linecorp.armeria.common.multipart.BodyPart;
 import com.linecorp.armeria.common.multipart.Multipart;
 import com.linecorp.armeria.common.multipart.MultipartFile;
+import com.linecorp.armeria.common.stream.StreamMessage;
 import com.linecorp.armeria.server.ServerBuilder;
 import com.linecorp.armeria.server.annotation.Blocking;
 import com.linecorp.armeria.server.annotation.Consumes;
+import com.linecorp.armeria.server.annotation.MaxBodyPartLength;
 import com.linecorp.armeria.server.annotation.Param;
 import com.linecorp.armeria.server.annotation.Path;
 import com.linecorp.armeria.server.annotation.Post;
@@ -134,6 +138,27 @@ class AnnotatedServiceMultipartTest {
         assertThat(response.contentUtf8()).contains("No closing MIME boundary");
     }
 
+    @Test
+    void streamingBodyParts() {
+        final Multipart multipart = Multipart.of(
+                BodyPart.of(ContentDisposition.of("form-data", "file1", "foo.txt"), "foo"),
+                BodyPart.of(ContentDisposition.of("form-data", "param1"), "armeria"));
+        final AggregatedHttpResponse response =
+                server.blockingWebClient().execute(multipart.toHttpRequest("/uploadWithBodyPartStream"));
+        assertThatJson(response.contentUtf8())
+                .isEqualTo("{\"file1\":\"foo\",\"param1\":\"armeria\"}");
+    }
+
+    @Test
+    void tooLargeBodyPart() {
+        final Multipart multipart = Multipart.of(
+                BodyPart.of(ContentDisposition.of("form-data", "file1", "foo.txt"), "foo"),
+                BodyPart.of(ContentDisposition.of("form-data", "file2", "bar.txt"), "0123456789"));
+        final AggregatedHttpResponse response =
+                server.blockingWebClient().execute(multipart.toHttpRequest("/uploadWithBodyPartStream"));
+        assertThat(response.status()).isSameAs(HttpStatus.REQUEST_ENTITY_TOO_LARGE);
+    }
+
     @Consumes(MediaTypeNames.MULTIPART_FORM_DATA)
     private static class MyAnnotatedService {
         @Blocking
@@ -167,6 +192,20 @@ class AnnotatedServiceMultipartTest {
             return HttpResponse.ofJson(content);
         }
 
+        @Post
+        @Path("/uploadWithBodyPartStream")
+        public CompletableFuture<HttpResponse> uploadWithBodyPartStream(
+                @MaxBodyPartLength(8) StreamMessage<BodyPart> bodyParts) {
+            return bodyParts.mapAsync(BodyPart::aggregate)
+                            .collect()
+                            .thenApply(parts -> {
+                                final Map<String, String> body =
+                                        parts.stream().collect(toImmutableMap(AggregatedBodyPart::name,
+                                                                              AggregatedBodyPart::contentUtf8));
+                                return HttpResponse.ofJson(body);
+                            });
+        }
+
         @Post
         @Path("/uploadWithMultipartObject")
         public HttpResponse uploadWithMultipartObject(Multipart multipart) {
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.server.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import com.linecorp.armeria.common.AggregatedHttpRequest;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.common.stream.StreamMessage;
+import com.linecorp.armeria.server.Server;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.ServiceRequestContext;
+import com.linecorp.armeria.server.annotation.JacksonRequestConverterFunction;
+import com.linecorp.armeria.server.annotation.Param;
+import com.linecorp.armeria.server.annotation.Post;
+import com.linecorp.armeria.server.annotation.RequestConverterFunction;
+import com.linecorp.armeria.server.annotation.StreamingJson;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class AnnotatedServiceStreamingJsonTest {
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.annotatedService(new Object() {
+                @Post("/import")
+                public CompletableFuture<HttpResponse> bulkImport(@StreamingJson StreamMessage<Item> items) {
+                    return items.collect().thenApply(list -> {
+                        final int total = list.stream().mapToInt(item -> item.count).sum();
+                        return HttpResponse.of(list.size() + ":" + total);
+                    });
+                }
+
+                @Post("/single")
+                public CompletableFuture<String> single(@StreamingJson CompletableFuture<Item> item) {
+                    return item.thenApply(i -> i.name + ':' + i.count);
+                }
+
+                @Post("/list")
+                public CompletableFuture<String> list(@StreamingJson CompletableFuture<List<Item>> items) {
+                    return items.thenApply(list -> String.valueOf(list.size()));
+                }
+
+                @Post("/mixed")
+                public CompletableFuture<String> mixed(@Param String prefix,
+                                                       @StreamingJson StreamMessage<Item> items) {
+                    return items.collect().thenApply(list -> prefix + list.size());
+                }
+
+                @Post("/converted")
+                public CompletableFuture<String> converted(CompletableFuture<String> body) {
+                    // Not annotated with @StreamingJson, so the request converter is used.
+                    return body;
+                }
+            }, new FutureRequestConverter());
+
+            final ObjectMapper snakeCaseMapper =
+                    new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+            sb.annotatedService()
+              .pathPrefix("/custom")
+              .requestConverters(new JacksonRequestConverterFunction(snakeCaseMapper))
+              .build(new Object() {
+                  @Post("/import")
+                  public CompletableFuture<String> bulkImport(
+                          @StreamingJson StreamMessage<SnakeCaseItem> items) {
+                      return items.collect().thenApply(list -> list.get(0).itemName);
+                  }
+              });
+        }
+    };
+
+    @Test
+    void arrayElements() {
+        final AggregatedHttpResponse res = post("/import", "[{\"name\":\"a\",\"count\":1}," +
+                                                           "{\"name\":\"b\",\"count\":2}]");
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        assertThat(res.contentUtf8()).isEqualTo("2:3");
+    }
+
+    @Test
+    void singleValue() {
+        final AggregatedHttpResponse res = post("/single", "{\"name\":\"a\",\"count\":1}");
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        assertThat(res.contentUtf8()).isEqualTo("a:1");
+    }
+
+    @Test
+    void parameterizedValue() {
+        final AggregatedHttpResponse res = post("/list", "[{\"name\":\"a\"},{\"name\":\"b\"}]");
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        assertThat(res.contentUtf8()).isEqualTo("2");
+    }
+
+    @Test
+    void withQueryParam() {
+        final AggregatedHttpResponse res = post("/mixed?prefix=n", "[{\"name\":\"a\"}]");
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        assertThat(res.contentUtf8()).isEqualTo("n1");
+    }
+
+    @Test
+    void invalidJson() {
+        assertThat(post("/single", "{\"name\":").status()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(post("/import", "{}").status()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void unsupportedContentType() {
+        final AggregatedHttpResponse res = server.blockingWebClient()
+                                                 .prepare()
+                                                 .post("/single")
+                                                 .content(MediaType.PLAIN_TEXT_UTF_8, "{}")
+                                                 .execute();
+        assertThat(res.status()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void customObjectMapper() {
+        final AggregatedHttpResponse res = post("/custom/import", "[{\"item_name\":\"a\"}]");
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        assertThat(res.contentUtf8()).isEqualTo("a");
+    }
+
+    @Test
+    void unannotatedParameterUsesRequestConverter() {
+        final AggregatedHttpResponse res = post("/converted", "{\"name\":\"a\"}");
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        assertThat(res.contentUtf8()).isEqualTo("converted:{\"name\":\"a\"}");
+    }
+
+    @Test
+    void unsupportedParameterType() {
+        assertThatThrownBy(() -> Server.builder().annotatedService(new Object() {
+            @Post("/")
+            public void root(@StreamingJson Item item) {}
+        }).build()).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessageContaining("@StreamingJson");
+
+        assertThatThrownBy(() -> Server.builder().annotatedService(new Object() {
+            @Post("/")
+            public void root(@StreamingJson StreamMessage<HttpData> data) {}
+        }).build()).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessageContaining("@StreamingJson");
+    }
+
+    private static AggregatedHttpResponse post(String path, String json) {
+        return server.blockingWebClient()
+                     .prepare()
+                     .post(path)
+                     .content(MediaType.JSON, json)
+                     .execute();
+    }
+
+    static final class Item {
+        public String name;
+        public int count;
+    }
+
+    static final class SnakeCaseItem {
+        public String itemName;
+    }
+
+    private static final class FutureRequestConverter implements RequestConverterFunction {
+        @Override
+        public Object convertRequest(ServiceRequestContext ctx, AggregatedHttpRequest request,
+                                     Class<?> expectedResultType,
+                                     @Nullable ParameterizedType expectedParameterizedResultType) {
+            if (expectedResultType == CompletableFuture.class) {
+                return CompletableFuture.completedFuture("converted:" + request.contentUtf8());
+            }
+            return RequestConverterFunction.fallthrough();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.server.annotation;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import com.linecorp.armeria.internal.server.annotation.GeneratedMethodInvokersTest.FooService;
+
+/**
+ * A hand-written equivalent of the class generated by {@code MethodInvokerProcessor} for {@link FooService},
+ * which provides an invoker only for {@link FooService#hello(String)}.
+ */
+@SuppressWarnings("checkstyle:TypeName")
+public final class GeneratedMethodInvokersTest$FooService$$ArmeriaMethodInvokers
+        implements AnnotatedMethodInvoker.Provider {
+
+    @Override
+    public Class<?> targetClass() {
+        return FooService.class;
+    }
+
+    @Override
+    public AnnotatedMethodInvoker find(Method method) {
+        final Class<?>[] types = method.getParameterTypes();
+        if ("hello".equals(method.getName()) && Arrays.equals(types, new Class<?>[] { String.class })) {
+            return (target, args) -> {
+                GeneratedMethodInvokersTest.generatedInvocations.incrementAndGet();
+                return ((FooService) target).hello((String) args[0]);
+            };
+        }
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.internal.server.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.annotation.Get;
+import com.linecorp.armeria.server.annotation.Param;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class GeneratedMethodInvokersTest {
+
+    static final AtomicInteger generatedInvocations = new AtomicInteger();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.annotatedService(new FooService());
+        }
+    };
+
+    @Test
+    void providerClassName() {
+        assertThat(GeneratedMethodInvokers.getProviderClassName("com.example.Foo"))
+                .isEqualTo("com.example.Foo$$ArmeriaMethodInvokers");
+        assertThat(GeneratedMethodInvokers.getProviderClassName("com.example.Outer$Inner"))
+                .isEqualTo("com.example.Outer$Inner$$ArmeriaMethodInvokers");
+        // A nested class and a top-level class with a similar name must not share the same provider.
+        assertThat(GeneratedMethodInvokers.getProviderClassName("com.example.Outer_Inner"))
+                .isEqualTo("com.example.Outer_Inner$$ArmeriaMethodInvokers");
+        assertThat(GeneratedMethodInvokers.getProviderClassName("Foo"))
+                .isEqualTo("Foo$$ArmeriaMethodInvokers");
+    }
+
+    @Test
+    void usesGeneratedInvoker() {
+        final int invocations = generatedInvocations.get();
+        final AggregatedHttpResponse res = server.blockingWebClient().get("/hello?name=foo");
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        assertThat(res.contentUtf8()).isEqualTo("Hello, foo");
+        assertThat(generatedInvocations).hasValue(invocations + 1);
+    }
+
+    @Test
+    void fallsBackToMethodHandle() {
+        final int invocations = generatedInvocations.get();
+        final AggregatedHttpResponse res = server.blockingWebClient().get("/bye?name=foo");
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        assertThat(res.contentUtf8()).isEqualTo("Bye, foo");
+        assertThat(generatedInvocations).hasValue(invocations);
+    }
+
+    /**
+     * The invokers of this class are provided by
+     * {@code GeneratedMethodInvokersTest$FooService$$ArmeriaMethodInvokers}, which mimics the code generated
+     * by {@code MethodInvokerProcessor}.
+     */
+    static final class FooService {
+        @Get("/hello")
+        public String hello(@Param String name) {
+            return "Hello, " + name;
+        }
+
+        @Get("/bye")
+        public String bye(@Param String name) {
+            return "Bye, " + name;
+        }
+    }
+}
@@ -48,6 +48,15 @@ class GlobPathMappingTest {
         mustFail("/foo/*/bar/*/baz/*", "/foo/1/bar/2/baz/3/");
     }
 
+    @Test
+    void literalPrefix() {
+        assertThat(new GlobPathMapping("/foo/*/bar", 0).literalPrefix()).isEqualTo("/foo/");
+        assertThat(new GlobPathMapping("/foo/bar", 0).literalPrefix()).isEqualTo("/foo/bar");
+        assertThat(new GlobPathMapping("*.js", 0).literalPrefix()).isEqualTo("/");
+        assertThat(new GlobPathMapping("/foo/**", 0).withPrefix("/bar/").literalPrefix())
+                .isEqualTo("/bar/foo/");
+    }
+
     @Test
     void testDoubleAsterisk() {
         mustPass("**/baz", "/baz", "/foo/baz", "/foo/bar/baz");
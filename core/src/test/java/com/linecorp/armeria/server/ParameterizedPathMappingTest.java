@@ -102,6 +102,28 @@ class ParameterizedPathMappingTest {
         assertThat(ppm.paramNames()).containsExactlyInAnyOrder("value", "value2", "value3");
     }
 
+    @Test
+    void testBackReference() throws Exception {
+        final ParameterizedPathMapping ppm = new ParameterizedPathMapping("/{x}/{y}/{x}");
+        final RoutingResult result = ppm.apply(create("/foo/bar/foo")).build();
+        assertThat(result.pathParams()).containsEntry("x", "foo")
+                                       .containsEntry("y", "bar")
+                                       .hasSize(2);
+
+        assertThat(ppm.apply(create("/foo/bar/baz"))).isNull();
+        assertThat(ppm.apply(create("/foo/bar/foo2"))).isNull();
+        assertThat(ppm.apply(create("/foo/bar/fo"))).isNull();
+    }
+
+    @Test
+    void testSegmentBoundary() throws Exception {
+        final ParameterizedPathMapping ppm = new ParameterizedPathMapping("/service/{value}/test");
+        assertThat(ppm.apply(create("/service/value/test"))).isNotNull();
+        assertThat(ppm.apply(create("/service/value/test/"))).isNull();
+        assertThat(ppm.apply(create("/service/value/tester"))).isNull();
+        assertThat(ppm.apply(create("/service/value"))).isNull();
+    }
+
     @Test
     void testSkeleton() throws Exception {
         final ParameterizedPathMapping ppm =
@@ -67,4 +67,18 @@ class RegexPathMappingTest {
         assertThat(result.decodedPath()).isEqualTo("/¢");
         assertThat(result.pathParams()).containsEntry("foo", "¢").hasSize(1);
     }
+
+    @Test
+    void literalPrefix() {
+        assertThat(RegexPathMapping.literalPrefix("^/files/(?<fileName>.*)$")).isEqualTo("/files/");
+        assertThat(RegexPathMapping.literalPrefix("^/foo/bars?")).isEqualTo("/foo/bar");
+        assertThat(RegexPathMapping.literalPrefix("^/foo/bar+")).isEqualTo("/foo/bar");
+        assertThat(RegexPathMapping.literalPrefix("/foo/bar")).isEmpty();
+        assertThat(RegexPathMapping.literalPrefix("^/foo|/bar")).isEmpty();
+        assertThat(RegexPathMapping.literalPrefix("^\\/foo")).isEmpty();
+
+        assertThat(new RegexPathMapping(Pattern.compile("^/foo/")).literalPrefix()).isEqualTo("/foo/");
+        assertThat(new RegexPathMapping(Pattern.compile("^/foo/", Pattern.CASE_INSENSITIVE))
+                           .literalPrefix()).isEmpty();
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.linecorp.armeria.client.ClientRequestContext;
+import com.linecorp.armeria.client.ClientRequestContextCaptor;
+import com.linecorp.armeria.client.Clients;
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class RequestFanOutTest {
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger maxInFlight = new AtomicInteger();
+    // The number of the '/hang' requests that were closed by the client.
+    private static final AtomicInteger cancelled = new AtomicInteger();
+
+    @RegisterExtension
+    static ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.service("/backend/{id}", (ctx, req) -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return HttpResponse.delayed(() -> {
+                    inFlight.decrementAndGet();
+                    return HttpResponse.of(ctx.pathParam("id"));
+                }, Duration.ofMillis(50));
+            });
+            sb.service("/fail", (ctx, req) -> HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR));
+            sb.service("/hang", (ctx, req) -> {
+                ctx.clearRequestTimeout();
+                ctx.log().whenComplete().thenRun(cancelled::incrementAndGet);
+                return HttpResponse.streaming();
+            });
+
+            sb.service("/aggregate", (ctx, req) -> {
+                final List<Supplier<CompletableFuture<String>>> calls = new ArrayList<>();
+                for (int i = 0; i < 10; i++) {
+                    final String path = "/backend/" + i;
+                    calls.add(() -> client().get(path).aggregate()
+                                            .thenApply(AggregatedHttpResponse::contentUtf8));
+                }
+                return HttpResponse.of(ctx.fanOut(3, calls).thenApply(
+                        results -> HttpResponse.of(String.join(",", results))));
+            });
+            sb.service("/failFast", (ctx, req) -> {
+                final List<Supplier<CompletableFuture<AggregatedHttpResponse>>> calls = new ArrayList<>();
+                calls.add(() -> client().get("/hang").aggregate());
+                calls.add(() -> client().get("/hang").aggregate());
+                calls.add(() -> client().get("/fail").aggregate().thenApply(res -> {
+                    throw new IllegalStateException(res.status().toString());
+                }));
+                calls.add(() -> client().get("/hang").aggregate());
+                return HttpResponse.of(ctx.fanOut(3, calls).handle(
+                        (unused, cause) -> HttpResponse.of(cause.getClass().getSimpleName())));
+            });
+            sb.service("/deadline", (ctx, req) -> {
+                ctx.setRequestTimeoutMillis(1000);
+                final List<ClientRequestContext> children = new ArrayList<>();
+                final List<Supplier<CompletableFuture<AggregatedHttpResponse>>> calls = new ArrayList<>();
+                calls.add(() -> {
+                    try (ClientRequestContextCaptor captor = Clients.newContextCaptor()) {
+                        final CompletableFuture<AggregatedHttpResponse> future =
+                                WebClient.builder(server.httpUri())
+                                         .responseTimeoutMillis(10_000)
+                                         .build()
+                                         .get("/hang").aggregate();
+                        children.add(captor.get());
+                        return future;
+                    }
+                });
+                final CompletableFuture<List<AggregatedHttpResponse>> future = ctx.fanOut(1, calls);
+                // The call has been invoked synchronously because this service runs in the event loop.
+                final long childTimeoutMillis = children.get(0).responseTimeoutMillis();
+                future.cancel(false);
+                return HttpResponse.of(String.valueOf(childTimeoutMillis));
+            });
+        }
+    };
+
+    private static WebClient client() {
+        return server.webClient();
+    }
+
+    @BeforeEach
+    void setUp() {
+        inFlight.set(0);
+        maxInFlight.set(0);
+        cancelled.set(0);
+    }
+
+    @Test
+    void resultsInOrderWithBoundedConcurrency() {
+        final AggregatedHttpResponse res = server.blockingWebClient().get("/aggregate");
+        assertThat(res.contentUtf8()).isEqualTo("0,1,2,3,4,5,6,7,8,9");
+        assertThat(maxInFlight).hasValueBetween(1, 3);
+    }
+
+    @Test
+    void cancelOutstandingCallsOnFirstFailure() {
+        final AggregatedHttpResponse res = server.blockingWebClient().get("/failFast");
+        assertThat(res.contentUtf8()).isEqualTo("IllegalStateException");
+        // The two outstanding calls are cancelled and the last one is never sent.
+        await().untilAsserted(() -> assertThat(cancelled).hasValue(2));
+    }
+
+    @Test
+    void propagateRemainingDeadline() {
+        final AggregatedHttpResponse res = server.blockingWebClient().get("/deadline");
+        assertThat(Long.parseLong(res.contentUtf8())).isBetween(1L, 1000L);
+        // Cancelling the returned future cancels the outstanding call.
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(cancelled).hasValue(1));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.client.WebClient;
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpObject;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpResponseWriter;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.stream.StreamMessage;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class ResponseWriteBatchingTest {
+
+    private static final AtomicReference<HttpResponseWriter> slowResponse = new AtomicReference<>();
+
+    @RegisterExtension
+    static ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.maxResponseWriteBatchSize(16);
+            sb.responseFlushDelay(Duration.ofMillis(10));
+            sb.service("/many", (ctx, req) -> {
+                final HttpData[] data = new HttpData[1000];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = HttpData.ofUtf8("a");
+                }
+                return HttpResponse.of(ResponseHeaders.of(HttpStatus.OK), StreamMessage.of(data));
+            });
+            sb.service("/slow", (ctx, req) -> {
+                final HttpResponseWriter res = HttpResponse.streaming();
+                res.write(ResponseHeaders.of(HttpStatus.OK));
+                res.write(HttpData.ofUtf8("first"));
+                slowResponse.set(res);
+                return res;
+            });
+        }
+    };
+
+    @ParameterizedTest
+    @EnumSource(value = SessionProtocol.class, names = { "H1C", "H2C" })
+    void writesAllObjects(SessionProtocol protocol) {
+        final AggregatedHttpResponse res = WebClient.of(server.uri(protocol)).get("/many").aggregate().join();
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        assertThat(res.contentUtf8()).isEqualTo(Strings.repeat("a", 1000));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SessionProtocol.class, names = { "H1C", "H2C" })
+    void flushesIncompleteBatchAfterDelay(SessionProtocol protocol) {
+        final LinkedBlockingQueue<HttpObject> received = new LinkedBlockingQueue<>();
+        final HttpResponse res = WebClient.of(server.uri(protocol)).get("/slow");
+        res.subscribe(new Subscriber<HttpObject>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(HttpObject obj) {
+                received.add(obj);
+            }
+
+            @Override
+            public void onError(Throwable t) {}
+
+            @Override
+            public void onComplete() {}
+        });
+
+        // The first data should be flushed even though the batch is not full and the response is open.
+        await().untilAsserted(() -> assertThat(received).anySatisfy(obj -> {
+            assertThat(obj).isInstanceOf(HttpData.class);
+            assertThat(((HttpData) obj).toStringUtf8()).isEqualTo("first");
+        }));
+        slowResponse.get().close();
+        res.whenComplete().join();
+    }
+
+    @Test
+    void invalidOptions() {
+        assertThatThrownBy(() -> Server.builder().maxResponseWriteBatchSize(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Server.builder().responseFlushDelay(Duration.ofMillis(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -114,6 +114,34 @@ class RouterTest {
         assertThat(matched).containsAll(expected);
     }
 
+    @Test
+    void regexRoutesAreFilteredByLiteralPrefix() {
+        final List<Route> routes = Lists.newArrayList(
+                Route.builder().path("regex:^/api/v1/(?<id>[0-9]+)$").build(),
+                Route.builder().path("glob:/api/**").build(),
+                Route.builder().path("regex:/(?<any>[0-9]+)$").build(),
+                Route.builder().path("regex:^/Api/v2/(?<id>[0-9]+)$").build(),
+                Route.builder().path("glob:/static/**/*.js").build()
+        );
+        final List<Router<Route>> routers =
+                Routers.routers(routes, null, null, Function.identity(), REJECT, false);
+        assertThat(routers).hasSize(1);
+        final Router<Route> router = routers.get(0);
+
+        // The unanchored regex must be evaluated regardless of the literal prefixes of the other routes.
+        assertThat(router.findAll(routingCtx("/api/v1/42")).stream().map(Routed::route))
+                .containsExactly(routes.get(0), routes.get(1), routes.get(2));
+        assertThat(router.find(routingCtx("/api/v1/42")).route()).isEqualTo(routes.get(0));
+        assertThat(router.find(routingCtx("/api/v1/42")).routingResult().pathParams())
+                .containsEntry("id", "42");
+        assertThat(router.find(routingCtx("/api/foo")).route()).isEqualTo(routes.get(1));
+        assertThat(router.findAll(routingCtx("/Api/v2/42")).stream().map(Routed::route))
+                .containsExactly(routes.get(2), routes.get(3));
+        assertThat(router.find(routingCtx("/static/a/b.js")).route()).isEqualTo(routes.get(4));
+        assertThat(router.find(routingCtx("/other/42")).route()).isEqualTo(routes.get(2));
+        assertThat(router.find(routingCtx("/other")).isPresent()).isFalse();
+    }
+
     private static DefaultRoutingContext routingCtx(String path) {
         return new DefaultRoutingContext(virtualHost(), "example.com",
                                          RequestHeaders.of(HttpMethod.GET, path),
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.server.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaders;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseHeaders;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.server.annotation.Get;
+import com.linecorp.armeria.server.annotation.JacksonResponseConverterFunction;
+import com.linecorp.armeria.server.annotation.ProducesJson;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+import reactor.core.publisher.Flux;
+
+class JsonArraysTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final ResponseHeaders headers = ResponseHeaders.of(HttpStatus.OK);
+
+    @RegisterExtension
+    static ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) {
+            sb.service("/publisher",
+                       (ctx, req) -> JsonArrays.fromPublisher(Flux.just("foo", "bar", "baz")));
+            sb.service("/stream",
+                       (ctx, req) -> JsonArrays.fromStream(Stream.of("foo", "bar", "baz"),
+                                                           MoreExecutors.directExecutor()));
+            sb.service("/empty", (ctx, req) -> JsonArrays.fromPublisher(Flux.empty()));
+            sb.service("/chunked/publisher",
+                       (ctx, req) -> JsonArrays.fromPublisher(headers, Flux.fromIterable(numbers()),
+                                                              HttpHeaders.of(), mapper,
+                                                              16, Duration.ZERO));
+            sb.service("/chunked/stream",
+                       (ctx, req) -> JsonArrays.fromStream(headers, numbers().stream(), HttpHeaders.of(),
+                                                           ctx.blockingTaskExecutor(), mapper,
+                                                           16, Duration.ZERO));
+            sb.service("/interval",
+                       (ctx, req) -> JsonArrays.fromPublisher(
+                               headers, Flux.just(1, 2).concatWith(Flux.just(3).delayElements(
+                                       Duration.ofSeconds(1))),
+                               HttpHeaders.of(), mapper, 1024, Duration.ofMillis(100)));
+            sb.service("/error",
+                       (ctx, req) -> JsonArrays.fromPublisher(Flux.error(new IllegalStateException())));
+            sb.annotatedService(new Object() {
+                @Get("/annotated")
+                @ProducesJson
+                public Flux<Integer> annotated() {
+                    return Flux.fromIterable(numbers());
+                }
+            }, new JacksonResponseConverterFunction(mapper, true));
+        }
+    };
+
+    @Test
+    void fromPublisherOrStream() {
+        for (String path : new String[] { "/publisher", "/stream" }) {
+            final AggregatedHttpResponse res = server.blockingWebClient().get(path);
+            assertThat(res.status()).isEqualTo(HttpStatus.OK);
+            assertThat(res.contentType()).isEqualTo(MediaType.JSON_UTF_8);
+            assertThat(res.contentUtf8()).isEqualTo("[\"foo\",\"bar\",\"baz\"]");
+        }
+    }
+
+    @Test
+    void emptyArray() {
+        assertThat(server.blockingWebClient().get("/empty").contentUtf8()).isEqualTo("[]");
+    }
+
+    @Test
+    void splitIntoChunks() throws Exception {
+        final String expected = mapper.writeValueAsString(numbers());
+        for (String path : new String[] { "/chunked/publisher", "/chunked/stream" }) {
+            final List<HttpData> chunks = server.webClient().get(path).split().body().collect().join();
+            assertThat(chunks.size()).isGreaterThan(1);
+            final String content = chunks.stream()
+                                         .map(HttpData::toStringUtf8)
+                                         .collect(Collectors.joining());
+            assertThat(content).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void flushedAfterInterval() {
+        final HttpData first = server.webClient().get("/interval").split().body()
+                                     .collect().join().get(0);
+        assertThat(first.toStringUtf8()).isEqualTo("[1,2");
+    }
+
+    @Test
+    void failedBeforeFirstChunk() {
+        assertThat(server.blockingWebClient().get("/error").status())
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void annotatedService() throws Exception {
+        final AggregatedHttpResponse res = server.blockingWebClient().get("/annotated");
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        final JsonNode node = mapper.readTree(res.contentUtf8());
+        assertThat(node.size()).isEqualTo(100);
+        assertThat(node.get(99).asInt()).isEqualTo(99);
+    }
+
+    private static List<Integer> numbers() {
+        return IntStream.range(0, 100).boxed().collect(Collectors.toList());
+    }
+}
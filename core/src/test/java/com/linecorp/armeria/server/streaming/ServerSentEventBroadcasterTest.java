@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.metric.MeterIdPrefix;
+import com.linecorp.armeria.common.metric.MoreMeters;
+import com.linecorp.armeria.common.sse.ServerSentEvent;
+import com.linecorp.armeria.common.stream.ClosedStreamException;
+import com.linecorp.armeria.common.stream.SlowSubscriberPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ServerSentEventBroadcasterTest {
+
+    @Test
+    void broadcastToAllSubscribers() {
+        final ServerSentEventBroadcaster broadcaster = ServerSentEventBroadcaster.of();
+        final HttpResponse res1 = broadcaster.subscribe("foo");
+        final HttpResponse res2 = broadcaster.subscribe("foo");
+        final HttpResponse res3 = broadcaster.subscribe("bar");
+        assertThat(broadcaster.numSubscribers("foo")).isEqualTo(2);
+        assertThat(broadcaster.numSubscribers("bar")).isOne();
+
+        assertThat(broadcaster.broadcast("foo", ServerSentEvent.ofData("a"))).isEqualTo(2);
+        assertThat(broadcaster.broadcast("foo", ServerSentEvent.ofEvent("b"))).isEqualTo(2);
+        assertThat(broadcaster.broadcast("bar", ServerSentEvent.ofData("c"))).isOne();
+        assertThat(broadcaster.broadcast("baz", ServerSentEvent.ofData("d"))).isZero();
+        broadcaster.close("foo");
+        broadcaster.close("bar");
+        assertThat(broadcaster.numSubscribers("foo")).isZero();
+
+        for (HttpResponse res : new HttpResponse[] { res1, res2 }) {
+            final AggregatedHttpResponse aggregated = res.aggregate().join();
+            assertThat(aggregated.status()).isEqualTo(HttpStatus.OK);
+            assertThat(aggregated.contentType()).isEqualTo(MediaType.EVENT_STREAM);
+            assertThat(aggregated.contentUtf8()).isEqualTo("data:a\n\nevent:b\n\n");
+        }
+        assertThat(res3.aggregate().join().contentUtf8()).isEqualTo("data:c\n\n");
+    }
+
+    @Test
+    void unsubscribeOnCancellation() {
+        final ServerSentEventBroadcaster broadcaster = ServerSentEventBroadcaster.of();
+        final HttpResponse res = broadcaster.subscribe("foo");
+        assertThat(broadcaster.numSubscribers("foo")).isOne();
+        res.abort();
+        await().untilAsserted(() -> assertThat(broadcaster.numSubscribers("foo")).isZero());
+        assertThat(broadcaster.broadcast("foo", ServerSentEvent.ofData("a"))).isZero();
+    }
+
+    @Test
+    void dropEventsForSlowSubscriber() {
+        final ServerSentEventBroadcaster broadcaster = ServerSentEventBroadcaster.builder()
+                                                                                .maxPendingEvents(2)
+                                                                                .build();
+        final HttpResponse res = broadcaster.subscribe("foo");
+        assertThat(broadcaster.broadcast("foo", ServerSentEvent.ofData("a"))).isOne();
+        assertThat(broadcaster.broadcast("foo", ServerSentEvent.ofData("b"))).isOne();
+        // Dropped because the two events have not been consumed yet.
+        assertThat(broadcaster.broadcast("foo", ServerSentEvent.ofData("c"))).isZero();
+        assertThat(broadcaster.numSubscribers("foo")).isOne();
+        broadcaster.close("foo");
+
+        assertThat(res.aggregate().join().contentUtf8()).isEqualTo("data:a\n\ndata:b\n\n");
+    }
+
+    @Test
+    void disconnectSlowSubscriber() {
+        final ServerSentEventBroadcaster broadcaster =
+                ServerSentEventBroadcaster.builder()
+                                          .maxPendingEvents(2)
+                                          .slowSubscriberPolicy(SlowSubscriberPolicy.DISCONNECT)
+                                          .build();
+        final HttpResponse res = broadcaster.subscribe("foo");
+        assertThat(broadcaster.broadcast("foo", ServerSentEvent.ofData("a"))).isOne();
+        assertThat(broadcaster.broadcast("foo", ServerSentEvent.ofData("b"))).isOne();
+        assertThat(broadcaster.broadcast("foo", ServerSentEvent.ofData("c"))).isZero();
+        await().untilAsserted(() -> assertThat(broadcaster.numSubscribers("foo")).isZero());
+
+        assertThatThrownBy(() -> res.aggregate().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ClosedStreamException.class);
+    }
+
+    @Test
+    void replayEventsAfterLastEventId() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final ServerSentEventBroadcaster broadcaster =
+                ServerSentEventBroadcaster.builder()
+                                          .maxReplayBytes(1024)
+                                          .meterRegistry(meterRegistry)
+                                          .meterIdPrefix(new MeterIdPrefix("sse"))
+                                          .build();
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("1").data("a").build());
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("2").data("b").build());
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("3").data("c").build());
+        assertThat(MoreMeters.measureAll(meterRegistry))
+                .containsEntry("sse.replay.buffer.events#value", 3.0);
+
+        final HttpResponse res = broadcaster.subscribe("foo", "1");
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("4").data("d").build());
+        broadcaster.close("foo");
+
+        assertThat(res.aggregate().join().contentUtf8())
+                .isEqualTo("id:2\ndata:b\n\nid:3\ndata:c\n\nid:4\ndata:d\n\n");
+        assertThat(MoreMeters.measureAll(meterRegistry))
+                .containsEntry("sse.replay.events#count", 2.0)
+                .containsEntry("sse.replay.misses#count", 0.0)
+                .containsEntry("sse.replay.buffer.events#value", 0.0)
+                .containsEntry("sse.replay.buffer.bytes#value", 0.0);
+    }
+
+    @Test
+    void noReplayForUnknownLastEventId() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final ServerSentEventBroadcaster broadcaster =
+                ServerSentEventBroadcaster.builder()
+                                          .maxReplayBytes(1024)
+                                          .meterRegistry(meterRegistry)
+                                          .meterIdPrefix(new MeterIdPrefix("sse"))
+                                          .build();
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("1").data("a").build());
+
+        final HttpResponse res = broadcaster.subscribe("foo", "unknown");
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("2").data("b").build());
+        broadcaster.close("foo");
+
+        assertThat(res.aggregate().join().contentUtf8()).isEqualTo("id:2\ndata:b\n\n");
+        assertThat(MoreMeters.measureAll(meterRegistry))
+                .containsEntry("sse.replay.misses#count", 1.0);
+    }
+
+    @Test
+    void evictOldestEventsWhenFull() {
+        // Each event is encoded into 'id:N\ndata:x\n\n', which is 14 bytes.
+        final ServerSentEventBroadcaster broadcaster =
+                ServerSentEventBroadcaster.builder()
+                                          .maxReplayBytes(28)
+                                          .meterRegistry(new SimpleMeterRegistry())
+                                          .meterIdPrefix(new MeterIdPrefix("sse"))
+                                          .build();
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("1").data("a").build());
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("2").data("b").build());
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("3").data("c").build());
+
+        // The event '1' has been evicted.
+        final HttpResponse missed = broadcaster.subscribe("foo", "1");
+        final HttpResponse replayed = broadcaster.subscribe("foo", "2");
+        broadcaster.close("foo");
+
+        assertThat(missed.aggregate().join().contentUtf8()).isEmpty();
+        assertThat(replayed.aggregate().join().contentUtf8()).isEqualTo("id:3\ndata:c\n\n");
+    }
+
+    @Test
+    void evictExpiredEvents() throws Exception {
+        final ServerSentEventBroadcaster broadcaster =
+                ServerSentEventBroadcaster.builder()
+                                          .maxReplayBytes(1024)
+                                          .maxReplayAge(Duration.ofMillis(100))
+                                          .meterRegistry(new SimpleMeterRegistry())
+                                          .meterIdPrefix(new MeterIdPrefix("sse"))
+                                          .build();
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("1").data("a").build());
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("2").data("b").build());
+        Thread.sleep(200);
+
+        final HttpResponse res = broadcaster.subscribe("foo", "1");
+        broadcaster.close("foo");
+        assertThat(res.aggregate().join().contentUtf8()).isEmpty();
+    }
+
+    @Test
+    void evictExpiredEventsOfIdleTopic() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final ServerSentEventBroadcaster broadcaster =
+                ServerSentEventBroadcaster.builder()
+                                          .maxReplayBytes(1024)
+                                          .maxReplayAge(Duration.ofMillis(100))
+                                          .meterRegistry(meterRegistry)
+                                          .meterIdPrefix(new MeterIdPrefix("sse"))
+                                          .build();
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("1").data("a").build());
+        assertThat(MoreMeters.measureAll(meterRegistry))
+                .containsEntry("sse.replay.buffer.events#value", 1.0);
+
+        // The expired events are evicted even if nothing happens to the topic.
+        await().untilAsserted(() -> assertThat(MoreMeters.measureAll(meterRegistry))
+                .containsEntry("sse.replay.buffer.events#value", 0.0)
+                .containsEntry("sse.replay.buffer.bytes#value", 0.0));
+
+        // A new buffer is created for the topic.
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("2").data("b").build());
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("3").data("c").build());
+        final HttpResponse res = broadcaster.subscribe("foo", "2");
+        broadcaster.close("foo");
+        assertThat(res.aggregate().join().contentUtf8()).isEqualTo("id:3\ndata:c\n\n");
+    }
+
+    @Test
+    void noReplayForTooManyMissedEvents() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final ServerSentEventBroadcaster broadcaster =
+                ServerSentEventBroadcaster.builder()
+                                          .maxPendingEvents(2)
+                                          .maxReplayBytes(1024)
+                                          .meterRegistry(meterRegistry)
+                                          .meterIdPrefix(new MeterIdPrefix("sse"))
+                                          .build();
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("1").data("a").build());
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("2").data("b").build());
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("3").data("c").build());
+        broadcaster.broadcast("foo", ServerSentEvent.builder().id("4").data("d").build());
+
+        // Replaying the 3 events after '1' would exceed maxPendingEvents.
+        final HttpResponse missed = broadcaster.subscribe("foo", "1");
+        // The 2 events after '2' fit in maxPendingEvents.
+        final HttpResponse replayed = broadcaster.subscribe("foo", "2");
+        broadcaster.close("foo");
+
+        assertThat(missed.aggregate().join().contentUtf8()).isEmpty();
+        assertThat(replayed.aggregate().join().contentUtf8()).isEqualTo("id:3\ndata:c\n\nid:4\ndata:d\n\n");
+        assertThat(MoreMeters.measureAll(meterRegistry))
+                .containsEntry("sse.replay.events#count", 2.0)
+                .containsEntry("sse.replay.misses#count", 1.0);
+    }
+
+    @Test
+    void noMetersWithoutReplay() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ServerSentEventBroadcaster.builder()
+                                  .meterRegistry(meterRegistry)
+                                  .meterIdPrefix(new MeterIdPrefix("sse"))
+                                  .build();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void meterIdPrefixRequiredForReplay() {
+        assertThatThrownBy(() -> ServerSentEventBroadcaster.builder()
+                                                           .maxReplayBytes(1024)
+                                                           .build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("meterIdPrefix");
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final ServerSentEventBroadcasterBuilder builder =
+                ServerSentEventBroadcaster.builder()
+                                          .maxReplayBytes(1024)
+                                          .meterRegistry(meterRegistry)
+                                          .meterIdPrefix(new MeterIdPrefix("sse"));
+        builder.build();
+        // Two broadcasters must not share the same meters.
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("meterIdPrefix");
+        builder.meterIdPrefix(new MeterIdPrefix("sse", "topic", "bar")).build();
+    }
+}
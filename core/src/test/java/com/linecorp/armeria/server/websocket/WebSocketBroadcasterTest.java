@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.linecorp.armeria.server.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.google.common.base.Strings;
+
+import com.linecorp.armeria.client.websocket.WebSocketClient;
+import com.linecorp.armeria.client.websocket.WebSocketInboundTestHandler;
+import com.linecorp.armeria.client.websocket.WebSocketSession;
+import com.linecorp.armeria.common.SerializationFormat;
+import com.linecorp.armeria.common.SessionProtocol;
+import com.linecorp.armeria.common.stream.NoopSubscriber;
+import com.linecorp.armeria.common.stream.SlowSubscriberPolicy;
+import com.linecorp.armeria.common.websocket.WebSocket;
+import com.linecorp.armeria.common.websocket.WebSocketCloseStatus;
+import com.linecorp.armeria.common.websocket.WebSocketFrame;
+import com.linecorp.armeria.server.ServerBuilder;
+import com.linecorp.armeria.testing.junit5.server.ServerExtension;
+
+class WebSocketBroadcasterTest {
+
+    private static final WebSocketBroadcaster broadcaster = WebSocketBroadcaster.of();
+
+    @RegisterExtension
+    static final ServerExtension server = new ServerExtension() {
+        @Override
+        protected void configure(ServerBuilder sb) throws Exception {
+            sb.route()
+              .get("/chat")
+              .connect("/chat")
+              .requestAutoAbortDelayMillis(5000)
+              .build(WebSocketService.of((ctx, in) -> {
+                  in.subscribe(NoopSubscriber.get());
+                  return broadcaster.subscribe("chat");
+              }));
+            sb.route()
+              .get("/deflate")
+              .connect("/deflate")
+              .requestAutoAbortDelayMillis(5000)
+              .build(WebSocketService.builder((ctx, in) -> {
+                                         in.subscribe(NoopSubscriber.get());
+                                         return broadcaster.subscribe("deflate");
+                                     })
+                                     .perMessageDeflate(true)
+                                     .build());
+        }
+    };
+
+    @CsvSource({ "/chat, chat", "/deflate, deflate" })
+    @ParameterizedTest
+    void broadcast(String path, String topic) throws Exception {
+        final WebSocketSession session1 = connect(SessionProtocol.H1C, path);
+        final WebSocketSession session2 = connect(SessionProtocol.H2C, path);
+        final WebSocketInboundTestHandler handler1 =
+                new WebSocketInboundTestHandler(session1.inbound(), SessionProtocol.H1C);
+        final WebSocketInboundTestHandler handler2 =
+                new WebSocketInboundTestHandler(session2.inbound(), SessionProtocol.H2C);
+        session1.setOutbound(WebSocket.streaming());
+        session2.setOutbound(WebSocket.streaming());
+        await().untilAsserted(() -> assertThat(broadcaster.numSubscribers(topic)).isEqualTo(2));
+
+        final String large = Strings.repeat("0123456789", 1000);
+        assertThat(broadcaster.broadcast(topic, WebSocketFrame.ofText("hello"))).isEqualTo(2);
+        assertThat(broadcaster.broadcast(topic, WebSocketFrame.ofText(large))).isEqualTo(2);
+        broadcaster.close(topic);
+
+        for (WebSocketInboundTestHandler handler : new WebSocketInboundTestHandler[] { handler1, handler2 }) {
+            assertThat(handler.inboundQueue().take()).isEqualTo(WebSocketFrame.ofText("hello"));
+            assertThat(handler.inboundQueue().take()).isEqualTo(WebSocketFrame.ofText(large));
+            assertThat(handler.inboundQueue().take())
+                    .isEqualTo(WebSocketFrame.ofClose(WebSocketCloseStatus.NORMAL_CLOSURE));
+        }
+        assertThat(broadcaster.numSubscribers(topic)).isZero();
+    }
+
+    @Test
+    void rejectUnsupportedFrames() {
+        assertThatThrownBy(() -> broadcaster.broadcast(
+                "chat", WebSocketFrame.ofClose(WebSocketCloseStatus.NORMAL_CLOSURE)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> broadcaster.broadcast("chat", WebSocketFrame.ofText("foo", false)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void disconnectSlowSubscriber() {
+        final WebSocketBroadcaster broadcaster =
+                WebSocketBroadcaster.builder()
+                                    .maxPendingMessages(1)
+                                    .slowSubscriberPolicy(SlowSubscriberPolicy.DISCONNECT)
+                                    .build();
+        final WebSocket outbound = broadcaster.subscribe("foo");
+        assertThat(broadcaster.broadcast("foo", WebSocketFrame.ofText("a"))).isOne();
+        assertThat(broadcaster.broadcast("foo", WebSocketFrame.ofText("b"))).isZero();
+        await().untilAsserted(() -> assertThat(broadcaster.numSubscribers("foo")).isZero());
+        assertThatThrownBy(() -> outbound.collect().join())
+                .hasCauseInstanceOf(WebSocketProtocolViolationException.class);
+    }
+
+    private static WebSocketSession connect(SessionProtocol protocol, String path) {
+        return WebSocketClient.builder(server.uri(protocol, SerializationFormat.WS))
+                              .perMessageDeflate(true)
+                              .build()
+                              .connect(path)
+                              .join();
+    }
+}
@@ -37,6 +37,7 @@ import com.linecorp.armeria.internal.client.ClientUtil;
 import com.linecorp.armeria.internal.client.DefaultClientRequestContext;
 import com.linecorp.armeria.internal.client.TailPreClient;
 import com.linecorp.armeria.internal.common.RequestTargetCache;
+import com.linecorp.armeria.internal.common.thrift.ThriftFunction;
 
 import io.micrometer.core.instrument.MeterRegistry;
 
@@ -59,18 +60,26 @@ final class DefaultTHttpClient extends UserClient<RpcRequest, RpcResponse> imple
 
     @Override
     public RpcResponse execute(String path, Class<?> serviceType, String method, Object... args) {
-        return execute0(path, serviceType, null, method, args);
+        return execute0(path, serviceType, null, method, null, args);
     }
 
     @Override
     public RpcResponse executeMultiplexed(
             String path, Class<?> serviceType, String serviceName, String method, Object... args) {
         requireNonNull(serviceName, "serviceName");
-        return execute0(path, serviceType, serviceName, method, args);
+        return execute0(path, serviceType, serviceName, method, null, args);
     }
 
-    private RpcResponse execute0(
-            String path, Class<?> serviceType, @Nullable String serviceName, String method, Object[] args) {
+    /**
+     * Sends a call of the {@link ThriftFunction} resolved by a Thrift client interface in advance.
+     */
+    RpcResponse execute(String path, Class<?> serviceType, @Nullable String serviceName,
+                        ThriftFunction function, Object[] args) {
+        return execute0(path, serviceType, serviceName, function.name(), function, args);
+    }
+
+    private RpcResponse execute0(String path, Class<?> serviceType, @Nullable String serviceName,
+                                 String method, @Nullable ThriftFunction function, Object[] args) {
 
         if (serviceName != null) {
             path = path + '#' + serviceName;
@@ -85,7 +94,10 @@ final class DefaultTHttpClient extends UserClient<RpcRequest, RpcResponse> imple
         // A thrift path is always good to cache as it cannot have non-fixed parameters.
         RequestTargetCache.putForClient(path, reqTarget);
 
-        final RpcRequest call = RpcRequest.of(serviceType, method, args);
+        RpcRequest call = RpcRequest.of(serviceType, method, args);
+        if (function != null) {
+            call = new ResolvedRpcRequest(call, function);
+        }
         final DefaultClientRequestContext ctx = new DefaultClientRequestContext(
                 scheme().sessionProtocol(), null, HttpMethod.POST, call, reqTarget, endpointGroup(),
                 UNARY_REQUEST_OPTIONS, options(), meterRegistry());
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.internal.client.thrift;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import com.linecorp.armeria.common.RpcRequest;
+import com.linecorp.armeria.common.annotation.Nullable;
+import com.linecorp.armeria.internal.common.thrift.ThriftFunction;
+
+/**
+ * An {@link RpcRequest} sent by a Thrift client interface, which carries the {@link ThriftFunction}
+ * resolved when the client was created, so that {@link THttpClientDelegate} does not look it up again.
+ * If a decorator replaces the request, {@link THttpClientDelegate} looks up the {@link ThriftFunction}
+ * of the new request instead.
+ */
+final class ResolvedRpcRequest implements RpcRequest {
+
+    private final RpcRequest delegate;
+    private final ThriftFunction function;
+
+    ResolvedRpcRequest(RpcRequest delegate, ThriftFunction function) {
+        this.delegate = requireNonNull(delegate, "delegate");
+        this.function = requireNonNull(function, "function");
+    }
+
+    ThriftFunction function() {
+        return function;
+    }
+
+    @Override
+    public Class<?> serviceType() {
+        return delegate.serviceType();
+    }
+
+    @Override
+    public String serviceName() {
+        return delegate.serviceName();
+    }
+
+    @Override
+    public String method() {
+        return delegate.method();
+    }
+
+    @Override
+    public List<Object> params() {
+        return delegate.params();
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        // RpcRequest implementations compare each other by the properties of RpcRequest.
+        return this == obj || delegate.equals(obj);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -119,7 +119,12 @@ final class THttpClientDelegate extends DecoratingClient<HttpRequest, HttpRespon
 
         final ThriftFunction func;
         try {
-            func = metadata(call.serviceType()).function(method);
+            if (call instanceof ResolvedRpcRequest) {
+                // Resolved by the Thrift client interface already.
+                func = ((ResolvedRpcRequest) call).function();
+            } else {
+                func = metadata(call.serviceType()).function(method);
+            }
             if (func == null) {
                 throw new IllegalArgumentException("Thrift method not found: " + method);
             }
@@ -84,7 +84,8 @@ final class THttpClientFactory extends DecoratingClientFactory {
                                        "/", THttpClient.class,
                                        options);
 
-        final THttpClient thriftClient = new DefaultTHttpClient(delegateParams, delegate, meterRegistry());
+        final DefaultTHttpClient thriftClient =
+                new DefaultTHttpClient(delegateParams, delegate, meterRegistry());
 
         return Proxy.newProxyInstance(
                 clientType.getClassLoader(),
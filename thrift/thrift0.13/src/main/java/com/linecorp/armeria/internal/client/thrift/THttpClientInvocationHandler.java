@@ -22,10 +22,13 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
 import org.apache.thrift.async.AsyncMethodCallback;
 
+import com.google.common.collect.ImmutableMap;
+
 import com.linecorp.armeria.client.ClientBuilderParams;
 import com.linecorp.armeria.client.ClientOptions;
 import com.linecorp.armeria.client.ClientRequestContext;
@@ -40,6 +43,8 @@ import com.linecorp.armeria.common.util.AbstractUnwrappable;
 import com.linecorp.armeria.common.util.CompletionActions;
 import com.linecorp.armeria.common.util.Exceptions;
 import com.linecorp.armeria.common.util.SafeCloseable;
+import com.linecorp.armeria.internal.common.thrift.ThriftFunction;
+import com.linecorp.armeria.internal.common.thrift.ThriftServiceMetadata;
 
 final class THttpClientInvocationHandler
         extends AbstractUnwrappable<THttpClient> implements InvocationHandler, ClientBuilderParams {
@@ -47,10 +52,32 @@ final class THttpClientInvocationHandler
     private static final Object[] NO_ARGS = new Object[0];
 
     private final ClientBuilderParams params;
+    private final String path;
+    @Nullable
+    private final String fragment;
+    private final Map<Method, ClientMethod> clientMethods;
 
-    THttpClientInvocationHandler(ClientBuilderParams params, THttpClient thriftClient) {
+    THttpClientInvocationHandler(ClientBuilderParams params, DefaultTHttpClient thriftClient) {
         super(thriftClient);
         this.params = params;
+        // Resolve everything that does not change between invocations once, including the ThriftFunction
+        // of each method, so that a call only needs a single map lookup.
+        final URI uri = params.uri();
+        path = uri.getRawPath();
+        fragment = uri.getRawFragment();
+        clientMethods = clientMethods(params.clientType());
+    }
+
+    private static Map<Method, ClientMethod> clientMethods(Class<?> clientType) {
+        final ThriftServiceMetadata metadata = new ThriftServiceMetadata(clientType);
+        final ImmutableMap.Builder<Method, ClientMethod> builder = ImmutableMap.builder();
+        for (Method method : clientType.getMethods()) {
+            if (method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            builder.put(method, new ClientMethod(method, metadata.function(method.getName())));
+        }
+        return builder.build();
     }
 
     @Override
@@ -94,7 +121,12 @@ final class THttpClientInvocationHandler
 
         assert declaringClass == params.clientType();
         // Handle the methods in the interface.
-        return invokeClientMethod(method, args);
+        final ClientMethod clientMethod = clientMethods.get(method);
+        if (clientMethod == null) {
+            // All methods of the client type are resolved in the constructor.
+            throw new IllegalStateException("unknown method: " + method);
+        }
+        return invokeClientMethod(clientMethod, args);
     }
 
     private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
@@ -113,33 +145,32 @@ final class THttpClientInvocationHandler
     }
 
     @Nullable
-    private Object invokeClientMethod(Method method, @Nullable Object[] args) throws Throwable {
+    private Object invokeClientMethod(ClientMethod clientMethod, @Nullable Object[] args) throws Throwable {
         final AsyncMethodCallback<Object> callback;
         if (args == null) {
             args = NO_ARGS;
             callback = null;
-        } else {
+        } else if (clientMethod.hasCallback && args[args.length - 1] instanceof AsyncMethodCallback) {
             final int lastIdx = args.length - 1;
-            if (args.length > 0 && args[lastIdx] instanceof AsyncMethodCallback) {
-                @SuppressWarnings("unchecked")
-                final AsyncMethodCallback<Object> lastArg = (AsyncMethodCallback<Object>) args[lastIdx];
-                callback = lastArg;
-                args = Arrays.copyOfRange(args, 0, lastIdx);
-            } else {
-                callback = null;
-            }
+            @SuppressWarnings("unchecked")
+            final AsyncMethodCallback<Object> lastArg = (AsyncMethodCallback<Object>) args[lastIdx];
+            callback = lastArg;
+            args = lastIdx == 0 ? NO_ARGS : Arrays.copyOfRange(args, 0, lastIdx);
+        } else {
+            callback = null;
         }
 
         try (ClientRequestContextCaptor captor = Clients.newContextCaptor()) {
-            final String path = uri().getRawPath();
-            final String fragment = uri().getRawFragment();
             try {
                 final RpcResponse reply;
-                if (fragment != null) {
+                if (clientMethod.function != null) {
+                    reply = ((DefaultTHttpClient) unwrap()).execute(
+                            path, params.clientType(), fragment, clientMethod.function, args);
+                } else if (fragment != null) {
                     reply = unwrap().executeMultiplexed(
-                            path, params.clientType(), fragment, method.getName(), args);
+                            path, params.clientType(), fragment, clientMethod.name, args);
                 } else {
-                    reply = unwrap().execute(path, params.clientType(), method.getName(), args);
+                    reply = unwrap().execute(path, params.clientType(), clientMethod.name, args);
                 }
 
                 final ClientRequestContext ctx = captor.get();
@@ -189,4 +220,25 @@ final class THttpClientInvocationHandler
             }
         }
     }
+
+    /**
+     * The invocation metadata of a Thrift client interface method, resolved when the client is created.
+     */
+    private static final class ClientMethod {
+
+        final String name;
+        final boolean hasCallback;
+        // null if the method is not a Thrift function, which fails when invoked.
+        @Nullable
+        final ThriftFunction function;
+
+        ClientMethod(Method method, @Nullable ThriftFunction function) {
+            name = method.getName();
+            this.function = function;
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            hasCallback = parameterTypes.length > 0 &&
+                          AsyncMethodCallback.class.isAssignableFrom(
+                                  parameterTypes[parameterTypes.length - 1]);
+        }
+    }
 }
@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.apache.thrift.TApplicationException;
@@ -41,6 +42,7 @@ import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.protocol.TProtocolException;
 import org.apache.thrift.protocol.TProtocolFactory;
 import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,6 +61,7 @@ import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseCompleteException;
 import com.linecorp.armeria.common.RpcRequest;
 import com.linecorp.armeria.common.RpcResponse;
 import com.linecorp.armeria.common.SerializationFormat;
@@ -422,27 +425,44 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
         final HttpResponse res = HttpResponse.of(responseFuture);
         ctx.logBuilder().serializationFormat(serializationFormat);
         ctx.logBuilder().defer(RequestLogProperty.REQUEST_CONTENT);
-        req.aggregate(AggregationOptions.usePooledObjects(ctx.alloc(), ctx.eventLoop()))
-           .handle((aReq, cause) -> {
-               if (cause != null) {
-                   cause = Exceptions.peel(cause);
-                   if (cause instanceof HttpStatusException || cause instanceof HttpResponseException) {
-                       return HttpResponse.ofFailure(cause);
-                   }
-                   final HttpResponse errorRes;
-                   if (ctx.config().verboseResponses()) {
-                       errorRes = HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR,
-                                                  MediaType.PLAIN_TEXT_UTF_8,
-                                                  Exceptions.traceText(cause));
-                   } else {
-                       errorRes = HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR);
-                   }
-                   responseFuture.complete(errorRes);
-                   return null;
-               }
-               decodeAndInvoke(ctx, aReq, serializationFormat, responseFuture);
-               return null;
-           }).exceptionally(CompletionActions::log);
+
+        final HttpRequest peeked;
+        if (supportsEarlyHeaderValidation(serializationFormat)) {
+            // Validate the message header as soon as the first chunk arrives, so that a request for
+            // an unknown method or with a malformed header is rejected without buffering its whole body.
+            peeked = req.peekData(new MessageHeaderValidator(ctx, req, serializationFormat, responseFuture));
+        } else {
+            peeked = req;
+        }
+
+        peeked.aggregate(AggregationOptions.usePooledObjects(ctx.alloc(), ctx.eventLoop()))
+              .handle((aReq, cause) -> {
+                  if (responseFuture.isDone()) {
+                      // Rejected early by MessageHeaderValidator.
+                      if (aReq != null) {
+                          aReq.content().close();
+                      }
+                      return null;
+                  }
+                  if (cause != null) {
+                      cause = Exceptions.peel(cause);
+                      if (cause instanceof HttpStatusException || cause instanceof HttpResponseException) {
+                          return HttpResponse.ofFailure(cause);
+                      }
+                      final HttpResponse errorRes;
+                      if (ctx.config().verboseResponses()) {
+                          errorRes = HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR,
+                                                     MediaType.PLAIN_TEXT_UTF_8,
+                                                     Exceptions.traceText(cause));
+                      } else {
+                          errorRes = HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR);
+                      }
+                      responseFuture.complete(errorRes);
+                      return null;
+                  }
+                  decodeAndInvoke(ctx, aReq, serializationFormat, responseFuture);
+                  return null;
+              }).exceptionally(CompletionActions::log);
         return res;
     }
 
@@ -520,58 +540,13 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
 
                 header = inProto.readMessageBegin();
             } catch (Exception e) {
-                logger.debug("{} Failed to decode a {} header:", ctx, serializationFormat, e);
-
-                final HttpStatus httpStatus;
-                String message;
-                if (e instanceof TProtocolException &&
-                    ((TProtocolException) e).getType() == TProtocolException.SIZE_LIMIT) {
-                    httpStatus = HttpStatus.REQUEST_ENTITY_TOO_LARGE;
-                    message = firstNonNull(e.getMessage(), httpStatus.toString());
-                } else {
-                    httpStatus = HttpStatus.BAD_REQUEST;
-                    message = "Failed to decode a " + serializationFormat + " header";
-                }
-                if (ctx.config().verboseResponses()) {
-                    message += '\n' + Exceptions.traceText(e);
-                }
-
-                httpRes.complete(HttpResponse.of(httpStatus, MediaType.PLAIN_TEXT_UTF_8, message));
+                handleHeaderDecodeException(ctx, httpRes, serializationFormat, e);
                 return;
             }
 
             seqId = header.seqid;
-
-            final byte typeValue = header.type;
-            final int colonIdx = header.name.indexOf(':');
-            final String serviceName;
-            final String methodName;
-            if (colonIdx < 0) {
-                serviceName = "";
-                methodName = header.name;
-            } else {
-                serviceName = header.name.substring(0, colonIdx);
-                methodName = header.name.substring(colonIdx + 1);
-            }
-
-            // Basic sanity check. We usually should never fail here.
-            if (typeValue != TMessageType.CALL && typeValue != TMessageType.ONEWAY) {
-                final TApplicationException cause = new TApplicationException(
-                        TApplicationException.INVALID_MESSAGE_TYPE,
-                        "unexpected TMessageType: " + typeString(typeValue));
-
-                handlePreDecodeException(ctx, httpRes, cause, serializationFormat, seqId, methodName);
-                return;
-            }
-
-            // Ensure that such a method exists.
-            final ThriftServiceEntry entry = entries().get(serviceName);
-            f = entry != null ? entry.metadata.function(methodName) : null;
+            f = findFunction(ctx, httpRes, serializationFormat, header);
             if (f == null) {
-                final TApplicationException cause = new TApplicationException(
-                        TApplicationException.UNKNOWN_METHOD, "unknown method: " + header.name);
-
-                handlePreDecodeException(ctx, httpRes, cause, serializationFormat, seqId, methodName);
                 return;
             }
 
@@ -594,7 +569,7 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
                     cause = new TApplicationException(TApplicationException.PROTOCOL_ERROR,
                                                       "failed to decode arguments for " + header.name);
                 }
-                handlePreDecodeException(ctx, httpRes, cause, serializationFormat, seqId, methodName);
+                handlePreDecodeException(ctx, httpRes, cause, serializationFormat, seqId, f.name());
                 return;
             }
         } finally {
@@ -616,6 +591,84 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
         invoke(ctx, serializationFormat, seqId, f, decodedReq, httpRes);
     }
 
+    private static void handleHeaderDecodeException(
+            ServiceRequestContext ctx, CompletableFuture<HttpResponse> httpRes,
+            SerializationFormat serializationFormat, Exception e) {
+        logger.debug("{} Failed to decode a {} header:", ctx, serializationFormat, e);
+
+        final HttpStatus httpStatus;
+        String message;
+        if (e instanceof TProtocolException &&
+            ((TProtocolException) e).getType() == TProtocolException.SIZE_LIMIT) {
+            httpStatus = HttpStatus.REQUEST_ENTITY_TOO_LARGE;
+            message = firstNonNull(e.getMessage(), httpStatus.toString());
+        } else {
+            httpStatus = HttpStatus.BAD_REQUEST;
+            message = "Failed to decode a " + serializationFormat + " header";
+        }
+        if (ctx.config().verboseResponses()) {
+            message += '\n' + Exceptions.traceText(e);
+        }
+
+        httpRes.complete(HttpResponse.of(httpStatus, MediaType.PLAIN_TEXT_UTF_8, message));
+    }
+
+    /**
+     * Returns the {@link ThriftFunction} that the specified {@link TMessage} calls. If the {@link TMessage}
+     * is not a call or the function does not exist, {@code httpRes} is completed with an error response
+     * and {@code null} is returned.
+     */
+    @Nullable
+    private ThriftFunction findFunction(
+            ServiceRequestContext ctx, CompletableFuture<HttpResponse> httpRes,
+            SerializationFormat serializationFormat, TMessage header) {
+
+        final int seqId = header.seqid;
+        final byte typeValue = header.type;
+        final int colonIdx = header.name.indexOf(':');
+        final String serviceName;
+        final String methodName;
+        if (colonIdx < 0) {
+            serviceName = "";
+            methodName = header.name;
+        } else {
+            serviceName = header.name.substring(0, colonIdx);
+            methodName = header.name.substring(colonIdx + 1);
+        }
+
+        // Basic sanity check. We usually should never fail here.
+        if (typeValue != TMessageType.CALL && typeValue != TMessageType.ONEWAY) {
+            final TApplicationException cause = new TApplicationException(
+                    TApplicationException.INVALID_MESSAGE_TYPE,
+                    "unexpected TMessageType: " + typeString(typeValue));
+
+            handlePreDecodeException(ctx, httpRes, cause, serializationFormat, seqId, methodName);
+            return null;
+        }
+
+        // Ensure that such a method exists.
+        final ThriftServiceEntry entry = entries().get(serviceName);
+        final ThriftFunction f = entry != null ? entry.metadata.function(methodName) : null;
+        if (f == null) {
+            final TApplicationException cause = new TApplicationException(
+                    TApplicationException.UNKNOWN_METHOD, "unknown method: " + header.name);
+
+            handlePreDecodeException(ctx, httpRes, cause, serializationFormat, seqId, methodName);
+            return null;
+        }
+        return f;
+    }
+
+    /**
+     * Returns whether a truncated message of the specified {@link SerializationFormat} always fails with
+     * a {@link TTransportException}, so that a header decoded from a partial request body can be trusted.
+     * The text-based protocols may fail with a different error when a token is cut in the middle.
+     */
+    private static boolean supportsEarlyHeaderValidation(SerializationFormat serializationFormat) {
+        return serializationFormat == ThriftSerializationFormats.BINARY ||
+               serializationFormat == ThriftSerializationFormats.COMPACT;
+    }
+
     private static String typeString(byte typeValue) {
         switch (typeValue) {
             case TMessageType.CALL:
@@ -847,6 +900,66 @@ public final class THttpService extends DecoratingService<RpcRequest, RpcRespons
         }
     }
 
+    /**
+     * Decodes the {@link TMessage} header from the first chunk of a request and rejects the request
+     * immediately if the header is malformed or refers to a method that does not exist. If the first chunk
+     * is too short to contain the whole header, the validation is left to {@link #decodeAndInvoke}.
+     */
+    private final class MessageHeaderValidator implements Consumer<HttpData> {
+
+        private final ServiceRequestContext ctx;
+        private final HttpRequest req;
+        private final SerializationFormat serializationFormat;
+        private final CompletableFuture<HttpResponse> httpRes;
+        private boolean validated;
+
+        MessageHeaderValidator(ServiceRequestContext ctx, HttpRequest req,
+                               SerializationFormat serializationFormat,
+                               CompletableFuture<HttpResponse> httpRes) {
+            this.ctx = ctx;
+            this.req = req;
+            this.serializationFormat = serializationFormat;
+            this.httpRes = httpRes;
+        }
+
+        @Override
+        public void accept(HttpData data) {
+            if (validated || data.isEmpty()) {
+                return;
+            }
+            validated = true;
+
+            // Read from a duplicate so that the chunk passed to the aggregator is left intact.
+            final ByteBuf buf = data.byteBuf().duplicate();
+            final TProtocolFactory protocolFactory = requestProtocolFactories.get(serializationFormat);
+            assert protocolFactory != null;
+            final TProtocol inProto = protocolFactory.getProtocol(new TByteBufTransport(buf));
+
+            final TMessage header;
+            try {
+                ThriftProtocolUtil.maybeCheckMessageLength(serializationFormat, buf, maxRequestStringLength);
+                header = inProto.readMessageBegin();
+            } catch (TTransportException e) {
+                // The first chunk does not contain the whole header.
+                return;
+            } catch (Exception e) {
+                handleHeaderDecodeException(ctx, httpRes, serializationFormat, e);
+                reject();
+                return;
+            }
+
+            if (findFunction(ctx, httpRes, serializationFormat, header) == null) {
+                reject();
+            }
+        }
+
+        private void reject() {
+            ctx.logBuilder().requestContent(null, null);
+            // Stop receiving the remaining content because the response has been determined already.
+            req.abort(ResponseCompleteException.get());
+        }
+    }
+
     private static final class DecodedRequest {
 
         private final SerializationFormat serializationFormat;
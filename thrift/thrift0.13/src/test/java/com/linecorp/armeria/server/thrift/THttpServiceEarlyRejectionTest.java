@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 LINE Corporation
+ *
+ * LINE Corporation licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package com.linecorp.armeria.server.thrift;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.junit.jupiter.api.Test;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpMethod;
+import com.linecorp.armeria.common.HttpRequest;
+import com.linecorp.armeria.common.HttpRequestWriter;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.RequestHeaders;
+import com.linecorp.armeria.common.ResponseCompleteException;
+import com.linecorp.armeria.common.SerializationFormat;
+import com.linecorp.armeria.common.thrift.ThriftSerializationFormats;
+import com.linecorp.armeria.internal.common.thrift.TApplicationExceptions;
+import com.linecorp.armeria.server.ServiceRequestContext;
+
+import testing.thrift.main.HelloService;
+
+class THttpServiceEarlyRejectionTest {
+
+    private static final HelloService.AsyncIface HELLO_SERVICE_HANDLER =
+            (name, resultHandler) -> resultHandler.onComplete("Hello " + name);
+
+    @Test
+    void unknownMethodIsRejectedBeforeRequestEnds() throws Exception {
+        final THttpService service = THttpService.of(HELLO_SERVICE_HANDLER);
+        final SerializationFormat format = ThriftSerializationFormats.BINARY;
+        final HttpRequestWriter req = HttpRequest.streaming(
+                RequestHeaders.builder(HttpMethod.POST, "/")
+                              .contentType(format.mediaType())
+                              .build());
+        final ServiceRequestContext ctx = ServiceRequestContext.of(req);
+
+        // Write only the message header and keep the request open.
+        req.write(HttpData.wrap(messageHeader(format, "unknown")));
+        final AggregatedHttpResponse res = service.serve(ctx, req).aggregate().join();
+
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        final TApplicationException cause = decodeException(format, res);
+        assertThat(cause.getType()).isEqualTo(TApplicationException.UNKNOWN_METHOD);
+        assertThat(req.whenComplete()).isCompletedExceptionally();
+        assertThat(req.whenComplete().handle((unused, t) -> t).join())
+                .isInstanceOf(ResponseCompleteException.class);
+    }
+
+    @Test
+    void partialHeaderIsValidatedAfterAggregation() throws Exception {
+        final THttpService service = THttpService.of(HELLO_SERVICE_HANDLER);
+        final SerializationFormat format = ThriftSerializationFormats.BINARY;
+        final HttpRequestWriter req = HttpRequest.streaming(
+                RequestHeaders.builder(HttpMethod.POST, "/")
+                              .contentType(format.mediaType())
+                              .build());
+        final ServiceRequestContext ctx = ServiceRequestContext.of(req);
+
+        final byte[] header = messageHeader(format, "unknown");
+        // Split the header so that the first chunk cannot be decoded by itself.
+        req.write(HttpData.wrap(header, 0, 3));
+        req.write(HttpData.wrap(header, 3, header.length - 3));
+        req.close();
+
+        final AggregatedHttpResponse res = service.serve(ctx, req).aggregate().join();
+        assertThat(res.status()).isEqualTo(HttpStatus.OK);
+        final TApplicationException cause = decodeException(format, res);
+        assertThat(cause.getType()).isEqualTo(TApplicationException.UNKNOWN_METHOD);
+    }
+
+    private static TApplicationException decodeException(SerializationFormat format,
+                                                         AggregatedHttpResponse res) throws Exception {
+        final TMemoryBuffer buffer = new TMemoryBuffer(res.content().length());
+        buffer.write(res.content().array());
+        final TProtocol protocol = ThriftSerializationFormats.protocolFactory(format, 0, 0)
+                                                             .getProtocol(buffer);
+        final TMessage header = protocol.readMessageBegin();
+        assertThat(header.type).isEqualTo(TMessageType.EXCEPTION);
+        final TApplicationException cause = TApplicationExceptions.read(protocol);
+        protocol.readMessageEnd();
+        return cause;
+    }
+
+    private static byte[] messageHeader(SerializationFormat format, String method) throws Exception {
+        final TMemoryBuffer buffer = new TMemoryBuffer(64);
+        final TProtocol protocol = ThriftSerializationFormats.protocolFactory(format, 0, 0)
+                                                             .getProtocol(buffer);
+        protocol.writeMessageBegin(new TMessage(method, TMessageType.CALL, 1));
+        protocol.getTransport().flush();
+        final byte[] bytes = new byte[buffer.length()];
+        buffer.readAll(bytes, 0, bytes.length);
+        return bytes;
+    }
+}